@@ -0,0 +1,25 @@
+-- prod 는 ddl-auto: none 이므로 배포 전에 직접 실행한다. (MariaDB)
+-- 매칭의 프로필 스냅샷을 matches 의 텍스트 컬럼에서 내용 해시를 키로 하는 profile_snapshots 로 옮긴다.
+
+create table if not exists profile_snapshots (
+    snapshot_hash    varchar(64) not null,
+    version          integer     not null,
+    payload          longtext    not null,
+    createdDate      datetime(6),
+    lastModifiedDate datetime(6),
+    primary key (snapshot_hash)
+) engine = InnoDB;
+
+alter table matches
+    add column if not exists patient_snapshot_hash   varchar(64),
+    add column if not exists caregiver_snapshot_hash varchar(64);
+
+alter table matches
+    add constraint fk_matches_patient_snapshot foreign key (patient_snapshot_hash) references profile_snapshots (snapshot_hash),
+    add constraint fk_matches_caregiver_snapshot foreign key (caregiver_snapshot_hash) references profile_snapshots (snapshot_hash);
+
+-- 기존 텍스트는 배포 후 ProfileSnapshotBackfillScheduler 가 옮기고 비운다.
+-- "프로필 스냅샷 backfill 을 마쳤습니다" 로그를 확인하고, 아래 결과가 0 이면 텍스트 컬럼을 지운다.
+--
+-- select count(*) from matches where patientProfileSnapshot is not null or caregiverProfileSnapshot is not null;
+-- alter table matches drop column patientProfileSnapshot, drop column caregiverProfileSnapshot;
@@ -0,0 +1,14 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- 회원별 안 읽은 알림 수를 members.unreadNotificationCount 로 유지한다.
+-- 이전 버전은 알림을 저장해도 카운터를 올리지 않으므로, 이전 버전을 내린 뒤 새 버전을 올리기 전에 실행해야 카운터가 어긋나지 않는다.
+
+alter table members
+    add column if not exists unreadNotificationCount bigint default 0 not null;
+
+-- 지금까지 쌓인 안 읽은 알림 수로 한 번 채운다. 알림이 없는 회원은 기본값 0 을 그대로 둔다.
+update members m
+    join (select member_id, count(*) as unread
+          from Notification
+          where isRead = false
+          group by member_id) n on n.member_id = m.member_id
+set m.unreadNotificationCount = n.unread;
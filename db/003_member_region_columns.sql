@@ -0,0 +1,16 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- 주소에서 뽑은 지역 코드(regionProvince/regionCity/regionDistrict)와 우편번호 좌표(latitude/longitude/geoCell)를 members 에 둔다.
+-- 새 버전은 주소를 저장할 때 값을 채우고, 기존 행은 배포 후 RegionBackfillScheduler 가 member_id 순으로 채운다.
+
+alter table members
+    add column if not exists regionProvince varchar(16),
+    add column if not exists regionCity     varchar(20),
+    add column if not exists regionDistrict varchar(20),
+    add column if not exists latitude       double,
+    add column if not exists longitude      double,
+    add column if not exists geoCell        bigint;
+
+-- 지역/거리 검색이 members 를 직접 읽던 버전의 인덱스. 검색이 public_profile_directory 로 옮겨 가면 drop_member_region_indexes 에서 지운다
+create index if not exists idx_members_region on members (regionProvince, regionCity, regionDistrict);
+create index if not exists idx_members_region_city on members (regionCity, regionDistrict);
+create index if not exists idx_members_geo_cell on members (geoCell);
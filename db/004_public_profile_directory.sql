@@ -0,0 +1,38 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- 프로필 검색/목록이 members 와 caregivers/patients 를 조인하지 않고 읽는 공개 프로필 사본(PublicProfile).
+-- 새 버전을 올리기 전에 만들어 두고, 이미 공개돼 있던 프로필은 배포 후 PublicProfileBackfillScheduler 가 채운다.
+
+create table if not exists public_profile_directory (
+    member_id        bigint       not null,
+    profileType      varchar(16)  not null,
+    name             varchar(255),
+    age              integer      not null,
+    gender           varchar(255),
+    addr             varchar(255),
+    addrDetail       varchar(255),
+    zipCode          varchar(255),
+    latitude         double,
+    longitude        double,
+    geoCell          bigint,
+    regionProvince   varchar(16),
+    regionCity       varchar(20),
+    regionDistrict   varchar(20),
+    rating           float        not null,
+    recentRating     float        not null,
+    reviewCount      integer      not null,
+    experienceYears  integer      not null,
+    specialization   varchar(255),
+    profileImageUrl  varchar(512),
+    primary key (member_id)
+) engine = InnoDB;
+
+create index if not exists idx_directory_region on public_profile_directory (profileType, regionProvince, regionCity, regionDistrict);
+create index if not exists idx_directory_region_city on public_profile_directory (profileType, regionCity, regionDistrict);
+create index if not exists idx_directory_geo_cell on public_profile_directory (profileType, geoCell);
+
+-- ProfileSortType 의 정렬마다 하나씩, 정렬식과 같은 컬럼 순서와 방향으로 둔다
+create index if not exists idx_directory_latest on public_profile_directory (profileType, member_id desc);
+create index if not exists idx_directory_experience on public_profile_directory (profileType, experienceYears desc, member_id desc);
+create index if not exists idx_directory_rating on public_profile_directory (profileType, rating desc, member_id desc);
+create index if not exists idx_directory_recent_rating on public_profile_directory (profileType, recentRating desc, member_id desc);
+create index if not exists idx_directory_review_count on public_profile_directory (profileType, reviewCount desc, member_id desc);
@@ -0,0 +1,29 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- 수락된 매칭의 후기(reviews)와, 후기를 저장할 때 CaregiverRepository#addReview 가 갱신하는 간병인 평점 집계 컬럼을 만든다.
+-- 기존 간병인은 후기가 없으므로 집계를 0 으로 시작한다. 예전에 직접 입력한 평점은 006 에서 0 으로 되돌린다.
+
+create table if not exists reviews (
+    review_id        bigint        not null auto_increment,
+    match_id         bigint,
+    reviewer_id      bigint,
+    caregiver_id     bigint        not null,
+    score            integer       not null,
+    content          varchar(1000),
+    createdDate      datetime(6),
+    lastModifiedDate datetime(6),
+    primary key (review_id),
+    constraint uk_reviews_match unique (match_id),
+    constraint fk_reviews_match foreign key (match_id) references matches (match_id),
+    constraint fk_reviews_reviewer foreign key (reviewer_id) references members (member_id),
+    constraint fk_reviews_caregiver foreign key (caregiver_id) references members (member_id)
+) engine = InnoDB;
+
+create index if not exists idx_reviews_caregiver on reviews (caregiver_id, review_id);
+create index if not exists idx_reviews_reviewer on reviews (reviewer_id, review_id);
+
+alter table caregivers
+    add column if not exists recentRating      float   default 0 not null,
+    add column if not exists reviewCount       integer default 0 not null,
+    add column if not exists ratingSum         double  default 0 not null,
+    add column if not exists reviewWeightSum   double  default 0 not null,
+    add column if not exists weightedRatingSum double  default 0 not null;
@@ -0,0 +1,19 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- 간병인 평점은 이제 후기로만 계산한다(CaregiverRepository#addReview).
+-- 예전 프로필 작성/수정 API 로 직접 입력한 평점이 남아 있으면, 후기가 없는 간병인이 평점순(sort=rating, recentRating)에서
+-- 실제 후기를 받은 간병인보다 앞에 온다. 후기가 하나도 없는 간병인의 평점을 0 으로 되돌린다.
+-- 후기를 받은 간병인은 addReview 가 합계로 평균을 다시 계산하므로 건드리지 않는다. 여러 번 실행해도 결과가 같다.
+
+update caregivers
+set rating       = 0,
+    recentRating = 0
+where reviewCount = 0
+  and (rating <> 0 or recentRating <> 0);
+
+-- 공개 프로필 목록은 간병인 행의 값을 복사해 두므로 같은 조건으로 맞춘다
+update public_profile_directory
+set rating       = 0,
+    recentRating = 0
+where profileType = 'CAREGIVER'
+  and reviewCount = 0
+  and (rating <> 0 or recentRating <> 0);
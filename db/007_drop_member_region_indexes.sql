@@ -0,0 +1,8 @@
+-- prod 는 ddl-auto: none 이므로 직접 실행한다. (MariaDB)
+-- 지역/거리 검색은 public_profile_directory 의 idx_directory_region, idx_directory_region_city, idx_directory_geo_cell 을 쓴다.
+-- members 의 지역 인덱스는 더 이상 읽는 쿼리가 없고 주소를 바꿀 때마다 쓰기 비용만 들므로 지운다.
+-- 지역 코드 backfill(RegionBackfillScheduler)은 member_id 범위로 읽으므로 이 인덱스가 필요 없다.
+
+drop index if exists idx_members_region on members;
+drop index if exists idx_members_region_city on members;
+drop index if exists idx_members_geo_cell on members;
@@ -0,0 +1,19 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- 진행 중(PENDING)인 매칭은 matches.pendingPairKey("요청자:수신자") 유니크 제약으로 같은 방향의 중복 요청을 막는다.
+-- 이전 버전이 만든 PENDING 매칭은 키가 비어 있어 제약에 걸리지 않으므로, 새 버전을 올리기 전에 실행해 채운다.
+
+alter table matches
+    add column if not exists pendingPairKey varchar(41),
+    add column if not exists idempotencyKey varchar(64);
+
+-- 같은 방향의 PENDING 매칭이 이미 여러 건이면 가장 최근 매칭에만 키를 채운다. 나머지는 키 없이 남아 수락/취소는 그대로 된다.
+update matches m
+    join (select max(match_id) as match_id
+          from matches
+          where matchStatus = 'PENDING'
+          group by request_member_id, received_member_id) latest on latest.match_id = m.match_id
+set m.pendingPairKey = concat(m.request_member_id, ':', m.received_member_id)
+where m.pendingPairKey is null;
+
+create unique index if not exists uk_matches_pending_pair_key on matches (pendingPairKey);
+create unique index if not exists uk_matches_request_member_idempotency_key on matches (request_member_id, idempotencyKey);
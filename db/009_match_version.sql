@@ -0,0 +1,6 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- 수락/취소는 조건부 update 로 처리하고, 변경 감지로 갱신되는 경우에는 matches.version 으로 낙관적 락을 건다.
+-- 기존 매칭은 0 부터 시작한다.
+
+alter table matches
+    add column if not exists version bigint default 0 not null;
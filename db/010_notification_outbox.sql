@@ -0,0 +1,17 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- 알림을 유발한 매칭과 같은 트랜잭션에서 notification_outbox 에 저장하고, 알림이 저장될 때 같은 트랜잭션에서 지운다.
+-- 커밋 후 큐 적재가 유실된 행은 NotificationOutboxRelay 가 createdDate 기준으로 다시 전달하므로 createdDate 에 인덱스를 둔다.
+-- 새 버전은 매칭을 저장할 때 이 테이블에 쓰므로, 새 버전을 올리기 전에 실행해야 한다.
+
+create table if not exists notification_outbox (
+    outbox_id        bigint       not null auto_increment,
+    receiver         varchar(32)  not null,
+    notificationType varchar(255) not null,
+    content          varchar(255),
+    url              varchar(255),
+    createdDate      datetime(6),
+    lastModifiedDate datetime(6),
+    primary key (outbox_id)
+) engine = InnoDB;
+
+create index if not exists idx_notification_outbox_created_date on notification_outbox (createdDate, outbox_id);
@@ -0,0 +1,13 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- refresh_tokens 는 회원당 한 행만 두고, 로그인하면 새 family 로 덮어쓰고 재발급하면 같은 family 안에서 token 만 교체한다.
+-- 로그인은 member_id 유니크 키에 기대는 insert ... on duplicate key update 이므로 유니크 인덱스가 반드시 있어야 한다.
+
+alter table refresh_tokens
+    add column if not exists familyId varchar(36);
+
+-- 이전 버전이 발급한 토큰은 fid 가 없어 어차피 재발급에 실패하므로, family 가 없는 행은 지운다.
+-- 이전 버전은 로그인마다 행을 지우고 다시 넣었으므로 회원당 중복 행도 이 단계에서 함께 정리된다.
+delete from refresh_tokens where familyId is null;
+
+create unique index if not exists uk_refresh_tokens_member on refresh_tokens (member_id);
+create index if not exists idx_refresh_tokens_expiry_date on refresh_tokens (expiryDate);
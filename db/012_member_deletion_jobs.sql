@@ -0,0 +1,23 @@
+-- prod 는 ddl-auto: none 이므로 배포 중에 직접 실행한다. (MariaDB)
+-- 회원 탈퇴는 요청 시 tombstone 처리와 member_deletion_jobs 행만 만들고, MemberDeletionScheduler 가 단계별로 batch 삭제한다.
+-- 작업 행은 회원 행이 지워진 뒤에도 남아야 하므로 members 를 외래 키로 참조하지 않는다.
+-- 여러 노드가 같은 단계를 두 번 진행하지 않도록 version 으로 낙관적 락을 건다.
+
+create table if not exists member_deletion_jobs (
+    deletion_job_id     bigint      not null auto_increment,
+    memberId            bigint      not null,
+    stage               varchar(20) not null,
+    purgedReviews       bigint      not null,
+    purgedMatches       bigint      not null,
+    purgedNotifications bigint      not null,
+    purgedPosts         bigint      not null,
+    completedDate       datetime(6),
+    version             bigint      default 0 not null,
+    createdDate         datetime(6),
+    lastModifiedDate    datetime(6),
+    primary key (deletion_job_id),
+    constraint uk_member_deletion_jobs_member unique (memberId)
+) engine = InnoDB;
+
+-- 게시글 단계가 회원의 게시글 id 를 batch 로 읽을 때 posts 를 훑지 않도록 한다.
+create index if not exists idx_posts_member on posts (member_id, post_id);
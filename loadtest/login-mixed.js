@@ -0,0 +1,74 @@
+// 로그인 폭주 상황에서 로그인/매칭 조회 p99 를 함께 측정한다.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=loadtest -e PASSWORD=password123 -e MEMBER_ID=1 loadtest/login-mixed.js
+//
+// USERNAME/PASSWORD 계정(id = MEMBER_ID)은 미리 가입되어 있어야 한다. login 시나리오가 해싱 풀을 포화시키는 동안
+// browse 시나리오(매칭 목록, 읽지 않은 알림 수 조회)의 지연이 유지되는지, 초과 로그인이 503 으로 빠르게 거절되는지 확인한다.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERNAME = __ENV.USERNAME || 'loadtest';
+const PASSWORD = __ENV.PASSWORD || 'password123';
+const MEMBER_ID = __ENV.MEMBER_ID || '1';
+
+const loginRejected = new Rate('login_rejected');
+const loginLatency = new Trend('login_latency', true);
+const browseLatency = new Trend('browse_latency', true);
+
+export const options = {
+    scenarios: {
+        login: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: 200,
+            timeUnit: '1s',
+            duration: '2m',
+            preAllocatedVUs: 200,
+            maxVUs: 400,
+        },
+        browse: {
+            executor: 'constant-arrival-rate',
+            exec: 'browse',
+            rate: 300,
+            timeUnit: '1s',
+            duration: '2m',
+            preAllocatedVUs: 100,
+            maxVUs: 200,
+        },
+    },
+    thresholds: {
+        'browse_latency': ['p(99)<300'],
+        'login_latency{status:200}': ['p(99)<1500'],
+        'login_latency{status:503}': ['p(99)<100'],
+    },
+};
+
+function signIn() {
+    return http.post(`${BASE_URL}/api/v1/auth/login`, JSON.stringify({ username: USERNAME, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+}
+
+export function setup() {
+    const response = signIn();
+    check(response, { 'setup login succeeded': (r) => r.status === 200 });
+    return { accessToken: response.json('access_token') };
+}
+
+export function login() {
+    const response = signIn();
+    loginLatency.add(response.timings.duration, { status: String(response.status) });
+    loginRejected.add(response.status === 503);
+    check(response, { 'login 200 or 503': (r) => r.status === 200 || r.status === 503 });
+}
+
+export function browse(data) {
+    const params = { headers: { Authorization: `Bearer ${data.accessToken}` } };
+    const url = __ITER % 2 === 0
+        ? `${BASE_URL}/api/v1/matches/${MEMBER_ID}/request?size=10`
+        : `${BASE_URL}/api/v1/notification/unread-count`;
+    const response = http.get(url, params);
+    browseLatency.add(response.timings.duration);
+    check(response, { 'browse 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,145 @@
+package com.patientpal.backend.member.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * username 으로 회원 한 명을 읽는 세 가지 방법의 지연 시간을 비교한다.
+ * singleQuery 는 findResolvedByUsername 처럼 caregivers/patients 를 모두 outer join 해 하위 타입까지 읽는 한 번의 조회로, 비교 기준이다.
+ * probeThenTyped 는 member_type 을 먼저 읽고 해당 하위 테이블만 조인하는 두 번의 조회,
+ * typedOnly 는 회원 종류를 이미 알 때 하위 테이블만 조인하는 한 번의 조회다.
+ * H2 메모리 DB 는 네트워크 왕복이 없으므로, 문장을 보낼 때마다 roundTripMicros 만큼 쉬어 DB 서버와의 왕복을 흉내 낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberLookupBenchmark {
+
+    private static final String SINGLE_QUERY = "select m.member_id, m.member_type, m.username, m.name, c.rating, c.experienceYears, p.nokName "
+            + "from members m left join caregivers c on c.member_id = m.member_id left join patients p on p.member_id = m.member_id "
+            + "where m.username = ?";
+
+    private static final String PROBE = "select m.member_type from members m where m.username = ?";
+
+    private static final String CAREGIVER = "select m.member_id, m.username, m.name, c.rating, c.experienceYears "
+            + "from caregivers c join members m on m.member_id = c.member_id where m.username = ?";
+
+    private static final String PATIENT = "select m.member_id, m.username, m.name, p.nokName "
+            + "from patients p join members m on m.member_id = p.member_id where m.username = ?";
+
+    @Param({"100000"})
+    private int members;
+
+    @Param({"0", "200", "1000"})
+    private long roundTripMicros;
+
+    private Connection connection;
+    private PreparedStatement singleQuery;
+    private PreparedStatement probe;
+    private PreparedStatement caregiver;
+    private PreparedStatement patient;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:member-lookup-benchmark;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table members (member_id bigint primary key, member_type varchar(31) not null, "
+                    + "username varchar(255) not null unique, password varchar(255), name varchar(255), role varchar(16))");
+            statement.execute("create table caregivers (member_id bigint primary key, rating real not null, "
+                    + "experienceYears int not null, specialization varchar(255))");
+            statement.execute("create table patients (member_id bigint primary key, nokName varchar(255), careRequirements varchar(255))");
+            // 홀수 번호는 간병인, 짝수 번호는 환자
+            statement.execute("insert into members select x, case when mod(x, 2) = 1 then 'CAREGIVER' else 'PATIENT' end, "
+                    + "'user' || x, 'password', 'name' || x, case when mod(x, 2) = 1 then 'CAREGIVER' else 'USER' end "
+                    + "from system_range(1, " + members + ")");
+            statement.execute("insert into caregivers select x, mod(x, 9) * 0.5 + 1, mod(x, 30), '치매' "
+                    + "from system_range(1, " + members + ") where mod(x, 2) = 1");
+            statement.execute("insert into patients select x, 'nok' || x, '식사 보조' "
+                    + "from system_range(1, " + members + ") where mod(x, 2) = 0");
+            statement.execute("analyze");
+        }
+        singleQuery = connection.prepareStatement(SINGLE_QUERY);
+        probe = connection.prepareStatement(PROBE);
+        caregiver = connection.prepareStatement(CAREGIVER);
+        patient = connection.prepareStatement(PATIENT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void singleQuery(Blackhole blackhole) throws SQLException {
+        read(singleQuery, nextUsername(), blackhole);
+    }
+
+    @Benchmark
+    public void probeThenTyped(Blackhole blackhole) throws SQLException {
+        String username = nextUsername();
+        String memberType = readMemberType(username);
+        read("CAREGIVER".equals(memberType) ? caregiver : patient, username, blackhole);
+    }
+
+    @Benchmark
+    public void typedOnly(Blackhole blackhole) throws SQLException {
+        int id = nextId();
+        read(id % 2 == 1 ? caregiver : patient, "user" + id, blackhole);
+    }
+
+    private String readMemberType(String username) throws SQLException {
+        roundTrip();
+        probe.setString(1, username);
+        try (ResultSet rows = probe.executeQuery()) {
+            rows.next();
+            return rows.getString(1);
+        }
+    }
+
+    private void read(PreparedStatement statement, String username, Blackhole blackhole) throws SQLException {
+        roundTrip();
+        statement.setString(1, username);
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                blackhole.consume(rows.getLong(1));
+                blackhole.consume(rows.getString(3));
+            }
+        }
+    }
+
+    private void roundTrip() {
+        if (roundTripMicros > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        }
+    }
+
+    private String nextUsername() {
+        return "user" + nextId();
+    }
+
+    private int nextId() {
+        next = next % members + 1;
+        return next;
+    }
+}
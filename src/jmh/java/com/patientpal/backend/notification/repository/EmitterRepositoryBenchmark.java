@@ -0,0 +1,80 @@
+package com.patientpal.backend.notification.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 알림 전송 시 수신자의 emitter 를 찾는 비용을 비교한다.
+ * 기존 방식(전체 맵 startsWith 스캔)과 회원별 인덱스 방식을 접속 emitter 수별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmitterRepositoryBenchmark {
+
+    private static final int EMITTERS_PER_MEMBER = 2;
+
+    @Param({"10000", "100000"})
+    private int connectedEmitters;
+
+    private PrefixScanEmitterStore prefixScanStore;
+    private EmitterRepositoryImpl indexedRepository;
+    private String receiver;
+
+    @Setup
+    public void setUp() {
+        prefixScanStore = new PrefixScanEmitterStore();
+        indexedRepository = new EmitterRepositoryImpl();
+
+        int members = connectedEmitters / EMITTERS_PER_MEMBER;
+        for (int member = 0; member < members; member++) {
+            String username = "member" + member;
+            for (int connection = 0; connection < EMITTERS_PER_MEMBER; connection++) {
+                String emitterId = username + "_" + connection;
+                SseEmitter emitter = new SseEmitter();
+                prefixScanStore.save(emitterId, emitter);
+                indexedRepository.save(username, emitterId, emitter);
+            }
+        }
+        receiver = "member" + (members / 2);
+    }
+
+    @Benchmark
+    public void prefixScan(Blackhole blackhole) {
+        blackhole.consume(prefixScanStore.findAllStartWith(receiver + "_"));
+    }
+
+    @Benchmark
+    public void indexedByMember(Blackhole blackhole) {
+        blackhole.consume(indexedRepository.findAllEmitterByUsername(receiver));
+    }
+
+    /**
+     * 회원별 인덱스 도입 이전의 저장소 구현
+     */
+    static class PrefixScanEmitterStore {
+        private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+
+        void save(String emitterId, SseEmitter emitter) {
+            emitters.put(emitterId, emitter);
+        }
+
+        Map<String, SseEmitter> findAllStartWith(String prefix) {
+            return emitters.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(prefix))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.patientpal.backend.search.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 간병인 목록 한 페이지를 ProfileSortType 의 정렬마다 읽는다. indexed=true 면 PublicProfile 과 같은 정렬 인덱스를 만들고,
+ * 실행 계획에 "index sorted" 가 있어 정렬 없이 인덱스 순서로 읽는지 확인한 뒤 측정한다. false 는 같은 쿼리를 전체 정렬로 읽을 때의 비교 기준이다.
+ * H2(MariaDB 모드) 메모리 DB 에 간병인 공개 프로필을 채우고, 정렬 컬럼 값은 겹치도록 좁은 범위에서 고른다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProfileSortBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private static final String PAGE = "select p.member_id, p.name, p.rating, p.reviewCount from public_profile_directory p "
+            + "where p.profileType = 'CAREGIVER' order by %s limit ? offset ?";
+
+    // ProfileSortType 이 만드는 정렬식과 같은 순서
+    private static final Map<String, String> ORDER_BY = Map.of(
+            "latest", "p.profileType asc, p.member_id desc",
+            "experienceYears", "p.profileType asc, p.experienceYears desc, p.member_id desc",
+            "rating", "p.profileType asc, p.rating desc, p.member_id desc",
+            "recentRating", "p.profileType asc, p.recentRating desc, p.member_id desc",
+            "reviewCount", "p.profileType asc, p.reviewCount desc, p.member_id desc");
+
+    @Param({"500000"})
+    private int profiles;
+
+    @Param({"latest", "experienceYears", "rating", "recentRating", "reviewCount"})
+    private String sort;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    @Param({"0", "20"})
+    private int page;
+
+    private Connection connection;
+    private String pageQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:sort-benchmark;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table public_profile_directory (member_id bigint primary key, profileType varchar(16) not null, "
+                    + "name varchar(255), age int not null, gender varchar(255), regionProvince varchar(16), regionCity varchar(20), "
+                    + "rating real not null, recentRating real not null, reviewCount int not null, experienceYears int not null, "
+                    + "specialization varchar(255), profileImageUrl varchar(512))");
+            statement.execute("create index idx_directory_region on public_profile_directory (profileType, regionProvince, regionCity)");
+            if (indexed) {
+                statement.execute("create index idx_directory_latest on public_profile_directory (profileType, member_id desc)");
+                statement.execute("create index idx_directory_experience on public_profile_directory (profileType, experienceYears desc, member_id desc)");
+                statement.execute("create index idx_directory_rating on public_profile_directory (profileType, rating desc, member_id desc)");
+                statement.execute("create index idx_directory_recent_rating on public_profile_directory (profileType, recentRating desc, member_id desc)");
+                statement.execute("create index idx_directory_review_count on public_profile_directory (profileType, reviewCount desc, member_id desc)");
+            }
+            // 5명 중 1명은 환자, 평점은 0.5 단위라 같은 값이 많다
+            statement.execute("insert into public_profile_directory select x, case when mod(x, 5) = 0 then 'PATIENT' else 'CAREGIVER' end, "
+                    + "'name' || x, 20 + mod(x, 60), case when mod(x, 3) = 0 then 'MALE' else 'FEMALE' end, 'SEOUL', '강남구', "
+                    + "mod(x, 9) * 0.5 + 1, mod(x * 7, 41) * 0.1 + 1, mod(x * 13, 300), mod(x, 30), '치매', null "
+                    + "from system_range(1, " + profiles + ")");
+            statement.execute("analyze");
+        }
+        pageQuery = PAGE.formatted(ORDER_BY.get(sort));
+        if (indexed) {
+            verifyIndexSorted();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void readPage(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(pageQuery)) {
+            statement.setInt(1, PAGE_SIZE + 1);
+            statement.setInt(2, page * PAGE_SIZE);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    blackhole.consume(rows.getLong(1));
+                    blackhole.consume(rows.getString(2));
+                }
+            }
+        }
+    }
+
+    // 정렬 인덱스를 만들었는데도 전체를 정렬한다면 측정값이 의미가 없으므로 바로 실패시킨다
+    private void verifyIndexSorted() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("explain " + pageQuery)) {
+            statement.setInt(1, PAGE_SIZE + 1);
+            statement.setInt(2, page * PAGE_SIZE);
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                String sql = plan.getString(1);
+                if (!sql.contains("index sorted")) {
+                    throw new IllegalStateException("정렬에 인덱스를 쓰지 않습니다. sort=" + sort + "\n" + sql);
+                }
+            }
+        }
+    }
+}
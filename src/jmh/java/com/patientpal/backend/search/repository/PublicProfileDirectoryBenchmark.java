@@ -0,0 +1,145 @@
+package com.patientpal.backend.search.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 간병인 목록 한 페이지(조회 + 개수)를 members/caregivers 조인으로 읽을 때와 public_profile_directory 로 읽을 때를 비교한다.
+ * H2(MariaDB 모드) 메모리 DB 에 엔티티와 같은 컬럼/인덱스로 회원을 채우고, 절반은 간병인, 그중 30% 를 공개 프로필로 둔다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PublicProfileDirectoryBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private static final String JOINED_PAGE = "select m.name, m.age, m.gender, m.addr, m.zipCode, c.rating, c.experienceYears, "
+            + "c.specialization, m.profileImageUrl from caregivers c join members m on m.member_id = c.member_id "
+            + "where m.isProfilePublic = true and m.gender = ? and m.regionProvince = ? and m.regionCity like ? "
+            + "order by m.member_id desc limit ? offset ?";
+    private static final String JOINED_COUNT = "select count(c.member_id) from caregivers c join members m on m.member_id = c.member_id "
+            + "where m.isProfilePublic = true and m.gender = ? and m.regionProvince = ? and m.regionCity like ?";
+    private static final String DIRECTORY_PAGE = "select p.name, p.age, p.gender, p.addr, p.zipCode, p.rating, p.experienceYears, "
+            + "p.specialization, p.profileImageUrl from public_profile_directory p "
+            + "where p.profileType = 'CAREGIVER' and p.gender = ? and p.regionProvince = ? and p.regionCity like ? "
+            + "order by p.member_id desc limit ? offset ?";
+    private static final String DIRECTORY_COUNT = "select count(p.member_id) from public_profile_directory p "
+            + "where p.profileType = 'CAREGIVER' and p.gender = ? and p.regionProvince = ? and p.regionCity like ?";
+
+    private static final String[] CITIES = {"강남구", "마포구", "송파구", "중구", "해운대구", "분당구", "수성구", "유성구"};
+    private static final String[] PROVINCES = {"SEOUL", "SEOUL", "SEOUL", "SEOUL", "BUSAN", "GYEONGGI", "DAEGU", "DAEJEON"};
+
+    @Param({"500000"})
+    private int members;
+
+    @Param({"0", "20"})
+    private int page;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:directory-benchmark;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table members (member_id bigint primary key, member_type varchar(31), username varchar(32), "
+                    + "name varchar(255), age int, gender varchar(255), addr varchar(255), addrDetail varchar(255), zipCode varchar(255), "
+                    + "latitude double, longitude double, geoCell bigint, regionProvince varchar(16), regionCity varchar(20), "
+                    + "regionDistrict varchar(20), isProfilePublic boolean, isCompleteProfile boolean, profileImageUrl varchar(512), "
+                    + "residentRegistrationNumber varchar(255), contact varchar(255), createdDate timestamp, lastModifiedDate timestamp)");
+            statement.execute("create index idx_members_region on members (regionProvince, regionCity, regionDistrict)");
+            statement.execute("create index idx_members_region_city on members (regionCity, regionDistrict)");
+            statement.execute("create table caregivers (member_id bigint primary key, rating real, experienceYears int, "
+                    + "specialization varchar(255), caregiverSignificant clob)");
+            statement.execute("create table public_profile_directory (member_id bigint primary key, profileType varchar(16) not null, "
+                    + "name varchar(255), age int, gender varchar(255), addr varchar(255), addrDetail varchar(255), zipCode varchar(255), "
+                    + "latitude double, longitude double, geoCell bigint, regionProvince varchar(16), regionCity varchar(20), "
+                    + "regionDistrict varchar(20), rating real, experienceYears int, specialization varchar(255), profileImageUrl varchar(512))");
+            statement.execute("create index idx_directory_region on public_profile_directory (profileType, regionProvince, regionCity, regionDistrict)");
+            statement.execute("create index idx_directory_region_city on public_profile_directory (profileType, regionCity, regionDistrict)");
+
+            statement.execute("insert into members select x, case when mod(x, 2) = 0 then 'CAREGIVER' else 'PATIENT' end, 'member' || x, "
+                    + "'name' || x, 20 + mod(x, 60), case when mod(x, 3) = 0 then 'MALE' else 'FEMALE' end, "
+                    + "'도로명 ' || x, null, '0' || mod(x, 10000), null, null, null, "
+                    + pick(PROVINCES) + ", " + pick(CITIES) + ", null, "
+                    + "mod(x, 10) < 3, true, null, null, null, now(), now() from system_range(1, " + members + ")");
+            statement.execute("insert into caregivers select member_id, 3.5, mod(member_id, 20), '치매', repeat('경력 소개 ', 20) "
+                    + "from members where member_type = 'CAREGIVER'");
+            statement.execute("insert into public_profile_directory select m.member_id, 'CAREGIVER', m.name, m.age, m.gender, m.addr, "
+                    + "m.addrDetail, m.zipCode, m.latitude, m.longitude, m.geoCell, m.regionProvince, m.regionCity, m.regionDistrict, "
+                    + "c.rating, c.experienceYears, c.specialization, m.profileImageUrl "
+                    + "from caregivers c join members m on m.member_id = c.member_id where m.isProfilePublic = true");
+            statement.execute("analyze");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void joinedTables(Blackhole blackhole) throws SQLException {
+        readPage(JOINED_PAGE, JOINED_COUNT, blackhole);
+    }
+
+    @Benchmark
+    public void publicProfileDirectory(Blackhole blackhole) throws SQLException {
+        readPage(DIRECTORY_PAGE, DIRECTORY_COUNT, blackhole);
+    }
+
+    private void readPage(String pageQuery, String countQuery, Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(pageQuery)) {
+            bindFilter(statement);
+            statement.setInt(4, PAGE_SIZE + 1);
+            statement.setInt(5, page * PAGE_SIZE);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    blackhole.consume(rows.getString(1));
+                    blackhole.consume(rows.getString(4));
+                }
+            }
+        }
+        try (PreparedStatement statement = connection.prepareStatement(countQuery)) {
+            bindFilter(statement);
+            try (ResultSet count = statement.executeQuery()) {
+                count.next();
+                blackhole.consume(count.getLong(1));
+            }
+        }
+    }
+
+    private void bindFilter(PreparedStatement statement) throws SQLException {
+        statement.setString(1, "FEMALE");
+        statement.setString(2, "SEOUL");
+        statement.setString(3, "강남%");
+    }
+
+    // 회원 번호에 따라 values 중 하나를 고르는 SQL 식
+    private static String pick(String[] values) {
+        StringBuilder expression = new StringBuilder("case mod(x, ").append(values.length).append(')');
+        for (int i = 0; i < values.length; i++) {
+            expression.append(" when ").append(i).append(" then '").append(values[i]).append('\'');
+        }
+        return expression.append(" end").toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.patientpal.backend.search.service;
+
+import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.member.domain.Gender;
+import com.patientpal.backend.member.domain.Region;
+import com.patientpal.backend.search.domain.ProfileDocument;
+import com.patientpal.backend.search.domain.ProfileType;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 간병인 검색어 검색 비용을 비교한다.
+ * 기존 방식의 하한(LIKE '%검색어%' 전체 스캔을 메모리에서 흉내 낸 것)과 nori 색인 검색을 프로필 수별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProfileSearchIndexBenchmark {
+
+    private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] FIRST_NAMES = {"민준", "서연", "도윤", "하은", "지호", "수아", "예준", "지민"};
+    private static final String[] DISTRICTS = {"서울특별시 강남구", "서울특별시 마포구", "부산광역시 해운대구",
+            "대구광역시 수성구", "인천광역시 연수구", "경기도 성남시 분당구"};
+    private static final String[] SPECIALIZATIONS = {"치매 환자 간병", "재활 치료 보조", "중환자 간병", "산후 조리",
+            "호스피스 간병", "거동 불편 어르신 돌봄"};
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 5);
+
+    @Param({"100000", "1000000"})
+    private int profiles;
+
+    private ProfileSearchIndex searchIndex;
+    private List<ProfileDocument> table;
+    private ProfileSearchCondition nameAndSpecialization;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        searchIndex = new ProfileSearchIndex("");
+        table = new ArrayList<>(profiles);
+        List<ProfileDocument> batch = new ArrayList<>();
+        List<Long> batchIds = new ArrayList<>();
+        for (long id = 1; id <= profiles; id++) {
+            String addr = DISTRICTS[random.nextInt(DISTRICTS.length)] + " " + random.nextInt(100) + "번길";
+            ProfileDocument document = new ProfileDocument(id, ProfileType.CAREGIVER,
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)] + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    addr, Region.from(new Address(null, addr, null)), null, null,
+                    SPECIALIZATIONS[random.nextInt(SPECIALIZATIONS.length)], null,
+                    random.nextBoolean() ? Gender.MALE : Gender.FEMALE, random.nextInt(30), true);
+            table.add(document);
+            batch.add(document);
+            batchIds.add(id);
+            if (batch.size() == 10_000) {
+                searchIndex.apply(batchIds, batch);
+                batch.clear();
+                batchIds.clear();
+            }
+        }
+        searchIndex.apply(batchIds, batch);
+        searchIndex.refresh();
+
+        nameAndSpecialization = new ProfileSearchCondition();
+        nameAndSpecialization.setKeyword("김민 치매");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Benchmark
+    public void likeScan(Blackhole blackhole) {
+        blackhole.consume(table.stream()
+                .filter(document -> document.name().contains("김민") && document.specialization().contains("치매"))
+                .sorted(Comparator.comparing(ProfileDocument::memberId).reversed())
+                .limit(FIRST_PAGE.getPageSize())
+                .toList());
+    }
+
+    @Benchmark
+    public void luceneIndex(Blackhole blackhole) {
+        blackhole.consume(searchIndex.search(ProfileType.CAREGIVER, nameAndSpecialization, FIRST_PAGE));
+    }
+}
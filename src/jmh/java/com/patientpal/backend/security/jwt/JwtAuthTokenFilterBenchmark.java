@@ -0,0 +1,132 @@
+package com.patientpal.backend.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.FilterChain;
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 같은 토큰이 반복해서 들어오는 상황(활성 사용자 집합)에서 인증 필터의 요청당 비용을 비교한다.
+ * 기존 방식(검증/인증 정보 생성에서 토큰을 두 번 파싱, 매번 parser 생성), 캐시 없는 단일 파싱, 검증 캐시 사용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthTokenFilterBenchmark {
+
+    private static final long ONE_HOUR = 3_600_000L;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"100", "1000"})
+    private int activeTokens;
+
+    private JwtAuthTokenFilter cachedFilter;
+    private JwtAuthTokenFilter uncachedFilter;
+    private LegacyTokenAuthenticator legacyAuthenticator;
+    private MockHttpServletRequest[] requests;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Key key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        String secret = Encoders.BASE64.encode(key.getEncoded());
+
+        JwtTokenProvider cachedProvider = new JwtTokenProvider(secret, ONE_HOUR, ONE_HOUR, activeTokens * 2L);
+        cachedProvider.init();
+        JwtTokenProvider uncachedProvider = new JwtTokenProvider(secret, ONE_HOUR, ONE_HOUR, 0);
+        uncachedProvider.init();
+        cachedFilter = new JwtAuthTokenFilter(cachedProvider);
+        uncachedFilter = new JwtAuthTokenFilter(uncachedProvider);
+        legacyAuthenticator = new LegacyTokenAuthenticator(key);
+
+        requests = new MockHttpServletRequest[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            Authentication authentication = new UsernamePasswordAuthenticationToken("member" + i, "",
+                    List.of(new SimpleGrantedAuthority("ROLE_USER")));
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/matches");
+            request.addHeader(JwtAuthTokenFilter.AUTHORIZATION_HEADER,
+                    JwtAuthTokenFilter.TOKEN_TYPE + cachedProvider.createAccessToken(authentication));
+            requests[i] = request;
+        }
+    }
+
+    @Benchmark
+    public void legacyDoubleParse(Blackhole blackhole) {
+        String header = nextRequest().getHeader(JwtAuthTokenFilter.AUTHORIZATION_HEADER);
+        blackhole.consume(legacyAuthenticator.authenticate(header.substring(JwtAuthTokenFilter.TOKEN_TYPE.length())));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole blackhole) throws Exception {
+        blackhole.consume(filter(uncachedFilter));
+    }
+
+    @Benchmark
+    public void verifiedCache(Blackhole blackhole) throws Exception {
+        blackhole.consume(filter(cachedFilter));
+    }
+
+    private Authentication filter(JwtAuthTokenFilter filter) throws Exception {
+        MockHttpServletRequest request = nextRequest();
+        request.clearAttributes();
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private MockHttpServletRequest nextRequest() {
+        cursor = (cursor + 1) % requests.length;
+        return requests[cursor];
+    }
+
+    /**
+     * 단일 파싱 도입 이전의 검증 흐름 (validateToken 후 getAuthentication, 호출마다 parser 생성)
+     */
+    static class LegacyTokenAuthenticator {
+        private final Key key;
+
+        LegacyTokenAuthenticator(Key key) {
+            this.key = key;
+        }
+
+        Object authenticate(String token) {
+            parse(token);
+            Claims claims = parse(token);
+            List<SimpleGrantedAuthority> authorities = List.of(claims.get("auth").toString().split(",")).stream()
+                    .map(String::trim)
+                    .filter(auth -> !auth.isEmpty())
+                    .map(SimpleGrantedAuthority::new)
+                    .toList();
+            return new UsernamePasswordAuthenticationToken(claims.getSubject(), token, authorities);
+        }
+
+        private Claims parse(String token) {
+            return Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.patientpal.backend.auth.domain;
 
 import com.patientpal.backend.member.domain.Member;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -14,27 +17,34 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 회원당 한 행만 유지한다. 로그인하면 새 family 로 덮어쓰고, 재발급하면 같은 family 안에서 token 만 교체한다.
+ */
 @Getter
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = @Index(name = "idx_refresh_tokens_expiry_date", columnList = "expiryDate"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne
-    @JoinColumn(name = "member_id")
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", unique = true)
     private Member member;
 
     private String token;
 
+    @Column(length = 36)
+    private String familyId;
+
     private Instant expiryDate;
 
     @Builder
-    public RefreshToken(Member member, String token, Instant expiryDate) {
+    public RefreshToken(Member member, String token, String familyId, Instant expiryDate) {
         this.member = member;
         this.token = token;
+        this.familyId = familyId;
         this.expiryDate = expiryDate;
     }
 }
@@ -0,0 +1,6 @@
+package com.patientpal.backend.auth.dto;
+
+import org.springframework.security.core.Authentication;
+
+public record RotatedRefreshToken(Authentication authentication, String refreshToken) {
+}
@@ -1,14 +1,43 @@
 package com.patientpal.backend.auth.repository;
 
 import com.patientpal.backend.auth.domain.RefreshToken;
-import com.patientpal.backend.member.domain.Member;
-import java.util.Optional;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByMemberAndToken(Member member, String token);
 
-    Long deleteByMember(Member member);
+    // 회원의 행을 새 family 로 덮어쓰고, 없으면 만든다. member_id 유니크 키로 판단하므로 처음 로그인이 동시에 들어와도 한 행만 남는다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into refresh_tokens (member_id, token, familyId, expiryDate) "
+            + "values (:memberId, :token, :familyId, :expiryDate) "
+            + "on duplicate key update token = :token, familyId = :familyId, expiryDate = :expiryDate", nativeQuery = true)
+    int upsertFamily(@Param("memberId") Long memberId, @Param("token") String token,
+                     @Param("familyId") String familyId, @Param("expiryDate") Instant expiryDate);
+
+    // 제시된 토큰이 현재 토큰일 때만 교체한다. 동시에 같은 토큰으로 재발급하면 한 요청만 성공한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshToken r set r.token = :newToken, r.expiryDate = :expiryDate "
+            + "where r.member.id = :memberId and r.familyId = :familyId and r.token = :presentedToken "
+            + "and r.expiryDate > :now")
+    int rotate(@Param("memberId") Long memberId, @Param("familyId") String familyId,
+               @Param("presentedToken") String presentedToken, @Param("newToken") String newToken,
+               @Param("expiryDate") Instant expiryDate, @Param("now") Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.member.id = :memberId and r.familyId = :familyId")
+    int deleteFamily(@Param("memberId") Long memberId, @Param("familyId") String familyId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshToken r where r.member.id = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    @Query("select r.id from RefreshToken r where r.expiryDate < :now order by r.id")
+    List<Long> findExpiredIds(@Param("now") Instant now, Pageable pageable);
 }
@@ -7,23 +7,36 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
     private final MemberRepository memberRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var member = memberRepository.findByUsername(username)
+        var credentials = memberRepository.findCredentialsByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_EXIST, username));
         return User.builder()
-                .username(member.getUsername())
-                .password(member.getPassword())
+                .username(credentials.username())
+                .password(credentials.password())
+                .build();
+    }
+
+    // 로그인 성공 시 이전 cost/알고리즘으로 저장된 해시를 현재 설정으로 다시 저장한다. newPassword 는 이미 인코딩된 값이다
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.updatePasswordByUsername(user.getUsername(), newPassword);
+        log.debug("비밀번호 해시를 갱신했습니다. [username={}]", user.getUsername());
+        return User.withUserDetails(user)
+                .password(newPassword)
                 .build();
     }
 }
@@ -0,0 +1,45 @@
+package com.patientpal.backend.auth.service;
+
+import com.patientpal.backend.auth.repository.RefreshTokenRepository;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 리프레시 토큰 행을 batch 단위로 지운다. 한 번에 지우는 행 수를 제한해 긴 잠금을 피한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+
+    public RefreshTokenPurgeScheduler(RefreshTokenRepository refreshTokenRepository,
+                                      @Value("${patientpal.auth.refresh-token.purge-batch-size}") int batchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${patientpal.auth.refresh-token.purge-interval}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        long purged = 0;
+        List<Long> expiredIds;
+        do {
+            expiredIds = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+            if (!expiredIds.isEmpty()) {
+                refreshTokenRepository.deleteAllByIdInBatch(expiredIds);
+                purged += expiredIds.size();
+            }
+        } while (expiredIds.size() == batchSize);
+
+        if (purged > 0) {
+            log.info("만료된 리프레시 토큰을 삭제했습니다. [count={}]", purged);
+        }
+    }
+}
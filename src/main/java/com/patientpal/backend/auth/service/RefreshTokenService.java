@@ -1,22 +1,26 @@
 package com.patientpal.backend.auth.service;
 
-import com.patientpal.backend.auth.domain.RefreshToken;
+import com.patientpal.backend.auth.dto.RotatedRefreshToken;
 import com.patientpal.backend.auth.repository.RefreshTokenRepository;
+import com.patientpal.backend.common.exception.AuthenticationException;
 import com.patientpal.backend.common.exception.ErrorCode;
 import com.patientpal.backend.common.exception.InvalidValueException;
-import com.patientpal.backend.member.domain.Member;
 import com.patientpal.backend.member.repository.MemberRepository;
 import com.patientpal.backend.security.jwt.JwtTokenProvider;
-import jakarta.transaction.Transactional;
+import com.patientpal.backend.security.jwt.RefreshTokenClaims;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Base64;
-import java.util.Optional;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
@@ -24,20 +28,54 @@ public class RefreshTokenService {
     private final JwtTokenProvider tokenProvider;
     private final MemberRepository memberRepository;
 
+    /**
+     * 로그인 시 새 토큰 family 를 시작한다. 회원의 기존 행을 덮어쓰고, 처음 로그인하는 회원이면 행을 만든다.
+     * 한 문장의 upsert 로 처리하므로 같은 회원의 첫 로그인이 동시에 들어와도 유니크 키 충돌로 실패하지 않는다.
+     */
     @Transactional
-    public void deleteTokenByUsername(String username) {
-        refreshTokenRepository.deleteByMember(memberRepository.findByUsernameOrThrow(username));
-        refreshTokenRepository.flush();
+    public String issue(String username, Authentication authentication) {
+        Long memberId = memberRepository.findIdByUsernameOrThrow(username);
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = tokenProvider.createRefreshToken(authentication, familyId);
+        String tokenHash = hashToken(refreshToken);
+        Instant expiryDate = nextExpiryDate();
+
+        refreshTokenRepository.upsertFamily(memberId, tokenHash, familyId, expiryDate);
+        return refreshToken;
     }
 
-    @Transactional
-    public Long save(String username, String token) {
-        var refreshToken = RefreshToken.builder()
-                .member(memberRepository.findByUsernameOrThrow(username))
-                .token(hashToken(token))
-                .expiryDate(Instant.now().plusMillis(tokenProvider.refreshTokenExpirationTime))
-                .build();
-        return refreshTokenRepository.save(refreshToken).getId();
+    /**
+     * 제시된 리프레시 토큰이 family 의 현재 토큰이면 새 토큰으로 교체한다.
+     * 이미 교체된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기한다.
+     */
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public RotatedRefreshToken rotate(String presentedToken) {
+        RefreshTokenClaims claims = tokenProvider.parseRefreshToken(presentedToken)
+                .orElseThrow(() -> new AuthenticationException(ErrorCode.INVALID_TOKEN));
+        Authentication authentication = claims.authentication();
+        Long memberId = memberRepository.findIdByUsernameOrThrow(authentication.getName());
+
+        String refreshToken = tokenProvider.createRefreshToken(authentication, claims.familyId());
+        int rotated = refreshTokenRepository.rotate(memberId, claims.familyId(), hashToken(presentedToken),
+                hashToken(refreshToken), nextExpiryDate(), Instant.now());
+        if (rotated == 0) {
+            revokeFamily(memberId, claims.familyId());
+            throw new AuthenticationException(ErrorCode.INVALID_TOKEN);
+        }
+        return new RotatedRefreshToken(authentication, refreshToken);
+    }
+
+    private void revokeFamily(Long memberId, String familyId) {
+        if (familyId == null) {
+            return;
+        }
+        if (refreshTokenRepository.deleteFamily(memberId, familyId) > 0) {
+            log.warn("교체된 리프레시 토큰이 재사용되어 토큰 family 를 폐기합니다. [memberId={}, familyId={}]", memberId, familyId);
+        }
+    }
+
+    private Instant nextExpiryDate() {
+        return Instant.now().plusMillis(tokenProvider.refreshTokenExpirationTime);
     }
 
     private String hashToken(String token) {
@@ -49,23 +87,4 @@ public class RefreshTokenService {
             throw new InvalidValueException(ErrorCode.TOKEN_HASHING_ERROR);
         }
     }
-
-    public boolean validateToken(String token) {
-        if (!tokenProvider.validateToken(token)) {
-            return false;
-        }
-
-        Optional<RefreshToken> storedRefreshToken = getStoredRefreshToken(token);
-        return storedRefreshToken.isPresent() && !isTokenExpired(storedRefreshToken.get());
-    }
-
-    private Optional<RefreshToken> getStoredRefreshToken(String token) {
-        String username = tokenProvider.getUsernameFromToken(token);
-        Member member = memberRepository.findByUsernameOrThrow(username);
-        return refreshTokenRepository.findByMemberAndToken(member, hashToken(token));
-    }
-
-    public boolean isTokenExpired(RefreshToken token) {
-        return token.getExpiryDate().isBefore(Instant.now());
-    }
 }
@@ -114,12 +114,13 @@ public class CaregiverControllerV1 {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "환자 찾기", description = "지역, 이름, 성별, 나이로 환자를 검색합니다. sort='field',asc/desc로 정렬 가능합니다. ")
+    @Operation(summary = "환자 찾기", description = "지역, 이름, 성별, 나이로 환자를 검색합니다. keyword 로 이름(앞부분), 주소, 특이사항을 함께 검색할 수 있습니다. sort 는 latest(최신 순, 기본값)와 distance 만 지정할 수 있으며, sort=distance 는 내 주소(또는 latitude/longitude)에서 가까운 순입니다. skipCount=true 면 전체 개수 없이 다음 페이지 여부(hasNext)만 돌려줍니다.")
     @ApiResponse(responseCode = "200", description = "조건에 해당하는 환자 찾기 성공")
     @GetMapping("/search")
-    public ResponseEntity<PatientProfileListResponse> searchPatients(ProfileSearchCondition condition,
-                                                                       @PageableDefault(size = 5) Pageable pageable) {
-        final PatientProfileListResponse searchedProfiles = caregiverService.searchPageOrderBy(condition, pageable);
+    public ResponseEntity<PatientProfileListResponse> searchPatients(@AuthenticationPrincipal User currentMember,
+                                                                     ProfileSearchCondition condition,
+                                                                     @PageableDefault(size = 5) Pageable pageable) {
+        final PatientProfileListResponse searchedProfiles = caregiverService.searchPageOrderBy(currentMember.getUsername(), condition, pageable);
         return ResponseEntity.status(OK).body(searchedProfiles);
     }
 }
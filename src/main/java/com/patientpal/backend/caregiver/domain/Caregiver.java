@@ -3,6 +3,7 @@ package com.patientpal.backend.caregiver.domain;
 import com.patientpal.backend.member.domain.Address;
 import com.patientpal.backend.member.domain.Gender;
 import com.patientpal.backend.member.domain.Member;
+import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Lob;
@@ -18,8 +19,27 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 public class Caregiver extends Member {
 
+    // 후기 집계. 후기를 저장할 때 CaregiverRepository#addReview 로만 갱신하므로 변경 감지로 덮어쓰지 않는다
+    @Column(updatable = false)
     private float rating;
 
+    // 최근 후기일수록 가중치를 크게 준 평균
+    @Column(updatable = false)
+    private float recentRating;
+
+    @Column(updatable = false)
+    private int reviewCount;
+
+    // 평균을 실수 나눗셈으로 계산하도록 합계도 실수로 둔다
+    @Column(updatable = false)
+    private double ratingSum;
+
+    @Column(updatable = false)
+    private double reviewWeightSum;
+
+    @Column(updatable = false)
+    private double weightedRatingSum;
+
     private int experienceYears;
 
     private String specialization;
@@ -27,16 +47,42 @@ public class Caregiver extends Member {
     @Lob
     private String caregiverSignificant;
 
-    public Caregiver(float rating, int experienceYears, String specialization, String caregiverSignificant) {
-        this.rating = rating;
+    public Caregiver(int experienceYears, String specialization, String caregiverSignificant) {
         this.experienceYears = experienceYears;
         this.specialization = specialization;
         this.caregiverSignificant = caregiverSignificant;
     }
 
-    public void updateDetailProfile(final Address address, final float rate, final int experienceYears, final String specialization, final String caregiverSignificant) {
+    // 후기 집계는 addReview 로만 바뀌어야 하므로 빌더로 값을 정하지 못하게 한다. Lombok 은 빌더에 이미 있는 메서드를 다시 만들지 않는다
+    public abstract static class CaregiverBuilder<C extends Caregiver, B extends CaregiverBuilder<C, B>> extends MemberBuilder<C, B> {
+
+        private B rating(float rating) {
+            return self();
+        }
+
+        private B recentRating(float recentRating) {
+            return self();
+        }
+
+        private B reviewCount(int reviewCount) {
+            return self();
+        }
+
+        private B ratingSum(double ratingSum) {
+            return self();
+        }
+
+        private B reviewWeightSum(double reviewWeightSum) {
+            return self();
+        }
+
+        private B weightedRatingSum(double weightedRatingSum) {
+            return self();
+        }
+    }
+
+    public void updateDetailProfile(final Address address, final int experienceYears, final String specialization, final String caregiverSignificant) {
         updateAddress(address);
-        this.rating = rate;
         this.experienceYears = experienceYears;
         this.specialization = specialization;
         this.caregiverSignificant = caregiverSignificant;
@@ -57,13 +103,4 @@ public class Caregiver extends Member {
         this.specialization = specialization;
         this.caregiverSignificant = caregiverSignificant;
     }
-
-    public String generateCaregiverProfileSnapshot() {
-        return String.format("Caregiver Snapshot - Name: %s, Address: %s, Experience: %d years, CaregiverSignificant: %s, Specialization: %s",
-                this.getName(),
-                this.getAddress(),
-                this.getExperienceYears(),
-                this.getCaregiverSignificant(),
-                this.getSpecialization());
-    }
 }
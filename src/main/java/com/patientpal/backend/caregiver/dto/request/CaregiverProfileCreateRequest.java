@@ -28,8 +28,6 @@ public class CaregiverProfileCreateRequest {
     @NotNull
     private Address address;
 
-    private float rating;
-
     private int experienceYears;
 
     private String specialization;
@@ -38,14 +36,13 @@ public class CaregiverProfileCreateRequest {
 
     @Builder
     public CaregiverProfileCreateRequest(String name, String residentRegistrationNumber, String contact, Gender gender,
-                                         Address address, float rating, int experienceYears, String specialization,
+                                         Address address, int experienceYears, String specialization,
                                          String caregiverSignificant) {
         this.name = name;
         this.residentRegistrationNumber = residentRegistrationNumber;
         this.contact = contact;
         this.gender = gender;
         this.address = address;
-        this.rating = rating;
         this.experienceYears = experienceYears;
         this.specialization = specialization;
         this.caregiverSignificant = caregiverSignificant;
@@ -14,8 +14,6 @@ public class CaregiverProfileUpdateRequest {
     @NotNull
     private Address address;
 
-    private float rating;
-
     private int experienceYears;
 
     private String specialization;
@@ -23,10 +21,9 @@ public class CaregiverProfileUpdateRequest {
     private String caregiverSignificant;
 
     @Builder
-    public CaregiverProfileUpdateRequest(Address address, float rating, int experienceYears, String specialization,
+    public CaregiverProfileUpdateRequest(Address address, int experienceYears, String specialization,
                                          String caregiverSignificant) {
         this.address = address;
-        this.rating = rating;
         this.experienceYears = experienceYears;
         this.specialization = specialization;
         this.caregiverSignificant = caregiverSignificant;
@@ -28,6 +28,8 @@ public class CaregiverProfileDetailResponse {
 
     private float rating;
 
+    private int reviewCount;
+
     private int experienceYears;
 
     private String specialization;
@@ -39,7 +41,7 @@ public class CaregiverProfileDetailResponse {
     private String image;
 
     @Builder
-    public CaregiverProfileDetailResponse(Long memberId, String name, String residentRegistrationNumber, int age, String contact, Gender gender, Address address, float rating, int experienceYears,
+    public CaregiverProfileDetailResponse(Long memberId, String name, String residentRegistrationNumber, int age, String contact, Gender gender, Address address, float rating, int reviewCount, int experienceYears,
                                           String specialization, String caregiverSignificant, Boolean isInMatchList, String image) {
         this.memberId = memberId;
         this.name = name;
@@ -49,6 +51,7 @@ public class CaregiverProfileDetailResponse {
         this.gender = gender;
         this.address = address;
         this.rating = rating;
+        this.reviewCount = reviewCount;
         this.experienceYears = experienceYears;
         this.specialization = specialization;
         this.caregiverSignificant = caregiverSignificant;
@@ -66,6 +69,7 @@ public class CaregiverProfileDetailResponse {
                 .gender(caregiver.getGender())
                 .address(caregiver.getAddress())
                 .rating(caregiver.getRating())
+                .reviewCount(caregiver.getReviewCount())
                 .experienceYears(caregiver.getExperienceYears())
                 .specialization(caregiver.getSpecialization())
                 .caregiverSignificant(caregiver.getCaregiverSignificant())
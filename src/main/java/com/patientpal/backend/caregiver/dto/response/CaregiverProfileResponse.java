@@ -21,6 +21,8 @@ public class CaregiverProfileResponse {
 
     private float rating;
 
+    private int reviewCount;
+
     private int experienceYears;
 
     private String specialization;
@@ -28,13 +30,14 @@ public class CaregiverProfileResponse {
     private String image;
 
     @QueryProjection
-    public CaregiverProfileResponse(String name, int age, Gender gender, Address address, float rating,
+    public CaregiverProfileResponse(String name, int age, Gender gender, Address address, float rating, int reviewCount,
                                     int experienceYears, String specialization, String image) {
         this.name = name;
         this.age = age;
         this.gender = gender;
         this.address = address;
         this.rating = rating;
+        this.reviewCount = reviewCount;
         this.experienceYears = experienceYears;
         this.specialization = specialization;
         this.image = image;
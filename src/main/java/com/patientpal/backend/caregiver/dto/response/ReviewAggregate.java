@@ -0,0 +1,4 @@
+package com.patientpal.backend.caregiver.dto.response;
+
+public record ReviewAggregate(float rating, float recentRating, int reviewCount) {
+}
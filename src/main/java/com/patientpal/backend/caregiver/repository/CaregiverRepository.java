@@ -1,7 +1,27 @@
 package com.patientpal.backend.caregiver.repository;
 
 import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.caregiver.dto.response.ReviewAggregate;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CaregiverRepository extends JpaRepository<Caregiver, Long>, CaregiverProfileSearchRepositoryCustom {
+
+    // 후기 한 건을 집계에 더한다. 행 잠금 하나로 동시에 저장된 후기도 빠짐없이 반영된다.
+    // MariaDB 는 SET 을 왼쪽부터 적용하므로 평균을 합계보다 먼저 계산해 어느 DB 에서든 갱신 전 값으로 계산되게 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update caregivers set rating = (ratingSum + :score) / (reviewCount + 1), "
+            + "recentRating = (weightedRatingSum + :weightedScore) / (reviewWeightSum + :weight), "
+            + "reviewCount = reviewCount + 1, ratingSum = ratingSum + :score, "
+            + "weightedRatingSum = weightedRatingSum + :weightedScore, reviewWeightSum = reviewWeightSum + :weight "
+            + "where member_id = :caregiverId", nativeQuery = true)
+    int addReview(@Param("caregiverId") Long caregiverId, @Param("score") double score,
+                  @Param("weight") double weight, @Param("weightedScore") double weightedScore);
+
+    @Query("select new com.patientpal.backend.caregiver.dto.response.ReviewAggregate(c.rating, c.recentRating, c.reviewCount) "
+            + "from caregivers c where c.id = :caregiverId")
+    Optional<ReviewAggregate> findReviewAggregate(@Param("caregiverId") Long caregiverId);
 }
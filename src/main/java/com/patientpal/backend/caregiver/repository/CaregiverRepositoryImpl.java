@@ -1,31 +1,33 @@
 package com.patientpal.backend.caregiver.repository;
 
-import static com.patientpal.backend.patient.domain.QPatient.patient;
-import static com.querydsl.core.types.Order.ASC;
-import static com.querydsl.core.types.Order.DESC;
+import static com.patientpal.backend.search.domain.QPublicProfile.publicProfile;
 
 import com.patientpal.backend.member.domain.Gender;
-import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.member.domain.GeoPoint;
 import com.patientpal.backend.patient.dto.response.PatientProfileResponse;
 import com.patientpal.backend.patient.dto.response.QPatientProfileResponse;
+import com.patientpal.backend.common.querydsl.GeoExpressions;
 import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
+import com.patientpal.backend.common.querydsl.ProfileSortType;
+import com.patientpal.backend.common.querydsl.RegionCondition;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import java.util.ArrayList;
 import java.util.List;
-import lombok.extern.slf4j.Slf4j;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
-@Slf4j
 public class CaregiverRepositoryImpl implements CaregiverProfileSearchRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
@@ -34,69 +36,123 @@ public class CaregiverRepositoryImpl implements CaregiverProfileSearchRepository
         this.queryFactory = new JPAQueryFactory(em);
     }
 
-    //TODO 정렬 방식 추후 추가
-    //가까운 순(default)
-    //후기 많은 순
-    //최신 순
+    @Override
+    public Slice<PatientProfileResponse> searchPatientProfilesOrderBy(ProfileSearchCondition condition, Pageable pageable) {
+        List<PatientProfileResponse> content = ProfileSearchCondition.isDistanceSort(pageable.getSort())
+                ? fetchNearest(condition, pageable)
+                : fetchOrderBy(condition, pageable);
+
+        // 한 건 더 읽어 다음 페이지가 있는지 알아낸다
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
 
     @Override
-    public Page<PatientProfileResponse> searchPatientProfilesOrderBy(ProfileSearchCondition condition, Pageable pageable) {
-        log.info("Search Condition Name={}, gender={}, firstAddress={}, secondAddress={}",
-                condition.getName(), condition.getGender(), condition.getFirstAddress(), condition.getSecondAddress());
-
-        List<PatientProfileResponse> content = queryFactory
-                .select(new QPatientProfileResponse(
-                        patient.name,
-                        patient.age,
-                        patient.gender,
-                        patient.address,
-                        patient.profileImageUrl))
-                .from(patient)
-                .where(nameEq(condition.getName()),
-                        genderEq(condition.getGender()),
-                        firstAddressEq(condition.getFirstAddress()),
-                        secondAddressEq(condition.getSecondAddress()))
-                .orderBy(getOrderSpecifier(pageable.getSort()).stream().toArray(OrderSpecifier[]::new))
+    public long countPatientProfiles(ProfileSearchCondition condition) {
+        Long count = queryFactory
+                .select(publicProfile.count())
+                .from(publicProfile)
+                .where(searchConditions(condition))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private List<PatientProfileResponse> fetchOrderBy(ProfileSearchCondition condition, Pageable pageable) {
+        return queryFactory
+                .select(profile())
+                .from(publicProfile)
+                .where(searchConditions(condition))
+                .orderBy(ProfileSortType.orderBy(pageable.getSort(), ProfileType.PATIENT))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize() + 1L)
                 .fetch();
+    }
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(patient.count())
-                .from(patient)
-                .where(nameEq(condition.getName()));
+    // 기준점 주변 격자부터 넓혀 가며 찾고, 찾은 페이지의 마지막 거리가 훑은 범위 안이면 그대로 확정한다
+    private List<PatientProfileResponse> fetchNearest(ProfileSearchCondition condition, Pageable pageable) {
+        GeoPoint origin = condition.origin();
+        NumberExpression<Double> distance = GeoExpressions.squaredDistance(publicProfile.address.latitude, publicProfile.address.longitude, origin);
+        QPatientProfileResponse profile = profile();
+        for (int radius = GeoExpressions.INITIAL_RADIUS; radius <= GeoExpressions.MAX_RADIUS; radius *= 2) {
+            List<Tuple> rows = nearestQuery(condition, pageable, profile, distance)
+                    .where(GeoExpressions.withinCells(publicProfile.address.geoCell, origin, radius))
+                    .fetch();
+            if (rows.size() > pageable.getPageSize()
+                    && GeoExpressions.isSettled(rows.get(rows.size() - 1).get(distance), origin, radius)) {
+                return rows.stream().map(row -> row.get(profile)).toList();
+            }
+        }
+        // 주변에 충분히 없으면 전체를 거리순으로 본다. 좌표가 없는 프로필은 맨 뒤로 보낸다
+        return nearestQuery(condition, pageable, profile, distance).fetch().stream()
+                .map(row -> row.get(profile))
+                .toList();
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    private JPAQuery<Tuple> nearestQuery(ProfileSearchCondition condition, Pageable pageable,
+                                         QPatientProfileResponse profile, NumberExpression<Double> distance) {
+        return queryFactory
+                .select(profile, distance)
+                .from(publicProfile)
+                .where(searchConditions(condition))
+                .orderBy(distance.asc().nullsLast(), publicProfile.memberId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L);
     }
 
-    private List<OrderSpecifier> getOrderSpecifier(Sort sort) {
-        List<OrderSpecifier> list = new ArrayList<>();
-        sort.stream().forEach(order -> {
-            Order direction = order.isAscending() ? ASC : DESC;
-            log.info("order:{}", order);
-            log.info("direction:{}", direction);
-            String property = order.getProperty();
-            log.info("property:{}", property);
-            PathBuilder orderByExpression = new PathBuilder(Patient.class, "patient");
-            log.info("orderByExpression:{}", orderByExpression);
-            list.add(new OrderSpecifier(direction, orderByExpression.get(property)));
-        });
-        return list;
+    private QPatientProfileResponse profile() {
+        return new QPatientProfileResponse(
+                publicProfile.name,
+                publicProfile.age,
+                publicProfile.gender,
+                publicProfile.address,
+                publicProfile.profileImageUrl);
     }
 
-    private BooleanExpression genderEq(Gender gender) {
-        return gender == null ? null : patient.gender.eq(gender);
+    // 공개 프로필 목록에는 매칭 리스트에 공개한 프로필만 있다. 키워드 검색 색인도 같은 기준을 쓴다
+    private Predicate[] searchConditions(ProfileSearchCondition condition) {
+        return new Predicate[]{
+                publicProfile.profileType.eq(ProfileType.PATIENT),
+                nameEq(condition.getName()),
+                genderEq(condition.getGender()),
+                regionEq(RegionCondition.from(condition))
+        };
+    }
+
+    @Override
+    public List<PatientProfileResponse> findPatientProfilesByIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PatientProfileResponse> profiles = queryFactory
+                .select(publicProfile.memberId, profile())
+                .from(publicProfile)
+                .where(publicProfile.memberId.in(memberIds), publicProfile.profileType.eq(ProfileType.PATIENT))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(publicProfile.memberId), tuple -> tuple.get(1, PatientProfileResponse.class)));
+        // 검색 색인의 순위를 유지하고, 그 사이 삭제되거나 비공개로 바뀐 회원은 건너뛴다
+        return memberIds.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    private BooleanExpression firstAddressEq(String firstAddress) {
-        return firstAddress == null ? null : patient.address.addr.contains(firstAddress);
+    private BooleanExpression genderEq(Gender gender) {
+        return gender == null ? null : publicProfile.gender.eq(gender);
     }
 
-    private BooleanExpression secondAddressEq(String secondAddress) {
-        return secondAddress == null ? null : patient.address.addr.contains(secondAddress);
+    // 시/도는 일치, 시/군/구와 그 아래는 앞부분 일치로 비교해 idx_directory_region 을 탄다
+    private BooleanExpression regionEq(RegionCondition region) {
+        if (region == null) {
+            return null;
+        }
+        BooleanExpression provinceEq = region.province() == null ? null : publicProfile.region.regionProvince.eq(region.province());
+        BooleanExpression cityStartsWith = region.cityPrefix() == null ? null : publicProfile.region.regionCity.startsWith(region.cityPrefix());
+        BooleanExpression districtStartsWith = region.districtPrefix() == null ? null : publicProfile.region.regionDistrict.startsWith(region.districtPrefix());
+        return Expressions.allOf(provinceEq, cityStartsWith, districtStartsWith);
     }
 
     private BooleanExpression nameEq(String name) {
-        return StringUtils.isEmpty(name) ? null : patient.name.eq(name);
+        return StringUtils.isEmpty(name) ? null : publicProfile.name.eq(name);
     }
 }
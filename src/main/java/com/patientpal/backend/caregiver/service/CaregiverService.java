@@ -9,16 +9,25 @@ import com.patientpal.backend.common.exception.BusinessException;
 import com.patientpal.backend.common.exception.EntityNotFoundException;
 import com.patientpal.backend.common.exception.ErrorCode;
 import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
-import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.common.querydsl.ProfileSortType;
+import com.patientpal.backend.member.domain.GeoPoint;
 import com.patientpal.backend.member.repository.MemberRepository;
 import com.patientpal.backend.patient.dto.response.PatientProfileListResponse;
 import com.patientpal.backend.patient.dto.response.PatientProfileResponse;
+import com.patientpal.backend.search.domain.ProfileSearchHits;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.patientpal.backend.search.service.ProfileCountCache;
+import com.patientpal.backend.search.service.ProfileSearchService;
+import com.patientpal.backend.search.service.PublicProfileDirectory;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -28,13 +37,14 @@ public class CaregiverService {
 
     private final CaregiverRepository caregiverRepository;
     private final MemberRepository memberRepository;
+    private final ProfileSearchService profileSearchService;
+    private final ProfileCountCache profileCountCache;
+    private final PublicProfileDirectory publicProfileDirectory;
 
     @Transactional
     public CaregiverProfileDetailResponse saveCaregiverProfile(String username, CaregiverProfileCreateRequest caregiverProfileCreateRequest, String profileImageUrl) {
-        Member currentMember = getMember(username);
         // TODO 본인 인증 진행, 중복 가입이면 throw
-        Caregiver caregiver = caregiverRepository.findById(currentMember.getId())
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.CAREGIVER_NOT_EXIST));
+        Caregiver caregiver = getCaregiverByUsername(username);
         caregiver.registerDetailProfile(caregiverProfileCreateRequest.getName(),
                 caregiverProfileCreateRequest.getAddress(),
                 caregiverProfileCreateRequest.getContact(),
@@ -45,6 +55,8 @@ public class CaregiverService {
                 caregiverProfileCreateRequest.getCaregiverSignificant(),
                 profileImageUrl);
         log.info("프로필 등록 성공: ID={}, NAME={}", caregiver.getId(), caregiver.getName());
+        profileSearchService.reindexAfterCommit(caregiver.getId());
+        publicProfileDirectory.sync(caregiver);
         return CaregiverProfileDetailResponse.of(caregiver);
     }
 
@@ -63,10 +75,10 @@ public class CaregiverService {
             throw new BusinessException(ErrorCode.AUTHORIZATION_FAILED);
         }
         String currentProfileImageUrl = caregiver.getProfileImageUrl();
+        profileSearchService.reindexAfterCommit(caregiver.getId());
 
         getCaregiverByMemberId(memberId).updateDetailProfile(
                 caregiverProfileUpdateRequest.getAddress(),
-                caregiverProfileUpdateRequest.getRating(),
                 caregiverProfileUpdateRequest.getExperienceYears(),
                 caregiverProfileUpdateRequest.getSpecialization(),
                 caregiverProfileUpdateRequest.getCaregiverSignificant()
@@ -74,12 +86,10 @@ public class CaregiverService {
 
         if (profileImageUrl == null) {
             caregiver.setProfileImageUrl(null);
-            return;
-        }
-
-        if (!profileImageUrl.equals(currentProfileImageUrl)) {
+        } else if (!profileImageUrl.equals(currentProfileImageUrl)) {
             caregiver.updateProfileImage(profileImageUrl);
         }
+        publicProfileDirectory.sync(caregiver);
     }
 
     // @Transactional //세부 프로필 삭제가 필요한가? 어차피 프로필 공개/비공개를 설정해두면 비공개로 하면 삭제 안해도 되는거 아닌가?
@@ -103,6 +113,9 @@ public class CaregiverService {
             throw new BusinessException(ErrorCode.PROFILE_NOT_COMPLETED);
         }
         caregiver.setIsProfilePublic(true);
+        publicProfileDirectory.sync(caregiver);
+        profileSearchService.reindexAfterCommit(caregiver.getId());
+        profileCountCache.invalidateAfterCommit(ProfileType.CAREGIVER);
     }
 
     @Transactional
@@ -112,10 +125,13 @@ public class CaregiverService {
             throw new BusinessException(ErrorCode.AUTHORIZATION_FAILED);
         }
         caregiver.setIsProfilePublic(false);
+        publicProfileDirectory.sync(caregiver);
+        profileSearchService.reindexAfterCommit(caregiver.getId());
+        profileCountCache.invalidateAfterCommit(ProfileType.CAREGIVER);
     }
 
-    private Member getMember(String username) {
-        return memberRepository.findByUsername(username).orElseThrow(() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_EXIST, username));
+    private Caregiver getCaregiverByUsername(String username) {
+        return memberRepository.findCaregiverByUsername(username).orElseThrow(() -> new EntityNotFoundException(ErrorCode.CAREGIVER_NOT_EXIST, username));
     }
 
     private Caregiver getCaregiverByMemberId(Long memberId) {
@@ -129,10 +145,27 @@ public class CaregiverService {
             throw new BusinessException(ErrorCode.AUTHORIZATION_FAILED);
         }
         caregiver.deleteProfileImage();
+        publicProfileDirectory.sync(caregiver);
     }
 
-    public PatientProfileListResponse searchPageOrderBy(ProfileSearchCondition condition, Pageable pageable) {
-        Page<PatientProfileResponse> search = caregiverRepository.searchPatientProfilesOrderBy(condition, pageable);
-        return PatientProfileListResponse.from(search);
+    public PatientProfileListResponse searchPageOrderBy(String username, ProfileSearchCondition condition, Pageable pageable) {
+        // 지원하지 않는 정렬은 색인이나 목록을 조회하기 전에 거절한다
+        ProfileSortType sortType = ProfileSortType.of(pageable.getSort(), ProfileType.PATIENT);
+        if (sortType == ProfileSortType.DISTANCE && !condition.hasOrigin()) {
+            GeoPoint origin = memberRepository.findLocationByUsernameOrThrow(username);
+            condition.setLatitude(origin.latitude());
+            condition.setLongitude(origin.longitude());
+        }
+        if (StringUtils.hasText(condition.getKeyword())) {
+            ProfileSearchHits hits = profileSearchService.search(ProfileType.PATIENT, condition, pageable);
+            List<PatientProfileResponse> profiles = caregiverRepository.findPatientProfilesByIds(hits.memberIds());
+            return PatientProfileListResponse.from(new PageImpl<>(profiles, pageable, hits.totalHits()));
+        }
+        Slice<PatientProfileResponse> search = caregiverRepository.searchPatientProfilesOrderBy(condition, pageable);
+        if (condition.isSkipCount()) {
+            return PatientProfileListResponse.from(search);
+        }
+        return PatientProfileListResponse.from(profileCountCache.toPage(ProfileType.PATIENT, condition, search,
+                () -> caregiverRepository.countPatientProfiles(condition)));
     }
 }
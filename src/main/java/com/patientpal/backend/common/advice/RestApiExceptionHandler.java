@@ -3,10 +3,13 @@ package com.patientpal.backend.common.advice;
 import com.patientpal.backend.common.exception.BusinessException;
 import com.patientpal.backend.common.exception.ErrorCode;
 import com.patientpal.backend.common.exception.ErrorResponse;
+import com.patientpal.backend.common.exception.ServiceUnavailableException;
 import com.patientpal.backend.webhook.service.DiscordWebhookService;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,12 +17,15 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @RequiredArgsConstructor
 @RestControllerAdvice(annotations = RestController.class, basePackages = "com.patientpal.backend")
 public class RestApiExceptionHandler {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     private final Optional<DiscordWebhookService> discordWebhookService;
 
     @ExceptionHandler(AuthenticationException.class)
@@ -43,6 +49,24 @@ public class RestApiExceptionHandler {
         return new ResponseEntity<>(response, response.getStatus());
     }
 
+    // @RequestParam 등에 붙인 제약(@Min, @Max 등)을 어긴 경우
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    protected ResponseEntity<ErrorResponse> handleHandlerMethodValidationException(HandlerMethodValidationException e) {
+        var response = ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE);
+        log.debug("Parameter validation has failed: {}", e.getMessage());
+        return new ResponseEntity<>(response, response.getStatus());
+    }
+
+    // 비밀번호 해싱 풀이 포화된 경우. 부하 상황에서 반복되므로 error 로그를 남기지 않는다
+    @ExceptionHandler(ServiceUnavailableException.class)
+    protected ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+        var response = ErrorResponse.of(e.getErrorCode());
+        log.debug("Service unavailable: {}", e.getMessage());
+        return ResponseEntity.status(response.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(response);
+    }
+
     @ExceptionHandler(BusinessException.class)
     protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
         var response = ErrorResponse.of(e.getErrorCode());
@@ -50,6 +74,14 @@ public class RestApiExceptionHandler {
         return new ResponseEntity<>(response, response.getStatus());
     }
 
+    // 낙관적 락(@Version) 충돌. 같은 매칭에 대한 동시 상태 변경 등에서 발생한다
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        var response = ErrorResponse.of(ErrorCode.MATCH_STATE_CONFLICT);
+        log.debug("Optimistic locking failed: {}", e.getMessage());
+        return new ResponseEntity<>(response, response.getStatus());
+    }
+
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ErrorResponse> handleException(Exception e, WebRequest request) {
         // FIXME: 추후에 모니터링 환경이 갖추어지면 제거될 예정
@@ -8,12 +8,15 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S_001", "서버에 오류가 발생했습니다."),
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "S_002", "잘못된 요청 값입니다."),
     TOKEN_HASHING_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S_003", "서버에 오류가 발생했습니다."),
+    SEARCH_INDEX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "S_004", "검색 준비 중입니다. 잠시 후 다시 시도해주세요."),
+    UNSUPPORTED_SORT(HttpStatus.BAD_REQUEST, "S_005", "지원하지 않는 정렬 방식입니다."),
 
     AUTHORIZATION_FAILED(HttpStatus.FORBIDDEN, "AR_001", "권한이 없습니다."),
 
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "AU_001", "이메일 또는 비밀번호가 일치하지 않습니다."),
     UNSUPPORTED_OAUTH2_PROVIDER(HttpStatus.BAD_REQUEST, "AU_002", "지원하지 않는 OAuth2 프로바이더입니다."),
     UNSELECTED_ROLE(HttpStatus.BAD_REQUEST, "AU_003", "역할이 선택되지 않았습니다."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AU_004", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "V_001", "유효하지 않은 토큰입니다."),
     INVALID_RESIDENT_REGISTRATION_NUMBER(HttpStatus.NON_AUTHORITATIVE_INFORMATION, "V_002", "유효하지 않은 주민등록번호입니다."),
@@ -22,6 +25,7 @@ public enum ErrorCode {
     MEMBER_NOT_EXIST(HttpStatus.BAD_REQUEST, "M_002", "해당 멤버는 존재하지 않습니다."),
     NOT_COMPLETE_PROFILE(HttpStatus.NOT_FOUND, "M_003", "프로필이 등록되어 있지 않습니다."),
     CAN_NOT_DELETE_PROFILE(HttpStatus.BAD_REQUEST, "M_004", "진행 중인 매칭이 있어 프로필을 삭제할 수 없습니다."),
+    LOCATION_NOT_REGISTERED(HttpStatus.BAD_REQUEST, "M_005", "거리순으로 보려면 우편번호가 있는 주소를 먼저 등록해주세요."),
 
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "P_001", "해당 게시글을 찾을 수 없습니다."),
 
@@ -33,6 +37,8 @@ public enum ErrorCode {
     CAN_NOT_READ(HttpStatus.NOT_FOUND, "MT_006", "취소된 매칭 요청은 조회가 불가능합니다."),
     CAN_NOT_CANCEL_ALREADY_ACCEPTED_MATCH(HttpStatus.CONFLICT, "MT_007", "이미 진행중인 매칭은 취소가 불가능합니다."),
     CAN_NOT_ACCEPT_ALREADY_DELETE_PROFILE(HttpStatus.CONFLICT, "MT_008", "상대 프로필이 사라져 매칭 수락을 할 수 없습니다."),
+    MATCH_STATE_CONFLICT(HttpStatus.CONFLICT, "MT_009", "다른 요청에 의해 매칭 상태가 변경되었습니다. 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "MT_010", "같은 멱등 키로 다른 상대에게 매칭을 요청할 수 없습니다."),
 
     PATIENT_NOT_EXIST(HttpStatus.NOT_FOUND, "PA_001", "해당 환자는 존재하지 않습니다."),
     PATIENT_ALREADY_EXIST(HttpStatus.CONFLICT, "PA_002", "이미 가입된 환자 프로필이 존재합니다."),
@@ -40,6 +46,9 @@ public enum ErrorCode {
     CAREGIVER_ALREADY_EXIST(HttpStatus.CONFLICT, "CA_002", "이미 가입된 간병인 프로필이 존재합니다."),
 
     PROFILE_NOT_COMPLETED(HttpStatus.NOT_FOUND, "PR_001", "프로필 작성이 완성되지 않았습니다."),
+
+    REVIEW_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "RV_001", "수락된 매칭에만 후기를 남길 수 있습니다."),
+    REVIEW_ALREADY_EXIST(HttpStatus.CONFLICT, "RV_002", "이미 후기를 남긴 매칭입니다."),
     ;
 
     private final HttpStatus status;
@@ -0,0 +1,11 @@
+package com.patientpal.backend.common.exception;
+
+public class ServiceUnavailableException extends BusinessException {
+    public ServiceUnavailableException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public ServiceUnavailableException(ErrorCode errorCode, String detail) {
+        super(errorCode, detail);
+    }
+}
@@ -0,0 +1,41 @@
+package com.patientpal.backend.common.pagination;
+
+import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.common.exception.InvalidValueException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset(커서) 페이지네이션으로 조회한 한 페이지. 다음 페이지 존재 여부는 count 쿼리 대신 size + 1 건을 조회해 판단한다.
+ * 조회할 때는 fetchSize(size) 만큼 읽고, 읽은 목록을 of(rows, size) 로 잘라 쓴다.
+ */
+public record CursorSlice<T>(List<T> content, boolean hasNext) {
+
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청한 size 보다 한 건 더 읽을 개수. 컨트롤러에서 size 를 검증하지만, 다른 경로로 호출되어도 0 이하나 overflow 로 깨지지 않도록 다시 확인한다.
+     */
+    public static int fetchSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "size");
+        }
+        return size + 1;
+    }
+
+    public static <T> CursorSlice<T> of(List<T> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        return new CursorSlice<>(hasNext ? rows.subList(0, size) : rows, hasNext);
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorSlice<>(content.stream().<R>map(mapper).toList(), hasNext);
+    }
+
+    /**
+     * 다음 페이지가 있으면 이 페이지 마지막 항목으로 만든 커서를, 없으면 null 을 돌려준다.
+     */
+    public <C> C nextCursor(Function<? super T, C> cursorOf) {
+        return hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+    }
+}
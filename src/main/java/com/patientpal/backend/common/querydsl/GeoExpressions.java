@@ -0,0 +1,50 @@
+package com.patientpal.backend.common.querydsl;
+
+import com.patientpal.backend.member.domain.GeoGrid;
+import com.patientpal.backend.member.domain.GeoPoint;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거리순 검색용 Querydsl 식.
+ * 기준점 주변 격자(반경 r 칸)부터 조회하고, 찾은 페이지의 마지막 거리가 그 범위 안이면 더 넓힐 필요가 없다.
+ */
+public final class GeoExpressions {
+
+    public static final int INITIAL_RADIUS = 2;
+    public static final int MAX_RADIUS = 64;
+
+    private GeoExpressions() {
+    }
+
+    /**
+     * 평면 근사 거리의 제곱. 정렬과 범위 확인에만 쓰므로 제곱근을 구하지 않는다.
+     */
+    public static NumberExpression<Double> squaredDistance(NumberPath<Double> latitude, NumberPath<Double> longitude,
+                                                           GeoPoint origin) {
+        NumberExpression<Double> latitudeDiff = latitude.subtract(origin.latitude());
+        NumberExpression<Double> longitudeDiff = longitude.subtract(origin.longitude())
+                .multiply(GeoGrid.longitudeScale(origin));
+        return latitudeDiff.multiply(latitudeDiff).add(longitudeDiff.multiply(longitudeDiff));
+    }
+
+    // 격자 한 행은 연속된 칸 번호라 행마다 between 하나로 인덱스 범위 조회가 된다
+    public static BooleanExpression withinCells(NumberPath<Long> geoCell, GeoPoint origin, int radius) {
+        long row = GeoGrid.row(origin);
+        long column = GeoGrid.column(origin);
+        List<BooleanExpression> rows = new ArrayList<>(2 * radius + 1);
+        for (long r = row - radius; r <= row + radius; r++) {
+            rows.add(geoCell.between(r * GeoGrid.COLUMNS + column - radius, r * GeoGrid.COLUMNS + column + radius));
+        }
+        return Expressions.anyOf(rows.toArray(BooleanExpression[]::new));
+    }
+
+    public static boolean isSettled(Double squaredDistance, GeoPoint origin, int radius) {
+        double covered = GeoGrid.coveredDistance(origin, radius);
+        return squaredDistance != null && squaredDistance <= covered * covered;
+    }
+}
@@ -1,19 +1,23 @@
 package com.patientpal.backend.common.querydsl;
 
 import com.patientpal.backend.member.domain.Gender;
+import com.patientpal.backend.member.domain.GeoPoint;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.domain.Sort;
 
 @Getter
 @Setter
 public class ProfileSearchCondition {
 
-    //TODO
-    //가까운 순 정렬 -> 경도 위도 따야하나
-    //후기 많은 순
-    //최신 순
+    public static final String DISTANCE_SORT = "distance";
 
+    // 이름 접두어, 주소, 전문 분야, 특이사항을 대상으로 하는 검색어 (공백으로 구분)
+    private String keyword;
+
+    // 시/도 (예: 서울, 경기도)
     private String firstAddress;
+    // 시/군/구, 필요하면 일반구/읍/면/동까지 공백으로 구분 (예: 강남구, 성남시 분당구). 앞부분만 입력해도 된다
     private String secondAddress;
 
     private Gender gender;
@@ -22,6 +26,25 @@ public class ProfileSearchCondition {
 
     private Integer experienceYearsGoe;
 
+    // sort=distance 의 기준 위치. 비어 있으면 검색하는 회원의 주소 좌표를 쓴다
+    private Double latitude;
+    private Double longitude;
+
+    // true 면 전체 개수를 세지 않고 다음 페이지가 있는지만 알려준다 (무한 스크롤용)
+    private boolean skipCount;
+
     // TODO 이후 프로필 주민번호 기반으로 나이 계산 후 추가
     // private Integer ageLoe;
+
+    public boolean hasOrigin() {
+        return latitude != null && longitude != null;
+    }
+
+    public GeoPoint origin() {
+        return new GeoPoint(latitude, longitude);
+    }
+
+    public static boolean isDistanceSort(Sort sort) {
+        return sort.getOrderFor(DISTANCE_SORT) != null;
+    }
 }
@@ -0,0 +1,84 @@
+package com.patientpal.backend.common.querydsl;
+
+import static com.patientpal.backend.search.domain.QPublicProfile.publicProfile;
+
+import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.common.exception.InvalidValueException;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 프로필 검색에서 허용하는 정렬 방식. sort 파라미터의 이름으로 고르며, 여기 없는 이름은 거절한다.
+ * 방향은 정렬마다 정해져 있고(최신/경력 많은/평점 높은/후기 많은 순), 정렬식은 클래스를 읽을 때 한 번만 만든다.
+ * 각 정렬식은 public_profile_directory 의 (profileType, 정렬 컬럼 desc, member_id desc) 인덱스와 컬럼 순서, 방향이 같아
+ * 정렬하지 않고 인덱스 순서대로 읽는다. member_id 는 같은 값끼리의 순서를 페이지마다 같게 한다.
+ */
+public enum ProfileSortType {
+
+    // 회원 번호가 가입 순서이므로 최근 가입한 회원부터 보여준다
+    LATEST("latest", EnumSet.allOf(ProfileType.class), null),
+    EXPERIENCE("experienceYears", EnumSet.of(ProfileType.CAREGIVER), publicProfile.experienceYears),
+    RATING("rating", EnumSet.of(ProfileType.CAREGIVER), publicProfile.rating),
+    RECENT_RATING("recentRating", EnumSet.of(ProfileType.CAREGIVER), publicProfile.recentRating),
+    REVIEW_COUNT("reviewCount", EnumSet.of(ProfileType.CAREGIVER), publicProfile.reviewCount),
+    // 기준점에 따라 식이 달라지므로 검색할 때 만든다. GeoExpressions 참고
+    DISTANCE(ProfileSearchCondition.DISTANCE_SORT, EnumSet.allOf(ProfileType.class), null);
+
+    private static final Map<String, ProfileSortType> BY_PROPERTY = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(ProfileSortType::getProperty, Function.identity()));
+
+    private final String property;
+    private final Set<ProfileType> profileTypes;
+    private final List<OrderSpecifier<?>> orderSpecifiers;
+
+    // profileType 은 검색 조건으로 하나로 정해지지만, 인덱스 첫 컬럼부터 정렬 컬럼과 같아야 인덱스로 정렬하는 DB(H2)가 있어 함께 둔다
+    ProfileSortType(String property, Set<ProfileType> profileTypes, ComparableExpressionBase<?> key) {
+        this.property = property;
+        this.profileTypes = profileTypes;
+        this.orderSpecifiers = key == null
+                ? List.of(publicProfile.profileType.asc(), publicProfile.memberId.desc())
+                : List.of(publicProfile.profileType.asc(), key.desc(), publicProfile.memberId.desc());
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * 정렬이 없으면 최신 순이다. 정렬 기준은 하나만 받고 방향은 보지 않으며, 프로필 종류에 없는 정렬은 거절한다.
+     */
+    public static ProfileSortType of(Sort sort, ProfileType profileType) {
+        if (sort.isUnsorted()) {
+            return LATEST;
+        }
+        if (sort.stream().count() > 1) {
+            throw new InvalidValueException(ErrorCode.UNSUPPORTED_SORT, sort.toString());
+        }
+        String property = sort.iterator().next().getProperty();
+        ProfileSortType sortType = BY_PROPERTY.get(property);
+        if (sortType == null || !sortType.profileTypes.contains(profileType)) {
+            throw new InvalidValueException(ErrorCode.UNSUPPORTED_SORT, property);
+        }
+        return sortType;
+    }
+
+    /**
+     * 미리 만들어 둔 정렬식을 돌려준다. 거리순은 기준점이 있어야 하므로 여기서 만들지 않는다.
+     */
+    public static OrderSpecifier<?>[] orderBy(Sort sort, ProfileType profileType) {
+        ProfileSortType sortType = of(sort, profileType);
+        if (sortType == DISTANCE) {
+            throw new IllegalArgumentException("거리순 정렬식은 기준점으로 만들어야 합니다.");
+        }
+        return sortType.orderSpecifiers.toArray(OrderSpecifier<?>[]::new);
+    }
+}
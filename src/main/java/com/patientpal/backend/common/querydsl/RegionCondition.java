@@ -0,0 +1,31 @@
+package com.patientpal.backend.common.querydsl;
+
+import com.patientpal.backend.member.domain.Province;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 검색 조건의 firstAddress/secondAddress 를 지역 코드 조건으로 바꾼다.
+ * 첫 단어가 시/도 이름이면 시/도로, 나머지 단어는 차례로 시/군/구, 일반구/읍/면/동의 앞부분으로 본다.
+ */
+public record RegionCondition(Province province, String cityPrefix, String districtPrefix) {
+
+    public static RegionCondition from(ProfileSearchCondition condition) {
+        List<String> words = new ArrayList<>();
+        for (String address : Arrays.asList(condition.getFirstAddress(), condition.getSecondAddress())) {
+            if (address != null && !address.isBlank()) {
+                words.addAll(Arrays.asList(address.strip().split("\\s+")));
+            }
+        }
+        if (words.isEmpty()) {
+            return null;
+        }
+        Optional<Province> province = Province.fromName(words.get(0));
+        List<String> rest = province.isPresent() ? words.subList(1, words.size()) : words;
+        return new RegionCondition(province.orElse(null),
+                rest.isEmpty() ? null : rest.get(0),
+                rest.size() < 2 ? null : rest.get(1));
+    }
+}
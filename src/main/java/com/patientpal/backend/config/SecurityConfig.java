@@ -5,15 +5,22 @@ import com.patientpal.backend.security.jwt.JwtAuthTokenFilter;
 import com.patientpal.backend.security.jwt.JwtAuthenticationEntryPoint;
 import com.patientpal.backend.security.jwt.JwtTokenProvider;
 import com.patientpal.backend.security.oauth.CustomOauth2UserService;
+import com.patientpal.backend.security.password.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -24,14 +31,30 @@ import org.springframework.web.cors.CorsConfigurationSource;
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
+    private static final String BCRYPT_ID = "bcrypt";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final CustomOauth2UserService customOauth2UserService;
 
+    /**
+     * 새 비밀번호는 설정된 cost 의 bcrypt 로 저장한다. bcrypt 외의 id({noop}, {pbkdf2}, {scrypt} 등)로 저장된 해시는
+     * PasswordEncoderFactories 의 기본 인코더로 비교하고, cost 가 낮거나 다른 알고리즘으로 저장된 해시는
+     * upgradeEncoding 이 참이 되어 로그인 성공 시 {@link com.patientpal.backend.auth.service.LoginService} 가 다시 저장한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${patientpal.security.password-hashing.bcrypt-strength}") int bcryptStrength,
+            @Value("${patientpal.security.password-hashing.threads}") int threads,
+            @Value("${patientpal.security.password-hashing.queue-capacity}") int queueCapacity,
+            @Value("${patientpal.security.password-hashing.timeout}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        // 기본 인코더 목록 중 bcrypt 만 설정된 cost 로 바꾼다. 나머지 id 는 기본 인코더가 그대로 비교한다
+        var delegatingEncoder = new DelegatingPasswordEncoder(BCRYPT_ID,
+                Map.of(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength)));
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return new BoundedPasswordEncoder(delegatingEncoder, threads, queueCapacity, timeout, meterRegistry);
     }
 
     @Bean
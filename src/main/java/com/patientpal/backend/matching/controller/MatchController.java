@@ -4,14 +4,19 @@ import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
 
 import com.patientpal.backend.common.exception.ErrorResponse;
+import com.patientpal.backend.common.pagination.CursorSlice;
+import com.patientpal.backend.matching.domain.MatchStatus;
 import com.patientpal.backend.matching.dto.response.MatchListResponse;
 import com.patientpal.backend.matching.dto.response.MatchResponse;
+import com.patientpal.backend.matching.dto.response.MatchSliceResponse;
 import com.patientpal.backend.matching.service.MatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
@@ -29,19 +34,25 @@ public class MatchController {
 
     @Operation(
             summary = "매칭 생성",
+            description = "Idempotency-Key 헤더가 같은 재요청은 새로 생성하지 않고 기존 매칭을 반환합니다. 같은 키로 다른 상대에게 요청하면 거절합니다.",
             responses = {
                     @ApiResponse(responseCode = "201", description = "매칭 생성 성공",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchResponse.class))),
                     @ApiResponse(responseCode = "400", description = "잘못된 요청",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "401", description = "인증 실패",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "이미 진행 중인 매칭 존재",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key 로 다른 상대에게 요청",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
     @PostMapping
     public ResponseEntity<MatchResponse> createMatchForPatient(@AuthenticationPrincipal User currentMember,
-                                                               @RequestParam Long responseMemberId) {
-        return ResponseEntity.status(CREATED).body(matchService.createMatch(currentMember.getUsername(), responseMemberId));
+                                                               @RequestParam Long responseMemberId,
+                                                               @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return ResponseEntity.status(CREATED).body(matchService.createMatch(currentMember.getUsername(), responseMemberId, idempotencyKey));
     }
 
     @Operation(
@@ -64,6 +75,7 @@ public class MatchController {
 
     @Operation(
             summary = "매칭 리스트 조회 - 요청 보낸",
+            description = "기본은 프로필 스냅샷을 포함하며, summary=true 이면 스냅샷을 제외한 요약만 조회합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "매칭 리스트 조회 성공",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchListResponse.class))),
@@ -75,14 +87,16 @@ public class MatchController {
     public ResponseEntity<MatchListResponse> getRequestMatchList(@AuthenticationPrincipal User currentMember,
                                                               @RequestParam(defaultValue = "0") int page,
                                                               @RequestParam(defaultValue = "10") int size,
+                                                              @RequestParam(defaultValue = "false") boolean summary,
                                                                  @PathVariable Long memberId) {
         final MatchListResponse matchList = matchService.getRequestMatches(currentMember.getUsername(), memberId,
-                PageRequest.of(page, size));
+                summary, PageRequest.of(page, size));
         return ResponseEntity.status(OK).body(matchList);
     }
 
     @Operation(
             summary = "매칭 리스트 조회 - 요청 받은",
+            description = "기본은 프로필 스냅샷을 포함하며, summary=true 이면 스냅샷을 제외한 요약만 조회합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "매칭 리스트 조회 성공",
                             content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchListResponse.class))),
@@ -94,12 +108,61 @@ public class MatchController {
     public ResponseEntity<MatchListResponse> getReceivedMatchList(@AuthenticationPrincipal User currentMember,
                                                                   @PathVariable Long memberId,
                                                                   @RequestParam(defaultValue = "0") int page,
-                                                                  @RequestParam(defaultValue = "10") int size) {
+                                                                  @RequestParam(defaultValue = "10") int size,
+                                                                  @RequestParam(defaultValue = "false") boolean summary) {
         final MatchListResponse matchList = matchService.getReceivedMatches(currentMember.getUsername(), memberId,
-                PageRequest.of(page, size));
+                summary, PageRequest.of(page, size));
         return ResponseEntity.status(OK).body(matchList);
     }
 
+    @Operation(
+            summary = "매칭 리스트 커서 조회 - 요청 보낸",
+            description = "최신순으로 조회하며, 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. summary=true 이면 프로필 스냅샷을 제외한 요약만 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "매칭 리스트 조회 성공",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchSliceResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 범위(1~100)를 벗어난 size",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "인증 실패",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("{memberId}/request")
+    public ResponseEntity<MatchSliceResponse> getRequestMatchSlice(@AuthenticationPrincipal User currentMember,
+                                                                   @PathVariable Long memberId,
+                                                                   @RequestParam(required = false) MatchStatus status,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "10") @Min(1) @Max(CursorSlice.MAX_SIZE) int size,
+                                                                   @RequestParam(defaultValue = "false") boolean summary) {
+        final MatchSliceResponse matchSlice = matchService.getRequestMatchSlice(currentMember.getUsername(), memberId,
+                status, cursor, summary, size);
+        return ResponseEntity.status(OK).body(matchSlice);
+    }
+
+    @Operation(
+            summary = "매칭 리스트 커서 조회 - 요청 받은",
+            description = "최신순으로 조회하며, 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. summary=true 이면 프로필 스냅샷을 제외한 요약만 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "매칭 리스트 조회 성공",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchSliceResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 범위(1~100)를 벗어난 size",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "인증 실패",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("{memberId}/received")
+    public ResponseEntity<MatchSliceResponse> getReceivedMatchSlice(@AuthenticationPrincipal User currentMember,
+                                                                    @PathVariable Long memberId,
+                                                                    @RequestParam(required = false) MatchStatus status,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "10") @Min(1) @Max(CursorSlice.MAX_SIZE) int size,
+                                                                    @RequestParam(defaultValue = "false") boolean summary) {
+        final MatchSliceResponse matchSlice = matchService.getReceivedMatchSlice(currentMember.getUsername(), memberId,
+                status, cursor, summary, size);
+        return ResponseEntity.status(OK).body(matchSlice);
+    }
+
     @Operation(
             summary = "매칭 취소",
             responses = {
@@ -0,0 +1,32 @@
+package com.patientpal.backend.matching.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.member.domain.Address;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CaregiverProfileSnapshotPayload(
+        int version,
+        String name,
+        String zipCode,
+        String addr,
+        String addrDetail,
+        int experienceYears,
+        String specialization,
+        String caregiverSignificant) {
+
+    public static final int VERSION = 1;
+
+    public static CaregiverProfileSnapshotPayload from(Caregiver caregiver) {
+        Address address = caregiver.getAddress();
+        return new CaregiverProfileSnapshotPayload(
+                VERSION,
+                caregiver.getName(),
+                address == null ? null : address.getZipCode(),
+                address == null ? null : address.getAddr(),
+                address == null ? null : address.getAddrDetail(),
+                caregiver.getExperienceYears(),
+                caregiver.getSpecialization(),
+                caregiver.getCaregiverSignificant());
+    }
+}
@@ -1,5 +1,6 @@
 package com.patientpal.backend.matching.domain;
 
+import static com.patientpal.backend.matching.domain.MatchStatus.PENDING;
 import static jakarta.persistence.FetchType.LAZY;
 
 import com.patientpal.backend.common.BaseEntity;
@@ -12,10 +13,12 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,7 +29,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Getter
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+        @Index(name = "idx_matches_request_member_created", columnList = "request_member_id, createdDate, match_id"),
+        @Index(name = "idx_matches_received_member_created", columnList = "received_member_id, createdDate, match_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_matches_pending_pair_key", columnNames = "pendingPairKey"),
+        @UniqueConstraint(name = "uk_matches_request_member_idempotency_key", columnNames = {"request_member_id", "idempotencyKey"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Match extends BaseEntity {
@@ -44,9 +53,20 @@ public class Match extends BaseEntity {
     private Member receivedMember;
 
     @Enumerated(EnumType.STRING)
-    @Setter
     private MatchStatus matchStatus;
 
+    // 진행 중(PENDING)인 동안만 "요청자:수신자" 값을 가지며, 유니크 제약으로 같은 방향의 중복 요청을 막는다
+    @Column(length = 41)
+    private String pendingPairKey;
+
+    @Column(length = 64)
+    private String idempotencyKey;
+
+    // 상태 전이는 MatchRepository 의 조건부 update 로 처리하고, 변경 감지로 갱신되는 경우에는 낙관적 락으로 충돌을 감지한다
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long version;
+
     @Enumerated(EnumType.STRING)
     @Setter
     private ReadStatus readStatus;
@@ -54,23 +74,33 @@ public class Match extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private FirstRequest firstRequest;
 
-    @Lob
+    // 스냅샷 본문은 단건 조회(getMatch)에서만 지연 로딩한다
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "patient_snapshot_hash")
     @Setter
-    private String patientProfileSnapshot;
+    private ProfileSnapshot patientProfileSnapshot;
 
-    @Lob
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "caregiver_snapshot_hash")
     @Setter
-    private String caregiverProfileSnapshot;
+    private ProfileSnapshot caregiverProfileSnapshot;
 
     @Builder
     public Match(@NonNull Member requestMember, @NonNull Member receivedMember, @NonNull MatchStatus matchStatus, @NonNull ReadStatus readStatus,
-                 FirstRequest firstRequest, String patientProfileSnapshot, String caregiverProfileSnapshot) {
+                 FirstRequest firstRequest, ProfileSnapshot patientProfileSnapshot, ProfileSnapshot caregiverProfileSnapshot,
+                 String idempotencyKey) {
         this.requestMember = requestMember;
         this.receivedMember = receivedMember;
-        this.matchStatus = matchStatus;
         this.readStatus = readStatus;
         this.firstRequest = firstRequest;
         this.patientProfileSnapshot = patientProfileSnapshot;
         this.caregiverProfileSnapshot = caregiverProfileSnapshot;
+        this.idempotencyKey = idempotencyKey;
+        setMatchStatus(matchStatus);
+    }
+
+    public void setMatchStatus(MatchStatus matchStatus) {
+        this.matchStatus = matchStatus;
+        this.pendingPairKey = matchStatus == PENDING ? requestMember.getId() + ":" + receivedMember.getId() : null;
     }
 }
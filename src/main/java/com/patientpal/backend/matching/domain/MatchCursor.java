@@ -0,0 +1,39 @@
+package com.patientpal.backend.matching.domain;
+
+import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.common.exception.InvalidValueException;
+import com.patientpal.backend.matching.dto.response.MatchResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 매칭 목록 keyset 페이지네이션 위치. (createdDate, id) 내림차순 기준 마지막으로 조회한 매칭을 가리킨다.
+ */
+public record MatchCursor(LocalDateTime createdDate, Long id) {
+    private static final String DELIMITER = "_";
+
+    public static MatchCursor from(MatchResponse match) {
+        return new MatchCursor(match.getCreatedDate(), match.getId());
+    }
+
+    public static MatchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new MatchCursor(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.valueOf(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException exception) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
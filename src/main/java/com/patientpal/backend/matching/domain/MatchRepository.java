@@ -1,18 +1,61 @@
 package com.patientpal.backend.matching.domain;
 
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface MatchRepository extends JpaRepository<Match, Long> {
-    @Query("SELECT m FROM Match m WHERE m.requestMember.id = :memberId")
-    Page<Match> findAllRequest(@Param("memberId") Long memberId, Pageable pageable);
+public interface MatchRepository extends JpaRepository<Match, Long>, MatchRepositoryCustom {
 
-    @Query("SELECT m FROM Match m WHERE m.receivedMember.id = :memberId")
-    Page<Match> findAllReceived(@Param("memberId") Long memberId, Pageable pageable);
+    Optional<Match> findByRequestMemberIdAndIdempotencyKey(Long requestMemberId, String idempotencyKey);
 
-    @Query("SELECT COUNT(m) > 0 FROM Match m WHERE m.requestMember.id = :requestMemberId AND m.receivedMember.id = :receivedMemberId AND m.matchStatus = 'PENDING'")
-    boolean existsPendingMatch(@Param("requestMemberId") Long requestMemberId, @Param("receivedMemberId") Long receivedMemberId);
+    Optional<Match> findByPendingPairKey(String pendingPairKey);
+
+    // 같은 키로 동시에 들어온 요청이 먼저 커밋한 매칭을 읽는다. 공유 잠금으로 읽어야 REPEATABLE READ 의 일관된 읽기를 우회한다
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select m from Match m where m.requestMember.id = :requestMemberId and m.idempotencyKey = :idempotencyKey")
+    Optional<Match> findCommittedByRequestMemberIdAndIdempotencyKey(@Param("requestMemberId") Long requestMemberId,
+                                                                    @Param("idempotencyKey") String idempotencyKey);
+
+    // 탈퇴 회원의 매칭을 batch 단위로 지울 때 쓴다
+    @Query("select m.id from Match m where m.requestMember.id = :memberId order by m.id")
+    List<Long> findIdsByRequestMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select m.id from Match m where m.receivedMember.id = :memberId order by m.id")
+    List<Long> findIdsByReceivedMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 아래 상태 전이는 PENDING 인 경우에만 반영되며, 반영된 행 수(0 또는 1)로 성공 여부를 판단한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Match m SET m.matchStatus = com.patientpal.backend.matching.domain.MatchStatus.ACCEPTED, "
+            + "m.readStatus = com.patientpal.backend.matching.domain.ReadStatus.READ, m.pendingPairKey = NULL, "
+            + "m.patientProfileSnapshot = :snapshot, m.version = m.version + 1, m.lastModifiedDate = :now "
+            + "WHERE m.id = :matchId AND m.receivedMember.id = :memberId AND m.requestMember IS NOT NULL "
+            + "AND m.firstRequest = com.patientpal.backend.matching.domain.FirstRequest.CAREGIVER_FIRST "
+            + "AND m.matchStatus = com.patientpal.backend.matching.domain.MatchStatus.PENDING")
+    int acceptByPatient(@Param("matchId") Long matchId, @Param("memberId") Long memberId,
+                        @Param("snapshot") ProfileSnapshot snapshot, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Match m SET m.matchStatus = com.patientpal.backend.matching.domain.MatchStatus.ACCEPTED, "
+            + "m.readStatus = com.patientpal.backend.matching.domain.ReadStatus.READ, m.pendingPairKey = NULL, "
+            + "m.caregiverProfileSnapshot = :snapshot, m.version = m.version + 1, m.lastModifiedDate = :now "
+            + "WHERE m.id = :matchId AND m.receivedMember.id = :memberId AND m.requestMember IS NOT NULL "
+            + "AND m.firstRequest = com.patientpal.backend.matching.domain.FirstRequest.PATIENT_FIRST "
+            + "AND m.matchStatus = com.patientpal.backend.matching.domain.MatchStatus.PENDING")
+    int acceptByCaregiver(@Param("matchId") Long matchId, @Param("memberId") Long memberId,
+                          @Param("snapshot") ProfileSnapshot snapshot, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Match m SET m.matchStatus = com.patientpal.backend.matching.domain.MatchStatus.CANCELED, "
+            + "m.pendingPairKey = NULL, m.version = m.version + 1, m.lastModifiedDate = :now "
+            + "WHERE m.id = :matchId AND m.requestMember.id = :memberId AND m.firstRequest = :firstRequest "
+            + "AND m.matchStatus = com.patientpal.backend.matching.domain.MatchStatus.PENDING")
+    int cancel(@Param("matchId") Long matchId, @Param("memberId") Long memberId,
+               @Param("firstRequest") FirstRequest firstRequest, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,19 @@
+package com.patientpal.backend.matching.domain;
+
+import com.patientpal.backend.matching.dto.response.MatchResponse;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface MatchRepositoryCustom {
+
+    Page<MatchResponse> findRequestResponses(Long memberId, boolean summary, Pageable pageable);
+
+    Page<MatchResponse> findReceivedResponses(Long memberId, boolean summary, Pageable pageable);
+
+    List<MatchResponse> findRequestSlice(Long memberId, MatchStatus status, MatchCursor cursor, boolean summary, int limit);
+
+    List<MatchResponse> findReceivedSlice(Long memberId, MatchStatus status, MatchCursor cursor, boolean summary, int limit);
+
+    int insertIgnoringConflicts(Match match);
+}
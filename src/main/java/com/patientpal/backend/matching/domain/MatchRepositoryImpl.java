@@ -0,0 +1,154 @@
+package com.patientpal.backend.matching.domain;
+
+import static com.patientpal.backend.matching.domain.QMatch.match;
+
+import com.patientpal.backend.matching.dto.response.MatchResponse;
+import com.patientpal.backend.matching.dto.response.QMatchResponse;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * 매칭 목록은 엔티티를 로딩하지 않고 {@link MatchResponse} 로 바로 조회한다.
+ * 회원 id 는 FK 컬럼에서 읽으므로 회원 프록시 초기화나 조인이 발생하지 않는다.
+ */
+public class MatchRepositoryImpl implements MatchRepositoryCustom {
+
+    private static final QProfileSnapshot patientSnapshot = new QProfileSnapshot("patientSnapshot");
+    private static final QProfileSnapshot caregiverSnapshot = new QProfileSnapshot("caregiverSnapshot");
+
+    private static final String INSERT_IGNORING_CONFLICTS = "insert ignore into matches (request_member_id, received_member_id, "
+            + "matchStatus, pendingPairKey, idempotencyKey, version, readStatus, firstRequest, patient_snapshot_hash, "
+            + "caregiver_snapshot_hash, createdDate, lastModifiedDate) values (:requestMemberId, :receivedMemberId, "
+            + ":matchStatus, :pendingPairKey, :idempotencyKey, 0, :readStatus, :firstRequest, :patientSnapshotHash, "
+            + ":caregiverSnapshotHash, :now, :now)";
+
+    private final EntityManager em;
+    private final JPAQueryFactory queryFactory;
+
+    public MatchRepositoryImpl(EntityManager em) {
+        this.em = em;
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * pendingPairKey 나 (request_member_id, idempotencyKey) 가 이미 있으면 insert 하지 않고 0 을 돌려준다.
+     * 제약 위반 예외를 내지 않으므로 호출한 트랜잭션이 롤백 전용이 되지 않아, 같은 트랜잭션에서 먼저 저장된 매칭을 읽어 응답할 수 있다.
+     * 다른 트랜잭션이 같은 키로 insert 하고 아직 커밋하지 않았으면 그 트랜잭션이 끝날 때까지 기다린다.
+     */
+    @Override
+    public int insertIgnoringConflicts(Match match) {
+        return em.createNativeQuery(INSERT_IGNORING_CONFLICTS)
+                .setParameter("requestMemberId", match.getRequestMember().getId())
+                .setParameter("receivedMemberId", match.getReceivedMember().getId())
+                .setParameter("matchStatus", match.getMatchStatus().name())
+                .setParameter("pendingPairKey", match.getPendingPairKey())
+                .setParameter("idempotencyKey", match.getIdempotencyKey())
+                .setParameter("readStatus", match.getReadStatus().name())
+                .setParameter("firstRequest", match.getFirstRequest() == null ? null : match.getFirstRequest().name())
+                .setParameter("patientSnapshotHash", snapshotHash(match.getPatientProfileSnapshot()))
+                .setParameter("caregiverSnapshotHash", snapshotHash(match.getCaregiverProfileSnapshot()))
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    private static String snapshotHash(ProfileSnapshot snapshot) {
+        return snapshot == null ? null : snapshot.getHash();
+    }
+
+    @Override
+    public Page<MatchResponse> findRequestResponses(Long memberId, boolean summary, Pageable pageable) {
+        return findPage(match.requestMember.id.eq(memberId), summary, pageable);
+    }
+
+    @Override
+    public Page<MatchResponse> findReceivedResponses(Long memberId, boolean summary, Pageable pageable) {
+        return findPage(match.receivedMember.id.eq(memberId), summary, pageable);
+    }
+
+    @Override
+    public List<MatchResponse> findRequestSlice(Long memberId, MatchStatus status, MatchCursor cursor, boolean summary,
+                                                int limit) {
+        return findSlice(match.requestMember.id.eq(memberId), status, cursor, summary, limit);
+    }
+
+    @Override
+    public List<MatchResponse> findReceivedSlice(Long memberId, MatchStatus status, MatchCursor cursor, boolean summary,
+                                                 int limit) {
+        return findSlice(match.receivedMember.id.eq(memberId), status, cursor, summary, limit);
+    }
+
+    private Page<MatchResponse> findPage(BooleanExpression memberEq, boolean summary, Pageable pageable) {
+        List<MatchResponse> content = selectResponseFrom(summary)
+                .where(memberEq)
+                .orderBy(match.createdDate.desc(), match.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(match.count())
+                .from(match)
+                .where(memberEq);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    // (member_id, createdDate, match_id) 인덱스를 역순으로 탐색하므로 페이지 깊이와 무관하게 limit 만큼만 읽는다
+    private List<MatchResponse> findSlice(BooleanExpression memberEq, MatchStatus status, MatchCursor cursor,
+                                          boolean summary, int limit) {
+        return selectResponseFrom(summary)
+                .where(memberEq,
+                        statusEq(status),
+                        beforeCursor(cursor))
+                .orderBy(match.createdDate.desc(), match.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 요약 모드는 스냅샷 테이블을 조인하지 않는다
+    private JPAQuery<MatchResponse> selectResponseFrom(boolean summary) {
+        if (summary) {
+            return queryFactory.select(new QMatchResponse(
+                            match.id,
+                            match.requestMember.id,
+                            match.receivedMember.id,
+                            match.createdDate,
+                            match.matchStatus,
+                            match.readStatus,
+                            match.firstRequest))
+                    .from(match);
+        }
+        return queryFactory.select(new QMatchResponse(
+                        match.id,
+                        match.requestMember.id,
+                        match.receivedMember.id,
+                        match.createdDate,
+                        match.matchStatus,
+                        match.readStatus,
+                        match.firstRequest,
+                        patientSnapshot.payload,
+                        caregiverSnapshot.payload))
+                .from(match)
+                .leftJoin(match.patientProfileSnapshot, patientSnapshot)
+                .leftJoin(match.caregiverProfileSnapshot, caregiverSnapshot);
+    }
+
+    private BooleanExpression statusEq(MatchStatus status) {
+        return status == null ? null : match.matchStatus.eq(status);
+    }
+
+    private BooleanExpression beforeCursor(MatchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return match.createdDate.lt(cursor.createdDate())
+                .or(match.createdDate.eq(cursor.createdDate()).and(match.id.lt(cursor.id())));
+    }
+}
@@ -0,0 +1,30 @@
+package com.patientpal.backend.matching.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.patient.domain.Patient;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PatientProfileSnapshotPayload(
+        int version,
+        String name,
+        String zipCode,
+        String addr,
+        String addrDetail,
+        String patientSignificant,
+        String careRequirements) {
+
+    public static final int VERSION = 1;
+
+    public static PatientProfileSnapshotPayload from(Patient patient) {
+        Address address = patient.getAddress();
+        return new PatientProfileSnapshotPayload(
+                VERSION,
+                patient.getName(),
+                address == null ? null : address.getZipCode(),
+                address == null ? null : address.getAddr(),
+                address == null ? null : address.getAddrDetail(),
+                patient.getPatientSignificant(),
+                patient.getCareRequirements());
+    }
+}
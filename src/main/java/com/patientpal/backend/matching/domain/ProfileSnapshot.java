@@ -0,0 +1,83 @@
+package com.patientpal.backend.matching.domain;
+
+import com.patientpal.backend.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 매칭 시점의 프로필 스냅샷. payload 의 SHA-256 해시를 키로 사용하므로 같은 내용은 한 번만 저장되고,
+ * 여러 매칭이 같은 스냅샷을 참조한다. 저장 후에는 변경하지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "profile_snapshots")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProfileSnapshot extends BaseTimeEntity implements Persistable<String> {
+
+    // matches 의 텍스트 컬럼에서 옮겨 온 스냅샷. payload 는 예전 문자열 하나를 담은 JSON 문자열이다
+    public static final int LEGACY_TEXT_VERSION = 0;
+
+    @Id
+    @Column(name = "snapshot_hash", length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private int version;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Transient
+    private boolean isNew = true;
+
+    private ProfileSnapshot(String hash, int version, String payload) {
+        this.hash = hash;
+        this.version = version;
+        this.payload = payload;
+    }
+
+    public static ProfileSnapshot of(int version, String payload) {
+        return new ProfileSnapshot(sha256(payload), version, payload);
+    }
+
+    @Override
+    public String getId() {
+        return hash;
+    }
+
+    // 해시 키를 직접 할당하므로 merge 전 select 없이 바로 insert 되도록 신규 여부를 직접 관리한다
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    private static String sha256(String payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.patientpal.backend.matching.domain;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProfileSnapshotRepository extends JpaRepository<ProfileSnapshot, String> {
+
+    // 공유 잠금으로 읽으면 트랜잭션이 시작된 뒤 다른 트랜잭션이 커밋한 스냅샷도 보인다(REPEATABLE READ 의 일관된 읽기를 우회)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select s from ProfileSnapshot s where s.hash = :hash")
+    Optional<ProfileSnapshot> findCommittedByHash(@Param("hash") String hash);
+
+    // 같은 해시가 이미 있으면 insert 하지 않고 0 을 돌려준다. PK 충돌 예외를 내지 않으므로 호출한 트랜잭션이 롤백 전용이 되지 않는다
+    @Modifying
+    @Query(value = "insert ignore into profile_snapshots (snapshot_hash, version, payload, createdDate, lastModifiedDate) "
+            + "values (:hash, :version, :payload, :now, :now)", nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash, @Param("version") int version, @Param("payload") String payload,
+                       @Param("now") LocalDateTime now);
+}
@@ -1,6 +1,5 @@
 package com.patientpal.backend.matching.dto.response;
 
-import com.patientpal.backend.matching.domain.Match;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -23,7 +22,7 @@ public final class MatchListResponse {
         this.totalItems = totalItems;
     }
 
-    public static MatchListResponse from(Page<Match> matchPage, List<MatchResponse> matchList) {
-        return new MatchListResponse(matchList, matchPage.getNumber(), matchPage.getTotalPages(), matchPage.getTotalElements());
+    public static MatchListResponse from(Page<MatchResponse> matchPage) {
+        return new MatchListResponse(matchPage.getContent(), matchPage.getNumber(), matchPage.getTotalPages(), matchPage.getTotalElements());
     }
 }
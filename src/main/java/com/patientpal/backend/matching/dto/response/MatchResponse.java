@@ -1,10 +1,13 @@
 package com.patientpal.backend.matching.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import com.patientpal.backend.matching.domain.FirstRequest;
 import com.patientpal.backend.matching.domain.Match;
 import com.patientpal.backend.matching.domain.MatchStatus;
+import com.patientpal.backend.matching.domain.ProfileSnapshot;
 import com.patientpal.backend.matching.domain.ReadStatus;
 import com.patientpal.backend.member.domain.Member;
+import com.querydsl.core.annotations.QueryProjection;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -22,10 +25,13 @@ public class MatchResponse {
     private MatchStatus matchStatus;
     private ReadStatus readStatus;
     private FirstRequest firstRequest;
+    @JsonRawValue
     private String patientProfileSnapshot;
+    @JsonRawValue
     private String caregiverProfileSnapshot;
 
     @Builder
+    @QueryProjection
     public MatchResponse(Long id, Long requestMemberId, Long receivedMemberId, LocalDateTime createdDate, MatchStatus matchStatus, ReadStatus readStatus, FirstRequest firstRequest,
                          String patientProfileSnapshot, String caregiverProfileSnapshot) {
         this.id = id;
@@ -39,6 +45,12 @@ public class MatchResponse {
         this.caregiverProfileSnapshot = caregiverProfileSnapshot;
     }
 
+    // 목록 요약 조회용. 프로필 스냅샷(@Lob) 컬럼은 조회하지 않는다
+    @QueryProjection
+    public MatchResponse(Long id, Long requestMemberId, Long receivedMemberId, LocalDateTime createdDate, MatchStatus matchStatus, ReadStatus readStatus, FirstRequest firstRequest) {
+        this(id, requestMemberId, receivedMemberId, createdDate, matchStatus, readStatus, firstRequest, null, null);
+    }
+
     public static MatchResponse of(Match match) {
         return MatchResponse.builder()
                 .id(match.getId())
@@ -47,31 +59,39 @@ public class MatchResponse {
                 .matchStatus(match.getMatchStatus())
                 .readStatus(match.getReadStatus())
                 .firstRequest(match.getFirstRequest())
-                .caregiverProfileSnapshot(match.getCaregiverProfileSnapshot())
-                .patientProfileSnapshot(match.getPatientProfileSnapshot())
+                .caregiverProfileSnapshot(payloadOf(match.getCaregiverProfileSnapshot()))
+                .patientProfileSnapshot(payloadOf(match.getPatientProfileSnapshot()))
                 .createdDate(match.getCreatedDate())
                 .build();
     }
 
-    public static Match toEntityFirstPatient(Member patient, Member caregiver, String generatedPatientProfileSnapshot) {
+    private static String payloadOf(ProfileSnapshot snapshot) {
+        return snapshot == null ? null : snapshot.getPayload();
+    }
+
+    public static Match toEntityFirstPatient(Member patient, Member caregiver, ProfileSnapshot patientProfileSnapshot,
+                                             String idempotencyKey) {
         return Match.builder()
                 .requestMember(patient)
                 .receivedMember(caregiver)
                 .matchStatus(MatchStatus.PENDING)
                 .readStatus(ReadStatus.UNREAD)
                 .firstRequest(FirstRequest.PATIENT_FIRST)
-                .patientProfileSnapshot(generatedPatientProfileSnapshot)
+                .patientProfileSnapshot(patientProfileSnapshot)
+                .idempotencyKey(idempotencyKey)
                 .build();
     }
 
-    public static Match toEntityFirstCaregiver(Member caregiver, Member patient, String generatedCaregiverProfileSnapshot) {
+    public static Match toEntityFirstCaregiver(Member caregiver, Member patient, ProfileSnapshot caregiverProfileSnapshot,
+                                               String idempotencyKey) {
         return Match.builder()
                 .requestMember(caregiver)
                 .receivedMember(patient)
                 .matchStatus(MatchStatus.PENDING)
                 .readStatus(ReadStatus.UNREAD)
                 .firstRequest(FirstRequest.CAREGIVER_FIRST)
-                .caregiverProfileSnapshot(generatedCaregiverProfileSnapshot)
+                .caregiverProfileSnapshot(caregiverProfileSnapshot)
+                .idempotencyKey(idempotencyKey)
                 .build();
     }
 
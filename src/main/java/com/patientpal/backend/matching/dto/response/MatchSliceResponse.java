@@ -0,0 +1,20 @@
+package com.patientpal.backend.matching.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MatchSliceResponse {
+    private List<MatchResponse> matchList;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public MatchSliceResponse(List<MatchResponse> matchList, String nextCursor, boolean hasNext) {
+        this.matchList = matchList;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,11 @@
+package com.patientpal.backend.matching.exception;
+
+import com.patientpal.backend.common.exception.BusinessException;
+import com.patientpal.backend.common.exception.ErrorCode;
+
+public class MatchStateConflictException extends BusinessException {
+
+    public MatchStateConflictException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
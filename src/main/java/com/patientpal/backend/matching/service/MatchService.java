@@ -1,18 +1,26 @@
 package com.patientpal.backend.matching.service;
 
+import com.patientpal.backend.matching.domain.MatchStatus;
 import com.patientpal.backend.matching.dto.response.MatchListResponse;
 import com.patientpal.backend.matching.dto.response.MatchResponse;
+import com.patientpal.backend.matching.dto.response.MatchSliceResponse;
 import org.springframework.data.domain.Pageable;
 
 public interface MatchService {
 
-    MatchResponse createMatch(String username, Long responseMemberId);
+    MatchResponse createMatch(String username, Long responseMemberId, String idempotencyKey);
 
     MatchResponse getMatch(Long matchId, String username);
 
-    MatchListResponse getRequestMatches(String username, Long memberId, Pageable pageable);
+    MatchListResponse getRequestMatches(String username, Long memberId, boolean summary, Pageable pageable);
 
-    MatchListResponse getReceivedMatches(String username, Long memberId, Pageable pageable);
+    MatchListResponse getReceivedMatches(String username, Long memberId, boolean summary, Pageable pageable);
+
+    MatchSliceResponse getRequestMatchSlice(String username, Long memberId, MatchStatus status, String cursor,
+                                            boolean summary, int size);
+
+    MatchSliceResponse getReceivedMatchSlice(String username, Long memberId, MatchStatus status, String cursor,
+                                             boolean summary, int size);
 
     void cancelMatch(Long matchId, String username);
 
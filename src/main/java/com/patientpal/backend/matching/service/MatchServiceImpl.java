@@ -2,12 +2,13 @@ package com.patientpal.backend.matching.service;
 
 import static com.patientpal.backend.common.exception.ErrorCode.AUTHORIZATION_FAILED;
 import static com.patientpal.backend.common.exception.ErrorCode.DUPLICATED_REQUEST;
+import static com.patientpal.backend.common.exception.ErrorCode.IDEMPOTENCY_KEY_REUSED;
+import static com.patientpal.backend.common.exception.ErrorCode.INVALID_INPUT_VALUE;
 import static com.patientpal.backend.common.exception.ErrorCode.MATCH_NOT_EXIST;
+import static com.patientpal.backend.common.exception.ErrorCode.MATCH_STATE_CONFLICT;
 import static com.patientpal.backend.common.exception.ErrorCode.MEMBER_NOT_EXIST;
 import static com.patientpal.backend.matching.domain.FirstRequest.CAREGIVER_FIRST;
 import static com.patientpal.backend.matching.domain.FirstRequest.PATIENT_FIRST;
-import static com.patientpal.backend.matching.domain.MatchStatus.ACCEPTED;
-import static com.patientpal.backend.matching.domain.MatchStatus.CANCELED;
 import static com.patientpal.backend.matching.domain.ReadStatus.READ;
 import static com.patientpal.backend.matching.domain.ReadStatus.UNREAD;
 import static com.patientpal.backend.matching.service.MatchValidation.validateAcceptance;
@@ -24,21 +25,34 @@ import com.patientpal.backend.caregiver.repository.CaregiverRepository;
 import com.patientpal.backend.common.exception.AuthorizationException;
 import com.patientpal.backend.common.exception.EntityNotFoundException;
 import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.common.exception.InvalidValueException;
+import com.patientpal.backend.common.pagination.CursorSlice;
+import com.patientpal.backend.matching.domain.FirstRequest;
 import com.patientpal.backend.matching.domain.Match;
+import com.patientpal.backend.matching.domain.MatchCursor;
 import com.patientpal.backend.matching.domain.MatchRepository;
+import com.patientpal.backend.matching.domain.MatchStatus;
+import com.patientpal.backend.matching.domain.ProfileSnapshot;
 import com.patientpal.backend.matching.dto.response.MatchListResponse;
 import com.patientpal.backend.matching.dto.response.MatchResponse;
+import com.patientpal.backend.matching.dto.response.MatchSliceResponse;
 import com.patientpal.backend.matching.exception.DuplicateRequestException;
+import com.patientpal.backend.matching.exception.MatchStateConflictException;
 import com.patientpal.backend.caregiver.domain.Caregiver;
 import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.member.dto.MemberView;
 import com.patientpal.backend.notification.annotation.NeedNotification;
 import com.patientpal.backend.patient.domain.Patient;
 import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.member.service.MemberService;
 import com.patientpal.backend.patient.repository.PatientRepository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,56 +63,95 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class MatchServiceImpl implements MatchService {
 
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+
     private final MatchRepository matchRepository;
     private final MemberRepository memberRepository;
     private final PatientRepository patientRepository;
     private final CaregiverRepository caregiverRepository;
+    private final ProfileSnapshotService profileSnapshotService;
+    private final MemberService memberService;
 
     @Transactional
     @Override
     @NeedNotification
-    public MatchResponse createMatch(String username, Long responseMemberId) {
+    public MatchResponse createMatch(String username, Long responseMemberId, String idempotencyKey) {
+        validateIdempotencyKey(idempotencyKey);
         Member requestMember = getMemberByUsername(username);
+        if (idempotencyKey != null) {
+            Optional<Match> replayed = matchRepository.findByRequestMemberIdAndIdempotencyKey(requestMember.getId(), idempotencyKey);
+            if (replayed.isPresent()) {
+                return replay(replayed.get(), responseMemberId, idempotencyKey);
+            }
+        }
+
         Member responseMember = getMemberById(responseMemberId);
         validateIsInMatchList(requestMember);
         validateIsInMatchList(responseMember);
-
-        if (matchRepository.existsPendingMatch(requestMember.getId(), responseMember.getId())) {
-            throw new DuplicateRequestException(DUPLICATED_REQUEST);
-        }
-
-        return createMatch(requestMember, responseMember);
+        return createMatch(requestMember, responseMember, idempotencyKey);
     }
 
-    private MatchResponse createMatch(Member requestMember, Member responseMember) {
+    private MatchResponse createMatch(Member requestMember, Member responseMember, String idempotencyKey) {
         if (requestMember.getRole() == USER) {
-            return createPatientMatch(requestMember, responseMember);
+            return createPatientMatch(requestMember, responseMember, idempotencyKey);
         } else if (requestMember.getRole() == CAREGIVER) {
-            return createCaregiverMatch(requestMember, responseMember);
+            return createCaregiverMatch(requestMember, responseMember, idempotencyKey);
         } else {
             throw new AuthorizationException(AUTHORIZATION_FAILED);
         }
     }
 
-    private MatchResponse createPatientMatch(Member requestMember, Member responseMember) {
-        String generatedPatientProfileSnapshot = getPatientByMemberId(requestMember.getId()).generatePatientProfileSnapshot();
-        Match match = matchRepository.save(MatchResponse.toEntityFirstPatient(requestMember, responseMember, generatedPatientProfileSnapshot));
-        log.info("매칭 신청 성공 ! 요청 : {}, 수락 : {}", requestMember.getName(), responseMember.getName());
-        MatchResponse matchResponse = MatchResponse.of(match);
-        return new MatchNotificationProxy(matchResponse, MatchNotificationMemberResponse.from(responseMember));
+    private MatchResponse createPatientMatch(Member requestMember, Member responseMember, String idempotencyKey) {
+        ProfileSnapshot patientProfileSnapshot = profileSnapshotService.snapshotOf(getPatientByMemberId(requestMember.getId()));
+        return insertMatch(MatchResponse.toEntityFirstPatient(requestMember, responseMember, patientProfileSnapshot, idempotencyKey));
     }
 
-    private MatchResponse createCaregiverMatch(Member requestMember, Member responseMember) {
-        String generatedCaregiverProfileSnapshot = getCaregiverByMemberId(requestMember.getId()).generateCaregiverProfileSnapshot();
-        Match match = matchRepository.save(MatchResponse.toEntityFirstCaregiver(requestMember, responseMember, generatedCaregiverProfileSnapshot));
-        log.info("매칭 신청 성공 ! 요청 : {}, 수락 : {}", requestMember.getName(), responseMember.getName());
-        MatchResponse matchResponse = MatchResponse.of(match);
-        return new MatchNotificationProxy(matchResponse, MatchNotificationMemberResponse.from(responseMember));
+    private MatchResponse createCaregiverMatch(Member requestMember, Member responseMember, String idempotencyKey) {
+        ProfileSnapshot caregiverProfileSnapshot = profileSnapshotService.snapshotOf(getCaregiverByMemberId(requestMember.getId()));
+        return insertMatch(MatchResponse.toEntityFirstCaregiver(requestMember, responseMember, caregiverProfileSnapshot, idempotencyKey));
     }
 
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH)) {
+            throw new InvalidValueException(INVALID_INPUT_VALUE, "Idempotency-Key");
+        }
+    }
 
+    // 진행 중인 매칭 중복 여부를 미리 조회하지 않고, pendingPairKey / idempotencyKey 유니크 키에 걸려 insert 되지 않았는지로 판단한다.
+    // 매칭과 알림 outbox 가 같은 트랜잭션에 저장되도록 제약 위반 예외 대신 반영된 행 수를 본다
+    private MatchResponse insertMatch(Match match) {
+        if (matchRepository.insertIgnoringConflicts(match) == 0) {
+            return replayConcurrentRequest(match);
+        }
+        Match saved = matchRepository.findByPendingPairKey(match.getPendingPairKey())
+                .orElseThrow(() -> new IllegalStateException("저장한 매칭을 찾을 수 없습니다. pendingPairKey=" + match.getPendingPairKey()));
+        Member responseMember = match.getReceivedMember();
+        log.info("매칭 신청 성공 ! 요청 : {}, 수락 : {}", match.getRequestMember().getName(), responseMember.getName());
+        return new MatchNotificationProxy(MatchResponse.of(saved), MatchNotificationMemberResponse.from(responseMember));
+    }
+
+    // 같은 키의 요청이 동시에 들어와 먼저 커밋된 매칭이 있으면 그 매칭을 돌려주고, 아니면 같은 상대에게 진행 중인 매칭이 있는 것이다
+    private MatchResponse replayConcurrentRequest(Match match) {
+        String idempotencyKey = match.getIdempotencyKey();
+        if (idempotencyKey == null) {
+            throw new DuplicateRequestException(DUPLICATED_REQUEST);
+        }
+        Match committed = matchRepository.findCommittedByRequestMemberIdAndIdempotencyKey(match.getRequestMember().getId(), idempotencyKey)
+                .orElseThrow(() -> new DuplicateRequestException(DUPLICATED_REQUEST));
+        return replay(committed, match.getReceivedMember().getId(), idempotencyKey);
+    }
+
+    // 멱등 키로 재전송된 요청은 알림 없이 기존 매칭을 돌려준다. 같은 키로 다른 상대에게 보낸 요청은 재전송이 아니므로 거절한다
+    private MatchResponse replay(Match match, Long responseMemberId, String idempotencyKey) {
+        if (!Objects.equals(match.getReceivedMember().getId(), responseMemberId)) {
+            throw new InvalidValueException(IDEMPOTENCY_KEY_REUSED, idempotencyKey);
+        }
+        return MatchResponse.of(match);
+    }
+
+    // 신청 시 공개 여부와 하위 프로필도 필요하므로 한 번의 조회로 하위 타입까지 읽는다
     private Member getMemberByUsername(String username) {
-        return memberRepository.findByUsername(username)
+        return memberRepository.findResolvedByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException(MEMBER_NOT_EXIST, username));
     }
 
@@ -110,10 +163,10 @@ public class MatchServiceImpl implements MatchService {
     @Override
     public MatchResponse getMatch(Long matchId, String username) {
         Match findMatch = getMatchById(matchId);
-        Member currentMember = getMemberByUsername(username);
+        MemberView currentMember = memberService.getMemberView(username);
         validateMatchAuthorization(findMatch, username);
         validateIsCanceled(findMatch);
-        setMatchReadStatus(findMatch, currentMember);
+        setMatchReadStatus(findMatch, currentMember.role());
         return MatchResponse.of(findMatch);
     }
 
@@ -122,75 +175,108 @@ public class MatchServiceImpl implements MatchService {
     }
 
     @Override
-    public MatchListResponse getRequestMatches(String username, Long memberId, Pageable pageable) {
+    public MatchListResponse getRequestMatches(String username, Long memberId, boolean summary, Pageable pageable) {
         Member currentMember = getMemberById(memberId);
-        Page<Match> matchPage = matchRepository.findAllRequest(currentMember.getId(), pageable);
-        List<MatchResponse> matchListResponse = matchPage.stream()
-                .map(MatchResponse::of)
-                .toList();
-        return MatchListResponse.from(matchPage, matchListResponse);
+        return MatchListResponse.from(matchRepository.findRequestResponses(currentMember.getId(), summary, pageable));
     }
 
     @Override
-    public MatchListResponse getReceivedMatches(String username, Long memberId, Pageable pageable) {
+    public MatchListResponse getReceivedMatches(String username, Long memberId, boolean summary, Pageable pageable) {
         Member currentMember = getMemberById(memberId);
-        Page<Match> matchPage = matchRepository.findAllReceived(currentMember.getId(), pageable);
-        List<MatchResponse> matchListResponse = matchPage.stream()
-                .map(MatchResponse::of)
-                .toList();
-        return MatchListResponse.from(matchPage, matchListResponse);
+        return MatchListResponse.from(matchRepository.findReceivedResponses(currentMember.getId(), summary, pageable));
+    }
+
+    @Override
+    public MatchSliceResponse getRequestMatchSlice(String username, Long memberId, MatchStatus status, String cursor,
+                                                   boolean summary, int size) {
+        Member currentMember = getMemberById(memberId);
+        List<MatchResponse> matches = matchRepository.findRequestSlice(currentMember.getId(), status,
+                MatchCursor.decode(cursor), summary, CursorSlice.fetchSize(size));
+        return toSliceResponse(matches, size);
+    }
+
+    @Override
+    public MatchSliceResponse getReceivedMatchSlice(String username, Long memberId, MatchStatus status, String cursor,
+                                                    boolean summary, int size) {
+        Member currentMember = getMemberById(memberId);
+        List<MatchResponse> matches = matchRepository.findReceivedSlice(currentMember.getId(), status,
+                MatchCursor.decode(cursor), summary, CursorSlice.fetchSize(size));
+        return toSliceResponse(matches, size);
+    }
+
+    private MatchSliceResponse toSliceResponse(List<MatchResponse> matches, int size) {
+        CursorSlice<MatchResponse> slice = CursorSlice.of(matches, size);
+        return new MatchSliceResponse(slice.content(), slice.nextCursor(match -> MatchCursor.from(match).encode()), slice.hasNext());
     }
 
     @Transactional
     @Override
     public void cancelMatch(Long matchId, String username) {
-        Match match = getMatchById(matchId);
-        Member currentMember = getMemberByUsername(username);
-        validateCancellation(match, currentMember);
-        match.setMatchStatus(CANCELED);
+        MemberView currentMember = memberService.getMemberView(username);
+        FirstRequest firstRequest = firstRequestOf(currentMember.role());
+        if (matchRepository.cancel(matchId, currentMember.id(), firstRequest, LocalDateTime.now()) == 0) {
+            Match match = getMatchById(matchId);
+            validateCancellation(match, currentMember);
+            throw new MatchStateConflictException(MATCH_STATE_CONFLICT);
+        }
     }
 
+    // PENDING 상태일 때만 반영되는 조건부 update 한 번으로 수락하며, 실패한 경우에만 매칭을 조회해 원인을 판별한다.
+    // 회원은 id/권한만 읽고, 스냅샷에 필요한 하위 프로필은 회원 종류에 맞는 테이블에서 읽는다
     @Transactional
     @Override
     public void acceptMatch(Long matchId, String username) {
-        Match match = getMatchById(matchId);
-        Member currentMember = getMemberByUsername(username);
-        validateAcceptance(match);
-        match.setReadStatus(READ);
-        setMatchStatusAccepted(match, currentMember);
+        MemberView currentMember = memberService.getMemberView(username);
+        if (acceptMatch(matchId, currentMember) == 0) {
+            Match match = getMatchById(matchId);
+            validateAcceptance(match);
+            validateAcceptor(match, currentMember);
+            throw new MatchStateConflictException(MATCH_STATE_CONFLICT);
+        }
+    }
+
+    private int acceptMatch(Long matchId, MemberView currentMember) {
+        LocalDateTime now = LocalDateTime.now();
+        if (currentMember.role() == USER) {
+            ProfileSnapshot snapshot = profileSnapshotService.snapshotOf(getPatientByMemberId(currentMember.id()));
+            return matchRepository.acceptByPatient(matchId, currentMember.id(), snapshot, now);
+        }
+        if (currentMember.role() == CAREGIVER) {
+            ProfileSnapshot snapshot = profileSnapshotService.snapshotOf(getCaregiverByMemberId(currentMember.id()));
+            return matchRepository.acceptByCaregiver(matchId, currentMember.id(), snapshot, now);
+        }
+        throw new AuthorizationException(AUTHORIZATION_FAILED);
+    }
+
+    private FirstRequest firstRequestOf(Role role) {
+        if (role == USER) {
+            return PATIENT_FIRST;
+        }
+        if (role == CAREGIVER) {
+            return CAREGIVER_FIRST;
+        }
+        throw new AuthorizationException(AUTHORIZATION_FAILED);
     }
 
-    private void setMatchReadStatus(Match findMatch, Member currentMember) {
+    private void setMatchReadStatus(Match findMatch, Role role) {
         if (findMatch.getReadStatus() == UNREAD) {
-            if (currentMember.getRole() == USER && findMatch.getFirstRequest() == CAREGIVER_FIRST) {
+            if (role == USER && findMatch.getFirstRequest() == CAREGIVER_FIRST) {
                 findMatch.setReadStatus(READ);
-            } else if (currentMember.getRole() == CAREGIVER && findMatch.getFirstRequest() == PATIENT_FIRST) {
+            } else if (role == CAREGIVER && findMatch.getFirstRequest() == PATIENT_FIRST) {
                 findMatch.setReadStatus(READ);
             }
         }
     }
 
-    private void setMatchStatusAccepted(Match match, Member currentMember) {
-        if (currentMember.getRole() == USER) {
-            Patient patient = getPatientByMemberId(currentMember.getId());
-            if (match.getFirstRequest() == CAREGIVER_FIRST &&
-                    match.getReceivedMember().getId().equals(currentMember.getId())) {
-                validateIsNotExistCaregiver(match);
-                match.setMatchStatus(ACCEPTED);
-                match.setPatientProfileSnapshot(patient.generatePatientProfileSnapshot());
-            } else {
-                throw new AuthorizationException(AUTHORIZATION_FAILED);
-            }
-        } else if (currentMember.getRole() == CAREGIVER) {
-            Caregiver caregiver = getCaregiverByMemberId(currentMember.getId());
-            if (match.getFirstRequest() == PATIENT_FIRST &&
-                    match.getReceivedMember().getId().equals(currentMember.getId())) {
-                validateIsNotExistPatient(match);
-                match.setMatchStatus(ACCEPTED);
-                match.setCaregiverProfileSnapshot(caregiver.generateCaregiverProfileSnapshot());
-            } else {
-                throw new AuthorizationException(AUTHORIZATION_FAILED);
-            }
+    private void validateAcceptor(Match match, MemberView currentMember) {
+        FirstRequest expected = currentMember.role() == USER ? CAREGIVER_FIRST : PATIENT_FIRST;
+        if (match.getFirstRequest() != expected || !match.getReceivedMember().getId().equals(currentMember.id())) {
+            throw new AuthorizationException(AUTHORIZATION_FAILED);
+        }
+        if (currentMember.role() == USER) {
+            validateIsNotExistCaregiver(match);
+        } else {
+            validateIsNotExistPatient(match);
         }
     }
 
@@ -21,6 +21,7 @@ import com.patientpal.backend.matching.exception.CanNotReadException;
 import com.patientpal.backend.matching.exception.CanNotRequestException;
 import com.patientpal.backend.matching.exception.DuplicateRequestException;
 import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.dto.MemberView;
 
 public final class MatchValidation {
 
@@ -55,30 +56,30 @@ public final class MatchValidation {
         }
     }
 
-    public static void validateCancellation(Match match, Member currentMember) {
+    public static void validateCancellation(Match match, MemberView currentMember) {
         if (match.getMatchStatus() == CANCELED) {
             throw new DuplicateRequestException(MATCH_ALREADY_CANCELED);
         }
         if (match.getMatchStatus() == ACCEPTED) {
             throw new DuplicateRequestException(CAN_NOT_CANCEL_ALREADY_ACCEPTED_MATCH);
         }
-        if (currentMember.getRole() == USER) {
+        if (currentMember.role() == USER) {
             validatePatientCancellation(match, currentMember);
-        } else if (currentMember.getRole() == CAREGIVER) {
+        } else if (currentMember.role() == CAREGIVER) {
             validateCaregiverCancellation(match, currentMember);
         }
     }
 
-    private static void validatePatientCancellation(Match match, Member currentMember) {
+    private static void validatePatientCancellation(Match match, MemberView currentMember) {
         if (match.getFirstRequest() == CAREGIVER_FIRST || !match.getRequestMember().getId()
-                .equals(currentMember.getId())) {
+                .equals(currentMember.id())) {
             throw new AuthorizationException(AUTHORIZATION_FAILED);
         }
     }
 
-    private static void validateCaregiverCancellation(Match match, Member currentMember) {
+    private static void validateCaregiverCancellation(Match match, MemberView currentMember) {
         if (match.getFirstRequest() == PATIENT_FIRST || !match.getRequestMember().getId()
-                .equals(currentMember.getId())) {
+                .equals(currentMember.id())) {
             throw new AuthorizationException(AUTHORIZATION_FAILED);
         }
     }
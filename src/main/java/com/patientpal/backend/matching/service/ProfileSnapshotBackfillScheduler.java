@@ -0,0 +1,109 @@
+package com.patientpal.backend.matching.service;
+
+import com.patientpal.backend.matching.domain.ProfileSnapshot;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * profile_snapshots 가 생기기 전에 matches 의 텍스트 컬럼(patientProfileSnapshot, caregiverProfileSnapshot)에 저장된 스냅샷을
+ * batch 단위로 옮긴다. 내용의 해시로 스냅샷을 찾거나 저장해 매칭에 연결하고, 옮긴 텍스트 컬럼은 비운다.
+ * 텍스트 컬럼이 없는 스키마(새로 만든 DB, 컬럼을 지운 뒤)에서는 바로 끝난다. 이미 해시가 연결된 매칭은 바꾸지 않는다.
+ */
+@Slf4j
+@Component
+public class ProfileSnapshotBackfillScheduler {
+
+    private static final String PROBE_LEGACY_COLUMNS_SQL =
+            "select patientProfileSnapshot, caregiverProfileSnapshot from matches where 1 = 0";
+    private static final String FIND_LEGACY_SNAPSHOTS_SQL =
+            "select match_id, patientProfileSnapshot, caregiverProfileSnapshot from matches "
+                    + "where match_id > :lastMatchId and (patientProfileSnapshot is not null or caregiverProfileSnapshot is not null) "
+                    + "order by match_id limit :limit";
+    private static final String LINK_PATIENT_SNAPSHOT_SQL =
+            "update matches set patient_snapshot_hash = coalesce(patient_snapshot_hash, :hash), patientProfileSnapshot = null "
+                    + "where match_id = :matchId";
+    private static final String LINK_CAREGIVER_SNAPSHOT_SQL =
+            "update matches set caregiver_snapshot_hash = coalesce(caregiver_snapshot_hash, :hash), caregiverProfileSnapshot = null "
+                    + "where match_id = :matchId";
+
+    private final ProfileSnapshotService profileSnapshotService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private long lastMatchId;
+    private volatile boolean completed;
+
+    public ProfileSnapshotBackfillScheduler(ProfileSnapshotService profileSnapshotService,
+                                            NamedParameterJdbcTemplate jdbcTemplate,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${patientpal.matching.snapshot-backfill.batch-size}") int batchSize) {
+        this.profileSnapshotService = profileSnapshotService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${patientpal.matching.snapshot-backfill.interval}")
+    public synchronized void backfill() {
+        if (completed) {
+            return;
+        }
+        if (!hasLegacyColumns()) {
+            completed = true;
+            return;
+        }
+        long migrated = 0;
+        Integer batch;
+        do {
+            batch = transactionTemplate.execute(status -> migrateBatch());
+            migrated += batch;
+        } while (batch == batchSize);
+
+        completed = true;
+        log.info("프로필 스냅샷 backfill 을 마쳤습니다. [migrated={}, lastMatchId={}]", migrated, lastMatchId);
+    }
+
+    private boolean hasLegacyColumns() {
+        try {
+            jdbcTemplate.queryForList(PROBE_LEGACY_COLUMNS_SQL, Map.of());
+            return true;
+        } catch (BadSqlGrammarException e) {
+            return false;
+        }
+    }
+
+    private int migrateBatch() {
+        List<LegacySnapshotRow> rows = jdbcTemplate.query(FIND_LEGACY_SNAPSHOTS_SQL,
+                Map.of("lastMatchId", lastMatchId, "limit", batchSize),
+                (resultSet, rowNum) -> new LegacySnapshotRow(resultSet.getLong("match_id"),
+                        resultSet.getString("patientProfileSnapshot"), resultSet.getString("caregiverProfileSnapshot")));
+        for (LegacySnapshotRow row : rows) {
+            link(LINK_PATIENT_SNAPSHOT_SQL, row.matchId(), row.patientText());
+            link(LINK_CAREGIVER_SNAPSHOT_SQL, row.matchId(), row.caregiverText());
+        }
+        if (!rows.isEmpty()) {
+            lastMatchId = rows.get(rows.size() - 1).matchId();
+        }
+        return rows.size();
+    }
+
+    private void link(String sql, long matchId, String text) {
+        if (text == null) {
+            return;
+        }
+        ProfileSnapshot snapshot = profileSnapshotService.legacySnapshotOf(text);
+        jdbcTemplate.update(sql, Map.of("hash", snapshot.getHash(), "matchId", matchId));
+    }
+
+    private record LegacySnapshotRow(long matchId, String patientText, String caregiverText) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.patientpal.backend.matching.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.matching.domain.CaregiverProfileSnapshotPayload;
+import com.patientpal.backend.matching.domain.PatientProfileSnapshotPayload;
+import com.patientpal.backend.matching.domain.ProfileSnapshot;
+import com.patientpal.backend.matching.domain.ProfileSnapshotRepository;
+import com.patientpal.backend.patient.domain.Patient;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class ProfileSnapshotService {
+
+    private final ProfileSnapshotRepository profileSnapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    public ProfileSnapshot snapshotOf(Patient patient) {
+        return store(PatientProfileSnapshotPayload.VERSION, PatientProfileSnapshotPayload.from(patient));
+    }
+
+    public ProfileSnapshot snapshotOf(Caregiver caregiver) {
+        return store(CaregiverProfileSnapshotPayload.VERSION, CaregiverProfileSnapshotPayload.from(caregiver));
+    }
+
+    // 예전 문자열은 그대로 JSON 문자열로 담아, 응답에서 raw JSON 으로 내보내도 형식이 깨지지 않게 한다
+    ProfileSnapshot legacySnapshotOf(String text) {
+        return store(ProfileSnapshot.LEGACY_TEXT_VERSION, text);
+    }
+
+    /**
+     * 없으면 호출한 트랜잭션에서 insert ignore 로 저장하고 다시 읽는다. 같은 내용이 동시에 처음 저장되면 늦은 쪽의 insert 는
+     * 먼저 저장한 트랜잭션이 끝날 때까지 기다렸다가 반영되지 않지만, 해시가 같으면 내용도 같으므로 먼저 저장된 스냅샷을 그대로 참조한다.
+     */
+    private ProfileSnapshot store(int version, Object payload) {
+        ProfileSnapshot snapshot = ProfileSnapshot.of(version, serialize(payload));
+        Optional<ProfileSnapshot> stored = profileSnapshotRepository.findById(snapshot.getHash());
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        if (profileSnapshotRepository.insertIfAbsent(snapshot.getHash(), snapshot.getVersion(), snapshot.getPayload(), LocalDateTime.now()) == 0) {
+            log.debug("다른 요청이 먼저 저장한 스냅샷을 참조합니다. [hash={}]", snapshot.getHash());
+        }
+        return profileSnapshotRepository.findCommittedByHash(snapshot.getHash())
+                .orElseThrow(() -> new IllegalStateException("저장한 프로필 스냅샷을 찾을 수 없습니다. hash=" + snapshot.getHash()));
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프로필 스냅샷 직렬화에 실패했습니다.", e);
+        }
+    }
+}
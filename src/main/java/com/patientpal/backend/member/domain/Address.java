@@ -1,5 +1,6 @@
 package com.patientpal.backend.member.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -14,9 +15,35 @@ public class Address {
     private String addrDetail;
     private String zipCode;
 
+    // 우편번호로 계산하는 값이라 요청으로 받지도, 응답으로 내보내지도 않는다
+    @JsonIgnore
+    private Double latitude;
+    @JsonIgnore
+    private Double longitude;
+    @JsonIgnore
+    private Long geoCell;
+
     public Address(String zipCode, String addr, String addrDetail) {
         this.addr = addr;
         this.addrDetail = addrDetail;
         this.zipCode = zipCode;
     }
+
+    /**
+     * 우편번호로 좌표와 격자 칸을 채운 주소를 돌려준다. 좌표를 찾지 못하면 비워 둔다.
+     */
+    public Address located() {
+        Address located = new Address(zipCode, addr, addrDetail);
+        ZipCodeCentroids.locate(zipCode).ifPresent(point -> {
+            located.latitude = point.latitude();
+            located.longitude = point.longitude();
+            located.geoCell = GeoGrid.cellOf(point);
+        });
+        return located;
+    }
+
+    @JsonIgnore
+    public boolean isLocated() {
+        return latitude != null && longitude != null;
+    }
 }
@@ -0,0 +1,38 @@
+package com.patientpal.backend.member.domain;
+
+/**
+ * 위도/경도를 0.05도(약 5km) 격자로 나눈 칸 번호. 칸 번호는 행 우선(row * COLUMNS + column)이라
+ * 한 행 안의 연속된 칸은 번호도 연속이고, 반경 r 칸의 정사각형은 2r+1 개의 번호 구간이 된다.
+ */
+public final class GeoGrid {
+
+    public static final double CELL_DEGREES = 0.05;
+    public static final long COLUMNS = Math.round(360 / CELL_DEGREES);
+
+    private GeoGrid() {
+    }
+
+    public static long cellOf(GeoPoint point) {
+        return row(point) * COLUMNS + column(point);
+    }
+
+    public static long row(GeoPoint point) {
+        return (long) Math.floor((point.latitude() + 90) / CELL_DEGREES);
+    }
+
+    public static long column(GeoPoint point) {
+        return (long) Math.floor((point.longitude() + 180) / CELL_DEGREES);
+    }
+
+    /**
+     * 기준점에서 반경 radius 칸 정사각형 밖에 있는 점까지의 최소 거리.
+     * 단위는 경도 차에 cos(기준 위도)를 곱한 평면 근사 거리(도)다.
+     */
+    public static double coveredDistance(GeoPoint origin, int radius) {
+        return radius * CELL_DEGREES * longitudeScale(origin);
+    }
+
+    public static double longitudeScale(GeoPoint origin) {
+        return Math.cos(Math.toRadians(origin.latitude()));
+    }
+}
@@ -0,0 +1,7 @@
+package com.patientpal.backend.member.domain;
+
+/**
+ * 위도/경도 (도 단위)
+ */
+public record GeoPoint(double latitude, double longitude) {
+}
@@ -12,9 +12,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.time.Period;
@@ -31,7 +33,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Getter
 @Entity
-@Table(name = "members")
+@Table(name = "members",
+        indexes = {
+                @Index(name = "idx_members_last_modified", columnList = "lastModifiedDate, member_id")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "member_type")
@@ -77,6 +82,10 @@ public  class Member extends BaseTimeEntity { //abstract 붙이고 싶은데 Cus
     @Embedded
     private Address address;
 
+    // 주소가 바뀔 때마다 다시 계산한다
+    @Embedded
+    private Region region;
+
     @Setter
     private Boolean isProfilePublic;
 
@@ -87,6 +96,10 @@ public  class Member extends BaseTimeEntity { //abstract 붙이고 싶은데 Cus
     @Setter
     private String profileImageUrl;
 
+    // 알림 저장/읽음 처리 시 SQL 로만 증감하며, 엔티티 변경 감지로 덮어쓰지 않도록 읽기 전용으로 매핑한다
+    @Column(insertable = false, updatable = false, columnDefinition = "bigint default 0 not null")
+    private long unreadNotificationCount;
+
     public Member(String username, String password, String contact, Provider provider, Role role) {
         this.username = username;
         this.password = password;
@@ -113,7 +126,19 @@ public  class Member extends BaseTimeEntity { //abstract 붙이고 싶은데 Cus
     }
 
     public void updateAddress(Address address) {
-        this.address = address;
+        this.address = address == null ? null : address.located();
+        this.region = Region.from(address);
+    }
+
+    // 빌더로 주소를 넣고 저장하는 경우에도 지역 코드와 좌표를 채운다
+    @PrePersist
+    void fillRegion() {
+        if (address != null && !address.isLocated()) {
+            address = address.located();
+        }
+        if (region == null) {
+            region = Region.from(address);
+        }
     }
 
 
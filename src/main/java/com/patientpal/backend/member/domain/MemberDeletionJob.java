@@ -0,0 +1,87 @@
+package com.patientpal.backend.member.domain;
+
+import com.patientpal.backend.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 탈퇴 진행 상황. 탈퇴 요청 시 회원을 tombstone 처리하면서 만들고, MemberDeletionScheduler 가 단계별로 batch 삭제하며 갱신한다.
+ * 회원 행이 지워진 뒤에도 남도록 members 를 외래 키로 참조하지 않는다.
+ */
+@Getter
+@Entity
+@Table(name = "member_deletion_jobs")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberDeletionJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deletion_job_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MemberDeletionStage stage;
+
+    private long purgedReviews;
+
+    private long purgedMatches;
+
+    private long purgedNotifications;
+
+    private long purgedPosts;
+
+    private LocalDateTime completedDate;
+
+    // 여러 노드가 같은 단계를 동시에 진행하면 나중에 커밋하는 쪽이 충돌해 롤백되므로, 단계와 삭제 수가 두 번 기록되지 않는다
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long version;
+
+    public MemberDeletionJob(Long memberId) {
+        this.memberId = memberId;
+        this.stage = MemberDeletionStage.WRITTEN_REVIEWS;
+    }
+
+    public boolean isCompleted() {
+        return stage == MemberDeletionStage.COMPLETED;
+    }
+
+    // 현재 단계에서 지운 행 수를 더한다
+    public void recordPurged(int count) {
+        switch (stage) {
+            case WRITTEN_REVIEWS, RECEIVED_REVIEWS -> purgedReviews += count;
+            case REQUESTED_MATCHES, RECEIVED_MATCHES -> purgedMatches += count;
+            case NOTIFICATIONS -> purgedNotifications += count;
+            case POSTS -> purgedPosts += count;
+            default -> {
+            }
+        }
+    }
+
+    // 후기 단계를 지난 뒤 저장되어 MEMBER 단계에서 정리한 후기 수를 더한다
+    public void recordLateReviews(int count) {
+        purgedReviews += count;
+    }
+
+    public void advance() {
+        stage = stage.next();
+        if (stage == MemberDeletionStage.COMPLETED) {
+            completedDate = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.patientpal.backend.member.domain;
+
+/**
+ * 탈퇴 회원 데이터를 지우는 순서. 회원 행은 참조하는 행을 모두 지운 뒤 마지막에 지운다.
+ */
+public enum MemberDeletionStage {
+    WRITTEN_REVIEWS,
+    RECEIVED_REVIEWS,
+    REQUESTED_MATCHES,
+    RECEIVED_MATCHES,
+    NOTIFICATIONS,
+    POSTS,
+    MEMBER,
+    COMPLETED;
+
+    public MemberDeletionStage next() {
+        return this == COMPLETED ? COMPLETED : values()[ordinal() + 1];
+    }
+}
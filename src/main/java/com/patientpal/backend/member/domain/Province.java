@@ -0,0 +1,71 @@
+package com.patientpal.backend.member.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * 시/도. code 는 행정표준코드 앞 두 자리, zip 범위는 우편번호(5자리) 앞 두 자리다.
+ */
+@Getter
+public enum Province {
+    SEOUL("11", 1, 9, "서울특별시", "서울시", "서울"),
+    BUSAN("26", 46, 49, "부산광역시", "부산시", "부산"),
+    DAEGU("27", 41, 43, "대구광역시", "대구시", "대구"),
+    INCHEON("28", 21, 23, "인천광역시", "인천시", "인천"),
+    // 경기도 광주시와 겹치므로 "광주시" 는 별칭으로 두지 않는다
+    GWANGJU("29", 61, 62, "광주광역시", "광주"),
+    DAEJEON("30", 34, 35, "대전광역시", "대전시", "대전"),
+    ULSAN("31", 44, 45, "울산광역시", "울산시", "울산"),
+    SEJONG("36", 30, 30, "세종특별자치시", "세종시", "세종"),
+    GYEONGGI("41", 10, 18, "경기도", "경기"),
+    GANGWON("51", 24, 26, "강원특별자치도", "강원도", "강원"),
+    CHUNGBUK("43", 27, 29, "충청북도", "충북"),
+    CHUNGNAM("44", 31, 33, "충청남도", "충남"),
+    JEONBUK("52", 54, 56, "전북특별자치도", "전라북도", "전북"),
+    JEONNAM("46", 57, 60, "전라남도", "전남"),
+    GYEONGBUK("47", 36, 40, "경상북도", "경북"),
+    GYEONGNAM("48", 50, 53, "경상남도", "경남"),
+    JEJU("50", 63, 63, "제주특별자치도", "제주도", "제주");
+
+    private final String code;
+    private final int zipPrefixFrom;
+    private final int zipPrefixTo;
+    private final List<String> names;
+
+    Province(String code, int zipPrefixFrom, int zipPrefixTo, String... names) {
+        this.code = code;
+        this.zipPrefixFrom = zipPrefixFrom;
+        this.zipPrefixTo = zipPrefixTo;
+        this.names = List.of(names);
+    }
+
+    public String getOfficialName() {
+        return names.get(0);
+    }
+
+    public static Optional<Province> fromZipCode(String zipCode) {
+        if (zipCode == null) {
+            return Optional.empty();
+        }
+        String digits = zipCode.replaceAll("[^0-9]", "");
+        if (digits.length() != 5) {
+            return Optional.empty();
+        }
+        int prefix = Integer.parseInt(digits.substring(0, 2));
+        return Arrays.stream(values())
+                .filter(province -> province.zipPrefixFrom <= prefix && prefix <= province.zipPrefixTo)
+                .findFirst();
+    }
+
+    public static Optional<Province> fromName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        String normalized = name.strip();
+        return Arrays.stream(values())
+                .filter(province -> province.names.contains(normalized))
+                .findFirst();
+    }
+}
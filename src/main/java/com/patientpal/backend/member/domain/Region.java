@@ -0,0 +1,77 @@
+package com.patientpal.backend.member.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주소에서 뽑아낸 지역 코드. 검색 필터가 자유 입력 주소 대신 이 값을 인덱스로 조회한다.
+ * 시/도는 우편번호로 정하고(없으면 주소 첫 단어), 시/군/구와 그 아래 일반구/읍/면/동은 주소 단어에서 읽는다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Region {
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private Province regionProvince;
+
+    @Column(length = 20)
+    private String regionCity;
+
+    @Column(length = 20)
+    private String regionDistrict;
+
+    public Region(Province regionProvince, String regionCity, String regionDistrict) {
+        this.regionProvince = regionProvince;
+        this.regionCity = regionCity;
+        this.regionDistrict = regionDistrict;
+    }
+
+    public static Region from(Address address) {
+        if (address == null || address.getAddr() == null) {
+            return null;
+        }
+        String[] words = address.getAddr().strip().split("\\s+");
+        int index = 0;
+        Optional<Province> named = Province.fromName(words[0]);
+        if (named.isPresent()) {
+            index++;
+        }
+        Province province = Province.fromZipCode(address.getZipCode()).or(() -> named).orElse(null);
+
+        String city = null;
+        if (index < words.length && isCity(words[index])) {
+            city = words[index++];
+        }
+        String district = null;
+        if (index < words.length && isDistrict(words[index])) {
+            district = words[index];
+        }
+        if (province == null && city == null) {
+            return null;
+        }
+        return new Region(province, city, district);
+    }
+
+    private static boolean isCity(String word) {
+        return isName(word) && (word.endsWith("시") || word.endsWith("군") || word.endsWith("구"));
+    }
+
+    // 아파트 동(101동) 같은 번호는 지역명이 아니다
+    private static boolean isName(String word) {
+        return word.length() > 1 && word.chars().noneMatch(Character::isDigit);
+    }
+
+    // 도로명(~로, ~길)은 건너뛰고 일반구나 읍/면/동만 받는다
+    private static boolean isDistrict(String word) {
+        return isName(word)
+                && (word.endsWith("구") || word.endsWith("읍") || word.endsWith("면") || word.endsWith("동"));
+    }
+}
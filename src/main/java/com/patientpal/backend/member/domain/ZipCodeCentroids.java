@@ -0,0 +1,68 @@
+package com.patientpal.backend.member.domain;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 함께 배포되는 우편번호 앞자리별 대표 좌표표(geo/zip-code-centroids.csv)로 주소를 오프라인 지오코딩한다.
+ * 외부 API 를 부르지 않으므로 엔티티에서 주소를 바꿀 때 바로 쓸 수 있다.
+ */
+public final class ZipCodeCentroids {
+
+    private static final String RESOURCE = "/geo/zip-code-centroids.csv";
+    private static final int ZIP_CODE_LENGTH = 5;
+
+    private ZipCodeCentroids() {
+    }
+
+    public static Optional<GeoPoint> locate(String zipCode) {
+        if (zipCode == null) {
+            return Optional.empty();
+        }
+        String digits = zipCode.replaceAll("[^0-9]", "");
+        if (digits.length() != ZIP_CODE_LENGTH) {
+            return Optional.empty();
+        }
+        for (int length = ZIP_CODE_LENGTH; length > 0; length--) {
+            GeoPoint point = Table.CENTROIDS.get(digits.substring(0, length));
+            if (point != null) {
+                return Optional.of(point);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 처음 조회할 때 한 번만 읽는다
+    private static final class Table {
+        private static final Map<String, GeoPoint> CENTROIDS = load();
+
+        private static Map<String, GeoPoint> load() {
+            Map<String, GeoPoint> centroids = new HashMap<>();
+            try (InputStream in = ZipCodeCentroids.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException(RESOURCE + " 를 찾을 수 없습니다.");
+                }
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] columns = line.split(",");
+                    centroids.put(columns[0].strip(),
+                            new GeoPoint(Double.parseDouble(columns[1]), Double.parseDouble(columns[2])));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return Map.copyOf(centroids);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.patientpal.backend.member.dto;
+
+import com.patientpal.backend.member.domain.Address;
+
+/**
+ * 지역 코드 backfill 대상 회원의 주소
+ */
+public record MemberAddressRow(Long id, String zipCode, String addr) {
+
+    public Address toAddress() {
+        return new Address(zipCode, addr, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.patientpal.backend.member.dto;
+
+/**
+ * 로그인 검증에 필요한 값만 members 에서 읽어 온 결과. 하위 테이블(caregivers/patients)은 조인하지 않는다.
+ */
+public record MemberCredentials(String username, String password) {
+}
@@ -21,4 +21,10 @@ public class MemberResponse {
                 .username(member.getUsername())
                 .build();
     }
+
+    public static MemberResponse of(final MemberView memberView) {
+        return MemberResponse.builder()
+                .username(memberView.username())
+                .build();
+    }
 }
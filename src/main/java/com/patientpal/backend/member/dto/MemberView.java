@@ -0,0 +1,9 @@
+package com.patientpal.backend.member.dto;
+
+import com.patientpal.backend.member.domain.Role;
+
+/**
+ * 인증된 회원의 식별/권한 정보와 화면에 보일 이름. 요청마다 한 번만 조회되며 {@link com.patientpal.backend.member.libs.CurrentMember} 로 주입받는다.
+ */
+public record MemberView(Long id, String username, String name, Role role, Boolean isProfilePublic, Boolean isCompleteProfile) {
+}
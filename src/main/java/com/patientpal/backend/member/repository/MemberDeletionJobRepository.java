@@ -0,0 +1,19 @@
+package com.patientpal.backend.member.repository;
+
+import com.patientpal.backend.member.domain.MemberDeletionJob;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberDeletionJobRepository extends JpaRepository<MemberDeletionJob, Long> {
+
+    @Query("select j.id from MemberDeletionJob j "
+            + "where j.id > :afterId and j.stage <> com.patientpal.backend.member.domain.MemberDeletionStage.COMPLETED "
+            + "order by j.id")
+    List<Long> findPendingIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 작업은 회원당 하나이며, 완료되면 회원 행이 지워지므로 작업이 있으면 탈퇴 중이거나 탈퇴한 회원이다
+    boolean existsByMemberId(Long memberId);
+}
@@ -1,10 +1,25 @@
 package com.patientpal.backend.member.repository;
 
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.common.exception.BusinessException;
 import com.patientpal.backend.common.exception.EntityNotFoundException;
 import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.member.domain.GeoPoint;
 import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Province;
+import com.patientpal.backend.member.dto.MemberAddressRow;
+import com.patientpal.backend.member.dto.MemberCredentials;
+import com.patientpal.backend.member.dto.MemberView;
+import com.patientpal.backend.patient.domain.Patient;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,5 +31,81 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_EXIST, username));
     }
 
-    void deleteByUsername(String username);
+    // Member 로 조회하면 JOINED 상속 때문에 caregivers/patients 를 모두 outer join 한다.
+    // 하위 정보가 필요 없으면 members 만 읽는 projection 을, 필요하면 한 번의 조회로 하위 타입까지 읽는 findResolvedByUsername 을 쓴다
+
+    @Query("select new com.patientpal.backend.member.dto.MemberCredentials(m.username, m.password) "
+            + "from Member m where m.username = :username")
+    Optional<MemberCredentials> findCredentialsByUsername(@Param("username") String username);
+
+    @Query("select c from caregivers c where c.username = :username")
+    Optional<Caregiver> findCaregiverByUsername(@Param("username") String username);
+
+    @Query("select p from patients p where p.username = :username")
+    Optional<Patient> findPatientByUsername(@Param("username") String username);
+
+    /**
+     * 하위 테이블을 모두 outer join 하는 한 번의 조회로 읽고, member_type 에 맞는 하위 엔티티(Caregiver/Patient)로 돌려준다.
+     * 회원 종류를 먼저 읽고 해당 하위 테이블만 조인하면 DB 왕복이 한 번 늘어난다. 두 방식의 지연 비교는 MemberLookupBenchmark 에 있다.
+     */
+    @Query("select m from Member m where m.username = :username")
+    Optional<Member> findResolvedByUsername(@Param("username") String username);
+
+    // 탈퇴 요청 즉시 로그인/조회되지 않도록 username 을 바꾸고 개인정보와 공개 상태를 지운다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Member m set m.username = :tombstone, m.password = null, m.contact = null, "
+            + "m.residentRegistrationNumber = null, m.isProfilePublic = false, m.lastModifiedDate = :now where m.id = :id")
+    int tombstone(@Param("id") Long id, @Param("tombstone") String tombstone, @Param("now") LocalDateTime now);
+
+    @Query("select m.id from Member m where m.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    default Long findIdByUsernameOrThrow(String username) {
+        return findIdByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_EXIST, username));
+    }
+
+    @Query("select m.username from Member m where m.id = :id")
+    Optional<String> findUsernameById(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.password = :password where m.username = :username")
+    int updatePasswordByUsername(@Param("username") String username, @Param("password") String password);
+
+    @Query("select m.unreadNotificationCount from Member m where m.username = :username")
+    Optional<Long> findUnreadNotificationCountByUsername(@Param("username") String username);
+
+    @Query("select new com.patientpal.backend.member.dto.MemberView(m.id, m.username, m.name, m.role, m.isProfilePublic, m.isCompleteProfile) "
+            + "from Member m where m.username = :username")
+    Optional<MemberView> findViewByUsername(@Param("username") String username);
+
+    @Query("select m.address from Member m where m.username = :username")
+    Optional<Address> findAddressByUsername(@Param("username") String username);
+
+    default GeoPoint findLocationByUsernameOrThrow(String username) {
+        return findAddressByUsername(username)
+                .filter(Address::isLocated)
+                .map(address -> new GeoPoint(address.getLatitude(), address.getLongitude()))
+                .orElseThrow(() -> new BusinessException(ErrorCode.LOCATION_NOT_REGISTERED, username));
+    }
+
+    @Query("select new com.patientpal.backend.member.dto.MemberAddressRow(m.id, m.address.zipCode, m.address.addr) "
+            + "from Member m where m.id > :afterId and m.address.addr is not null "
+            + "and ((m.region.regionProvince is null and m.region.regionCity is null) or m.address.latitude is null) "
+            + "order by m.id")
+    List<MemberAddressRow> findLocationBackfillTargets(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 색인 동기화가 따라올 수 있도록 lastModifiedDate 도 함께 갱신한다
+    @Modifying
+    @Query("update Member m set m.region.regionProvince = :province, m.region.regionCity = :city, "
+            + "m.region.regionDistrict = :district, m.address.latitude = :latitude, m.address.longitude = :longitude, "
+            + "m.address.geoCell = :geoCell, m.lastModifiedDate = :now where m.id = :id")
+    int updateLocation(@Param("id") Long id,
+                       @Param("province") Province province,
+                       @Param("city") String city,
+                       @Param("district") String district,
+                       @Param("latitude") Double latitude,
+                       @Param("longitude") Double longitude,
+                       @Param("geoCell") Long geoCell,
+                       @Param("now") LocalDateTime now);
 }
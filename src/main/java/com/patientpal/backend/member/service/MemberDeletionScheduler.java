@@ -0,0 +1,52 @@
+package com.patientpal.backend.member.service;
+
+import com.patientpal.backend.member.repository.MemberDeletionJobRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접수된 회원 탈퇴 작업을 batch 단위로 끝까지 진행한다. batch 마다 트랜잭션을 나눠 잠금을 오래 잡지 않는다.
+ * 실패한 작업은 기록된 단계부터 다음 주기에 이어서 진행한다. 여러 노드가 같은 작업을 동시에 진행하면 작업의 낙관적 락으로
+ * 한 노드만 커밋되고, 충돌한 노드는 그 작업을 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberDeletionScheduler {
+
+    private static final int JOB_PAGE_SIZE = 100;
+
+    private final MemberDeletionJobRepository memberDeletionJobRepository;
+    private final MemberDeletionService memberDeletionService;
+
+    @Scheduled(fixedDelayString = "${patientpal.member.deletion.interval}")
+    public synchronized void purge() {
+        long lastJobId = 0;
+        List<Long> jobIds;
+        do {
+            jobIds = memberDeletionJobRepository.findPendingIds(lastJobId, PageRequest.of(0, JOB_PAGE_SIZE));
+            jobIds.forEach(this::purge);
+            if (!jobIds.isEmpty()) {
+                lastJobId = jobIds.get(jobIds.size() - 1);
+            }
+        } while (jobIds.size() == JOB_PAGE_SIZE);
+    }
+
+    private void purge(Long jobId) {
+        try {
+            boolean completed;
+            do {
+                completed = memberDeletionService.purgeNextBatch(jobId);
+            } while (!completed);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("다른 노드가 진행 중인 탈퇴 작업이라 건너뜁니다. [jobId={}]", jobId);
+        } catch (RuntimeException e) {
+            log.error("탈퇴 회원 데이터 삭제에 실패했습니다. 다음 주기에 이어서 진행합니다. [jobId={}]", jobId, e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.patientpal.backend.member.service;
+
+import com.patientpal.backend.auth.repository.RefreshTokenRepository;
+import com.patientpal.backend.matching.domain.MatchRepository;
+import com.patientpal.backend.member.domain.MemberDeletionJob;
+import com.patientpal.backend.member.repository.MemberDeletionJobRepository;
+import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.notification.repository.NotificationRepository;
+import com.patientpal.backend.post.repository.PostRepository;
+import com.patientpal.backend.review.repository.ReviewRepository;
+import com.patientpal.backend.search.repository.PublicProfileRepository;
+import com.patientpal.backend.search.service.ProfileSearchService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원 탈퇴. 요청 시에는 회원을 tombstone 처리만 하고, 후기/매칭/알림/게시글은 MemberDeletionScheduler 가
+ * batch 단위의 짧은 트랜잭션으로 나눠 지운 뒤 마지막에 회원 행을 지운다.
+ */
+@Slf4j
+@Service
+public class MemberDeletionService {
+
+    private static final String TOMBSTONE_PREFIX = "deleted:";
+
+    private final MemberRepository memberRepository;
+    private final MemberDeletionJobRepository memberDeletionJobRepository;
+    private final MatchRepository matchRepository;
+    private final NotificationRepository notificationRepository;
+    private final PostRepository postRepository;
+    private final ReviewRepository reviewRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final PublicProfileRepository publicProfileRepository;
+    private final ProfileSearchService profileSearchService;
+    private final int batchSize;
+
+    public MemberDeletionService(MemberRepository memberRepository,
+                                 MemberDeletionJobRepository memberDeletionJobRepository,
+                                 MatchRepository matchRepository,
+                                 NotificationRepository notificationRepository,
+                                 PostRepository postRepository,
+                                 ReviewRepository reviewRepository,
+                                 RefreshTokenRepository refreshTokenRepository,
+                                 PublicProfileRepository publicProfileRepository,
+                                 ProfileSearchService profileSearchService,
+                                 @Value("${patientpal.member.deletion.batch-size}") int batchSize) {
+        this.memberRepository = memberRepository;
+        this.memberDeletionJobRepository = memberDeletionJobRepository;
+        this.matchRepository = matchRepository;
+        this.notificationRepository = notificationRepository;
+        this.postRepository = postRepository;
+        this.reviewRepository = reviewRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.publicProfileRepository = publicProfileRepository;
+        this.profileSearchService = profileSearchService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * username 을 추측할 수 없는 값으로 바꿔 로그인/조회/알림 수신을 즉시 막고, 리프레시 토큰과 공개 프로필을 지운다.
+     */
+    @Transactional
+    public Long requestDeletion(String username) {
+        Long memberId = memberRepository.findIdByUsernameOrThrow(username);
+        memberRepository.tombstone(memberId, tombstoneUsername(), LocalDateTime.now());
+        refreshTokenRepository.deleteByMemberId(memberId);
+        publicProfileRepository.deleteByMemberId(memberId);
+        profileSearchService.reindexAfterCommit(memberId);
+
+        MemberDeletionJob job = memberDeletionJobRepository.save(new MemberDeletionJob(memberId));
+        log.info("회원 탈퇴를 접수했습니다. [memberId={}, jobId={}]", memberId, job.getId());
+        return job.getId();
+    }
+
+    /**
+     * 현재 단계에서 batchSize 만큼 지우고 진행 상황을 같은 트랜잭션에서 기록한다. 작업이 끝났으면 true 를 돌려준다.
+     */
+    @Transactional
+    public boolean purgeNextBatch(Long jobId) {
+        MemberDeletionJob job = memberDeletionJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.isCompleted()) {
+            return true;
+        }
+        Long memberId = job.getMemberId();
+        Pageable batch = PageRequest.of(0, batchSize);
+        int purged = switch (job.getStage()) {
+            case WRITTEN_REVIEWS -> detachReviewer(reviewRepository.findIdsByReviewerId(memberId, batch));
+            case RECEIVED_REVIEWS -> deleteInBatch(reviewRepository.findIdsByCaregiverId(memberId, batch), reviewRepository);
+            case REQUESTED_MATCHES -> deleteInBatch(matchRepository.findIdsByRequestMemberId(memberId, batch), matchRepository);
+            case RECEIVED_MATCHES -> deleteInBatch(matchRepository.findIdsByReceivedMemberId(memberId, batch), matchRepository);
+            case NOTIFICATIONS -> deleteInBatch(notificationRepository.findIdsByReceiverId(memberId, batch), notificationRepository);
+            case POSTS -> deleteInBatch(postRepository.findIdsByMemberId(memberId, batch), postRepository);
+            case MEMBER -> deleteMember(job, batch);
+            case COMPLETED -> 0;
+        };
+        job.recordPurged(purged);
+        if (purged < batchSize) {
+            job.advance();
+        }
+
+        if (job.isCompleted()) {
+            log.info("탈퇴 회원 데이터를 모두 삭제했습니다. [memberId={}, reviews={}, matches={}, notifications={}, posts={}]",
+                    memberId, job.getPurgedReviews(), job.getPurgedMatches(), job.getPurgedNotifications(), job.getPurgedPosts());
+        }
+        return job.isCompleted();
+    }
+
+    private <T> int deleteInBatch(List<Long> ids, JpaRepository<T, Long> repository) {
+        if (!ids.isEmpty()) {
+            repository.deleteAllByIdInBatch(ids);
+        }
+        return ids.size();
+    }
+
+    // 작성한 후기는 간병인의 후기 집계에 포함돼 있으므로 지우지 않고 작성자와 매칭 연결만 끊는다
+    private int detachReviewer(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            reviewRepository.detachReviewer(ids);
+        }
+        return ids.size();
+    }
+
+    /**
+     * 앞 단계 이후 새로 생긴 매칭이 있더라도 cascade 로 함께 지워진다.
+     * 후기 단계를 지난 뒤 저장된 후기(탈퇴 접수 전에 시작된 요청 등)는 회원 행과 그 매칭을 참조해 삭제를 막으므로 먼저 다시 정리한다.
+     */
+    private int deleteMember(MemberDeletionJob job, Pageable batch) {
+        Long memberId = job.getMemberId();
+        int lateReviews;
+        do {
+            lateReviews = detachReviewer(reviewRepository.findIdsByReviewerId(memberId, batch))
+                    + deleteInBatch(reviewRepository.findIdsByCaregiverId(memberId, batch), reviewRepository);
+            job.recordLateReviews(lateReviews);
+        } while (lateReviews > 0);
+        memberRepository.findById(memberId).ifPresent(memberRepository::delete);
+        return 0;
+    }
+
+    private static String tombstoneUsername() {
+        return TOMBSTONE_PREFIX + UUID.randomUUID().toString().replace("-", "").substring(0, 24);
+    }
+}
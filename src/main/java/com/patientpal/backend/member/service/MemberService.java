@@ -5,12 +5,13 @@ import com.patientpal.backend.common.exception.BusinessException;
 import com.patientpal.backend.caregiver.domain.Caregiver;
 import com.patientpal.backend.caregiver.repository.CaregiverRepository;
 import com.patientpal.backend.common.exception.AuthenticationException;
+import com.patientpal.backend.common.exception.EntityNotFoundException;
 import com.patientpal.backend.common.exception.ErrorCode;
-import com.patientpal.backend.member.domain.Member;
 import com.patientpal.backend.patient.domain.Patient;
 import com.patientpal.backend.member.domain.Provider;
 import com.patientpal.backend.member.domain.Role;
 import com.patientpal.backend.member.dto.MemberResponse;
+import com.patientpal.backend.member.dto.MemberView;
 import com.patientpal.backend.member.repository.MemberRepository;
 import com.patientpal.backend.patient.repository.PatientRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,12 +19,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemberService {
+    private static final String MEMBER_VIEW_ATTRIBUTE_PREFIX = MemberView.class.getName() + ".";
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final CaregiverRepository caregiverRepository;
@@ -57,18 +61,28 @@ public class MemberService {
         }
     }
 
-    @Transactional(readOnly = true)
     public MemberResponse findByUsername(String username) {
-        Member foundMember = memberRepository.findByUsernameOrThrow(username);
-        return MemberResponse.of(foundMember);
+        return MemberResponse.of(getMemberView(username));
     }
 
-    @Transactional(readOnly = true)
-    public Member getUserByUsername(String username) {
-        return memberRepository.findByUsernameOrThrow(username);
+    // 인터셉터, 컨트롤러, 서비스가 같은 요청에서 반복 조회하지 않도록 요청 속성에 보관한다
+    public MemberView getMemberView(String username) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return findMemberView(username);
+        }
+        String key = MEMBER_VIEW_ATTRIBUTE_PREFIX + username;
+        MemberView cached = (MemberView) attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return cached;
+        }
+        MemberView memberView = findMemberView(username);
+        attributes.setAttribute(key, memberView, RequestAttributes.SCOPE_REQUEST);
+        return memberView;
     }
 
-    public void deleteByUsername(String username) {
-        memberRepository.deleteByUsername(username);
+    private MemberView findMemberView(String username) {
+        return memberRepository.findViewByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_EXIST, username));
     }
 }
@@ -0,0 +1,85 @@
+package com.patientpal.backend.member.service;
+
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.member.domain.Province;
+import com.patientpal.backend.member.domain.Region;
+import com.patientpal.backend.member.dto.MemberAddressRow;
+import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.search.repository.PublicProfileRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 지역 코드/좌표 컬럼이 추가되기 전에 저장된 주소를 batch 단위로 채운다.
+ * 새로 저장되는 주소는 Member#updateAddress 에서 바로 계산되므로, 한 바퀴를 다 돌면 더 이상 조회하지 않는다.
+ * 주소를 해석하지 못한 회원은 비워 둔 채 건너뛴다.
+ */
+@Slf4j
+@Component
+public class RegionBackfillScheduler {
+
+    private final MemberRepository memberRepository;
+    private final PublicProfileRepository publicProfileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private long lastMemberId;
+    private volatile boolean completed;
+
+    public RegionBackfillScheduler(MemberRepository memberRepository,
+                                   PublicProfileRepository publicProfileRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${patientpal.member.region-backfill.batch-size}") int batchSize) {
+        this.memberRepository = memberRepository;
+        this.publicProfileRepository = publicProfileRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${patientpal.member.region-backfill.interval}")
+    public synchronized void backfill() {
+        if (completed) {
+            return;
+        }
+        List<MemberAddressRow> targets;
+        long filled = 0;
+        do {
+            targets = memberRepository.findLocationBackfillTargets(lastMemberId, PageRequest.of(0, batchSize));
+            if (!targets.isEmpty()) {
+                List<MemberAddressRow> batch = targets;
+                filled += transactionTemplate.execute(status -> fill(batch));
+                lastMemberId = targets.get(targets.size() - 1).id();
+            }
+        } while (targets.size() == batchSize);
+
+        completed = true;
+        log.info("지역 코드/좌표 backfill 을 마쳤습니다. [filled={}, lastMemberId={}]", filled, lastMemberId);
+    }
+
+    private long fill(List<MemberAddressRow> targets) {
+        LocalDateTime now = LocalDateTime.now();
+        long filled = 0;
+        for (MemberAddressRow target : targets) {
+            Region region = Region.from(target.toAddress());
+            Address located = target.toAddress().located();
+            if (region != null || located.isLocated()) {
+                Province province = region == null ? null : region.getRegionProvince();
+                String city = region == null ? null : region.getRegionCity();
+                String district = region == null ? null : region.getRegionDistrict();
+                filled += memberRepository.updateLocation(target.id(), province, city, district,
+                        located.getLatitude(), located.getLongitude(), located.getGeoCell(), now);
+                // 공개 프로필 목록에 있는 회원이면 같은 값으로 맞춘다
+                publicProfileRepository.updateLocation(target.id(), province, city, district,
+                        located.getLatitude(), located.getLongitude(), located.getGeoCell());
+            }
+        }
+        return filled;
+    }
+}
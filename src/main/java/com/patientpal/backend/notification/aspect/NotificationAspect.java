@@ -2,40 +2,41 @@ package com.patientpal.backend.notification.aspect;
 
 import com.patientpal.backend.notification.domain.NotificationInfo;
 import com.patientpal.backend.notification.domain.NotificationMessage;
-import com.patientpal.backend.notification.service.NotificationService;
+import com.patientpal.backend.notification.domain.NotificationOutbox;
+import com.patientpal.backend.notification.service.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.stereotype.Component;
 
 @Aspect
 @Slf4j
 @Component
-@EnableAsync
 @RequiredArgsConstructor
 public class NotificationAspect {
 
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Pointcut("@annotation(com.patientpal.backend.notification.annotation.NeedNotification)")
     public void annotationPointcut() {
     }
 
-    @Async
+    // @NeedNotification 메서드의 트랜잭션 안에서 outbox 만 저장하고, 저장과 SSE 전송은 커밋 후 디스패처가 처리한다
     @AfterReturning(pointcut = "annotationPointcut()", returning = "result")
-    public void checkValue(JoinPoint joinPoint, Object result) throws Throwable {
-        NotificationInfo notifyProxy = (NotificationInfo) result;
-        notificationService.send(
-                notifyProxy.getReceiver(),
-                notifyProxy.getNotificationType(),
-                NotificationMessage.MATCH_NEW_REQUEST.getMessage(),
-                "/api/v1/match/" + (notifyProxy.getGoUrlId())
-        );
+    public void checkValue(JoinPoint joinPoint, Object result) {
+        // 멱등 키로 재전송된 요청은 기존 매칭을 그대로 반환하므로 알림을 다시 보내지 않는다
+        if (!(result instanceof NotificationInfo notifyProxy)) {
+            return;
+        }
+        notificationOutboxService.append(NotificationOutbox.builder()
+                .receiver(notifyProxy.getReceiver())
+                .notificationType(notifyProxy.getNotificationType())
+                .content(NotificationMessage.MATCH_NEW_REQUEST.getMessage())
+                .url("/api/v1/match/" + (notifyProxy.getGoUrlId()))
+                .build());
         log.info("result = {}", result);
     }
 }
@@ -0,0 +1,26 @@
+package com.patientpal.backend.notification.broadcast;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 서버 환경용 구현체. 발행 즉시 같은 JVM 의 listener 에 전달한다.
+ */
+@Component
+@ConditionalOnProperty(name = "patientpal.notification.broadcaster", havingValue = "memory", matchIfMissing = true)
+public class InMemoryNotificationBroadcaster implements NotificationBroadcaster {
+    private final List<Consumer<NotificationBroadcast>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(NotificationBroadcast broadcast) {
+        listeners.forEach(listener -> listener.accept(broadcast));
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationBroadcast> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,6 @@
+package com.patientpal.backend.notification.broadcast;
+
+import com.patientpal.backend.notification.dto.NotificationDto;
+
+public record NotificationBroadcast(String receiver, long eventId, NotificationDto.Response response) {
+}
@@ -0,0 +1,14 @@
+package com.patientpal.backend.notification.broadcast;
+
+import java.util.function.Consumer;
+
+/**
+ * 알림을 모든 서버에 전파한다. 각 서버는 구독한 listener 로 자신에게 연결된 emitter 에만 전송한다.
+ */
+public interface NotificationBroadcaster {
+
+    void publish(NotificationBroadcast broadcast);
+
+    void subscribe(Consumer<NotificationBroadcast> listener);
+
+}
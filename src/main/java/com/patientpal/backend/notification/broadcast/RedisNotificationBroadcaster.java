@@ -0,0 +1,57 @@
+package com.patientpal.backend.notification.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 채널로 알림을 전파한다. 발행한 서버를 포함한 모든 서버가 메시지를 받는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "patientpal.notification.broadcaster", havingValue = "redis")
+public class RedisNotificationBroadcaster implements NotificationBroadcaster {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ChannelTopic topic;
+
+    public RedisNotificationBroadcaster(StringRedisTemplate redisTemplate,
+                                        RedisMessageListenerContainer listenerContainer,
+                                        ObjectMapper objectMapper,
+                                        @Value("${patientpal.notification.redis-channel}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void publish(NotificationBroadcast broadcast) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), objectMapper.writeValueAsString(broadcast));
+        } catch (JsonProcessingException exception) {
+            log.error("알림 직렬화에 실패했습니다. [receiver={}]", broadcast.receiver(), exception);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationBroadcast> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(message.getBody(), NotificationBroadcast.class));
+            } catch (IOException exception) {
+                log.error("알림 역직렬화에 실패했습니다.", exception);
+            }
+        }, topic);
+    }
+}
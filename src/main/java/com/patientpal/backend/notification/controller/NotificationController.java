@@ -1,13 +1,19 @@
 package com.patientpal.backend.notification.controller;
 
+import com.patientpal.backend.common.pagination.CursorSlice;
+import com.patientpal.backend.notification.dto.NotificationDto;
 import com.patientpal.backend.notification.service.NotificationService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -28,6 +34,19 @@ public class NotificationController {
         return notificationService.subscribe(currentMember.getUsername(), lastEventId);
     }
 
+    @GetMapping
+    public ResponseEntity<NotificationDto.ListResponse> getUnreadNotifications(@AuthenticationPrincipal User currentMember,
+                                                                              @RequestParam(required = false) Long cursor,
+                                                                              @RequestParam(defaultValue = "20") @Min(1) @Max(CursorSlice.MAX_SIZE) int size) {
+        return ResponseEntity.ok(notificationService.getUnreadNotifications(currentMember.getUsername(), cursor, size));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<NotificationDto.UnreadCountResponse> getUnreadCount(@AuthenticationPrincipal User currentMember) {
+        long count = notificationService.getUnreadCount(currentMember.getUsername());
+        return ResponseEntity.ok(new NotificationDto.UnreadCountResponse(count));
+    }
+
     @PostMapping("/read")
     public void setReadAllNotification(@AuthenticationPrincipal User currentMember) {
         notificationService.setReadAll(currentMember.getUsername());
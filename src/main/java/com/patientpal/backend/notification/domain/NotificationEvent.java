@@ -0,0 +1,5 @@
+package com.patientpal.backend.notification.domain;
+
+public record NotificationEvent(Long outboxId, String receiver, NotificationType notificationType, String content,
+                                String url) {
+}
@@ -5,7 +5,8 @@ import lombok.Getter;
 @Getter
 public enum NotificationMessage {
 
-    MATCH_NEW_REQUEST("새로운 매칭 요청이 있습니다.");
+    MATCH_NEW_REQUEST("새로운 매칭 요청이 있습니다."),
+    REVIEW_NEW("새로운 후기가 등록되었습니다.");
 
     private String message;
 
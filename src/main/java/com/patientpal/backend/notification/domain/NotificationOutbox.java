@@ -0,0 +1,54 @@
+package com.patientpal.backend.notification.domain;
+
+import com.patientpal.backend.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 발송 대기열. 알림을 유발한 비즈니스 데이터와 같은 트랜잭션에서 저장되고,
+ * 알림이 저장될 때 같은 트랜잭션에서 삭제된다.
+ */
+@Entity
+@Getter
+@Table(name = "notification_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(nullable = false, length = 32)
+    private String receiver;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType notificationType;
+
+    private String content;
+
+    private String url;
+
+    @Builder
+    public NotificationOutbox(String receiver, NotificationType notificationType, String content, String url) {
+        this.receiver = receiver;
+        this.notificationType = notificationType;
+        this.content = content;
+        this.url = url;
+    }
+
+    public NotificationEvent toEvent() {
+        return new NotificationEvent(id, receiver, notificationType, content, url);
+    }
+}
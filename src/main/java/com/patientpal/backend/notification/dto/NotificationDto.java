@@ -1,6 +1,9 @@
 package com.patientpal.backend.notification.dto;
 
 import com.patientpal.backend.notification.domain.Notification;
+import com.patientpal.backend.notification.domain.NotificationEvent;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,13 +29,45 @@ public class NotificationDto {
         String createdDate;
 
         public static Response createResponse(Notification notification) {
+            return createResponse(notification, notification.getReceiver().getUsername());
+        }
+
+        public static Response createResponse(Notification notification, String username) {
             return Response.builder()
                     .content(notification.getContent())
                     .id(notification.getId().toString())
-                    .name(notification.getReceiver().getUsername())
+                    .name(username)
                     .type(notification.getNotificationType().toString())
                     .createdDate(notification.getCreatedDate().toString())
                     .build();
         }
+
+        public static Response of(Long id, NotificationEvent event, LocalDateTime createdDate) {
+            return Response.builder()
+                    .content(event.content())
+                    .id(id.toString())
+                    .name(event.receiver())
+                    .type(event.notificationType().toString())
+                    .createdDate(createdDate.toString())
+                    .build();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ListResponse {
+
+        List<Response> notifications;
+
+        Long nextCursor;
+
+        boolean hasNext;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class UnreadCountResponse {
+
+        long count;
     }
 }
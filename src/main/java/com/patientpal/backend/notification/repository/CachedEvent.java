@@ -0,0 +1,4 @@
+package com.patientpal.backend.notification.repository;
+
+public record CachedEvent(long id, long createdAt, Object data) {
+}
@@ -0,0 +1,6 @@
+package com.patientpal.backend.notification.repository;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public record ConnectedEmitter(String username, String emitterId, SseEmitter emitter) {
+}
@@ -1,22 +1,21 @@
 package com.patientpal.backend.notification.repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface EmitterRepository {
 
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
-
-    void saveEventCache(String emitterId, Object event);
+    SseEmitter save(String username, String emitterId, SseEmitter sseEmitter);
 
-    Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId);
+    Map<String, SseEmitter> findAllEmitterByUsername(String username);
 
-    Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId);
+    List<ConnectedEmitter> findAll();
 
-    void deleteById(String id);
+    int count();
 
-    void deleteAllEmitterStartWithId(String memberId);
+    void deleteById(String username, String emitterId);
 
-    void deleteAllEventCacheStartWithId(String memberId);
+    void deleteAllEmitterByUsername(String username);
 
 }
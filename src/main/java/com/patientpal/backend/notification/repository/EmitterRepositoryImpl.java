@@ -1,65 +1,63 @@
 package com.patientpal.backend.notification.repository;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 회원(username)별로 emitter 를 묶어 관리한다.
+ * 조회/삭제 비용이 전체 접속자 수가 아닌 해당 회원의 연결 수에 비례한다.
+ */
 @Repository
-public class EmitterRepositoryImpl implements EmitterRepository{
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+public class EmitterRepositoryImpl implements EmitterRepository {
+    private final Map<String, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public SseEmitter save(String username, String emitterId, SseEmitter sseEmitter) {
+        emitters.compute(username, (key, memberEmitters) -> {
+            Map<String, SseEmitter> target = memberEmitters == null ? new ConcurrentHashMap<>() : memberEmitters;
+            target.put(emitterId, sseEmitter);
+            return target;
+        });
         return sseEmitter;
     }
 
     @Override
-    public void saveEventCache(String eventCacheId, Object event) {
-        eventCache.put(eventCacheId, event);
+    public Map<String, SseEmitter> findAllEmitterByUsername(String username) {
+        Map<String, SseEmitter> memberEmitters = emitters.get(username);
+        return memberEmitters == null ? Collections.emptyMap() : Map.copyOf(memberEmitters);
     }
 
     @Override
-    public Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public List<ConnectedEmitter> findAll() {
+        List<ConnectedEmitter> connected = new ArrayList<>();
+        emitters.forEach((username, memberEmitters) -> memberEmitters.forEach(
+                (emitterId, emitter) -> connected.add(new ConnectedEmitter(username, emitterId, emitter))));
+        return connected;
     }
 
     @Override
-    public Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId) {
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public int count() {
+        return emitters.values().stream()
+                .mapToInt(Map::size)
+                .sum();
     }
 
     @Override
-    public void deleteById(String id) {
-        emitters.remove(id);
+    public void deleteById(String username, String emitterId) {
+        // 마지막 연결이 끊기면 회원 엔트리까지 제거해 빈 맵이 쌓이지 않도록 한다
+        emitters.computeIfPresent(username, (key, memberEmitters) -> {
+            memberEmitters.remove(emitterId);
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
     }
 
     @Override
-    public void deleteAllEmitterStartWithId(String memberId) {
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(memberId)) {
-                        emitters.remove(key);
-                    }
-                }
-        );
-    }
-
-    @Override
-    public void deleteAllEventCacheStartWithId(String memberId) {
-        eventCache.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(memberId)) {
-                        eventCache.remove(key);
-                    }
-                }
-        );
+    public void deleteAllEmitterByUsername(String username) {
+        emitters.remove(username);
     }
 }
@@ -0,0 +1,21 @@
+package com.patientpal.backend.notification.repository;
+
+import java.util.List;
+
+public interface EventCacheRepository {
+
+    long nextEventId();
+
+    CachedEvent save(String username, long eventId, Object data);
+
+    default CachedEvent save(String username, Object data) {
+        return save(username, nextEventId(), data);
+    }
+
+    List<CachedEvent> findAllAfter(String username, long lastEventId);
+
+    void deleteAllByUsername(String username);
+
+    void evictExpired();
+
+}
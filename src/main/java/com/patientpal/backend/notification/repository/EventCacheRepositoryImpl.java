@@ -0,0 +1,139 @@
+package com.patientpal.backend.notification.repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Last-Event-ID 재전송용 이벤트 캐시.
+ * 회원별 링 버퍼에 최근 이벤트만 보관하고, TTL 과 전체 이벤트 수 상한을 넘는 이벤트는 오래된 순으로 제거한다.
+ */
+@Repository
+public class EventCacheRepositoryImpl implements EventCacheRepository {
+    private static final int NODE_SLOTS = 1000;
+
+    private final Map<String, EventRingBuffer> buffers = new ConcurrentHashMap<>();
+    private final Queue<EvictionEntry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger totalEvents = new AtomicInteger();
+
+    private final int capacityPerMember;
+    private final long ttlMillis;
+    private final int maxTotalEvents;
+    private final int nodeId;
+    private final Clock clock;
+
+    @Autowired
+    public EventCacheRepositoryImpl(@Value("${patientpal.notification.replay.capacity-per-member}") int capacityPerMember,
+                                    @Value("${patientpal.notification.replay.ttl}") Duration ttl,
+                                    @Value("${patientpal.notification.replay.max-total-events}") int maxTotalEvents,
+                                    @Value("${patientpal.notification.replay.node-id}") int nodeId) {
+        this(capacityPerMember, ttl, maxTotalEvents, nodeId, Clock.systemUTC());
+    }
+
+    EventCacheRepositoryImpl(int capacityPerMember, Duration ttl, int maxTotalEvents, int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId >= NODE_SLOTS) {
+            throw new IllegalArgumentException("node-id 는 0 이상 " + NODE_SLOTS + " 미만이어야 합니다: " + nodeId);
+        }
+        this.capacityPerMember = capacityPerMember;
+        this.ttlMillis = ttl.toMillis();
+        this.maxTotalEvents = maxTotalEvents;
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 다른 서버에서 발급한 id 도 함께 저장되므로 버퍼는 id 순서가 뒤섞여 들어와도 정렬을 유지한다.
+     */
+    @Override
+    public CachedEvent save(String username, long eventId, Object data) {
+        CachedEvent event = new CachedEvent(eventId, clock.millis(), data);
+        buffers.compute(username, (key, buffer) -> {
+            EventRingBuffer target = buffer == null ? new EventRingBuffer(capacityPerMember) : buffer;
+            if (!target.add(event)) {
+                totalEvents.incrementAndGet();
+            }
+            return target;
+        });
+        insertionOrder.add(new EvictionEntry(username, event.id(), event.createdAt()));
+
+        if (totalEvents.get() > maxTotalEvents) {
+            evictOverflow();
+        }
+        return event;
+    }
+
+    @Override
+    public List<CachedEvent> findAllAfter(String username, long lastEventId) {
+        EventRingBuffer buffer = buffers.get(username);
+        if (buffer == null) {
+            return Collections.emptyList();
+        }
+        return buffer.findAllAfter(lastEventId, clock.millis() - ttlMillis);
+    }
+
+    @Override
+    public void deleteAllByUsername(String username) {
+        EventRingBuffer removed = buffers.remove(username);
+        if (removed != null) {
+            totalEvents.addAndGet(-removed.size());
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${patientpal.notification.replay.evict-interval}")
+    public synchronized void evictExpired() {
+        long expiredBefore = clock.millis() - ttlMillis;
+        EvictionEntry entry;
+        while ((entry = insertionOrder.peek()) != null && entry.createdAt() < expiredBefore) {
+            insertionOrder.poll();
+            evictUpTo(entry);
+        }
+    }
+
+    int size() {
+        return totalEvents.get();
+    }
+
+    private synchronized void evictOverflow() {
+        while (totalEvents.get() > maxTotalEvents) {
+            EvictionEntry entry = insertionOrder.poll();
+            if (entry == null) {
+                return;
+            }
+            evictUpTo(entry);
+        }
+    }
+
+    private void evictUpTo(EvictionEntry entry) {
+        buffers.computeIfPresent(entry.username(), (key, buffer) -> {
+            totalEvents.addAndGet(-buffer.removeUpTo(entry.eventId()));
+            return buffer.isEmpty() ? null : buffer;
+        });
+    }
+
+    /**
+     * 현재 시각(ms)을 하한으로 하는 순번 뒤에 서버 번호(node-id)를 세 자리로 붙인다.
+     * 서버 재시작 후에도 이전에 발급한 id 보다 커지고, 서버가 여러 대여도 하위 세 자리가 달라 같은 id 를 발급하지 않는다.
+     * 서버마다 1ms 에 하나를 넘게 발급하면 순번이 시각보다 앞서 나가며, 서버 간에는 대략적인 시간 순서만 유지된다.
+     */
+    @Override
+    public long nextEventId() {
+        long floor = clock.millis();
+        return sequence.updateAndGet(previous -> Math.max(previous + 1, floor)) * NODE_SLOTS + nodeId;
+    }
+
+    private record EvictionEntry(String username, long eventId, long createdAt) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.patientpal.backend.notification.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 회원 한 명의 최근 이벤트를 id 오름차순으로 보관하는 고정 크기 링 버퍼.
+ * 가득 차면 가장 오래된 이벤트를 덮어쓴다.
+ */
+final class EventRingBuffer {
+    private final CachedEvent[] events;
+    private int head;
+    private int size;
+
+    EventRingBuffer(int capacity) {
+        this.events = new CachedEvent[capacity];
+    }
+
+    /**
+     * @return 용량 초과로 가장 오래된 이벤트를 버렸으면 true
+     */
+    synchronized boolean add(CachedEvent event) {
+        boolean overwritten = false;
+        if (size == events.length) {
+            removeOldest();
+            overwritten = true;
+        }
+
+        // id 는 거의 항상 증가하므로 대부분 맨 뒤에 바로 들어간다
+        int position = size;
+        while (position > 0 && get(position - 1).id() > event.id()) {
+            set(position, get(position - 1));
+            position--;
+        }
+        set(position, event);
+        size++;
+        return overwritten;
+    }
+
+    synchronized int removeUpTo(long eventId) {
+        int removed = 0;
+        while (size > 0 && get(0).id() <= eventId) {
+            removeOldest();
+            removed++;
+        }
+        return removed;
+    }
+
+    synchronized List<CachedEvent> findAllAfter(long lastEventId, long notBefore) {
+        int from = firstIndexAfter(lastEventId);
+        if (from == size) {
+            return Collections.emptyList();
+        }
+
+        List<CachedEvent> result = new ArrayList<>(size - from);
+        for (int i = from; i < size; i++) {
+            CachedEvent event = get(i);
+            if (event.createdAt() >= notBefore) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int firstIndexAfter(long lastEventId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (get(mid).id() <= lastEventId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void removeOldest() {
+        events[head] = null;
+        head = (head + 1) % events.length;
+        size--;
+    }
+
+    private CachedEvent get(int index) {
+        return events[(head + index) % events.length];
+    }
+
+    private void set(int index, CachedEvent event) {
+        events[(head + index) % events.length] = event;
+    }
+}
@@ -0,0 +1,142 @@
+package com.patientpal.backend.notification.repository;
+
+import com.patientpal.backend.notification.domain.NotificationEvent;
+import com.patientpal.backend.notification.dto.NotificationDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림을 JDBC batch 로 저장한다.
+ * Notification 의 IDENTITY 전략 때문에 JPA 로는 insert 가 batch 로 묶이지 않아 별도 저장소를 둔다.
+ * 같은 트랜잭션에서 outbox 행을 삭제해 선점한 이벤트만 저장하므로 중복 전달되어도 알림은 한 번만 생긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+    private static final String FIND_MEMBER_IDS_SQL =
+            "select member_id, username from members where username in (:usernames)";
+    private static final String CLAIM_OUTBOX_SQL =
+            "delete from notification_outbox where outbox_id = :outboxId";
+    private static final String INSERT_SQL =
+            "insert into Notification (content, url, isRead, notificationType, member_id, createdDate, lastModifiedDate) "
+                    + "values (:content, :url, false, :notificationType, :memberId, :createdDate, :createdDate)";
+
+    private static final String INCREASE_UNREAD_COUNT_SQL =
+            "update members set unreadNotificationCount = unreadNotificationCount + :count where member_id = :memberId";
+    private static final String DECREASE_UNREAD_COUNT_SQL =
+            "update members set unreadNotificationCount = greatest(unreadNotificationCount - :count, 0) where member_id = :memberId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 다른 워커가 선점했거나 수신자가 존재하지 않는(탈퇴한) 이벤트는 저장하지 않고 건너뛴다.
+     */
+    @Transactional
+    public List<NotificationDto.Response> saveAll(List<NotificationEvent> events) {
+        List<NotificationEvent> claimed = claimOutbox(events);
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Long> memberIds = findMemberIds(claimed);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<NotificationEvent> targets = new ArrayList<>(claimed.size());
+        List<SqlParameterSource> batchArgs = new ArrayList<>(claimed.size());
+        for (NotificationEvent event : claimed) {
+            Long memberId = memberIds.get(event.receiver());
+            if (memberId == null) {
+                continue;
+            }
+            targets.add(event);
+            batchArgs.add(new MapSqlParameterSource()
+                    .addValue("content", event.content())
+                    .addValue("url", event.url())
+                    .addValue("notificationType", event.notificationType().name())
+                    .addValue("memberId", memberId)
+                    .addValue("createdDate", now));
+        }
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs.toArray(SqlParameterSource[]::new), keyHolder,
+                new String[]{"notification_id"});
+        increaseUnreadCounts(targets, memberIds);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<NotificationDto.Response> responses = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Number id = (Number) keys.get(i).values().iterator().next();
+            responses.add(NotificationDto.Response.of(id.longValue(), targets.get(i), now));
+        }
+        return responses;
+    }
+
+    private List<NotificationEvent> claimOutbox(List<NotificationEvent> events) {
+        SqlParameterSource[] batchArgs = events.stream()
+                .map(event -> new MapSqlParameterSource("outboxId", event.outboxId()))
+                .toArray(SqlParameterSource[]::new);
+        int[] deleted = jdbcTemplate.batchUpdate(CLAIM_OUTBOX_SQL, batchArgs);
+
+        // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 선점한 것으로 본다
+        List<NotificationEvent> claimed = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (deleted[i] != 0) {
+                claimed.add(events.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 읽음 처리된 건수만큼 차감한다. 0 으로 초기화하지 않으므로 읽음 처리 중에 저장된 알림 수가 유실되지 않는다.
+     * 카운터가 실제보다 작게 어긋나 있어도 음수가 되지 않도록 0 에서 멈춘다.
+     */
+    public void decreaseUnreadCount(Long memberId, int count) {
+        if (count == 0) {
+            return;
+        }
+        jdbcTemplate.update(DECREASE_UNREAD_COUNT_SQL, Map.of("memberId", memberId, "count", count));
+    }
+
+    private void increaseUnreadCounts(List<NotificationEvent> targets, Map<String, Long> memberIds) {
+        // 여러 워커가 같은 회원 행을 갱신할 때 교착을 피하도록 member_id 순서로 갱신한다
+        Map<Long, Integer> counts = new TreeMap<>();
+        targets.forEach(event -> counts.merge(memberIds.get(event.receiver()), 1, Integer::sum));
+
+        SqlParameterSource[] batchArgs = counts.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("memberId", entry.getKey())
+                        .addValue("count", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INCREASE_UNREAD_COUNT_SQL, batchArgs);
+    }
+
+    private Map<String, Long> findMemberIds(List<NotificationEvent> events) {
+        List<String> usernames = events.stream()
+                .map(NotificationEvent::receiver)
+                .distinct()
+                .toList();
+
+        Map<String, Long> memberIds = new HashMap<>();
+        jdbcTemplate.query(FIND_MEMBER_IDS_SQL, Map.of("usernames", usernames),
+                resultSet -> {
+                    memberIds.put(resultSet.getString("username"), resultSet.getLong("member_id"));
+                });
+        return memberIds;
+    }
+}
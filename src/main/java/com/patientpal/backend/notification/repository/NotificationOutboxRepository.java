@@ -0,0 +1,12 @@
+package com.patientpal.backend.notification.repository;
+
+import com.patientpal.backend.notification.domain.NotificationOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    List<NotificationOutbox> findByCreatedDateBeforeOrderByIdAsc(LocalDateTime createdDate, Pageable pageable);
+}
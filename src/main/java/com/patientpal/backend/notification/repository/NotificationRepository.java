@@ -2,9 +2,23 @@ package com.patientpal.backend.notification.repository;
 
 import com.patientpal.backend.notification.domain.Notification;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    List<Notification> findByReceiverUsernameAndIsReadFalse(String receiverUsername);
+    @Query("select n from Notification n "
+            + "where n.receiver.id = :memberId and n.isRead = false and n.id < :cursor "
+            + "order by n.id desc")
+    List<Notification> findUnreadBefore(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select n.id from Notification n where n.receiver.id = :memberId order by n.id")
+    List<Long> findIdsByReceiverId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Notification n set n.isRead = true where n.receiver.id = :memberId and n.isRead = false")
+    int markAllAsRead(@Param("memberId") Long memberId);
 }
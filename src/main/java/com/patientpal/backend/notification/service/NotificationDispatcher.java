@@ -0,0 +1,118 @@
+package com.patientpal.backend.notification.service;
+
+import com.patientpal.backend.notification.domain.NotificationEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 스레드에서 알림 이벤트를 받아 큐에 적재하고, 전용 워커가 batch 단위로 저장/전송한다.
+ * 큐가 가득 차면 offer-timeout 만큼만 기다린 뒤 이벤트를 버리고 dropped 지표를 올린다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+    private static final long POLL_TIMEOUT_MILLIS = 500L;
+
+    private final NotificationService notificationService;
+    private final BlockingQueue<NotificationEvent> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final Duration offerTimeout;
+
+    private final Counter dispatchedCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public NotificationDispatcher(NotificationService notificationService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${patientpal.notification.dispatch.queue-capacity}") int queueCapacity,
+                                  @Value("${patientpal.notification.dispatch.worker-count}") int workerCount,
+                                  @Value("${patientpal.notification.dispatch.batch-size}") int batchSize,
+                                  @Value("${patientpal.notification.dispatch.offer-timeout}") Duration offerTimeout) {
+        this.notificationService = notificationService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+
+        Gauge.builder("notification.dispatch.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.dispatchedCounter = meterRegistry.counter("notification.dispatch.dispatched");
+        this.droppedCounter = meterRegistry.counter("notification.dispatch.dropped");
+        this.failedCounter = meterRegistry.counter("notification.dispatch.failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("notification-dispatcher-"));
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("알림 큐를 모두 처리하지 못하고 종료합니다. [remaining={}]", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    public void dispatch(NotificationEvent event) {
+        try {
+            if (queue.offer(event, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCounter.increment();
+        log.warn("알림 큐가 가득 차 이벤트를 버립니다. [receiver={}, type={}]", event.receiver(), event.notificationType());
+    }
+
+    private void drain() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                notificationService.sendAll(batch);
+                dispatchedCounter.increment(batch.size());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                failedCounter.increment(batch.size());
+                log.error("알림 batch 처리에 실패했습니다. [size={}]", batch.size(), exception);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
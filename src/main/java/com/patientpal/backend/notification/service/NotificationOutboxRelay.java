@@ -0,0 +1,60 @@
+package com.patientpal.backend.notification.service;
+
+import com.patientpal.backend.notification.domain.NotificationEvent;
+import com.patientpal.backend.notification.domain.NotificationOutbox;
+import com.patientpal.backend.notification.repository.NotificationOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커밋 후 큐 적재가 유실된(큐 포화, 처리 실패, 서버 종료) outbox 를 주기적으로 다시 전달한다.
+ * 알림 저장 시 outbox 삭제로 선점하므로 큐와 relay 가 같은 행을 동시에 처리해도 알림은 한 번만 저장된다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationService notificationService;
+    private final Duration relayDelay;
+    private final int batchSize;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   NotificationService notificationService,
+                                   @Value("${patientpal.notification.outbox.relay-delay}") Duration relayDelay,
+                                   @Value("${patientpal.notification.outbox.batch-size}") int batchSize) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationService = notificationService;
+        this.relayDelay = relayDelay;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${patientpal.notification.outbox.relay-interval}")
+    public void relay() {
+        LocalDateTime threshold = LocalDateTime.now().minus(relayDelay);
+        List<NotificationOutbox> pending;
+        do {
+            pending = notificationOutboxRepository.findByCreatedDateBeforeOrderByIdAsc(threshold,
+                    PageRequest.of(0, batchSize));
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            List<NotificationEvent> events = pending.stream()
+                    .map(NotificationOutbox::toEvent)
+                    .toList();
+            try {
+                notificationService.sendAll(events);
+            } catch (RuntimeException exception) {
+                log.error("outbox 재전달에 실패했습니다. [firstOutboxId={}]", events.get(0).outboxId(), exception);
+                return;
+            }
+        } while (pending.size() == batchSize);
+    }
+}
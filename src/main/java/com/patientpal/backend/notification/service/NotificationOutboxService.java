@@ -0,0 +1,35 @@
+package com.patientpal.backend.notification.service;
+
+import com.patientpal.backend.notification.domain.NotificationEvent;
+import com.patientpal.backend.notification.domain.NotificationOutbox;
+import com.patientpal.backend.notification.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationDispatcher notificationDispatcher;
+
+    /**
+     * 호출한 트랜잭션에 outbox 를 함께 저장하고, 커밋된 뒤에만 디스패처 큐에 넣는다.
+     * 롤백되면 알림도 남지 않으며, 큐 적재가 유실되더라도 {@link NotificationOutboxRelay} 가 다시 전달한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(NotificationOutbox outbox) {
+        NotificationEvent event = notificationOutboxRepository.save(outbox).toEvent();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationDispatcher.dispatch(event);
+            }
+        });
+    }
+}
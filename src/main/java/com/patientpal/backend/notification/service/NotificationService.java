@@ -1,16 +1,23 @@
 package com.patientpal.backend.notification.service;
 
-import com.patientpal.backend.member.domain.Member;
-import com.patientpal.backend.member.service.MemberService;
+import com.patientpal.backend.common.pagination.CursorSlice;
+import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.notification.broadcast.NotificationBroadcast;
+import com.patientpal.backend.notification.broadcast.NotificationBroadcaster;
 import com.patientpal.backend.notification.domain.Notification;
-import com.patientpal.backend.notification.domain.NotificationType;
+import com.patientpal.backend.notification.domain.NotificationEvent;
 import com.patientpal.backend.notification.dto.NotificationDto;
+import com.patientpal.backend.notification.repository.CachedEvent;
 import com.patientpal.backend.notification.repository.EmitterRepository;
+import com.patientpal.backend.notification.repository.EventCacheRepository;
+import com.patientpal.backend.notification.repository.NotificationBatchRepository;
 import com.patientpal.backend.notification.repository.NotificationRepository;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -19,54 +26,67 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @RequiredArgsConstructor
 public class NotificationService {
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
+    private static final String NOTIFICATION_EVENT_NAME = "sse";
+    private static final String UNREAD_COUNT_EVENT_NAME = "unread-count";
 
     private final EmitterRepository emitterRepository;
+    private final EventCacheRepository eventCacheRepository;
     private final NotificationRepository notificationRepository;
-    private final MemberService memberService;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationBroadcaster notificationBroadcaster;
+    private final MemberRepository memberRepository;
+
+    @PostConstruct
+    void subscribeBroadcast() {
+        notificationBroadcaster.subscribe(this::deliver);
+    }
 
     public SseEmitter subscribe(String username, String lastEventId) {
         String emitterId = makeTimeIncludeId(username);
-        SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
-        emitter.onCompletion(() -> emitterRepository.deleteById(emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteById(emitterId));
+        SseEmitter emitter = emitterRepository.save(username, emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        emitter.onCompletion(() -> emitterRepository.deleteById(username, emitterId));
+        emitter.onTimeout(() -> emitterRepository.deleteById(username, emitterId));
+        emitter.onError(throwable -> emitterRepository.deleteById(username, emitterId));
 
-        // 503 에러를 방지하기 위한 더미 이벤트 전송
-        String eventId = makeTimeIncludeId(username);
-        sendNotification(emitter, eventId, emitterId, "EventStream Created. [username=" + username + "]");
+        // 503 에러를 방지하기 위한 더미 이벤트 전송, id 가 없으므로 클라이언트의 Last-Event-ID 는 유지된다
+        sendNotification(emitter, null, username, emitterId, "EventStream Created. [username=" + username + "]");
 
         // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방
         if (hasLostData(lastEventId)) {
             sendLostData(lastEventId, username, emitterId, emitter);
         }
 
-        // 로그아웃 동안 받은 알림 전송
-        sendUnseenNotifications(username, emitter);
+        // 로그아웃 동안 받은 알림은 개수만 전송하고, 목록은 클라이언트가 페이지 단위로 조회한다
+        sendUnreadCount(username, emitterId, emitter);
 
         return emitter;
     }
 
-    private String makeTimeIncludeId(String email) {
-        return email + "_" + System.currentTimeMillis();
+    private String makeTimeIncludeId(String username) {
+        return username + "_" + System.currentTimeMillis();
     }
 
-    private void sendUnseenNotifications(String username, SseEmitter emitter) {
-        List<Notification> unseenNotifications = notificationRepository.findByReceiverUsernameAndIsReadFalse(username);
+    private void sendUnreadCount(String username, String emitterId, SseEmitter emitter) {
+        sendEvent(emitter, null, UNREAD_COUNT_EVENT_NAME, username, emitterId,
+                new NotificationDto.UnreadCountResponse(getUnreadCount(username)));
+    }
 
-        unseenNotifications.forEach(notification -> {
-            String eventId = notification.getReceiver().getUsername() + "_" + System.currentTimeMillis();
-            sendNotification(emitter, eventId, eventId, NotificationDto.Response.createResponse(notification));
-        });
+    private void sendNotification(SseEmitter emitter, String eventId, String username, String emitterId, Object data) {
+        sendEvent(emitter, eventId, NOTIFICATION_EVENT_NAME, username, emitterId, data);
     }
 
-    private void sendNotification(SseEmitter emitter, String eventId, String emitterId, Object data) {
+    private void sendEvent(SseEmitter emitter, String eventId, String eventName, String username, String emitterId,
+                           Object data) {
         try {
-            emitter.send(SseEmitter.event()
-                    .id(eventId)
-                    .name("sse")
-                    .data(data)
-            );
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
+                    .name(eventName)
+                    .data(data);
+            if (eventId != null) {
+                event.id(eventId);
+            }
+            emitter.send(event);
         } catch (IOException exception) {
-            emitterRepository.deleteById(emitterId);
+            emitterRepository.deleteById(username, emitterId);
         }
     }
 
@@ -74,47 +94,66 @@ public class NotificationService {
         return !lastEventId.isEmpty();
     }
 
-    private void sendLostData(String lastEventId, String userEmail, String emitterId, SseEmitter emitter) {
-        Map<String, Object> eventCaches = emitterRepository.findAllEventCacheStartWithByMemberId(String.valueOf(userEmail));
-        eventCaches.entrySet().stream()
-                .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-                .forEach(entry -> sendNotification(emitter, entry.getKey(), emitterId, entry.getValue()));
+    private void sendLostData(String lastEventId, String username, String emitterId, SseEmitter emitter) {
+        long lastReceivedId;
+        try {
+            lastReceivedId = Long.parseLong(lastEventId);
+        } catch (NumberFormatException exception) {
+            // 이전 형식(username_millis)의 id 는 재전송 대상을 판단할 수 없으므로 무시한다
+            return;
+        }
+
+        List<CachedEvent> lostEvents = eventCacheRepository.findAllAfter(username, lastReceivedId);
+        lostEvents.forEach(event ->
+                sendNotification(emitter, String.valueOf(event.id()), username, emitterId, event.data()));
+    }
+
+    /**
+     * 알림을 한 번의 batch 로 저장한 뒤 모든 서버에 한 번씩 발행한다.
+     */
+    public void sendAll(List<NotificationEvent> events) {
+        List<NotificationDto.Response> responses = notificationBatchRepository.saveAll(events);
+        responses.forEach(response -> notificationBroadcaster.publish(
+                new NotificationBroadcast(response.getName(), eventCacheRepository.nextEventId(), response)));
     }
 
-    public void send(String username, NotificationType notificationType, String content, String url) {
-        Notification notification = notificationRepository.save(createNotification(username, notificationType, content, url));
-
-        String eventId = username + "_" + System.currentTimeMillis();
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByMemberId(username);
-        emitters.forEach(
-                (key, emitter) -> {
-                    emitterRepository.saveEventCache(key, notification);
-                    sendNotification(emitter, eventId, key, NotificationDto.Response.createResponse(notification));
-                }
-        );
+    /**
+     * 발행된 알림을 이 서버에 연결된 수신자의 emitter 로 전송한다.
+     */
+    private void deliver(NotificationBroadcast broadcast) {
+        String username = broadcast.receiver();
+        eventCacheRepository.save(username, broadcast.eventId(), broadcast.response());
+
+        String eventId = String.valueOf(broadcast.eventId());
+        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterByUsername(username);
+        emitters.forEach((emitterId, emitter) ->
+                sendNotification(emitter, eventId, username, emitterId, broadcast.response()));
     }
 
-    private Notification createNotification(String username, NotificationType notificationType, String content, String url) {
-        return Notification.builder()
-                .receiver(getMember(username))
-                .notificationType(notificationType)
-                .content(content)
-                .url(url)
-                .isRead(false)
-                .build();
+    /**
+     * 읽지 않은 알림을 최신순으로 조회한다. cursor 는 이전 페이지 마지막 알림의 id 이다.
+     */
+    @Transactional(readOnly = true)
+    public NotificationDto.ListResponse getUnreadNotifications(String username, Long cursor, int size) {
+        Long memberId = memberRepository.findIdByUsernameOrThrow(username);
+        List<Notification> notifications = notificationRepository.findUnreadBefore(memberId,
+                cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, CursorSlice.fetchSize(size)));
+
+        CursorSlice<NotificationDto.Response> slice = CursorSlice.of(notifications, size)
+                .map(notification -> NotificationDto.Response.createResponse(notification, username));
+        return new NotificationDto.ListResponse(slice.content(),
+                slice.nextCursor(response -> Long.valueOf(response.getId())), slice.hasNext());
     }
 
-    public Member getMember(String username) {
-        return memberService.getUserByUsername(username);
+    @Transactional(readOnly = true)
+    public long getUnreadCount(String username) {
+        return memberRepository.findUnreadNotificationCountByUsername(username).orElse(0L);
     }
 
     @Transactional
     public void setReadAll(String username) {
-        List<Notification> unseenNotifications = notificationRepository.findByReceiverUsernameAndIsReadFalse(username);
-
-        unseenNotifications.forEach(notification -> {
-            notification.setIsRead(true);
-            notificationRepository.save(notification);
-        });
+        Long memberId = memberRepository.findIdByUsernameOrThrow(username);
+        int marked = notificationRepository.markAllAsRead(memberId);
+        notificationBatchRepository.decreaseUnreadCount(memberId, marked);
     }
 }
@@ -0,0 +1,129 @@
+package com.patientpal.backend.notification.service;
+
+import com.patientpal.backend.notification.repository.ConnectedEmitter;
+import com.patientpal.backend.notification.repository.EmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 연결된 모든 emitter 에 주기적으로 SSE 주석 프레임을 보내 끊어진 연결을 찾아 정리한다.
+ * 응답이 막힌 연결 하나가 전체 heartbeat 를 지연시키지 않도록 batch 단위로 나누어 병렬로 전송한다.
+ * timeout 안에 끝나지 않으면 그때까지 전송 중인 연결을 끊어진 것으로 보고 저장소에서 먼저 뺀다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final EmitterRepository emitterRepository;
+    private final ExecutorService heartbeatExecutor;
+    private final int batchSize;
+    private final Duration timeout;
+
+    // 전송 중인 연결. 값이 true 면 timeout 으로 저장소에서 뺀 연결이라 전송이 끝나는 대로 닫는다
+    private final ConcurrentHashMap<ConnectedEmitter, Boolean> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter reapedCounter;
+    private final Timer heartbeatTimer;
+
+    public SseHeartbeatScheduler(EmitterRepository emitterRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${patientpal.notification.heartbeat.batch-size}") int batchSize,
+                                 @Value("${patientpal.notification.heartbeat.parallelism}") int parallelism,
+                                 @Value("${patientpal.notification.heartbeat.timeout}") Duration timeout) {
+        this.emitterRepository = emitterRepository;
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+        this.heartbeatExecutor = Executors.newFixedThreadPool(parallelism,
+                new CustomizableThreadFactory("sse-heartbeat-"));
+
+        Gauge.builder("notification.sse.connections", emitterRepository, EmitterRepository::count)
+                .register(meterRegistry);
+        this.reapedCounter = meterRegistry.counter("notification.sse.reaped");
+        this.heartbeatTimer = meterRegistry.timer("notification.sse.heartbeat.duration");
+    }
+
+    @Scheduled(fixedDelayString = "${patientpal.notification.heartbeat.interval}")
+    public void heartbeat() {
+        heartbeatTimer.record(() -> {
+            List<ConnectedEmitter> emitters = emitterRepository.findAll();
+            List<CompletableFuture<Void>> batches = new ArrayList<>();
+            for (int from = 0; from < emitters.size(); from += batchSize) {
+                List<ConnectedEmitter> batch = emitters.subList(from, Math.min(from + batchSize, emitters.size()));
+                batches.add(CompletableFuture.runAsync(() -> batch.forEach(this::ping), heartbeatExecutor));
+            }
+            awaitBatches(CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)));
+        });
+    }
+
+    private void awaitBatches(CompletableFuture<Void> batches) {
+        try {
+            batches.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            inFlight.keySet().forEach(this::abandon);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            log.warn("SSE heartbeat 전송에 실패했습니다.", exception.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private void ping(ConnectedEmitter connected) {
+        inFlight.put(connected, false);
+        Exception failure = null;
+        try {
+            connected.emitter().send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+        } catch (IOException | IllegalStateException exception) {
+            failure = exception;
+        } finally {
+            if (inFlight.remove(connected)) {
+                connected.emitter().complete();
+            } else if (failure != null) {
+                reap(connected, failure);
+            }
+        }
+    }
+
+    // 막힌 send 가 emitter 의 잠금을 쥐고 있어 여기서 닫으면 스케줄러 스레드도 멈추므로, 저장소에서만 빼고 닫는 것은 ping 에 맡긴다
+    private void abandon(ConnectedEmitter connected) {
+        // 이전 heartbeat 에서 이미 뺀 연결이거나 그 사이 전송이 끝났으면 건너뛴다
+        if (!inFlight.replace(connected, false, true)) {
+            return;
+        }
+        emitterRepository.deleteById(connected.username(), connected.emitterId());
+        reapedCounter.increment();
+        log.warn("heartbeat 에 응답하지 않는 SSE 연결을 정리합니다. [emitterId={}]", connected.emitterId());
+    }
+
+    private void reap(ConnectedEmitter connected, Exception cause) {
+        emitterRepository.deleteById(connected.username(), connected.emitterId());
+        reapedCounter.increment();
+        log.debug("끊어진 SSE 연결을 정리합니다. [emitterId={}]", connected.emitterId());
+        connected.emitter().completeWithError(cause);
+    }
+}
@@ -114,12 +114,13 @@ public class PatientControllerV1 {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "간병인 찾기", description = "지역, 이름, 성별, 나이, 경력으로 간병인을 검색합니다. sort='field',asc/desc로 정렬 가능합니다. ")
+    @Operation(summary = "간병인 찾기", description = "지역, 이름, 성별, 나이, 경력으로 간병인을 검색합니다. keyword 로 이름(앞부분), 주소, 전문 분야를 함께 검색할 수 있습니다. sort 는 latest(최신 순, 기본값), experienceYears(경력 많은 순), rating(평점 높은 순), recentRating(최근 후기 가중 평점 높은 순), reviewCount(후기 많은 순) 중 하나로 지정하며, sort=distance 는 내 주소(또는 latitude/longitude)에서 가까운 순입니다. skipCount=true 면 전체 개수 없이 다음 페이지 여부(hasNext)만 돌려줍니다.")
     @ApiResponse(responseCode = "200", description = "조건에 해당하는 간병인 찾기 성공")
     @GetMapping("/search")
-    public ResponseEntity<CaregiverProfileListResponse> searchCaregivers(ProfileSearchCondition condition,
+    public ResponseEntity<CaregiverProfileListResponse> searchCaregivers(@AuthenticationPrincipal User currentMember,
+                                                                         ProfileSearchCondition condition,
                                                                          @PageableDefault(size = 5) Pageable pageable) {
-        final CaregiverProfileListResponse searchedProfiles = patientService.searchPageOrderBy(condition, pageable);
+        final CaregiverProfileListResponse searchedProfiles = patientService.searchPageOrderBy(currentMember.getUsername(), condition, pageable);
         return ResponseEntity.status(OK).body(searchedProfiles);
     }
 }
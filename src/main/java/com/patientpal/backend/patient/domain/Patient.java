@@ -57,12 +57,4 @@ public class Patient extends Member {
         this.patientSignificant = patientSignificant;
         this.careRequirements = careRequirements;
     }
-
-    public String generatePatientProfileSnapshot() {
-        return String.format("Patient Snapshot - Name: %s, Address: %s, PatientSignificant: %s, CareRequirements : %s",
-                this.getName(),
-                this.getAddress(),
-                this.getPatientSignificant(),
-                this.getCareRequirements());
-    }
 }
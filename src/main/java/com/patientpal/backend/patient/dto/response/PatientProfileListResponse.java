@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -12,14 +13,17 @@ public class PatientProfileListResponse {
 
     private List<PatientProfileResponse> patientProfileList;
     private int currentPage;
-    private int totalPages;
-    private long totalItems;
+    // skipCount 로 검색하면 개수를 세지 않으므로 비어 있다
+    private Integer totalPages;
+    private Long totalItems;
+    private boolean hasNext;
 
-    public PatientProfileListResponse(List<PatientProfileResponse> patientProfileList, int currentPage, int totalPages, long totalItems) {
+    public PatientProfileListResponse(List<PatientProfileResponse> patientProfileList, int currentPage, Integer totalPages, Long totalItems, boolean hasNext) {
         this.patientProfileList = patientProfileList;
         this.currentPage = currentPage;
         this.totalPages = totalPages;
         this.totalItems = totalItems;
+        this.hasNext = hasNext;
     }
 
     public static PatientProfileListResponse from(Page<PatientProfileResponse> search) {
@@ -27,7 +31,12 @@ public class PatientProfileListResponse {
                 search.getContent(),
                 search.getNumber(),
                 search.getTotalPages(),
-                search.getTotalElements()
+                search.getTotalElements(),
+                search.hasNext()
         );
     }
+
+    public static PatientProfileListResponse from(Slice<PatientProfileResponse> search) {
+        return new PatientProfileListResponse(search.getContent(), search.getNumber(), null, null, search.hasNext());
+    }
 }
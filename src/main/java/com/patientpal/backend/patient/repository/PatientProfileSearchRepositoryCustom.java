@@ -2,10 +2,17 @@ package com.patientpal.backend.patient.repository;
 
 import com.patientpal.backend.caregiver.dto.response.CaregiverProfileResponse;
 import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
-import org.springframework.data.domain.Page;
+import java.util.List;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface PatientProfileSearchRepositoryCustom {
 
-    Page<CaregiverProfileResponse> searchCaregiverProfilesOrderBy(ProfileSearchCondition condition, Pageable pageable);
+    // 전체 개수는 세지 않고, 한 건 더 읽어 다음 페이지 여부만 채운다
+    Slice<CaregiverProfileResponse> searchCaregiverProfilesOrderBy(ProfileSearchCondition condition, Pageable pageable);
+
+    // 검색과 같은 조건으로 센 전체 개수
+    long countCaregiverProfiles(ProfileSearchCondition condition);
+
+    List<CaregiverProfileResponse> findCaregiverProfilesByIds(List<Long> memberIds);
 }
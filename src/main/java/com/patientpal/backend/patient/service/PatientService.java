@@ -7,6 +7,8 @@ import com.patientpal.backend.common.exception.BusinessException;
 import com.patientpal.backend.common.exception.EntityNotFoundException;
 import com.patientpal.backend.common.exception.ErrorCode;
 import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
+import com.patientpal.backend.common.querydsl.ProfileSortType;
+import com.patientpal.backend.member.domain.GeoPoint;
 import com.patientpal.backend.member.domain.Member;
 import com.patientpal.backend.patient.domain.Patient;
 import com.patientpal.backend.member.domain.Role;
@@ -15,12 +17,20 @@ import com.patientpal.backend.patient.dto.request.PatientProfileCreateRequest;
 import com.patientpal.backend.patient.dto.request.PatientProfileUpdateRequest;
 import com.patientpal.backend.patient.dto.response.PatientProfileDetailResponse;
 import com.patientpal.backend.patient.repository.PatientRepository;
+import com.patientpal.backend.search.domain.ProfileSearchHits;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.patientpal.backend.search.service.ProfileCountCache;
+import com.patientpal.backend.search.service.ProfileSearchService;
+import com.patientpal.backend.search.service.PublicProfileDirectory;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
@@ -30,14 +40,15 @@ public class PatientService {
 
     private final PatientRepository patientRepository;
     private final MemberRepository memberRepository;
+    private final ProfileSearchService profileSearchService;
+    private final ProfileCountCache profileCountCache;
+    private final PublicProfileDirectory publicProfileDirectory;
 
     @Transactional
     public PatientProfileDetailResponse savePatientProfile(String username, PatientProfileCreateRequest patientProfileCreateRequest, String profileImageUrl) {
-        Member currentMember = getMember(username);
-        Patient patient = patientRepository.findById(currentMember.getId())
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PATIENT_NOT_EXIST));
+        Patient patient = getPatientByUsername(username);
         // TODO 본인 인증 시, 중복 가입이면 throw
-        validateAuthorization(currentMember);
+        validateAuthorization(patient);
         patient.registerDetailProfile(patientProfileCreateRequest.getName(),
                 patientProfileCreateRequest.getAddress(),
                 patientProfileCreateRequest.getContact(),
@@ -49,6 +60,8 @@ public class PatientService {
                 patientProfileCreateRequest.getCareRequirements(),
                 profileImageUrl);
         log.info("프로필 등록 성공: ID={}, NAME={}", patient.getId(), patient.getName());
+        profileSearchService.reindexAfterCommit(patient.getId());
+        publicProfileDirectory.sync(patient);
         return PatientProfileDetailResponse.of(patient);
     }
 
@@ -73,6 +86,7 @@ public class PatientService {
             throw new BusinessException(ErrorCode.AUTHORIZATION_FAILED);
         }
         String currentProfileImageUrl = patient.getProfileImageUrl();
+        profileSearchService.reindexAfterCommit(patient.getId());
 
         patient.updateDetailProfile(
                 patientProfileUpdateRequest.getAddress(),
@@ -84,12 +98,10 @@ public class PatientService {
 
         if (profileImageUrl == null) {
             patient.setProfileImageUrl(null);
-            return;
-        }
-
-        if (!profileImageUrl.equals(currentProfileImageUrl)) {
+        } else if (!profileImageUrl.equals(currentProfileImageUrl)) {
             patient.updateProfileImage(profileImageUrl);
         }
+        publicProfileDirectory.sync(patient);
     }
 
     @Transactional
@@ -102,6 +114,9 @@ public class PatientService {
             throw new BusinessException(ErrorCode.PROFILE_NOT_COMPLETED);
         }
         patient.setIsProfilePublic(true);
+        publicProfileDirectory.sync(patient);
+        profileSearchService.reindexAfterCommit(patient.getId());
+        profileCountCache.invalidateAfterCommit(ProfileType.PATIENT);
     }
 
     @Transactional
@@ -111,6 +126,9 @@ public class PatientService {
             throw new BusinessException(ErrorCode.AUTHORIZATION_FAILED);
         }
         patient.setIsProfilePublic(false);
+        publicProfileDirectory.sync(patient);
+        profileSearchService.reindexAfterCommit(patient.getId());
+        profileCountCache.invalidateAfterCommit(ProfileType.PATIENT);
     }
 
     @Transactional
@@ -120,11 +138,12 @@ public class PatientService {
             throw new BusinessException(ErrorCode.AUTHORIZATION_FAILED);
         }
         patient.deleteProfileImage();
+        publicProfileDirectory.sync(patient);
     }
 
-    private Member getMember(String username) {
-        return memberRepository.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_EXIST, username));
+    private Patient getPatientByUsername(String username) {
+        return memberRepository.findPatientByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PATIENT_NOT_EXIST, username));
     }
 
     private Patient getPatientByMemberId(Long memberId) {
@@ -132,8 +151,24 @@ public class PatientService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.PATIENT_NOT_EXIST));
     }
 
-    public CaregiverProfileListResponse searchPageOrderBy(ProfileSearchCondition condition, Pageable pageable) {
-        Page<CaregiverProfileResponse> search = patientRepository.searchCaregiverProfilesOrderBy(condition, pageable);
-        return CaregiverProfileListResponse.from(search);
+    public CaregiverProfileListResponse searchPageOrderBy(String username, ProfileSearchCondition condition, Pageable pageable) {
+        // 지원하지 않는 정렬은 색인이나 목록을 조회하기 전에 거절한다
+        ProfileSortType sortType = ProfileSortType.of(pageable.getSort(), ProfileType.CAREGIVER);
+        if (sortType == ProfileSortType.DISTANCE && !condition.hasOrigin()) {
+            GeoPoint origin = memberRepository.findLocationByUsernameOrThrow(username);
+            condition.setLatitude(origin.latitude());
+            condition.setLongitude(origin.longitude());
+        }
+        if (StringUtils.hasText(condition.getKeyword())) {
+            ProfileSearchHits hits = profileSearchService.search(ProfileType.CAREGIVER, condition, pageable);
+            List<CaregiverProfileResponse> profiles = patientRepository.findCaregiverProfilesByIds(hits.memberIds());
+            return CaregiverProfileListResponse.from(new PageImpl<>(profiles, pageable, hits.totalHits()));
+        }
+        Slice<CaregiverProfileResponse> search = patientRepository.searchCaregiverProfilesOrderBy(condition, pageable);
+        if (condition.isSkipCount()) {
+            return CaregiverProfileListResponse.from(search);
+        }
+        return CaregiverProfileListResponse.from(profileCountCache.toPage(ProfileType.CAREGIVER, condition, search,
+                () -> patientRepository.countCaregiverProfiles(condition)));
     }
 }
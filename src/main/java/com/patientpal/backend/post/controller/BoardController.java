@@ -1,16 +1,14 @@
 package com.patientpal.backend.post.controller;
 
-import com.patientpal.backend.member.domain.Member;
 import com.patientpal.backend.member.domain.Role;
-import com.patientpal.backend.member.service.MemberService;
+import com.patientpal.backend.member.dto.MemberView;
+import com.patientpal.backend.member.libs.CurrentMember;
 import com.patientpal.backend.post.domain.Post;
 import com.patientpal.backend.post.dto.*;
 import com.patientpal.backend.post.libs.RoleType;
 import com.patientpal.backend.post.service.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.User;
 import java.util.List;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,53 +20,45 @@ import org.springframework.web.bind.annotation.*;
 public class BoardController {
 
     private final PostService postService;
-    private final MemberService memberService;
 
     // TODO: wjdwwidz paging 처리
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<PostListResponse> list() {
-        List<Post> posts = postService.getFreePosts();
-        return posts.stream()
-                .map(PostListResponse::new)
-                .toList();
+        return postService.getFreePosts();
     }
 
     // TODO : member 게시판 접근권한 논의 필요
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public PostResponse get(@PathVariable("id") Long id) {
-        Post post = postService.getPost(id);
-        return new PostResponse(post);
+        return postService.getPost(id);
     }
 
     @RoleType(Role.USER)
     @RoleType(Role.CAREGIVER)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public PostCreateResponse create(@RequestBody PostCreateRequest createRequest, @AuthenticationPrincipal User currentMember) {
-        Member member = memberService.getUserByUsername(currentMember.getUsername());
-        Post post = postService.createFreePost(member, createRequest);
-        return new PostCreateResponse(post);
+    public PostCreateResponse create(@RequestBody PostCreateRequest createRequest, @CurrentMember MemberView currentMember) {
+        Post post = postService.createFreePost(currentMember, createRequest);
+        return new PostCreateResponse(post, currentMember.name());
     }
 
     @RoleType(Role.USER)
     @RoleType(Role.CAREGIVER)
     @PatchMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public PostResponse update(@PathVariable("id") Long id, @RequestBody PostUpdateRequest updateRequest, @AuthenticationPrincipal User currentMember) {
-        Member member = memberService.getUserByUsername(currentMember.getUsername());
-        Post post = postService.updatePost(member, id, updateRequest);
-        return new PostResponse(post);
+    public PostResponse update(@PathVariable("id") Long id, @RequestBody PostUpdateRequest updateRequest, @CurrentMember MemberView currentMember) {
+        Post post = postService.updatePost(currentMember, id, updateRequest);
+        return new PostResponse(post, currentMember.name());
     }
 
     @RoleType(Role.USER)
     @RoleType(Role.CAREGIVER)
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable("id") Long id, @AuthenticationPrincipal User currentMember) {
-        Member member = memberService.getUserByUsername(currentMember.getUsername());
-        postService.deletePost(member, id);
+    public void delete(@PathVariable("id") Long id, @CurrentMember MemberView currentMember) {
+        postService.deletePost(currentMember, id);
     }
 
 }
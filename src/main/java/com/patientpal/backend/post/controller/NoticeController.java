@@ -1,9 +1,9 @@
 package com.patientpal.backend.post.controller;
 
 
-import com.patientpal.backend.member.domain.Member;
 import com.patientpal.backend.member.domain.Role;
-import com.patientpal.backend.member.service.MemberService;
+import com.patientpal.backend.member.dto.MemberView;
+import com.patientpal.backend.member.libs.CurrentMember;
 import com.patientpal.backend.post.domain.Post;
 import com.patientpal.backend.post.dto.*;
 import com.patientpal.backend.post.libs.RoleType;
@@ -11,8 +11,6 @@ import com.patientpal.backend.post.service.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,48 +21,40 @@ import java.util.List;
 public class NoticeController {
 
     private final PostService postService;
-    private final MemberService memberService;
 
     // TODO: wjdwwidz paging 처리
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<PostListResponse> list() {
-        List<Post> posts = postService.getNotices();
-        return posts.stream()
-                .map(PostListResponse::new)
-                .toList();
+        return postService.getNotices();
     }
 
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public PostResponse get(@PathVariable("id") Long id) {
-        Post post = postService.getPost(id);
-        return new PostResponse(post);
+        return postService.getPost(id);
     }
 
     @RoleType(Role.ADMIN)
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public PostCreateResponse create(@RequestBody PostCreateRequest createRequest, @AuthenticationPrincipal User currentMember) {
-        Member member = memberService.getUserByUsername(currentMember.getUsername());
-        Post post = postService.createPost(member, createRequest);
-        return new PostCreateResponse(post);
+    public PostCreateResponse create(@RequestBody PostCreateRequest createRequest, @CurrentMember MemberView currentMember) {
+        Post post = postService.createPost(currentMember, createRequest);
+        return new PostCreateResponse(post, currentMember.name());
     }
 
     @RoleType(Role.ADMIN)
     @PatchMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public PostResponse update(@PathVariable("id") Long id, @RequestBody PostUpdateRequest updateRequest,@AuthenticationPrincipal User currentMember) {
-        Member member = memberService.getUserByUsername(currentMember.getUsername());
-        Post post = postService.updatePost(member, id, updateRequest);
-        return new PostResponse(post);
+    public PostResponse update(@PathVariable("id") Long id, @RequestBody PostUpdateRequest updateRequest,@CurrentMember MemberView currentMember) {
+        Post post = postService.updatePost(currentMember, id, updateRequest);
+        return new PostResponse(post, currentMember.name());
     }
 
     @RoleType(Role.ADMIN)
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable("id") Long id, @AuthenticationPrincipal User currentMember) {
-        Member member = memberService.getUserByUsername(currentMember.getUsername());
-        postService.deletePost(member, id);
+    public void delete(@PathVariable("id") Long id, @CurrentMember MemberView currentMember) {
+        postService.deletePost(currentMember, id);
     }
 }
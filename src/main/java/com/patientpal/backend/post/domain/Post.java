@@ -7,7 +7,7 @@ import lombok.*;
 
 @Entity
 @Getter
-@Table(name = "posts")
+@Table(name = "posts", indexes = @Index(name = "idx_posts_member", columnList = "member_id, post_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseTimeEntity {
 
@@ -16,7 +16,7 @@ public class Post extends BaseTimeEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
 
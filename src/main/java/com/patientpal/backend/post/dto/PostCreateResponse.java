@@ -19,9 +19,10 @@ public class PostCreateResponse {
     private LocalDateTime createdDate;
     private LocalDateTime updatedDate;
 
-    public PostCreateResponse(Post post) {
+    // 작성자는 프록시로 두고 식별자만 읽는다. 이름은 작성한 회원의 MemberView 에서 받는다
+    public PostCreateResponse(Post post, String name) {
         this.id = post.getId();
-        this.name = post.getMember().getName();
+        this.name = name;
         this.memberId = post.getMember().getId();
         this.title = post.getTitle();
         this.content = post.getContent();
@@ -1,6 +1,5 @@
 package com.patientpal.backend.post.dto;
 
-import com.patientpal.backend.post.domain.Post;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,12 +16,13 @@ public class PostListResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public PostListResponse(Post post) {
-        this.id = post.getId();
-        this.name = post.getMember().getName();
-        this.memberId = post.getMember().getId();
-        this.title = post.getTitle();
-        this.createdAt = post.getCreatedDate();
-        this.updatedAt = post.getLastModifiedDate();
+    public PostListResponse(Long id, String name, Long memberId, String title,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.memberId = memberId;
+        this.title = title;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
     }
 }
@@ -18,14 +18,20 @@ public class PostResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    public PostResponse(Long id, String name, Long memberId, String title, String content,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.memberId = memberId;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 
-    public PostResponse(Post post) {
-        this.id = post.getId();
-        this.name = post.getMember().getName();
-        this.memberId = post.getMember().getId();
-        this.title = post.getTitle();
-        this.content = post.getContent();
-        this.createdAt = post.getCreatedDate();
-        this.updatedAt = post.getLastModifiedDate();
+    // 작성자는 프록시로 두고 식별자만 읽는다. 이름은 호출하는 쪽이 이미 알고 있는 값을 받는다
+    public PostResponse(Post post, String name) {
+        this(post.getId(), name, post.getMember().getId(), post.getTitle(), post.getContent(),
+                post.getCreatedDate(), post.getLastModifiedDate());
     }
 }
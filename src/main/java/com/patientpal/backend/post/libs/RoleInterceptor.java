@@ -3,8 +3,8 @@ package com.patientpal.backend.post.libs;
 
 import com.patientpal.backend.common.exception.AuthenticationException;
 import com.patientpal.backend.common.exception.ErrorCode;
-import com.patientpal.backend.member.domain.Member;
 import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.member.dto.MemberView;
 import com.patientpal.backend.member.service.MemberService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -37,13 +37,13 @@ public class RoleInterceptor implements HandlerInterceptor {
                 Object principal = authentication.getPrincipal();
                 if (principal instanceof UserDetails) {
                     String userName = ((UserDetails) principal).getUsername();
-                    Member member = memberService.getUserByUsername(userName);
+                    MemberView member = memberService.getMemberView(userName);
 
-                    if (member.getRole() == Role.ADMIN) {
+                    if (member.role() == Role.ADMIN) {
                         return true;
                     }
 
-                    if (roleType.value() != member.getRole()) {
+                    if (roleType.value() != member.role()) {
                         throw new AuthenticationException(ErrorCode.AUTHORIZATION_FAILED);
                     }
                 }
@@ -2,7 +2,12 @@ package com.patientpal.backend.post.repository;
 
 import com.patientpal.backend.post.domain.Post;
 import com.patientpal.backend.post.domain.PostType;
+import com.patientpal.backend.post.dto.PostListResponse;
+import com.patientpal.backend.post.dto.PostResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,6 +16,18 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     List<Post> findAllByPostType(PostType postType);
 
+    // 작성자 이름은 members 기본 테이블에만 있으므로 회원 엔티티를 읽지 않고 글과 함께 한 번에 가져온다
+    @Query("select new com.patientpal.backend.post.dto.PostListResponse(p.id, m.name, m.id, p.title, p.createdDate, p.lastModifiedDate) "
+            + "from Post p join p.member m where p.postType = :postType")
+    List<PostListResponse> findListByPostType(@Param("postType") PostType postType);
+
+    @Query("select new com.patientpal.backend.post.dto.PostResponse(p.id, m.name, m.id, p.title, p.content, p.createdDate, p.lastModifiedDate) "
+            + "from Post p join p.member m where p.id = :id")
+    Optional<PostResponse> findResponseById(@Param("id") Long id);
+
     Optional<Post> findByIdAndMemberId(long postId, long memberId);
 
+    @Query("select p.id from Post p where p.member.id = :memberId order by p.id")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
 }
@@ -2,10 +2,13 @@ package com.patientpal.backend.post.service;
 
 import com.patientpal.backend.common.exception.EntityNotFoundException;
 import com.patientpal.backend.common.exception.ErrorCode;
-import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.dto.MemberView;
+import com.patientpal.backend.member.repository.MemberRepository;
 import com.patientpal.backend.post.domain.Post;
 import com.patientpal.backend.post.domain.PostType;
 import com.patientpal.backend.post.dto.PostCreateRequest;
+import com.patientpal.backend.post.dto.PostListResponse;
+import com.patientpal.backend.post.dto.PostResponse;
 import com.patientpal.backend.post.dto.PostUpdateRequest;
 import com.patientpal.backend.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,7 @@ import java.util.List;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
 
     // TODO: wjdwwidz paging 처리
     @Transactional(readOnly = true)
@@ -27,19 +31,20 @@ public class PostService {
         return postRepository.findAll();
     }
 
-    public List<Post> getNotices() {
-        return postRepository.findAllByPostType(PostType.NOTICE);
+    public List<PostListResponse> getNotices() {
+        return postRepository.findListByPostType(PostType.NOTICE);
     }
 
     @Transactional(readOnly = true)
-    public Post getPost(Long id) {
-        return findPost(id);
+    public PostResponse getPost(Long id) {
+        return postRepository.findResponseById(id)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.POST_NOT_FOUND));
     }
 
     @Transactional
-    public Post createPost(Member member, PostCreateRequest createRequest) {
+    public Post createPost(MemberView member, PostCreateRequest createRequest) {
         Post post = Post.builder()
-                .member(member)
+                .member(memberRepository.getReferenceById(member.id()))
                 .title(createRequest.getTitle())
                 .content(createRequest.getContent())
                 .postType(PostType.NOTICE)
@@ -49,29 +54,29 @@ public class PostService {
     }
 
     @Transactional
-    public Post updatePost(Member member, Long id, PostUpdateRequest updateRequest) { 
-        Post post = postRepository.findByIdAndMemberId(id, member.getId())
+    public Post updatePost(MemberView member, Long id, PostUpdateRequest updateRequest) {
+        Post post = postRepository.findByIdAndMemberId(id, member.id())
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.POST_NOT_FOUND));
         post.update(updateRequest.getTitle(), updateRequest.getContent());
         return post;
     }
 
-    public void deletePost(Member member, Long id) { 
-        postRepository.findByIdAndMemberId(id, member.getId())
+    public void deletePost(MemberView member, Long id) {
+        postRepository.findByIdAndMemberId(id, member.id())
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.POST_NOT_FOUND));
 
         postRepository.deleteById(id);
     }
 
     @Transactional(readOnly = true)
-    public List<Post> getFreePosts() {
-        return postRepository.findAllByPostType(PostType.FREE);
+    public List<PostListResponse> getFreePosts() {
+        return postRepository.findListByPostType(PostType.FREE);
     }
 
     @Transactional
-    public Post createFreePost(Member member, PostCreateRequest createRequest) {
+    public Post createFreePost(MemberView member, PostCreateRequest createRequest) {
         Post post = Post.builder()
-                .member(member)
+                .member(memberRepository.getReferenceById(member.id()))
                 .title(createRequest.getTitle())
                 .content(createRequest.getContent())
                 .postType(PostType.FREE)
@@ -79,9 +84,4 @@ public class PostService {
 
         return postRepository.save(post);
     }
-
-    private Post findPost(Long id) {
-        return postRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.POST_NOT_FOUND));
-    }
 }
@@ -0,0 +1,71 @@
+package com.patientpal.backend.review.controller;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.OK;
+
+import com.patientpal.backend.common.exception.ErrorResponse;
+import com.patientpal.backend.common.pagination.CursorSlice;
+import com.patientpal.backend.review.dto.ReviewCreateRequest;
+import com.patientpal.backend.review.dto.ReviewListResponse;
+import com.patientpal.backend.review.dto.ReviewResponse;
+import com.patientpal.backend.review.service.ReviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "REVIEW API", description = "후기 관련 API")
+@RestController
+@RequestMapping("api/v1/reviews")
+@RequiredArgsConstructor
+public class ReviewController {
+
+    private final ReviewService reviewService;
+
+    @Operation(
+            summary = "후기 작성",
+            description = "수락된 매칭의 환자만 간병인에 대한 후기를 매칭당 한 번 작성할 수 있습니다.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "후기 작성 성공",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReviewResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "수락되지 않은 매칭",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "매칭의 환자가 아님",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "이미 후기를 작성한 매칭",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @PostMapping
+    public ResponseEntity<ReviewResponse> createReview(@AuthenticationPrincipal User currentMember,
+                                                       @RequestParam Long matchId,
+                                                       @RequestBody @Valid ReviewCreateRequest request) {
+        return ResponseEntity.status(CREATED).body(reviewService.createReview(currentMember.getUsername(), matchId, request));
+    }
+
+    @Operation(
+            summary = "간병인 후기 목록 조회",
+            description = "최신순으로 조회하며, 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "후기 목록 조회 성공",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ReviewListResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "범위(1~100)를 벗어난 size",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @GetMapping("/caregivers/{caregiverId}")
+    public ResponseEntity<ReviewListResponse> getReviews(@PathVariable Long caregiverId,
+                                                         @RequestParam(required = false) Long cursor,
+                                                         @RequestParam(defaultValue = "20") @Min(1) @Max(CursorSlice.MAX_SIZE) int size) {
+        return ResponseEntity.status(OK).body(reviewService.getReviews(caregiverId, cursor, size));
+    }
+}
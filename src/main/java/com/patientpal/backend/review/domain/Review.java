@@ -0,0 +1,68 @@
+package com.patientpal.backend.review.domain;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+import com.patientpal.backend.common.BaseTimeEntity;
+import com.patientpal.backend.matching.domain.Match;
+import com.patientpal.backend.member.domain.Member;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+/**
+ * 수락된 매칭에서 환자가 간병인에게 남긴 후기. 매칭 하나에 후기 하나만 남길 수 있다.
+ * 작성자가 탈퇴하면 후기와 집계는 남기고 작성자와 매칭 연결만 끊는다.
+ */
+@Entity
+@Getter
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_caregiver", columnList = "caregiver_id, review_id"),
+        @Index(name = "idx_reviews_reviewer", columnList = "reviewer_id, review_id")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_reviews_match", columnNames = "match_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Review extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "review_id")
+    private Long id;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "match_id")
+    private Match match;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "reviewer_id")
+    private Member reviewer;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "caregiver_id", nullable = false)
+    private Member caregiver;
+
+    @Column(nullable = false)
+    private int score;
+
+    @Column(length = 1000)
+    private String content;
+
+    @Builder
+    public Review(@NonNull Match match, @NonNull Member reviewer, @NonNull Member caregiver, int score, String content) {
+        this.match = match;
+        this.reviewer = reviewer;
+        this.caregiver = caregiver;
+        this.score = score;
+        this.content = content;
+    }
+}
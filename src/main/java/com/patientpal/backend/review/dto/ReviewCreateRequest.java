@@ -0,0 +1,25 @@
+package com.patientpal.backend.review.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class ReviewCreateRequest {
+
+    @Min(1)
+    @Max(5)
+    private int score;
+
+    @Size(max = 1000)
+    private String content;
+
+    public ReviewCreateRequest(int score, String content) {
+        this.score = score;
+        this.content = content;
+    }
+}
@@ -0,0 +1,20 @@
+package com.patientpal.backend.review.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReviewListResponse {
+    private List<ReviewResponse> reviews;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    public ReviewListResponse(List<ReviewResponse> reviews, Long nextCursor, boolean hasNext) {
+        this.reviews = reviews;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
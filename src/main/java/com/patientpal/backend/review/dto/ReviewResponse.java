@@ -0,0 +1,38 @@
+package com.patientpal.backend.review.dto;
+
+import com.patientpal.backend.review.domain.Review;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReviewResponse {
+
+    private Long id;
+    private Long caregiverId;
+    private int score;
+    private String content;
+    private LocalDateTime createdDate;
+
+    @Builder
+    public ReviewResponse(Long id, Long caregiverId, int score, String content, LocalDateTime createdDate) {
+        this.id = id;
+        this.caregiverId = caregiverId;
+        this.score = score;
+        this.content = content;
+        this.createdDate = createdDate;
+    }
+
+    public static ReviewResponse of(Review review) {
+        return ReviewResponse.builder()
+                .id(review.getId())
+                .caregiverId(review.getCaregiver().getId())
+                .score(review.getScore())
+                .content(review.getContent())
+                .createdDate(review.getCreatedDate())
+                .build();
+    }
+}
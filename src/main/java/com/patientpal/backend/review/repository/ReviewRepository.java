@@ -0,0 +1,27 @@
+package com.patientpal.backend.review.repository;
+
+import com.patientpal.backend.review.domain.Review;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    @Query("select r from Review r where r.caregiver.id = :caregiverId and r.id < :cursor order by r.id desc")
+    List<Review> findByCaregiverBefore(@Param("caregiverId") Long caregiverId, @Param("cursor") Long cursor, Pageable pageable);
+
+    // 탈퇴 회원의 후기를 batch 단위로 정리할 때 쓴다
+    @Query("select r.id from Review r where r.caregiver.id = :memberId order by r.id")
+    List<Long> findIdsByCaregiverId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select r.id from Review r where r.reviewer.id = :memberId order by r.id")
+    List<Long> findIdsByReviewerId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 같은 트랜잭션에서 탈퇴 작업의 진행 상황을 이어서 기록하므로 영속성 컨텍스트를 비우지 않는다. 후기 엔티티는 읽어 두지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("update Review r set r.reviewer = null, r.match = null where r.id in :ids")
+    int detachReviewer(@Param("ids") List<Long> ids);
+}
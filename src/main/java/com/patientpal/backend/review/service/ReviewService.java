@@ -0,0 +1,164 @@
+package com.patientpal.backend.review.service;
+
+import static com.patientpal.backend.common.exception.ErrorCode.AUTHORIZATION_FAILED;
+import static com.patientpal.backend.common.exception.ErrorCode.CAREGIVER_NOT_EXIST;
+import static com.patientpal.backend.common.exception.ErrorCode.MATCH_NOT_EXIST;
+import static com.patientpal.backend.common.exception.ErrorCode.MEMBER_NOT_EXIST;
+import static com.patientpal.backend.common.exception.ErrorCode.REVIEW_ALREADY_EXIST;
+import static com.patientpal.backend.common.exception.ErrorCode.REVIEW_NOT_ALLOWED;
+
+import com.patientpal.backend.caregiver.repository.CaregiverRepository;
+import com.patientpal.backend.common.exception.AuthorizationException;
+import com.patientpal.backend.common.exception.BusinessException;
+import com.patientpal.backend.common.exception.EntityNotFoundException;
+import com.patientpal.backend.common.pagination.CursorSlice;
+import com.patientpal.backend.matching.domain.FirstRequest;
+import com.patientpal.backend.matching.domain.Match;
+import com.patientpal.backend.matching.domain.MatchRepository;
+import com.patientpal.backend.matching.domain.MatchStatus;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.repository.MemberDeletionJobRepository;
+import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.notification.domain.NotificationMessage;
+import com.patientpal.backend.notification.domain.NotificationOutbox;
+import com.patientpal.backend.notification.domain.NotificationType;
+import com.patientpal.backend.notification.service.NotificationOutboxService;
+import com.patientpal.backend.review.domain.Review;
+import com.patientpal.backend.review.dto.ReviewCreateRequest;
+import com.patientpal.backend.review.dto.ReviewListResponse;
+import com.patientpal.backend.review.dto.ReviewResponse;
+import com.patientpal.backend.review.repository.ReviewRepository;
+import com.patientpal.backend.search.repository.PublicProfileRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 후기를 저장하면서 간병인의 후기 집계(개수, 평균, 최근 가중 평균)를 같은 트랜잭션에서 SQL 로 갱신한다.
+ * 검색/정렬은 집계 컬럼만 읽으므로 후기 테이블을 다시 집계하지 않는다.
+ */
+@Slf4j
+@Service
+public class ReviewService {
+
+    private static final Set<MatchStatus> REVIEWABLE_STATUSES = EnumSet.of(MatchStatus.ACCEPTED,
+            MatchStatus.IN_PROGRESS_CHAT, MatchStatus.IN_PROGRESS_CONTRACT, MatchStatus.COMPLETED);
+
+    // 가중치는 이 시각부터 반감기마다 두 배가 된다. 이미 더해 둔 가중치를 다시 계산하지 않아도 최근 후기가 더 크게 반영된다
+    private static final Instant WEIGHT_EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ReviewRepository reviewRepository;
+    private final MatchRepository matchRepository;
+    private final MemberRepository memberRepository;
+    private final MemberDeletionJobRepository memberDeletionJobRepository;
+    private final CaregiverRepository caregiverRepository;
+    private final PublicProfileRepository publicProfileRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final Duration recencyHalfLife;
+
+    public ReviewService(ReviewRepository reviewRepository,
+                         MatchRepository matchRepository,
+                         MemberRepository memberRepository,
+                         MemberDeletionJobRepository memberDeletionJobRepository,
+                         CaregiverRepository caregiverRepository,
+                         PublicProfileRepository publicProfileRepository,
+                         NotificationOutboxService notificationOutboxService,
+                         @Value("${patientpal.review.recency-half-life}") Duration recencyHalfLife) {
+        this.reviewRepository = reviewRepository;
+        this.matchRepository = matchRepository;
+        this.memberRepository = memberRepository;
+        this.memberDeletionJobRepository = memberDeletionJobRepository;
+        this.caregiverRepository = caregiverRepository;
+        this.publicProfileRepository = publicProfileRepository;
+        this.notificationOutboxService = notificationOutboxService;
+        this.recencyHalfLife = recencyHalfLife;
+    }
+
+    @Transactional
+    public ReviewResponse createReview(String username, Long matchId, ReviewCreateRequest request) {
+        Long reviewerId = memberRepository.findIdByUsernameOrThrow(username);
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new EntityNotFoundException(MATCH_NOT_EXIST));
+        if (!REVIEWABLE_STATUSES.contains(match.getMatchStatus())) {
+            throw new BusinessException(REVIEW_NOT_ALLOWED);
+        }
+        boolean patientFirst = match.getFirstRequest() == FirstRequest.PATIENT_FIRST;
+        Member patient = patientFirst ? match.getRequestMember() : match.getReceivedMember();
+        Member caregiver = patientFirst ? match.getReceivedMember() : match.getRequestMember();
+        if (!reviewerId.equals(patient.getId())) {
+            throw new AuthorizationException(AUTHORIZATION_FAILED, username);
+        }
+        // 탈퇴 작업이 후기를 정리하는 중인 간병인에게는 새 후기를 남기지 않는다
+        if (memberDeletionJobRepository.existsByMemberId(caregiver.getId())) {
+            throw new EntityNotFoundException(CAREGIVER_NOT_EXIST);
+        }
+
+        Review review = insertReview(Review.builder()
+                .match(match)
+                .reviewer(patient)
+                .caregiver(caregiver)
+                .score(request.getScore())
+                .content(request.getContent())
+                .build());
+        ReviewResponse response = ReviewResponse.of(review);
+        addToAggregate(caregiver.getId(), request.getScore());
+        notifyCaregiver(caregiver.getId());
+        log.info("후기 등록 성공: reviewId={}, caregiverId={}", review.getId(), caregiver.getId());
+        return response;
+    }
+
+    /**
+     * 간병인이 받은 후기를 최신순으로 조회한다. cursor 는 이전 페이지 마지막 후기의 id 이다.
+     */
+    @Transactional(readOnly = true)
+    public ReviewListResponse getReviews(Long caregiverId, Long cursor, int size) {
+        List<Review> reviews = reviewRepository.findByCaregiverBefore(caregiverId,
+                cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, CursorSlice.fetchSize(size)));
+
+        CursorSlice<ReviewResponse> slice = CursorSlice.of(reviews, size).map(ReviewResponse::of);
+        return new ReviewListResponse(slice.content(), slice.nextCursor(ReviewResponse::getId), slice.hasNext());
+    }
+
+    // 같은 매칭의 후기 중복 여부를 미리 조회하지 않고, match_id 유니크 제약 위반으로 판단한다
+    private Review insertReview(Review review) {
+        try {
+            return reviewRepository.saveAndFlush(review);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(REVIEW_ALREADY_EXIST);
+        }
+    }
+
+    private void addToAggregate(Long caregiverId, int score) {
+        double weight = recencyWeight(Instant.now());
+        if (caregiverRepository.addReview(caregiverId, score, weight, score * weight) == 0) {
+            return;
+        }
+        caregiverRepository.findReviewAggregate(caregiverId).ifPresent(aggregate ->
+                publicProfileRepository.updateReviewAggregate(caregiverId, aggregate.rating(),
+                        aggregate.recentRating(), aggregate.reviewCount()));
+    }
+
+    double recencyWeight(Instant writtenAt) {
+        double halfLives = (double) Duration.between(WEIGHT_EPOCH, writtenAt).toSeconds() / recencyHalfLife.toSeconds();
+        return Math.pow(2, halfLives);
+    }
+
+    private void notifyCaregiver(Long caregiverId) {
+        String receiver = memberRepository.findUsernameById(caregiverId)
+                .orElseThrow(() -> new EntityNotFoundException(MEMBER_NOT_EXIST));
+        notificationOutboxService.append(NotificationOutbox.builder()
+                .receiver(receiver)
+                .notificationType(NotificationType.REVIEW)
+                .content(NotificationMessage.REVIEW_NEW.getMessage())
+                .url("/api/v1/reviews/caregivers/" + caregiverId)
+                .build());
+    }
+}
@@ -0,0 +1,21 @@
+package com.patientpal.backend.search.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 색인에 반영된 마지막 변경 지점 (members.lastModifiedDate, member_id)
+ */
+public record IndexWatermark(LocalDateTime lastModifiedDate, Long memberId) {
+
+    public static final IndexWatermark INITIAL = new IndexWatermark(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    public IndexWatermark rewind(Duration overlap) {
+        return new IndexWatermark(lastModifiedDate.minus(overlap), 0L);
+    }
+
+    public boolean isAfter(IndexWatermark other) {
+        int compared = lastModifiedDate.compareTo(other.lastModifiedDate);
+        return compared > 0 || (compared == 0 && memberId > other.memberId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.patientpal.backend.search.domain;
+
+import com.patientpal.backend.member.domain.Gender;
+import com.patientpal.backend.member.domain.Region;
+
+/**
+ * 검색 색인에 들어가는 프로필 한 건. 검색/필터에 쓰는 필드만 담고, 응답은 DB 에서 다시 조회한다.
+ */
+public record ProfileDocument(
+        Long memberId,
+        ProfileType type,
+        String name,
+        String addr,
+        Region region,
+        Double latitude,
+        Double longitude,
+        String specialization,
+        String significant,
+        Gender gender,
+        Integer experienceYears,
+        boolean searchable
+) {
+}
@@ -0,0 +1,9 @@
+package com.patientpal.backend.search.domain;
+
+import java.util.List;
+
+/**
+ * 관련도 순으로 정렬된 회원 id 와 전체 일치 건수
+ */
+public record ProfileSearchHits(List<Long> memberIds, long totalHits) {
+}
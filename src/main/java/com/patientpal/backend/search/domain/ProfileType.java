@@ -0,0 +1,5 @@
+package com.patientpal.backend.search.domain;
+
+public enum ProfileType {
+    CAREGIVER, PATIENT
+}
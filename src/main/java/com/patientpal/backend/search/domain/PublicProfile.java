@@ -0,0 +1,117 @@
+package com.patientpal.backend.search.domain;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.member.domain.Gender;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Region;
+import com.patientpal.backend.patient.domain.Patient;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매칭 리스트에 공개한 프로필의 검색/목록용 사본. 공개한 회원 한 명당 한 행이며,
+ * members 와 caregivers/patients 를 조인하지 않고 검색할 수 있도록 목록에 필요한 컬럼만 둔다.
+ * 프로필을 바꾸는 트랜잭션 안에서 PublicProfileDirectory 가 함께 갱신한다.
+ */
+@Getter
+@Entity
+@Table(name = "public_profile_directory",
+        indexes = {
+                @Index(name = "idx_directory_region", columnList = "profileType, regionProvince, regionCity, regionDistrict"),
+                @Index(name = "idx_directory_region_city", columnList = "profileType, regionCity, regionDistrict"),
+                @Index(name = "idx_directory_geo_cell", columnList = "profileType, geoCell"),
+                // ProfileSortType 의 정렬마다 하나씩, 정렬식과 같은 컬럼 순서와 방향으로 둔다
+                @Index(name = "idx_directory_latest", columnList = "profileType, member_id desc"),
+                @Index(name = "idx_directory_experience", columnList = "profileType, experienceYears desc, member_id desc"),
+                @Index(name = "idx_directory_rating", columnList = "profileType, rating desc, member_id desc"),
+                @Index(name = "idx_directory_recent_rating", columnList = "profileType, recentRating desc, member_id desc"),
+                @Index(name = "idx_directory_review_count", columnList = "profileType, reviewCount desc, member_id desc")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PublicProfile {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ProfileType profileType;
+
+    private String name;
+
+    private int age;
+
+    @Enumerated(EnumType.STRING)
+    private Gender gender;
+
+    @Embedded
+    private Address address;
+
+    @Embedded
+    private Region region;
+
+    // 간병인만 채운다. 후기 집계는 후기를 저장할 때 같은 트랜잭션에서 updateReviewAggregate 로 맞춘다
+    private float rating;
+
+    private float recentRating;
+
+    private int reviewCount;
+
+    private int experienceYears;
+
+    private String specialization;
+
+    @Column(length = 512)
+    private String profileImageUrl;
+
+    private PublicProfile(Long memberId, ProfileType profileType) {
+        this.memberId = memberId;
+        this.profileType = profileType;
+    }
+
+    public static PublicProfile of(Caregiver caregiver) {
+        PublicProfile profile = new PublicProfile(caregiver.getId(), ProfileType.CAREGIVER);
+        profile.update(caregiver);
+        profile.rating = caregiver.getRating();
+        profile.recentRating = caregiver.getRecentRating();
+        profile.reviewCount = caregiver.getReviewCount();
+        return profile;
+    }
+
+    public static PublicProfile of(Patient patient) {
+        PublicProfile profile = new PublicProfile(patient.getId(), ProfileType.PATIENT);
+        profile.update(patient);
+        return profile;
+    }
+
+    // 프로필 수정 시에는 읽어 둔 엔티티의 후기 집계가 그 사이 저장된 후기보다 오래됐을 수 있으므로 덮어쓰지 않는다
+    public void update(Caregiver caregiver) {
+        updateMember(caregiver);
+        this.experienceYears = caregiver.getExperienceYears();
+        this.specialization = caregiver.getSpecialization();
+    }
+
+    public void update(Patient patient) {
+        updateMember(patient);
+    }
+
+    private void updateMember(Member member) {
+        this.name = member.getName();
+        this.age = member.getAge();
+        this.gender = member.getGender();
+        this.address = member.getAddress();
+        this.region = member.getRegion();
+        this.profileImageUrl = member.getProfileImageUrl();
+    }
+}
@@ -0,0 +1,87 @@
+package com.patientpal.backend.search.repository;
+
+import static com.patientpal.backend.caregiver.domain.QCaregiver.caregiver;
+import static com.patientpal.backend.member.domain.QMember.member;
+import static com.patientpal.backend.patient.domain.QPatient.patient;
+
+import com.patientpal.backend.search.domain.ProfileDocument;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 색인 동기화용 조회. 변경된 회원을 (lastModifiedDate, id) 순으로 훑고, 하위 테이블별로 문서를 만든다.
+ */
+@Repository
+public class ProfileSearchSourceRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ProfileSearchSourceRepository(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    public List<ChangedMember> findChangedMembers(LocalDateTime fromDate, Long afterId, int limit) {
+        return queryFactory
+                .select(member.id, member.lastModifiedDate)
+                .from(member)
+                .where(member.lastModifiedDate.gt(fromDate)
+                        .or(member.lastModifiedDate.eq(fromDate).and(member.id.gt(afterId))))
+                .orderBy(member.lastModifiedDate.asc(), member.id.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> new ChangedMember(tuple.get(member.id), tuple.get(member.lastModifiedDate)))
+                .toList();
+    }
+
+    public List<ProfileDocument> findDocuments(Collection<Long> memberIds) {
+        List<ProfileDocument> documents = new ArrayList<>(memberIds.size());
+        for (Tuple row : queryFactory
+                .select(caregiver.id, caregiver.name, caregiver.address.addr, caregiver.region, caregiver.address.latitude,
+                        caregiver.address.longitude, caregiver.specialization,
+                        caregiver.caregiverSignificant, caregiver.gender, caregiver.experienceYears,
+                        caregiver.isProfilePublic)
+                .from(caregiver)
+                .where(caregiver.id.in(memberIds))
+                .fetch()) {
+            documents.add(new ProfileDocument(row.get(caregiver.id), ProfileType.CAREGIVER, row.get(caregiver.name),
+                    row.get(caregiver.address.addr), row.get(caregiver.region), row.get(caregiver.address.latitude),
+                    row.get(caregiver.address.longitude), row.get(caregiver.specialization),
+                    row.get(caregiver.caregiverSignificant), row.get(caregiver.gender),
+                    row.get(caregiver.experienceYears),
+                    Boolean.TRUE.equals(row.get(caregiver.isProfilePublic))));
+        }
+        for (Tuple row : queryFactory
+                .select(patient.id, patient.name, patient.address.addr, patient.region, patient.address.latitude,
+                        patient.address.longitude, patient.patientSignificant,
+                        patient.careRequirements, patient.gender, patient.isProfilePublic)
+                .from(patient)
+                .where(patient.id.in(memberIds))
+                .fetch()) {
+            documents.add(new ProfileDocument(row.get(patient.id), ProfileType.PATIENT, row.get(patient.name),
+                    row.get(patient.address.addr), row.get(patient.region), row.get(patient.address.latitude),
+                    row.get(patient.address.longitude), null,
+                    joinText(row.get(patient.patientSignificant), row.get(patient.careRequirements)),
+                    row.get(patient.gender), null,
+                    Boolean.TRUE.equals(row.get(patient.isProfilePublic))));
+        }
+        return documents;
+    }
+
+    private static String joinText(String first, String second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null ? first : first + "\n" + second;
+    }
+
+    public record ChangedMember(Long id, LocalDateTime lastModifiedDate) {
+    }
+}
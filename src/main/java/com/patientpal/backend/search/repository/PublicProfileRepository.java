@@ -0,0 +1,49 @@
+package com.patientpal.backend.search.repository;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.member.domain.Province;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.search.domain.PublicProfile;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PublicProfileRepository extends JpaRepository<PublicProfile, Long> {
+
+    @Modifying
+    @Query("delete from PublicProfile p where p.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    // members 의 지역 코드/좌표 backfill 과 같은 값으로 맞춘다
+    @Modifying
+    @Query("update PublicProfile p set p.region.regionProvince = :province, p.region.regionCity = :city, "
+            + "p.region.regionDistrict = :district, p.address.latitude = :latitude, p.address.longitude = :longitude, "
+            + "p.address.geoCell = :geoCell where p.memberId = :memberId")
+    int updateLocation(@Param("memberId") Long memberId,
+                       @Param("province") Province province,
+                       @Param("city") String city,
+                       @Param("district") String district,
+                       @Param("latitude") Double latitude,
+                       @Param("longitude") Double longitude,
+                       @Param("geoCell") Long geoCell);
+
+    // 비공개 간병인은 행이 없으므로 아무것도 바뀌지 않는다
+    @Modifying
+    @Query("update PublicProfile p set p.rating = :rating, p.recentRating = :recentRating, p.reviewCount = :reviewCount "
+            + "where p.memberId = :memberId")
+    int updateReviewAggregate(@Param("memberId") Long memberId,
+                              @Param("rating") float rating,
+                              @Param("recentRating") float recentRating,
+                              @Param("reviewCount") int reviewCount);
+
+    @Query("select c from caregivers c where c.isProfilePublic = true and c.id > :afterId "
+            + "and not exists (select p.memberId from PublicProfile p where p.memberId = c.id) order by c.id")
+    List<Caregiver> findCaregiversMissingFromDirectory(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select pt from patients pt where pt.isProfilePublic = true and pt.id > :afterId "
+            + "and not exists (select p.memberId from PublicProfile p where p.memberId = pt.id) order by pt.id")
+    List<Patient> findPatientsMissingFromDirectory(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,88 @@
+package com.patientpal.backend.search.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
+import com.patientpal.backend.common.querydsl.RegionCondition;
+import com.patientpal.backend.member.domain.Gender;
+import com.patientpal.backend.search.domain.ProfileType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 프로필 검색의 전체 개수를 검색 조건별로 잠깐 들고 있는다.
+ * 페이지를 넘길 때마다 같은 조건으로 전체를 다시 세지 않도록 하고, 프로필 공개/비공개가 바뀌면 해당 종류를 비운다.
+ */
+@Component
+public class ProfileCountCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "profile.search.count";
+
+    private final Cache<CountKey, Long> counts;
+
+    public ProfileCountCache(@Value("${patientpal.search.count-cache.ttl}") Duration ttl,
+                             @Value("${patientpal.search.count-cache.max-size}") long maxSize) {
+        this.counts = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 한 건 더 읽어 온 검색 결과를 페이지로 바꾼다. 마지막 페이지라면 개수를 세지 않고 계산하고,
+     * 그렇지 않으면 같은 조건의 캐시된 개수를 쓰거나 counter 로 센다.
+     */
+    public <T> Page<T> toPage(ProfileType type, ProfileSearchCondition condition, Slice<T> slice, LongSupplier counter) {
+        long offset = slice.getPageable().getOffset();
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            return new PageImpl<>(slice.getContent(), slice.getPageable(), offset + slice.getNumberOfElements());
+        }
+        long total = counts.get(CountKey.of(type, condition), key -> counter.getAsLong());
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    public void invalidate(ProfileType type) {
+        counts.asMap().keySet().removeIf(key -> key.type() == type);
+    }
+
+    // 롤백되면 개수도 그대로이므로 커밋된 뒤에만 비운다
+    public void invalidateAfterCommit(ProfileType type) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(type);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(type);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, counts, CACHE_NAME);
+    }
+
+    // 개수에 영향을 주는 조건만 남긴다. 주소는 지역 코드 조건으로 바꿔 표기가 달라도 같은 키가 된다
+    private record CountKey(ProfileType type, String name, Gender gender, RegionCondition region, Integer experienceYearsGoe) {
+
+        static CountKey of(ProfileType type, ProfileSearchCondition condition) {
+            String name = condition.getName() == null || condition.getName().isEmpty() ? null : condition.getName();
+            // 환자 검색에는 경력 조건이 없다
+            Integer experienceYearsGoe = type == ProfileType.CAREGIVER ? condition.getExperienceYearsGoe() : null;
+            return new CountKey(type, name, condition.getGender(), RegionCondition.from(condition), experienceYearsGoe);
+        }
+    }
+}
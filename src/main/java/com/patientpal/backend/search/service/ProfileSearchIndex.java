@@ -0,0 +1,331 @@
+package com.patientpal.backend.search.service;
+
+import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
+import com.patientpal.backend.common.querydsl.ProfileSortType;
+import com.patientpal.backend.common.querydsl.RegionCondition;
+import com.patientpal.backend.member.domain.Region;
+import com.patientpal.backend.search.domain.IndexWatermark;
+import com.patientpal.backend.search.domain.ProfileDocument;
+import com.patientpal.backend.search.domain.ProfileSearchHits;
+import com.patientpal.backend.search.domain.ProfileType;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LatLonDocValuesField;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 간병인/환자 프로필 검색용 Lucene 색인.
+ * 이름/주소는 공백 단위 토큰(StandardAnalyzer), 전문 분야/특이사항은 nori 형태소 분석으로 색인하고,
+ * 공개된 프로필만 담는다. 결과는 회원 id 만 돌려주고 응답은 DB 에서 조회한다.
+ */
+@Slf4j
+@Component
+public class ProfileSearchIndex {
+
+    static final String ID = "id";
+    static final String MEMBER_ID = "memberId";
+    static final String TYPE = "type";
+    static final String GENDER = "gender";
+    static final String EXPERIENCE_YEARS = "experienceYears";
+    static final String NAME = "name";
+    static final String NAME_KEYWORD = "nameKeyword";
+    static final String ADDR = "addr";
+    static final String REGION_PROVINCE = "regionProvince";
+    static final String REGION_CITY = "regionCity";
+    static final String REGION_DISTRICT = "regionDistrict";
+    static final String LOCATION = "location";
+    static final String SPECIALIZATION = "specialization";
+    static final String SIGNIFICANT = "significant";
+
+    private static final String WATERMARK_DATE = "watermark.lastModifiedDate";
+    private static final String WATERMARK_MEMBER_ID = "watermark.memberId";
+    private static final int MAX_KEYWORD_TERMS = 8;
+    private static final int MAX_RESULT_WINDOW = 10_000;
+    private static final SortField MEMBER_ID_DESC = new SortField(MEMBER_ID, SortField.Type.LONG, true);
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public ProfileSearchIndex(@Value("${patientpal.search.index-path}") String indexPath) throws IOException {
+        this.directory = StringUtils.hasText(indexPath) ? FSDirectory.open(Path.of(indexPath)) : new ByteBuffersDirectory();
+        this.analyzer = new PerFieldAnalyzerWrapper(new KoreanAnalyzer(),
+                Map.of(NAME, new StandardAnalyzer(), ADDR, new StandardAnalyzer()));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * 전달된 회원 id 를 기준으로 색인을 맞춘다. 검색 대상 문서는 교체하고, 문서가 없거나 비공개인 회원은 색인에서 뺀다.
+     */
+    public void apply(Collection<Long> memberIds, List<ProfileDocument> documents) {
+        Map<Long, ProfileDocument> byId = documents.stream()
+                .collect(Collectors.toMap(ProfileDocument::memberId, document -> document, (first, second) -> first));
+        try {
+            for (Long memberId : memberIds) {
+                ProfileDocument document = byId.get(memberId);
+                Term idTerm = new Term(ID, String.valueOf(memberId));
+                if (document == null || !document.searchable()) {
+                    writer.deleteDocuments(idTerm);
+                } else {
+                    writer.updateDocument(idTerm, toLuceneDocument(document));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void commit(IndexWatermark watermark) {
+        try {
+            writer.setLiveCommitData(Map.of(
+                    WATERMARK_DATE, watermark.lastModifiedDate().toString(),
+                    WATERMARK_MEMBER_ID, String.valueOf(watermark.memberId())).entrySet());
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Optional<IndexWatermark> lastCommittedWatermark() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return Optional.empty();
+        }
+        Map<String, String> data = new HashMap<>();
+        commitData.forEach(entry -> data.put(entry.getKey(), entry.getValue()));
+        if (!data.containsKey(WATERMARK_DATE)) {
+            return Optional.empty();
+        }
+        return Optional.of(new IndexWatermark(LocalDateTime.parse(data.get(WATERMARK_DATE)),
+                Long.valueOf(data.get(WATERMARK_MEMBER_ID))));
+    }
+
+    public ProfileSearchHits search(ProfileType type, ProfileSearchCondition condition, Pageable pageable) {
+        Query query = buildQuery(type, condition);
+        int offset = (int) Math.min(pageable.getOffset(), MAX_RESULT_WINDOW);
+        int numHits = Math.min(offset + pageable.getPageSize(), MAX_RESULT_WINDOW);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopFieldDocs topDocs = searcher.search(query, Math.max(numHits, 1), sortOf(type, condition, pageable));
+                long totalHits = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? topDocs.totalHits.value
+                        : searcher.count(query);
+
+                List<Long> memberIds = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    Object[] sortValues = ((FieldDoc) scoreDocs[i]).fields;
+                    memberIds.add((Long) sortValues[sortValues.length - 1]);
+                }
+                return new ProfileSearchHits(memberIds, totalHits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Query buildQuery(ProfileType type, ProfileSearchCondition condition) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(TYPE, type.name())), Occur.FILTER);
+
+        keywordTerms(condition.getKeyword()).forEach(term -> builder.add(keywordQuery(term), Occur.MUST));
+
+        if (StringUtils.hasText(condition.getName())) {
+            builder.add(new TermQuery(new Term(NAME_KEYWORD, normalize(condition.getName()))), Occur.FILTER);
+        }
+        if (condition.getGender() != null) {
+            builder.add(new TermQuery(new Term(GENDER, condition.getGender().name())), Occur.FILTER);
+        }
+        if (condition.getExperienceYearsGoe() != null) {
+            builder.add(IntPoint.newRangeQuery(EXPERIENCE_YEARS, condition.getExperienceYearsGoe(), Integer.MAX_VALUE),
+                    Occur.FILTER);
+        }
+        RegionCondition region = RegionCondition.from(condition);
+        if (region != null) {
+            if (region.province() != null) {
+                builder.add(new TermQuery(new Term(REGION_PROVINCE, region.province().name())), Occur.FILTER);
+            }
+            if (region.cityPrefix() != null) {
+                builder.add(new PrefixQuery(new Term(REGION_CITY, region.cityPrefix())), Occur.FILTER);
+            }
+            if (region.districtPrefix() != null) {
+                builder.add(new PrefixQuery(new Term(REGION_DISTRICT, region.districtPrefix())), Occur.FILTER);
+            }
+        }
+        return builder.build();
+    }
+
+    // 검색어 한 단어는 이름 접두어, 주소 토큰 접두어, 전문 분야, 특이사항 중 하나에만 걸리면 된다
+    private Query keywordQuery(String term) {
+        String normalized = normalize(term);
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(new BoostQuery(new PrefixQuery(new Term(NAME_KEYWORD, normalized)), 4f), Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(new Term(ADDR, normalized)), 2f), Occur.SHOULD);
+        for (String token : analyze(SPECIALIZATION, term)) {
+            builder.add(new BoostQuery(new TermQuery(new Term(SPECIALIZATION, token)), 2f), Occur.SHOULD);
+            builder.add(new TermQuery(new Term(SIGNIFICANT, token)), Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    // 후기 집계는 후기마다 바뀌어 색인에 두지 않으므로, 키워드 검색에서 평점/후기 순은 관련도 순으로 보여준다
+    private Sort sortOf(ProfileType type, ProfileSearchCondition condition, Pageable pageable) {
+        ProfileSortType sortType = ProfileSortType.of(pageable.getSort(), type);
+        // 좌표가 없는 문서는 거리 정렬에서 맨 뒤로 간다
+        if (sortType == ProfileSortType.DISTANCE && condition.hasOrigin()) {
+            return new Sort(LatLonDocValuesField.newDistanceSort(LOCATION, condition.getLatitude(), condition.getLongitude()),
+                    MEMBER_ID_DESC);
+        }
+        if (sortType == ProfileSortType.EXPERIENCE) {
+            return new Sort(new SortField(EXPERIENCE_YEARS, SortField.Type.INT, true), SortField.FIELD_SCORE,
+                    MEMBER_ID_DESC);
+        }
+        return new Sort(SortField.FIELD_SCORE, MEMBER_ID_DESC);
+    }
+
+    private Document toLuceneDocument(ProfileDocument profile) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(profile.memberId()), Store.NO));
+        document.add(new NumericDocValuesField(MEMBER_ID, profile.memberId()));
+        document.add(new StringField(TYPE, profile.type().name(), Store.NO));
+        if (profile.gender() != null) {
+            document.add(new StringField(GENDER, profile.gender().name(), Store.NO));
+        }
+        if (profile.experienceYears() != null) {
+            document.add(new IntPoint(EXPERIENCE_YEARS, profile.experienceYears()));
+            document.add(new NumericDocValuesField(EXPERIENCE_YEARS, profile.experienceYears()));
+        }
+        if (StringUtils.hasText(profile.name())) {
+            document.add(new TextField(NAME, profile.name(), Store.NO));
+            document.add(new StringField(NAME_KEYWORD, normalize(profile.name()), Store.NO));
+        }
+        addText(document, ADDR, profile.addr());
+        if (profile.latitude() != null && profile.longitude() != null) {
+            document.add(new LatLonDocValuesField(LOCATION, profile.latitude(), profile.longitude()));
+        }
+        Region region = profile.region();
+        if (region != null) {
+            addKeyword(document, REGION_PROVINCE, region.getRegionProvince() == null ? null : region.getRegionProvince().name());
+            addKeyword(document, REGION_CITY, region.getRegionCity());
+            addKeyword(document, REGION_DISTRICT, region.getRegionDistrict());
+        }
+        addText(document, SPECIALIZATION, profile.specialization());
+        addText(document, SIGNIFICANT, profile.significant());
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (StringUtils.hasText(value)) {
+            document.add(new TextField(field, value, Store.NO));
+        }
+    }
+
+    private static void addKeyword(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new StringField(field, value, Store.NO));
+        }
+    }
+
+    private static List<String> keywordTerms(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return List.of();
+        }
+        return Arrays.stream(keyword.trim().split("\\s+"))
+                .distinct()
+                .limit(MAX_KEYWORD_TERMS)
+                .toList();
+    }
+
+    private List<String> analyze(String field, String text) {
+        if (!StringUtils.hasText(text)) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return List.copyOf(tokens);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+}
@@ -0,0 +1,124 @@
+package com.patientpal.backend.search.service;
+
+import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.common.exception.ServiceUnavailableException;
+import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
+import com.patientpal.backend.search.domain.IndexWatermark;
+import com.patientpal.backend.search.domain.ProfileSearchHits;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.patientpal.backend.search.repository.ProfileSearchSourceRepository;
+import com.patientpal.backend.search.repository.ProfileSearchSourceRepository.ChangedMember;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 프로필 검색 색인을 DB 와 맞춘다.
+ * 프로필을 바꾼 요청은 커밋 직후 해당 회원만 다시 색인하고, 다른 노드에서 바뀐 프로필이나 실패한 반영은
+ * members.lastModifiedDate 를 따라가는 주기 동기화가 메운다.
+ */
+@Slf4j
+@Service
+public class ProfileSearchService {
+
+    private final ProfileSearchSourceRepository sourceRepository;
+    private final ProfileSearchIndex searchIndex;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration syncOverlap;
+    private final int syncBatchSize;
+
+    private volatile boolean ready;
+    private IndexWatermark watermark;
+
+    public ProfileSearchService(ProfileSearchSourceRepository sourceRepository,
+                                ProfileSearchIndex searchIndex,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${patientpal.search.sync-overlap}") Duration syncOverlap,
+                                @Value("${patientpal.search.sync-batch-size}") int syncBatchSize) {
+        this.sourceRepository = sourceRepository;
+        this.searchIndex = searchIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.syncOverlap = syncOverlap;
+        this.syncBatchSize = syncBatchSize;
+    }
+
+    public ProfileSearchHits search(ProfileType type, ProfileSearchCondition condition, Pageable pageable) {
+        if (!ready) {
+            throw new ServiceUnavailableException(ErrorCode.SEARCH_INDEX_NOT_READY);
+        }
+        return searchIndex.search(type, condition, pageable);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 회원 한 명을 다시 색인한다. 롤백되면 아무것도 하지 않는다.
+     */
+    public void reindexAfterCommit(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindex(List.of(memberId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reindex(List.of(memberId));
+            }
+        });
+    }
+
+    public void reindex(Collection<Long> memberIds) {
+        try {
+            searchIndex.apply(memberIds, readOnlyTransaction.execute(status -> sourceRepository.findDocuments(memberIds)));
+            searchIndex.refresh();
+        } catch (RuntimeException e) {
+            log.warn("검색 색인 반영에 실패했습니다. 다음 주기 동기화에서 다시 반영합니다. memberIds={}", memberIds, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${patientpal.search.sync-interval}")
+    public synchronized void sync() {
+        IndexWatermark current = watermark != null
+                ? watermark
+                : searchIndex.lastCommittedWatermark().orElse(IndexWatermark.INITIAL);
+
+        // 늦게 커밋된 트랜잭션의 변경을 놓치지 않도록 overlap 만큼 되돌아가서 다시 훑는다. 재색인은 멱등하다.
+        IndexWatermark cursor = current.rewind(syncOverlap);
+        int indexed = 0;
+        List<ChangedMember> changed;
+        do {
+            IndexWatermark from = cursor;
+            changed = readOnlyTransaction.execute(status ->
+                    sourceRepository.findChangedMembers(from.lastModifiedDate(), from.memberId(), syncBatchSize));
+            if (changed.isEmpty()) {
+                break;
+            }
+            List<Long> memberIds = changed.stream().map(ChangedMember::id).toList();
+            searchIndex.apply(memberIds, readOnlyTransaction.execute(status -> sourceRepository.findDocuments(memberIds)));
+            ChangedMember last = changed.get(changed.size() - 1);
+            cursor = new IndexWatermark(last.lastModifiedDate(), last.id());
+            indexed += changed.size();
+        } while (changed.size() == syncBatchSize);
+
+        if (cursor.isAfter(current)) {
+            current = cursor;
+        }
+        if (indexed > 0 || watermark == null) {
+            searchIndex.refresh();
+            searchIndex.commit(current);
+        }
+        watermark = current;
+        if (!ready) {
+            ready = true;
+            log.info("프로필 검색 색인 준비 완료: watermark={}, indexed={}", current, indexed);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.patientpal.backend.search.service;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.search.domain.PublicProfile;
+import com.patientpal.backend.search.repository.PublicProfileRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * public_profile_directory 가 생기기 전에 공개한 프로필을 batch 단위로 옮겨 담는다.
+ * 이후 공개/비공개 전환은 PublicProfileDirectory 가 바로 반영하므로, 한 바퀴를 다 돌면 더 이상 조회하지 않는다.
+ * 이미 행이 있는 회원은 건너뛰어 여러 노드가 동시에 돌아도 같은 결과가 된다.
+ */
+@Slf4j
+@Component
+public class PublicProfileBackfillScheduler {
+
+    private final PublicProfileRepository publicProfileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private long lastCaregiverId;
+    private long lastPatientId;
+    private volatile boolean completed;
+
+    public PublicProfileBackfillScheduler(PublicProfileRepository publicProfileRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${patientpal.search.directory-backfill.batch-size}") int batchSize) {
+        this.publicProfileRepository = publicProfileRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${patientpal.search.directory-backfill.interval}")
+    public synchronized void backfill() {
+        if (completed) {
+            return;
+        }
+        long copied = 0;
+        Integer batch;
+        do {
+            batch = transactionTemplate.execute(status -> copyCaregivers());
+            copied += batch;
+        } while (batch == batchSize);
+        do {
+            batch = transactionTemplate.execute(status -> copyPatients());
+            copied += batch;
+        } while (batch == batchSize);
+
+        completed = true;
+        log.info("공개 프로필 목록 backfill 을 마쳤습니다. [copied={}, lastCaregiverId={}, lastPatientId={}]",
+                copied, lastCaregiverId, lastPatientId);
+    }
+
+    private int copyCaregivers() {
+        List<Caregiver> caregivers = publicProfileRepository.findCaregiversMissingFromDirectory(lastCaregiverId, PageRequest.of(0, batchSize));
+        if (!caregivers.isEmpty()) {
+            publicProfileRepository.saveAll(caregivers.stream().map(PublicProfile::of).toList());
+            lastCaregiverId = caregivers.get(caregivers.size() - 1).getId();
+        }
+        return caregivers.size();
+    }
+
+    private int copyPatients() {
+        List<Patient> patients = publicProfileRepository.findPatientsMissingFromDirectory(lastPatientId, PageRequest.of(0, batchSize));
+        if (!patients.isEmpty()) {
+            publicProfileRepository.saveAll(patients.stream().map(PublicProfile::of).toList());
+            lastPatientId = patients.get(patients.size() - 1).getId();
+        }
+        return patients.size();
+    }
+}
@@ -0,0 +1,43 @@
+package com.patientpal.backend.search.service;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.search.domain.PublicProfile;
+import com.patientpal.backend.search.repository.PublicProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 프로필 목록(public_profile_directory)을 프로필과 같은 트랜잭션에서 맞춘다.
+ * 공개 상태면 행을 만들거나 고치고, 비공개로 바뀌면 지운다. 프로필을 바꾼 뒤에 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublicProfileDirectory {
+
+    private final PublicProfileRepository publicProfileRepository;
+
+    public void sync(Caregiver caregiver) {
+        if (!Boolean.TRUE.equals(caregiver.getIsProfilePublic())) {
+            remove(caregiver.getId());
+            return;
+        }
+        publicProfileRepository.findById(caregiver.getId())
+                .ifPresentOrElse(profile -> profile.update(caregiver),
+                        () -> publicProfileRepository.save(PublicProfile.of(caregiver)));
+    }
+
+    public void sync(Patient patient) {
+        if (!Boolean.TRUE.equals(patient.getIsProfilePublic())) {
+            remove(patient.getId());
+            return;
+        }
+        publicProfileRepository.findById(patient.getId())
+                .ifPresentOrElse(profile -> profile.update(patient),
+                        () -> publicProfileRepository.save(PublicProfile.of(patient)));
+    }
+
+    public void remove(Long memberId) {
+        publicProfileRepository.deleteByMemberId(memberId);
+    }
+}
@@ -7,7 +7,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -27,10 +26,11 @@ public class JwtAuthTokenFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         final String resolvedToken = resolveToken(request);
 
-        if (StringUtils.hasText(resolvedToken) && tokenProvider.validateToken(resolvedToken)) {
-            Authentication authentication = tokenProvider.getAuthentication(resolvedToken);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.info("Authenticated user: {}, uri: {}", authentication.getName(), request.getRequestURI());
+        if (StringUtils.hasText(resolvedToken)) {
+            tokenProvider.authenticate(resolvedToken).ifPresent(authentication -> {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                log.debug("Authenticated user: {}, uri: {}", authentication.getName(), request.getRequestURI());
+            });
         }
         filterChain.doFilter(request, response);
     }
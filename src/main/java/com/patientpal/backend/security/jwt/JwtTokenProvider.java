@@ -1,18 +1,33 @@
 package com.patientpal.backend.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Date;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,25 +40,41 @@ import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String FAMILY_KEY = "fid";
+    private static final String VERIFIED_CACHE_NAME = "jwt.verified";
     private Key key;
+    private JwtParser parser;
 
     private final String base64Secret;
     public final long refreshTokenExpirationTime;
     public final long accessTokenExpirationTime;
 
+    // 서명 검증을 마친 토큰의 digest -> 인증 정보. 토큰의 만료 시각에 맞춰 제거된다
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
     public JwtTokenProvider(
         @Value("${security.jwt.base64-secret}") String base64Secret,
         @Value("${security.jwt.refresh-expiration-time}") long refreshTokenExpirationTime,
-        @Value("${security.jwt.access-expiration-time}") long accessTokenExpirationTime
+        @Value("${security.jwt.access-expiration-time}") long accessTokenExpirationTime,
+        @Value("${security.jwt.verified-cache-size}") long verifiedCacheSize
     ) {
         this.base64Secret = base64Secret;
         this.refreshTokenExpirationTime = refreshTokenExpirationTime;
         this.accessTokenExpirationTime = accessTokenExpirationTime;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new UntilTokenExpiration())
+                .recordStats()
+                .build();
     }
 
     public String createToken(Authentication authentication, long expirationTime) {
+        return tokenBuilder(authentication, expirationTime).compact();
+    }
+
+    private JwtBuilder tokenBuilder(Authentication authentication, long expirationTime) {
         String authorities = authentication.getAuthorities().stream()
             .map(GrantedAuthority::getAuthority)
             .collect(Collectors.joining(","));
@@ -52,59 +83,122 @@ public class JwtTokenProvider {
                 .claim(AUTHORITIES_KEY, authorities)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(key, SignatureAlgorithm.HS512)
-                .compact();
+                .signWith(key, SignatureAlgorithm.HS512);
     }
 
     public String createAccessToken(Authentication authentication) {
         return createToken(authentication, accessTokenExpirationTime);
     }
 
-    public String createRefreshToken(Authentication authentication) {
-        return createToken(authentication, refreshTokenExpirationTime);
+    // 같은 초에 재발급해도 토큰이 달라지도록 jti 를 넣고, 재사용 감지를 위해 토큰 family 를 기록한다
+    public String createRefreshToken(Authentication authentication, String familyId) {
+        return tokenBuilder(authentication, refreshTokenExpirationTime)
+                .setId(UUID.randomUUID().toString())
+                .claim(FAMILY_KEY, familyId)
+                .compact();
     }
 
-    private Jws<Claims> getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+    /**
+     * 리프레시 토큰을 한 번만 파싱/검증해 인증 정보와 family 를 꺼낸다. 유효하지 않은 토큰이면 빈 값을 반환한다.
+     */
+    public Optional<RefreshTokenClaims> parseRefreshToken(String token) {
+        try {
+            Claims claims = getAllClaimsFromToken(token).getBody();
+            Authentication authentication = VerifiedToken.from(claims).toAuthentication(token);
+            return Optional.of(new RefreshTokenClaims(authentication, claims.get(FAMILY_KEY, String.class)));
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.trace("Invalid JWT token trace: {}", ex.toString());
+            return Optional.empty();
+        }
     }
 
-    public String getUsernameFromToken(String token) {
-        return getAllClaimsFromToken(token)
-                .getBody()
-                .getSubject();
+    private Jws<Claims> getAllClaimsFromToken(String token) {
+        return parser.parseClaimsJws(token);
     }
 
     @PostConstruct
     public void init() {
         byte[] secretKeyBytes = Decoders.BASE64.decode(base64Secret);
         this.key = Keys.hmacShaKeyFor(secretKeyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, VERIFIED_CACHE_NAME);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/검증해 인증 정보를 만든다. 검증된 토큰은 만료 시각까지 캐시한다.
+     * 유효하지 않은 토큰이면 빈 값을 반환한다.
+     */
+    public Optional<Authentication> authenticate(String token) {
+        String digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified == null) {
+            try {
+                verified = VerifiedToken.from(getAllClaimsFromToken(token).getBody());
+            } catch (JwtException | IllegalArgumentException ex) {
+                log.trace("Invalid JWT token trace: {}", ex.toString());
+                return Optional.empty();
+            }
+            verifiedTokens.put(digest, verified);
+        }
+        return Optional.of(verified.toAuthentication(token));
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = getAllClaimsFromToken(token).getBody();
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(Optional.ofNullable(claims.get(AUTHORITIES_KEY))
-                        .map(Object::toString)
-                        .orElse("")
-                        .split(","))
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(User principal, long expiresAtMillis) {
+
+        static VerifiedToken from(Claims claims) {
+            List<GrantedAuthority> authorities = parseAuthorities(claims.get(AUTHORITIES_KEY));
+            long expiresAt = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+            return new VerifiedToken(new User(claims.getSubject(), "", authorities), expiresAt);
+        }
+
+        private static List<GrantedAuthority> parseAuthorities(Object claim) {
+            return Arrays.stream(Optional.ofNullable(claim)
+                            .map(Object::toString)
+                            .orElse("")
+                            .split(","))
                     .map(String::trim)
                     .filter(auth -> !auth.isEmpty())
-                    .map(SimpleGrantedAuthority::new)
+                    .<GrantedAuthority>map(SimpleGrantedAuthority::new)
                     .toList();
-        User principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        }
+
+        Authentication toAuthentication(String token) {
+            Collection<GrantedAuthority> authorities = principal.getAuthorities();
+            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        }
     }
 
-    public boolean validateToken(String token) {
-        try {
-            getAllClaimsFromToken(token);
-            return true;
-        } catch (JwtException ex) {
-            log.trace("Invalid JWT token trace: {}", ex.toString());
-            return false;
+    private static class UntilTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
@@ -0,0 +1,6 @@
+package com.patientpal.backend.security.jwt;
+
+import org.springframework.security.core.Authentication;
+
+public record RefreshTokenClaims(Authentication authentication, String familyId) {
+}
@@ -0,0 +1,145 @@
+package com.patientpal.backend.auth.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.auth.domain.RefreshToken;
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:refresh-token;MODE=MariaDB;DB_CLOSE_DELAY=-1")
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+public class RefreshTokenRepositoryTest {
+
+    private static final String FAMILY_ID = "family";
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Member member;
+    private Instant expiryDate;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member("patient", "password", null, Provider.LOCAL, Role.USER);
+        em.persist(member);
+        expiryDate = Instant.now().plus(7, ChronoUnit.DAYS);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .member(member)
+                .token("first")
+                .familyId(FAMILY_ID)
+                .expiryDate(expiryDate)
+                .build());
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    class 토큰_교체_시 {
+
+        @Test
+        void 현재_토큰이면_한_행만_갱신한다() {
+            // when
+            int rotated = refreshTokenRepository.rotate(member.getId(), FAMILY_ID, "first", "second", expiryDate, Instant.now());
+
+            // then
+            assertThat(rotated).isEqualTo(1);
+            assertThat(refreshTokenRepository.findAll()).singleElement()
+                    .extracting(RefreshToken::getToken).isEqualTo("second");
+        }
+
+        @Test
+        void 이미_교체된_토큰이면_갱신하지_않는다() {
+            // given
+            refreshTokenRepository.rotate(member.getId(), FAMILY_ID, "first", "second", expiryDate, Instant.now());
+
+            // when
+            int rotated = refreshTokenRepository.rotate(member.getId(), FAMILY_ID, "first", "third", expiryDate, Instant.now());
+
+            // then
+            assertThat(rotated).isZero();
+            assertThat(refreshTokenRepository.findAll()).singleElement()
+                    .extracting(RefreshToken::getToken).isEqualTo("second");
+        }
+
+        @Test
+        void 다른_family_의_토큰이면_갱신하지_않는다() {
+            // when
+            int rotated = refreshTokenRepository.rotate(member.getId(), "other", "first", "second", expiryDate, Instant.now());
+
+            // then
+            assertThat(rotated).isZero();
+        }
+    }
+
+    @Nested
+    class 로그인으로_family_교체_시 {
+
+        @Test
+        void 회원의_행이_있으면_덮어쓴다() {
+            // when
+            refreshTokenRepository.upsertFamily(member.getId(), "login", "new-family", expiryDate);
+
+            // then
+            assertThat(refreshTokenRepository.findAll()).singleElement().satisfies(token -> {
+                assertThat(token.getToken()).isEqualTo("login");
+                assertThat(token.getFamilyId()).isEqualTo("new-family");
+            });
+        }
+
+        @Test
+        void 회원의_행이_없으면_만든다() {
+            // given
+            Member newMember = new Member("caregiver", "password", null, Provider.LOCAL, Role.CAREGIVER);
+            em.persist(newMember);
+
+            // when
+            refreshTokenRepository.upsertFamily(newMember.getId(), "login", "new-family", expiryDate);
+
+            // then
+            assertThat(refreshTokenRepository.findAll()).hasSize(2)
+                    .filteredOn(token -> token.getMember().getId().equals(newMember.getId()))
+                    .singleElement()
+                    .extracting(RefreshToken::getFamilyId).isEqualTo("new-family");
+        }
+    }
+
+    @Test
+    void 만료된_토큰의_id_만_조회한다() {
+        // given
+        Member expiredMember = new Member("caregiver", "password", null, Provider.LOCAL, Role.CAREGIVER);
+        em.persist(expiredMember);
+        RefreshToken expired = refreshTokenRepository.save(RefreshToken.builder()
+                .member(expiredMember)
+                .token("expired")
+                .familyId(FAMILY_ID)
+                .expiryDate(Instant.now().minus(1, ChronoUnit.DAYS))
+                .build());
+
+        // when & then
+        assertThat(refreshTokenRepository.findExpiredIds(Instant.now(), PageRequest.of(0, 10)))
+                .containsExactly(expired.getId());
+    }
+}
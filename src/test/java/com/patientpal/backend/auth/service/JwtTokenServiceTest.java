@@ -3,11 +3,11 @@ package com.patientpal.backend.auth.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.patientpal.backend.auth.dto.RotatedRefreshToken;
 import com.patientpal.backend.auth.dto.TokenDto;
 import com.patientpal.backend.common.exception.AuthenticationException;
 import com.patientpal.backend.common.exception.ErrorCode;
@@ -46,21 +46,15 @@ class JwtTokenServiceTest {
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(username, validRefreshToken, Collections.emptyList());
         TokenDto expectedTokenDto = TokenDtoFixture.createNewTokenDto();
 
-        when(refreshTokenService.validateToken(validRefreshToken)).thenReturn(true);
-        when(tokenProvider.getAuthentication(validRefreshToken)).thenReturn(authenticationToken);
-        doNothing().when(refreshTokenService).deleteTokenByUsername(any(String.class));
-        when(refreshTokenService.save(any(String.class), any(String.class))).thenReturn(1L);
-        when(tokenProvider.createAccessToken(any(Authentication.class))).thenReturn(TokenDtoFixture.NEW_ACCESS_TOKEN);
-        when(tokenProvider.createRefreshToken(any(Authentication.class))).thenReturn(TokenDtoFixture.NEW_REFRESH_TOKEN);
+        when(refreshTokenService.rotate(validRefreshToken))
+                .thenReturn(new RotatedRefreshToken(authenticationToken, TokenDtoFixture.NEW_REFRESH_TOKEN));
+        when(tokenProvider.createAccessToken(authenticationToken)).thenReturn(TokenDtoFixture.NEW_ACCESS_TOKEN);
 
         // when
         TokenDto actualTokenDto = tokenService.refreshJwtTokens(validRefreshToken);
 
         // then
         assertThat(actualTokenDto).isEqualTo(expectedTokenDto);
-
-        verify(refreshTokenService).deleteTokenByUsername(username);
-        verify(refreshTokenService).save(username, expectedTokenDto.refreshToken());
     }
 
     @Test
@@ -68,7 +62,7 @@ class JwtTokenServiceTest {
         // given
         String invalidRefreshToken = TokenDtoFixture.INVALID_REFRESH_TOKEN;
 
-        doThrow(new AuthenticationException(ErrorCode.INVALID_TOKEN)).when(refreshTokenService).validateToken(invalidRefreshToken);
+        doThrow(new AuthenticationException(ErrorCode.INVALID_TOKEN)).when(refreshTokenService).rotate(invalidRefreshToken);
 
         // when & then
         assertThatThrownBy(() -> tokenService.refreshJwtTokens(invalidRefreshToken))
@@ -82,15 +76,14 @@ class JwtTokenServiceTest {
         Authentication authentication = new UsernamePasswordAuthenticationToken(username, "password", Collections.emptyList());
         TokenDto expectedTokenDto = TokenDtoFixture.createNewTokenDto();
 
-        doNothing().when(refreshTokenService).deleteTokenByUsername(any(String.class));
-        when(refreshTokenService.save(any(String.class), any(String.class))).thenReturn(1L);
+        when(refreshTokenService.issue(username, authentication)).thenReturn(TokenDtoFixture.NEW_REFRESH_TOKEN);
         when(tokenProvider.createAccessToken(any(Authentication.class))).thenReturn(TokenDtoFixture.NEW_ACCESS_TOKEN);
-        when(tokenProvider.createRefreshToken(any(Authentication.class))).thenReturn(TokenDtoFixture.NEW_REFRESH_TOKEN);
 
         // when
         TokenDto actualTokenDto = tokenService.generateJwtTokens(username, authentication);
 
         // then
         assertThat(actualTokenDto).isEqualTo(expectedTokenDto);
+        verify(refreshTokenService).issue(username, authentication);
     }
 }
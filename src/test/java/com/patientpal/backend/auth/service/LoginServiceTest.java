@@ -2,20 +2,38 @@ package com.patientpal.backend.auth.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.patientpal.backend.common.exception.EntityNotFoundException;
+import com.patientpal.backend.config.SecurityConfig;
 import com.patientpal.backend.fixtures.member.MemberFixture;
 import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.dto.MemberCredentials;
 import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.security.password.BoundedPasswordEncoder;
 import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 
 @AutoKoreanDisplayName
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +51,8 @@ class LoginServiceTest {
         // given
         Member validMember = MemberFixture.createDefaultMember();
 
-        when(memberRepository.findByUsername(validMember.getUsername())).thenReturn(Optional.of(validMember));
+        when(memberRepository.findCredentialsByUsername(validMember.getUsername()))
+                .thenReturn(Optional.of(new MemberCredentials(validMember.getUsername(), validMember.getPassword())));
 
         // when
         UserDetails userDetails = loginService.loadUserByUsername(validMember.getUsername());
@@ -48,10 +67,71 @@ class LoginServiceTest {
         // given
         Member invalidMember = MemberFixture.createDefaultMember();
 
-        when(memberRepository.findByUsername(invalidMember.getUsername())).thenReturn(Optional.empty());
+        when(memberRepository.findCredentialsByUsername(invalidMember.getUsername())).thenReturn(Optional.empty());
 
         // then
         assertThatThrownBy(() -> loginService.loadUserByUsername(invalidMember.getUsername()))
                 .isInstanceOf(EntityNotFoundException.class);
     }
+
+    @Nested
+    class 이전_알고리즘으로_저장된_비밀번호로_로그인하면 {
+
+        private BoundedPasswordEncoder passwordEncoder;
+        private DaoAuthenticationProvider authenticationProvider;
+
+        @BeforeEach
+        void setUp() {
+            passwordEncoder = (BoundedPasswordEncoder) new SecurityConfig(null, null, null, null)
+                    .passwordEncoder(4, 1, 1, Duration.ofSeconds(5), new SimpleMeterRegistry());
+            // 스프링 부트가 UserDetailsService/UserDetailsPasswordService 빈으로 구성하는 것과 같다
+            authenticationProvider = new DaoAuthenticationProvider(passwordEncoder);
+            authenticationProvider.setUserDetailsService(loginService);
+            authenticationProvider.setUserDetailsPasswordService(loginService);
+        }
+
+        @AfterEach
+        void tearDown() throws InterruptedException {
+            passwordEncoder.close();
+        }
+
+        @Test
+        void pbkdf2_해시도_로그인되고_bcrypt_로_다시_저장된다() {
+            // given
+            String legacyHash = "{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_5().encode("password123");
+
+            // when & then
+            assertLoginUpgrades(legacyHash);
+        }
+
+        @Test
+        void noop_해시도_로그인되고_bcrypt_로_다시_저장된다() {
+            // when & then
+            assertLoginUpgrades("{noop}password123");
+        }
+
+        @Test
+        void 비밀번호가_틀리면_인증에_실패한다() {
+            // given
+            when(memberRepository.findCredentialsByUsername("legacy"))
+                    .thenReturn(Optional.of(new MemberCredentials("legacy", "{noop}password123")));
+
+            // when & then
+            assertThatThrownBy(() -> authenticationProvider.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated("legacy", "wrong")))
+                    .isInstanceOf(BadCredentialsException.class);
+            verify(memberRepository, never()).updatePasswordByUsername(anyString(), anyString());
+        }
+
+        private void assertLoginUpgrades(String legacyHash) {
+            when(memberRepository.findCredentialsByUsername("legacy"))
+                    .thenReturn(Optional.of(new MemberCredentials("legacy", legacyHash)));
+
+            Authentication authentication = authenticationProvider.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated("legacy", "password123"));
+
+            assertThat(authentication.isAuthenticated()).isTrue();
+            verify(memberRepository).updatePasswordByUsername(eq("legacy"), startsWith("{bcrypt}"));
+        }
+    }
 }
@@ -3,34 +3,44 @@ package com.patientpal.backend.auth.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.patientpal.backend.auth.domain.RefreshToken;
+import com.patientpal.backend.auth.dto.RotatedRefreshToken;
 import com.patientpal.backend.auth.repository.RefreshTokenRepository;
+import com.patientpal.backend.common.exception.AuthenticationException;
 import com.patientpal.backend.common.exception.EntityNotFoundException;
 import com.patientpal.backend.common.exception.ErrorCode;
 import com.patientpal.backend.fixtures.auth.RefreshTokenFixture;
 import com.patientpal.backend.fixtures.member.MemberFixture;
-import com.patientpal.backend.member.domain.Member;
 import com.patientpal.backend.member.repository.MemberRepository;
 import com.patientpal.backend.security.jwt.JwtTokenProvider;
+import com.patientpal.backend.security.jwt.RefreshTokenClaims;
 import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Optional;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 
 @AutoKoreanDisplayName
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings("NonAsciiCharacters")
 class RefreshTokenServiceTest {
 
+    private static final Long MEMBER_ID = 1L;
+
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
@@ -43,113 +53,93 @@ class RefreshTokenServiceTest {
     @InjectMocks
     private RefreshTokenService refreshTokenService;
 
-    @Test
-    void 아이디로_리프레시_토큰을_제거한다() {
-        // given
-        Member member = MemberFixture.createDefaultMember();
-
-        when(memberRepository.findByUsernameOrThrow(member.getUsername())).thenReturn(member);
-
-        // when
-        refreshTokenService.deleteTokenByUsername(member.getUsername());
-
-        // then
-        verify(refreshTokenRepository).deleteByMember(member);
-        verify(refreshTokenRepository).flush();
-    }
-
-    @Test
-    void 리프레시_토큰을_저장한다() {
-        // given
-        Long expectedId = 1L;
-        Member member = MemberFixture.createDefaultMember();
-        RefreshToken validRefreshToken = RefreshTokenFixture.createRefreshTokenWithMemberAndId(member, expectedId);
-
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(validRefreshToken);
-
-        // when
-        Long actualId = refreshTokenService.save(member.getUsername(), validRefreshToken.getToken());
-
-        // then
-        assertThat(actualId).isEqualTo(expectedId);
-
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
-    }
-
-    @Test
-    void 토큰이_유효하지_않으면_검증에_실패한다() {
-        // given
-        boolean expectedResult = false;
-        String invalidRefreshToken = RefreshTokenFixture.INVALID_REFRESH_TOKEN;
-
-        when(tokenProvider.validateToken(invalidRefreshToken)).thenReturn(expectedResult);
-
-        // when
-        boolean actualResult = refreshTokenService.validateToken(invalidRefreshToken);
-
-        // then
-        assertThat(actualResult).isEqualTo(expectedResult);
-
-        verifyNoMoreInteractions(refreshTokenRepository);
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken(
+            MemberFixture.DEFAULT_USERNAME, RefreshTokenFixture.VALID_REFRESH_TOKEN, Collections.emptyList());
+
+    @Nested
+    class 로그인으로_토큰_발급_시 {
+
+        @Test
+        void 새_family_의_토큰_해시로_회원의_행을_덮어쓴다() {
+            // given
+            when(memberRepository.findIdByUsernameOrThrow(MemberFixture.DEFAULT_USERNAME)).thenReturn(MEMBER_ID);
+            when(tokenProvider.createRefreshToken(eq(authentication), anyString())).thenReturn(RefreshTokenFixture.NEW_REFRESH_TOKEN);
+
+            // when
+            String refreshToken = refreshTokenService.issue(MemberFixture.DEFAULT_USERNAME, authentication);
+
+            // then
+            assertThat(refreshToken).isEqualTo(RefreshTokenFixture.NEW_REFRESH_TOKEN);
+            ArgumentCaptor<String> familyId = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> tokenHash = ArgumentCaptor.forClass(String.class);
+            verify(tokenProvider).createRefreshToken(eq(authentication), familyId.capture());
+            verify(refreshTokenRepository).upsertFamily(eq(MEMBER_ID), tokenHash.capture(), eq(familyId.getValue()),
+                    any(Instant.class));
+            assertThat(tokenHash.getValue()).isNotEqualTo(RefreshTokenFixture.NEW_REFRESH_TOKEN);
+        }
+
+        @Test
+        void 유저가_존재하지_않으면_예외가_발생한다() {
+            // given
+            when(memberRepository.findIdByUsernameOrThrow(MemberFixture.DEFAULT_USERNAME))
+                    .thenThrow(new EntityNotFoundException(ErrorCode.MEMBER_NOT_EXIST));
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.issue(MemberFixture.DEFAULT_USERNAME, authentication))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
     }
 
-    @Test
-    void 유저가_존재하지_않는_경우_예외가_발생한다() {
-        // given
-        String nonExistentUsername = MemberFixture.DEFAULT_USERNAME;
-        String validRefreshToken = RefreshTokenFixture.VALID_REFRESH_TOKEN;
-
-        when(tokenProvider.validateToken(validRefreshToken)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(validRefreshToken)).thenReturn(nonExistentUsername);
-        doThrow(new EntityNotFoundException(ErrorCode.MEMBER_NOT_EXIST)).when(memberRepository).findByUsernameOrThrow(nonExistentUsername);
-
-        // when & then
-        assertThatThrownBy(() -> refreshTokenService.validateToken(validRefreshToken))
-                .isInstanceOf(EntityNotFoundException.class);
-    }
-
-    @Test
-    void Db에_리프레시_토큰이_존재하지_않는_경우_검증에_실패한다() {
-        // given
-        boolean expectedResult = false;
-        Member member = MemberFixture.createDefaultMember();
-        String validRefreshToken = RefreshTokenFixture.VALID_REFRESH_TOKEN;
-
-        when(tokenProvider.validateToken(validRefreshToken)).thenReturn(true);
-        when(tokenProvider.getUsernameFromToken(validRefreshToken)).thenReturn(member.getUsername());
-        when(memberRepository.findByUsernameOrThrow(member.getUsername())).thenReturn(member);
-        when(refreshTokenRepository.findByMemberAndToken(eq(member), any(String.class))).thenReturn(Optional.empty());
-
-        // when
-        boolean actualResult = refreshTokenService.validateToken(validRefreshToken);
-
-        // then
-        assertThat(actualResult).isEqualTo(expectedResult);
-    }
-
-    @Test
-    void 만료된_토큰이면_참을_반환한다() {
-        // given
-        boolean expectedResult = true;
-        RefreshToken expiredRefreshToken = RefreshTokenFixture.createExpiredRefreshToken();
-
-        // when
-        boolean actualResult = refreshTokenService.isTokenExpired(expiredRefreshToken);
-
-        // then
-        assertThat(actualResult).isEqualTo(expectedResult);
-    }
-
-    @Test
-    void 만료되지_않은_토큰이면_거짓을_반환한다() {
-        // given
-        boolean expectedResult = false;
-        RefreshToken unexpiredRefreshToken = RefreshTokenFixture.createUnexpiredRefreshToken();
-
-        // when
-        boolean actualResult = refreshTokenService.isTokenExpired(unexpiredRefreshToken);
-
-        // then
-        assertThat(actualResult).isEqualTo(expectedResult);
+    @Nested
+    class 리프레시_토큰_교체_시 {
+
+        @Test
+        void 현재_토큰이면_같은_family_의_새_토큰으로_교체한다() {
+            // given
+            givenValidClaims();
+            when(tokenProvider.createRefreshToken(authentication, RefreshTokenFixture.FAMILY_ID)).thenReturn(RefreshTokenFixture.NEW_REFRESH_TOKEN);
+            when(refreshTokenRepository.rotate(eq(MEMBER_ID), eq(RefreshTokenFixture.FAMILY_ID), anyString(), anyString(),
+                    any(Instant.class), any(Instant.class))).thenReturn(1);
+
+            // when
+            RotatedRefreshToken rotated = refreshTokenService.rotate(RefreshTokenFixture.VALID_REFRESH_TOKEN);
+
+            // then
+            assertThat(rotated.refreshToken()).isEqualTo(RefreshTokenFixture.NEW_REFRESH_TOKEN);
+            assertThat(rotated.authentication()).isEqualTo(authentication);
+            verify(refreshTokenRepository, never()).deleteFamily(any(), any());
+        }
+
+        @Test
+        void 이미_교체된_토큰이면_family_를_폐기하고_예외가_발생한다() {
+            // given
+            givenValidClaims();
+            when(tokenProvider.createRefreshToken(authentication, RefreshTokenFixture.FAMILY_ID)).thenReturn(RefreshTokenFixture.NEW_REFRESH_TOKEN);
+            when(refreshTokenRepository.rotate(eq(MEMBER_ID), eq(RefreshTokenFixture.FAMILY_ID), anyString(), anyString(),
+                    any(Instant.class), any(Instant.class))).thenReturn(0);
+            when(refreshTokenRepository.deleteFamily(MEMBER_ID, RefreshTokenFixture.FAMILY_ID)).thenReturn(1);
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotate(RefreshTokenFixture.VALID_REFRESH_TOKEN))
+                    .isInstanceOf(AuthenticationException.class);
+            verify(refreshTokenRepository).deleteFamily(MEMBER_ID, RefreshTokenFixture.FAMILY_ID);
+        }
+
+        @Test
+        void 토큰이_유효하지_않으면_저장소를_조회하지_않고_예외가_발생한다() {
+            // given
+            when(tokenProvider.parseRefreshToken(RefreshTokenFixture.INVALID_REFRESH_TOKEN)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> refreshTokenService.rotate(RefreshTokenFixture.INVALID_REFRESH_TOKEN))
+                    .isInstanceOf(AuthenticationException.class);
+            verifyNoInteractions(refreshTokenRepository, memberRepository);
+        }
+
+        private void givenValidClaims() {
+            when(tokenProvider.parseRefreshToken(RefreshTokenFixture.VALID_REFRESH_TOKEN))
+                    .thenReturn(Optional.of(new RefreshTokenClaims(authentication, RefreshTokenFixture.FAMILY_ID)));
+            when(memberRepository.findIdByUsernameOrThrow(MemberFixture.DEFAULT_USERNAME)).thenReturn(MEMBER_ID);
+        }
     }
 }
@@ -8,6 +8,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.patientpal.backend.caregiver.domain.Caregiver;
@@ -22,6 +23,10 @@ import com.patientpal.backend.fixtures.caregiver.CaregiverFixture;
 import com.patientpal.backend.fixtures.patient.PatientFixture;
 import com.patientpal.backend.member.domain.Member;
 import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.patientpal.backend.search.service.ProfileCountCache;
+import com.patientpal.backend.search.service.ProfileSearchService;
+import com.patientpal.backend.search.service.PublicProfileDirectory;
 import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +49,15 @@ class CaregiverServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ProfileSearchService profileSearchService;
+
+    @Mock
+    private ProfileCountCache profileCountCache;
+
+    @Mock
+    private PublicProfileDirectory publicProfileDirectory;
+
     @InjectMocks
     private CaregiverService caregiverService;
 
@@ -56,8 +70,7 @@ class CaregiverServiceTest {
         void 성공한다() {
             // given
             Member member = CaregiverFixture.defaultCaregiver();
-            when(memberRepository.findByUsername(member.getUsername())).thenReturn(Optional.of(member));
-            when(caregiverRepository.findById(member.getId())).thenReturn(Optional.of(caregiver));
+            when(memberRepository.findCaregiverByUsername(member.getUsername())).thenReturn(Optional.of(caregiver));
             CaregiverProfileCreateRequest request = createCaregiverProfileRequest();
 
             // when
@@ -74,7 +87,7 @@ class CaregiverServiceTest {
             // given
             CaregiverProfileCreateRequest request = createCaregiverProfileRequest();
             Member member = PatientFixture.defaultPatient();
-            when(memberRepository.findByUsername(member.getUsername())).thenReturn(Optional.of(member));
+            when(memberRepository.findCaregiverByUsername(member.getUsername())).thenReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> caregiverService.saveCaregiverProfile(member.getUsername(), request, any(String.class)))
@@ -168,6 +181,8 @@ class CaregiverServiceTest {
 
             // then
             assertThat(caregiver.getIsProfilePublic()).isTrue();
+            verify(publicProfileDirectory).sync(caregiver);
+            verify(profileCountCache).invalidateAfterCommit(ProfileType.CAREGIVER);
         }
 
         @Test
@@ -0,0 +1,67 @@
+package com.patientpal.backend.common.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.patientpal.backend.common.exception.InvalidValueException;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.util.List;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class CursorSliceTest {
+
+    @Nested
+    class 조회_개수는 {
+
+        @Test
+        void 요청한_size_보다_하나_많다() {
+            assertThat(CursorSlice.fetchSize(20)).isEqualTo(21);
+        }
+
+        @Test
+        void size_가_범위를_벗어나면_예외가_발생한다() {
+            assertThatThrownBy(() -> CursorSlice.fetchSize(0)).isInstanceOf(InvalidValueException.class);
+            assertThatThrownBy(() -> CursorSlice.fetchSize(-1)).isInstanceOf(InvalidValueException.class);
+            assertThatThrownBy(() -> CursorSlice.fetchSize(Integer.MAX_VALUE)).isInstanceOf(InvalidValueException.class);
+        }
+    }
+
+    @Nested
+    class 조회한_목록을_자를_때 {
+
+        @Test
+        void size_보다_많으면_size_만큼_자르고_마지막_항목으로_커서를_만든다() {
+            // when
+            CursorSlice<Long> slice = CursorSlice.of(List.of(30L, 20L, 10L), 2);
+
+            // then
+            assertThat(slice.content()).containsExactly(30L, 20L);
+            assertThat(slice.hasNext()).isTrue();
+            assertThat(slice.nextCursor(String::valueOf)).isEqualTo("20");
+        }
+
+        @Test
+        void size_이하이면_다음_페이지와_커서가_없다() {
+            // when
+            CursorSlice<String> slice = CursorSlice.of(List.of(30L, 20L), 2).map(String::valueOf);
+
+            // then
+            assertThat(slice.content()).containsExactly("30", "20");
+            assertThat(slice.hasNext()).isFalse();
+            assertThat(slice.nextCursor(id -> id)).isNull();
+        }
+
+        @Test
+        void 빈_목록이면_빈_페이지다() {
+            // when
+            CursorSlice<Long> slice = CursorSlice.of(List.of(), 10);
+
+            // then
+            assertThat(slice.content()).isEmpty();
+            assertThat(slice.nextCursor(String::valueOf)).isNull();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.patientpal.backend.common.querydsl;
+
+import static com.patientpal.backend.search.domain.QPublicProfile.publicProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.common.exception.InvalidValueException;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class ProfileSortTypeTest {
+
+    @Test
+    void 정렬이_없으면_최신_순이다() {
+        // when & then
+        assertThat(ProfileSortType.of(Sort.unsorted(), ProfileType.CAREGIVER)).isEqualTo(ProfileSortType.LATEST);
+        assertThat(ProfileSortType.orderBy(Sort.unsorted(), ProfileType.PATIENT))
+                .containsExactly(publicProfile.profileType.asc(), publicProfile.memberId.desc());
+    }
+
+    @Test
+    void 방향과_상관없이_인덱스와_같은_순서로_정렬하고_같은_값은_회원_번호로_가른다() {
+        // when & then
+        assertThat(ProfileSortType.orderBy(Sort.by(Sort.Direction.ASC, "rating"), ProfileType.CAREGIVER))
+                .containsExactly(publicProfile.profileType.asc(), publicProfile.rating.desc(), publicProfile.memberId.desc());
+        assertThat(ProfileSortType.orderBy(Sort.by(Sort.Direction.DESC, "reviewCount"), ProfileType.CAREGIVER))
+                .containsExactly(publicProfile.profileType.asc(), publicProfile.reviewCount.desc(), publicProfile.memberId.desc());
+    }
+
+    @Nested
+    class 지원하지_않는_정렬이면_예외가_발생한다 {
+
+        @Test
+        void 목록에_없는_컬럼() {
+            // when & then
+            assertThatThrownBy(() -> ProfileSortType.of(Sort.by("name"), ProfileType.CAREGIVER))
+                    .isInstanceOf(InvalidValueException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.UNSUPPORTED_SORT);
+        }
+
+        @Test
+        void 환자_프로필의_평점_순() {
+            // when & then
+            assertThatThrownBy(() -> ProfileSortType.of(Sort.by("rating"), ProfileType.PATIENT))
+                    .isInstanceOf(InvalidValueException.class);
+        }
+
+        @Test
+        void 정렬_기준_여러_개() {
+            // when & then
+            assertThatThrownBy(() -> ProfileSortType.of(Sort.by("rating", "reviewCount"), ProfileType.CAREGIVER))
+                    .isInstanceOf(InvalidValueException.class);
+        }
+    }
+
+    @Test
+    void 거리순은_기준점이_있어야_정렬식을_만들_수_있다() {
+        // when & then
+        assertThat(ProfileSortType.of(Sort.by(ProfileSearchCondition.DISTANCE_SORT), ProfileType.PATIENT))
+                .isEqualTo(ProfileSortType.DISTANCE);
+        assertThatThrownBy(() -> ProfileSortType.orderBy(Sort.by(ProfileSearchCondition.DISTANCE_SORT), ProfileType.PATIENT))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -12,6 +12,8 @@ public class RefreshTokenFixture {
     public static final Member DEFAULT_MEMBER = MemberFixture.createDefaultMember();
 
     public static final String VALID_REFRESH_TOKEN = "validRefreshToken";
+    public static final String NEW_REFRESH_TOKEN = "newRefreshToken";
+    public static final String FAMILY_ID = "5f0c5b1e-8a4b-4b59-9f43-0c0c1a0d2b11";
     public static final Instant VALID_EXPIRY_DATE = Instant.now().plusMillis(3600000L);
 
     public static final String INVALID_REFRESH_TOKEN = "invalidRefreshToken";
@@ -49,6 +51,7 @@ public class RefreshTokenFixture {
         return RefreshToken.builder()
                 .member(DEFAULT_MEMBER)
                 .token(VALID_REFRESH_TOKEN)
+                .familyId(FAMILY_ID)
                 .expiryDate(VALID_EXPIRY_DATE);
     }
 }
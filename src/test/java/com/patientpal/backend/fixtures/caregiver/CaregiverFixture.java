@@ -20,7 +20,6 @@ public class CaregiverFixture {
     public static final String CAREGIVER_SIGNIFICANT = "다양한 경험 보유";
 
     public static final Address UPDATE_ADDRESS = new Address("Suwon Street", "hoi", "hii");
-    public static final float UPDATE_RATING = 5.0f;
     public static final int UPDATE_EXPERIENCE_YEARS = 10;
     public static final String UPDATE_SPECIALIZATION = "업데이트 노인 간병";
     public static final String UPDATE_CAREGIVER_SIGNIFICANT = "업데이트 다양한 경험 보유";
@@ -32,7 +31,6 @@ public class CaregiverFixture {
                 .residentRegistrationNumber(RESIDENT_REGISTRATION_NUMBER)
                 .contact(PHONE_NUMBER)
                 .address(ADDRESS)
-                .rating(RATING)
                 .experienceYears(EXPERIENCE_YEARS)
                 .specialization(SPECIALIZATION)
                 .caregiverSignificant(CAREGIVER_SIGNIFICANT)
@@ -46,7 +44,6 @@ public class CaregiverFixture {
                 .gender(Gender.MALE)
                 .contact(PHONE_NUMBER)
                 .address(ADDRESS)
-                .rating(RATING)
                 .experienceYears(EXPERIENCE_YEARS)
                 .specialization(SPECIALIZATION)
                 .caregiverSignificant(CAREGIVER_SIGNIFICANT)
@@ -56,7 +53,6 @@ public class CaregiverFixture {
     public static CaregiverProfileUpdateRequest updateCaregiverProfileRequest() {
         return CaregiverProfileUpdateRequest.builder()
                 .address(UPDATE_ADDRESS)
-                .rating(UPDATE_RATING)
                 .experienceYears(UPDATE_EXPERIENCE_YEARS)
                 .specialization(UPDATE_SPECIALIZATION)
                 .caregiverSignificant(UPDATE_CAREGIVER_SIGNIFICANT)
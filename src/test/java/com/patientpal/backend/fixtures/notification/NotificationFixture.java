@@ -0,0 +1,25 @@
+package com.patientpal.backend.fixtures.notification;
+
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.notification.domain.Notification;
+import com.patientpal.backend.notification.domain.NotificationType;
+import java.time.LocalDateTime;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class NotificationFixture {
+
+    public static final String DEFAULT_CONTENT = "새로운 매칭 요청이 있습니다.";
+
+    public static Notification createUnreadNotification(Member receiver, Long id) {
+        Notification notification = Notification.builder()
+                .receiver(receiver)
+                .notificationType(NotificationType.MATCH)
+                .content(DEFAULT_CONTENT)
+                .url("/api/v1/match/" + id)
+                .isRead(false)
+                .build();
+        ReflectionTestUtils.setField(notification, "id", id);
+        ReflectionTestUtils.setField(notification, "createdDate", LocalDateTime.now());
+        return notification;
+    }
+}
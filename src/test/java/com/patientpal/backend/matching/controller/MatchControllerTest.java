@@ -1,9 +1,13 @@
 package com.patientpal.backend.matching.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -41,7 +45,7 @@ public class MatchControllerTest extends CommonControllerSliceTest {
         void 성공한다() throws Exception {
             // given
             MatchResponse response = MatchResponse.builder().build();
-            given(matchService.createMatch(any(String.class), any(Long.class))).willReturn(response);
+            given(matchService.createMatch(any(String.class), any(Long.class), any())).willReturn(response);
 
             // when & then
             mockMvc.perform(post("/api/v1/matches")
@@ -73,7 +77,7 @@ public class MatchControllerTest extends CommonControllerSliceTest {
             // given
             MatchResponse response = MatchResponse.builder().build();
 
-            given(matchService.createMatch(any(String.class), any(Long.class))).willReturn(response);
+            given(matchService.createMatch(any(String.class), any(Long.class), any())).willReturn(response);
 
             // when & then
             mockMvc.perform(post("/api/v1/matches")
@@ -141,7 +145,7 @@ public class MatchControllerTest extends CommonControllerSliceTest {
             PageImpl<MatchResponse> matchPage = new PageImpl<>(responses, PageRequest.of(0, 10), responses.size());
             MatchListResponse listResponse = new MatchListResponse(responses, 0, matchPage.getTotalPages(),
                     matchPage.getTotalElements());
-            given(matchService.getRequestMatches(any(String.class), any(), any())).willReturn(listResponse);
+            given(matchService.getRequestMatches(any(String.class), any(), anyBoolean(), any())).willReturn(listResponse);
 
             // when & then
             mockMvc.perform(get("/api/v1/matches/{memberId}/all/request", 1L)
@@ -150,6 +154,21 @@ public class MatchControllerTest extends CommonControllerSliceTest {
                     .andDo(print())
                     .andExpect(status().isOk());
         }
+
+        @Test
+        @WithCustomMockUserPatient
+        void summary_를_생략하면_스냅샷을_포함해_조회한다() throws Exception {
+            // given
+            MatchListResponse listResponse = new MatchListResponse(List.of(), 0, 0, 0);
+            given(matchService.getRequestMatches(any(String.class), any(), anyBoolean(), any())).willReturn(listResponse);
+
+            // when
+            mockMvc.perform(get("/api/v1/matches/{memberId}/all/request", 1L))
+                    .andExpect(status().isOk());
+
+            // then
+            verify(matchService).getRequestMatches(any(String.class), any(), eq(false), any());
+        }
     }
 
     @Nested
@@ -164,7 +183,7 @@ public class MatchControllerTest extends CommonControllerSliceTest {
             PageImpl<MatchResponse> matchPage = new PageImpl<>(responses, PageRequest.of(0, 10), responses.size());
             MatchListResponse listResponse = new MatchListResponse(responses, 0, matchPage.getTotalPages(),
                     matchPage.getTotalElements());
-            given(matchService.getReceivedMatches(any(String.class), any(), any())).willReturn(listResponse);
+            given(matchService.getReceivedMatches(any(String.class), any(), anyBoolean(), any())).willReturn(listResponse);
 
             // when & then
             mockMvc.perform(get("/api/v1/matches/{memberId}/all/received", 1L)
@@ -175,6 +194,30 @@ public class MatchControllerTest extends CommonControllerSliceTest {
         }
     }
 
+    @Nested
+    class 매칭_리스트_커서_조회_케이스 {
+
+        @Test
+        @WithCustomMockUserPatient
+        void size_가_0_이면_400_을_응답한다() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/matches/{memberId}/request", 1L)
+                            .param("size", "0"))
+                    .andExpect(status().isBadRequest());
+            verifyNoInteractions(matchService);
+        }
+
+        @Test
+        @WithCustomMockUserPatient
+        void size_가_최대값을_넘으면_400_을_응답한다() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/matches/{memberId}/received", 1L)
+                            .param("size", String.valueOf(Integer.MAX_VALUE)))
+                    .andExpect(status().isBadRequest());
+            verifyNoInteractions(matchService);
+        }
+    }
+
     @Nested
     class 매칭_취소_케이스 {
 
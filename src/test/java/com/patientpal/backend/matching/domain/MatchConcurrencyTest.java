@@ -0,0 +1,139 @@
+package com.patientpal.backend.matching.domain;
+
+import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForPatient;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+public class MatchConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 200;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member patient;
+    private Member caregiver;
+
+    @BeforeEach
+    void setUp() {
+        patient = memberRepository.save(new Member("patient", "password", null, Provider.LOCAL, Role.USER));
+        caregiver = memberRepository.save(new Member("caregiver", "password", null, Provider.LOCAL, Role.CAREGIVER));
+    }
+
+    @AfterEach
+    void tearDown() {
+        matchRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 동시에_같은_매칭을_요청하면_하나만_생성된다() throws InterruptedException {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    transactionTemplate.executeWithoutResult(
+                            status -> matchRepository.saveAndFlush(createMatchForPatient(patient, caregiver)));
+                    created.incrementAndGet();
+                } catch (DataIntegrityViolationException e) {
+                    conflicted.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(conflicted.get()).isEqualTo(REQUEST_COUNT - 1);
+        assertThat(matchRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시에_수락과_취소를_요청하면_하나의_상태_전이만_반영된다() throws InterruptedException {
+        // given
+        Match match = matchRepository.save(createMatchForPatient(patient, caregiver));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger transitioned = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            boolean accept = i % 2 == 0;
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    Integer updated = transactionTemplate.execute(status -> accept
+                            ? matchRepository.acceptByCaregiver(match.getId(), caregiver.getId(), null, LocalDateTime.now())
+                            : matchRepository.cancel(match.getId(), patient.getId(), FirstRequest.PATIENT_FIRST,
+                                    LocalDateTime.now()));
+                    transitioned.addAndGet(updated);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        Match result = matchRepository.findById(match.getId()).orElseThrow();
+        assertThat(transitioned.get()).isEqualTo(1);
+        assertThat(result.getMatchStatus()).isIn(MatchStatus.ACCEPTED, MatchStatus.CANCELED);
+        assertThat(result.getVersion()).isEqualTo(match.getVersion() + 1);
+        assertThat(result.getPendingPairKey()).isNull();
+    }
+}
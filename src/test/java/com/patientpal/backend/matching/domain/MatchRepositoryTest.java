@@ -0,0 +1,117 @@
+package com.patientpal.backend.matching.domain;
+
+import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForPatient;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.matching.dto.response.MatchResponse;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaAuditingConfig.class)
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+public class MatchRepositoryTest {
+
+    private static final int MATCH_COUNT = 40;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+    private Member patient;
+
+    @BeforeEach
+    void setUp() {
+        patient = new Member("patient", "password", null, Provider.LOCAL, Role.USER);
+        em.persist(patient);
+        ProfileSnapshot snapshot = ProfileSnapshot.of(1, "{\"name\":\"patient\"}");
+        em.persist(snapshot);
+        for (int i = 0; i < MATCH_COUNT; i++) {
+            Member caregiver = new Member("caregiver" + i, "password", null, Provider.LOCAL, Role.CAREGIVER);
+            em.persist(caregiver);
+            Match match = createMatchForPatient(patient, caregiver);
+            match.setPatientProfileSnapshot(snapshot);
+            em.persist(match);
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Nested
+    class 요청보낸_매칭_목록_조회_시 {
+
+        @Test
+        void 페이지_크기와_무관하게_쿼리_수가_일정하다() {
+            // when
+            matchRepository.findRequestResponses(patient.getId(), false, PageRequest.of(1, 5));
+            long smallPageStatements = statistics.getPrepareStatementCount();
+            statistics.clear();
+            matchRepository.findRequestResponses(patient.getId(), false, PageRequest.of(0, 30));
+            long largePageStatements = statistics.getPrepareStatementCount();
+
+            // then
+            assertThat(smallPageStatements).isEqualTo(2);
+            assertThat(largePageStatements).isEqualTo(smallPageStatements);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        void 요약_모드는_프로필_스냅샷을_조회하지_않는다() {
+            // when
+            Page<MatchResponse> summary = matchRepository.findRequestResponses(patient.getId(), true, PageRequest.of(0, 10));
+            Page<MatchResponse> detail = matchRepository.findRequestResponses(patient.getId(), false, PageRequest.of(0, 10));
+
+            // then
+            assertThat(summary.getTotalElements()).isEqualTo(MATCH_COUNT);
+            assertThat(summary.getContent()).allSatisfy(response -> {
+                assertThat(response.getRequestMemberId()).isEqualTo(patient.getId());
+                assertThat(response.getPatientProfileSnapshot()).isNull();
+            });
+            assertThat(detail.getContent()).allSatisfy(
+                    response -> assertThat(response.getPatientProfileSnapshot()).isNotNull());
+        }
+    }
+
+    @Nested
+    class 요청보낸_매칭_커서_조회_시 {
+
+        @Test
+        void 커서_이후의_매칭을_최신순으로_조회한다() {
+            // given
+            List<MatchResponse> firstPage = matchRepository.findRequestSlice(patient.getId(), null, null, true, 10);
+            MatchCursor cursor = MatchCursor.from(firstPage.get(firstPage.size() - 1));
+            statistics.clear();
+
+            // when
+            List<MatchResponse> secondPage = matchRepository.findRequestSlice(patient.getId(), MatchStatus.PENDING, cursor,
+                    true, 10);
+
+            // then
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(secondPage).hasSize(10);
+            assertThat(secondPage.get(0).getId()).isLessThan(cursor.id());
+        }
+    }
+}
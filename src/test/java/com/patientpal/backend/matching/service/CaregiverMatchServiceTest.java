@@ -7,9 +7,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.patientpal.backend.caregiver.domain.Caregiver;
 import com.patientpal.backend.caregiver.repository.CaregiverRepository;
 import com.patientpal.backend.common.exception.AuthorizationException;
 import com.patientpal.backend.common.exception.EntityNotFoundException;
@@ -19,16 +21,20 @@ import com.patientpal.backend.matching.domain.FirstRequest;
 import com.patientpal.backend.matching.domain.Match;
 import com.patientpal.backend.matching.domain.MatchRepository;
 import com.patientpal.backend.matching.domain.MatchStatus;
+import com.patientpal.backend.matching.domain.ProfileSnapshot;
 import com.patientpal.backend.matching.domain.ReadStatus;
 import com.patientpal.backend.matching.dto.response.MatchListResponse;
 import com.patientpal.backend.matching.dto.response.MatchResponse;
 import com.patientpal.backend.matching.exception.CanNotRequestException;
 import com.patientpal.backend.matching.exception.DuplicateRequestException;
 import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.dto.MemberView;
 import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.member.service.MemberService;
 import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -53,6 +59,12 @@ public class CaregiverMatchServiceTest {
     @Mock
     private CaregiverRepository caregiverRepository;
 
+    @Mock
+    private ProfileSnapshotService profileSnapshotService;
+
+    @Mock
+    private MemberService memberService;
+
     @InjectMocks
     private MatchServiceImpl matchService;
 
@@ -66,48 +78,50 @@ public class CaregiverMatchServiceTest {
         @Test
         void 성공한다() {
             // when
-            when(memberRepository.findByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
+            when(memberRepository.findResolvedByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
             when(memberRepository.findById(responseMember.getId())).thenReturn(Optional.of(responseMember));
-            when(matchRepository.save(any(Match.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            givenInsertSucceeds();
+            when(profileSnapshotService.snapshotOf(any(Caregiver.class))).thenReturn(ProfileSnapshot.of(1, "{\"version\":1}"));
             when(caregiverRepository.findById(requestMember.getId())).thenReturn(Optional.of(CaregiverFixture.defaultCaregiver()));
             requestMember.setIsProfilePublic(true);
             responseMember.setIsProfilePublic(true);
-            MatchResponse response = matchService.createMatch(requestMember.getUsername(), responseMember.getId());
+            MatchResponse response = matchService.createMatch(requestMember.getUsername(), responseMember.getId(), null);
 
             // then
             assertThat(response.getFirstRequest()).isEqualTo(FirstRequest.CAREGIVER_FIRST);
             assertThat(response.getMatchStatus()).isEqualTo(MatchStatus.PENDING);
             assertThat(response.getCaregiverProfileSnapshot()).isNotNull();
             assertNotNull(response);
-            verify(matchRepository).save(any(Match.class));
+            verify(matchRepository).insertIgnoringConflicts(any(Match.class));
         }
 
         @Test
         void 실패한다_상대_환자_매칭_검색_리스트에_미등록() {
             // when
-            when(memberRepository.findByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
+            when(memberRepository.findResolvedByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
             when(memberRepository.findById(responseMember.getId())).thenReturn(Optional.of(responseMember));
             requestMember.setIsProfilePublic(true);
             responseMember.setIsProfilePublic(false);
 
             // then
             assertThatThrownBy(() -> matchService.createMatch(requestMember.getUsername(),
-                    responseMember.getId())).isInstanceOf(CanNotRequestException.class);
+                    responseMember.getId(), null)).isInstanceOf(CanNotRequestException.class);
         }
 
         @Test
         void 실패한다_이미_진행중인_매칭_존재() {
             // when
-            when(memberRepository.findByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
+            when(memberRepository.findResolvedByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
             when(memberRepository.findById(responseMember.getId())).thenReturn(Optional.of(responseMember));
             requestMember.setIsProfilePublic(true);
             responseMember.setIsProfilePublic(true);
-            when(matchRepository.existsPendingMatch(requestMember.getId(), responseMember.getId())).thenReturn(true);
+            when(caregiverRepository.findById(requestMember.getId())).thenReturn(Optional.of(CaregiverFixture.defaultCaregiver()));
+            when(matchRepository.insertIgnoringConflicts(any(Match.class))).thenReturn(0);
 
 
             // then
             assertThatThrownBy(() -> matchService.createMatch(requestMember.getUsername(),
-                    responseMember.getId())).isInstanceOf(DuplicateRequestException.class);
+                    responseMember.getId(), null)).isInstanceOf(DuplicateRequestException.class);
         }
     }
 
@@ -117,8 +131,8 @@ public class CaregiverMatchServiceTest {
         @Test
         void 성공한다() {
             // given
-            when(memberRepository.findByUsername(any(String.class))).thenReturn(
-                    Optional.of(match.getRequestMember()));
+            MemberView currentMember = viewOf(match.getRequestMember());
+            when(memberService.getMemberView(any(String.class))).thenReturn(currentMember);
             when(matchRepository.findById(any())).thenReturn(Optional.of(match));
 
             // when
@@ -151,7 +165,8 @@ public class CaregiverMatchServiceTest {
                     .build();
 
             // when
-            when(memberRepository.findByUsername(any(String.class))).thenReturn(Optional.of(requestMember));
+            MemberView currentMember = viewOf(requestMember);
+            when(memberService.getMemberView(any(String.class))).thenReturn(currentMember);
             when(matchRepository.findById(any())).thenReturn(Optional.of(match));
 
             // then
@@ -167,9 +182,10 @@ public class CaregiverMatchServiceTest {
         void 성공한다() {
             when(requestMember.getId()).thenReturn(1L);
             when(memberRepository.findById(requestMember.getId())).thenReturn(Optional.of(requestMember));
-            when(matchRepository.findAllRequest(any(), any())).thenReturn(new PageImpl<>(List.of(match)));
+            when(matchRepository.findRequestResponses(any(), anyBoolean(), any()))
+                    .thenReturn(new PageImpl<>(List.of(MatchResponse.of(match))));
 
-            MatchListResponse response = matchService.getRequestMatches(requestMember.getUsername(), requestMember.getId(),
+            MatchListResponse response = matchService.getRequestMatches(requestMember.getUsername(), requestMember.getId(), false,
                     PageRequest.of(0, 10));
 
             assertNotNull(response);
@@ -180,7 +196,7 @@ public class CaregiverMatchServiceTest {
         void 실패한다_회원_정보_없음() {
             when(memberRepository.findById(requestMember.getId())).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> matchService.getRequestMatches(requestMember.getUsername(), requestMember.getId(), PageRequest.of(0, 10)))
+            assertThatThrownBy(() -> matchService.getRequestMatches(requestMember.getUsername(), requestMember.getId(), false, PageRequest.of(0, 10)))
                     .isInstanceOf(EntityNotFoundException.class);
         }
     }
@@ -192,9 +208,10 @@ public class CaregiverMatchServiceTest {
         void 성공한다() {
             when(requestMember.getId()).thenReturn(1L);
             when(memberRepository.findById(requestMember.getId())).thenReturn(Optional.of(requestMember));
-            when(matchRepository.findAllReceived(any(), any())).thenReturn(new PageImpl<>(List.of(match)));
+            when(matchRepository.findReceivedResponses(any(), anyBoolean(), any()))
+                    .thenReturn(new PageImpl<>(List.of(MatchResponse.of(match))));
 
-            MatchListResponse response = matchService.getReceivedMatches(requestMember.getUsername(), requestMember.getId(),
+            MatchListResponse response = matchService.getReceivedMatches(requestMember.getUsername(), requestMember.getId(), false,
                     PageRequest.of(0, 10));
 
             assertNotNull(response);
@@ -206,7 +223,7 @@ public class CaregiverMatchServiceTest {
             when(memberRepository.findById(requestMember.getId())).thenReturn(Optional.empty());
 
             assertThatThrownBy(
-                    () -> matchService.getReceivedMatches(requestMember.getUsername(), requestMember.getId(),  PageRequest.of(0, 10)))
+                    () -> matchService.getReceivedMatches(requestMember.getUsername(), requestMember.getId(), false,  PageRequest.of(0, 10)))
                     .isInstanceOf(EntityNotFoundException.class);
         }
     }
@@ -226,4 +243,19 @@ public class CaregiverMatchServiceTest {
 
 
     }
+
+    // 조건부 insert 가 반영되면, pendingPairKey 로 다시 읽을 때 insert 한 매칭이 나오도록 한다
+    private void givenInsertSucceeds() {
+        AtomicReference<Match> inserted = new AtomicReference<>();
+        when(matchRepository.insertIgnoringConflicts(any(Match.class))).thenAnswer(invocation -> {
+            inserted.set(invocation.getArgument(0));
+            return 1;
+        });
+        when(matchRepository.findByPendingPairKey(any())).thenAnswer(invocation -> Optional.ofNullable(inserted.get()));
+    }
+
+    private static MemberView viewOf(Member member) {
+        return new MemberView(member.getId(), member.getUsername(), member.getName(), member.getRole(),
+                member.getIsProfilePublic(), member.getIsCompleteProfile());
+    }
 }
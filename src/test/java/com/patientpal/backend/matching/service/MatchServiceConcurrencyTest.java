@@ -0,0 +1,174 @@
+package com.patientpal.backend.matching.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.matching.domain.MatchRepository;
+import com.patientpal.backend.matching.domain.ProfileSnapshotRepository;
+import com.patientpal.backend.matching.dto.response.MatchResponse;
+import com.patientpal.backend.matching.exception.DuplicateRequestException;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.member.service.MemberService;
+import com.patientpal.backend.notification.aspect.NotificationAspect;
+import com.patientpal.backend.notification.repository.NotificationOutboxRepository;
+import com.patientpal.backend.notification.service.NotificationDispatcher;
+import com.patientpal.backend.notification.service.NotificationOutboxService;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 매칭 신청을 서비스 단에서 동시에 보내, 매칭과 알림 outbox 가 한 트랜잭션으로 한 번만 저장되는지 확인한다.
+ * 매칭/스냅샷 저장(insert ignore)은 MariaDB 호환 모드가 필요하고, 요청마다 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@DataJpaTest
+@Import({JpaAuditingConfig.class, MatchServiceImpl.class, MemberService.class, ProfileSnapshotService.class,
+        NotificationAspect.class, NotificationOutboxService.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, AopAutoConfiguration.class})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:match-service-concurrency;MODE=MariaDB;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class MatchServiceConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 50;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileSnapshotRepository profileSnapshotRepository;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @MockBean
+    private NotificationDispatcher notificationDispatcher;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private Patient patient;
+    private Caregiver caregiver;
+
+    @BeforeEach
+    void setUp() {
+        patient = memberRepository.save(Patient.builder()
+                .username("patient")
+                .name("환자")
+                .provider(Provider.LOCAL)
+                .role(Role.USER)
+                .isProfilePublic(true)
+                .build());
+        caregiver = memberRepository.save(Caregiver.builder()
+                .username("caregiver")
+                .name("간병인")
+                .provider(Provider.LOCAL)
+                .role(Role.CAREGIVER)
+                .isProfilePublic(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationOutboxRepository.deleteAllInBatch();
+        matchRepository.deleteAllInBatch();
+        profileSnapshotRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 같은_멱등_키로_동시에_요청하면_모두_같은_매칭을_받고_알림은_한_번만_저장된다() throws InterruptedException {
+        // given
+        Set<Long> matchIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger failed = new AtomicInteger();
+
+        // when
+        runConcurrently(i -> "same-key", matchIds, new AtomicInteger(), failed);
+
+        // then
+        assertThat(failed.get()).isZero();
+        assertThat(matchIds).hasSize(1);
+        assertThat(matchRepository.count()).isEqualTo(1);
+        assertThat(notificationOutboxRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_멱등_키로_같은_상대에게_동시에_요청하면_하나만_생성되고_나머지는_중복_요청으로_거절된다() throws InterruptedException {
+        // given
+        Set<Long> matchIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicated = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        // when
+        runConcurrently(i -> "key-" + i, matchIds, duplicated, failed);
+
+        // then
+        assertThat(failed.get()).isZero();
+        assertThat(matchIds).hasSize(1);
+        assertThat(duplicated.get()).isEqualTo(REQUEST_COUNT - 1);
+        assertThat(matchRepository.count()).isEqualTo(1);
+        assertThat(notificationOutboxRepository.count()).isEqualTo(1);
+    }
+
+    private void runConcurrently(IntFunction<String> idempotencyKey, Set<Long> matchIds, AtomicInteger duplicated,
+                                 AtomicInteger failed) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            String key = idempotencyKey.apply(i);
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    MatchResponse response = matchService.createMatch(patient.getUsername(), caregiver.getId(), key);
+                    matchIds.add(response.getId());
+                } catch (DuplicateRequestException e) {
+                    duplicated.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    failed.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+}
@@ -1,35 +1,51 @@
 package com.patientpal.backend.matching.service;
 
 import static com.patientpal.backend.fixtures.match.MatchFixture.caregiverMemberForMatch;
+import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForCaregiver;
 import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForPatient;
 import static com.patientpal.backend.fixtures.match.MatchFixture.patientMemberForMatch;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.patientpal.backend.common.exception.AuthorizationException;
 import com.patientpal.backend.common.exception.EntityNotFoundException;
+import com.patientpal.backend.common.exception.InvalidValueException;
 import com.patientpal.backend.fixtures.caregiver.CaregiverFixture;
 import com.patientpal.backend.fixtures.patient.PatientFixture;
 import com.patientpal.backend.matching.domain.FirstRequest;
 import com.patientpal.backend.matching.domain.Match;
+import com.patientpal.backend.matching.domain.MatchCursor;
 import com.patientpal.backend.matching.domain.MatchRepository;
 import com.patientpal.backend.matching.domain.MatchStatus;
+import com.patientpal.backend.matching.domain.ProfileSnapshot;
 import com.patientpal.backend.matching.domain.ReadStatus;
 import com.patientpal.backend.matching.dto.response.MatchListResponse;
 import com.patientpal.backend.matching.dto.response.MatchResponse;
+import com.patientpal.backend.matching.dto.response.MatchSliceResponse;
 import com.patientpal.backend.matching.exception.CanNotReadException;
 import com.patientpal.backend.matching.exception.CanNotRequestException;
 import com.patientpal.backend.matching.exception.DuplicateRequestException;
+import com.patientpal.backend.matching.exception.MatchStateConflictException;
 import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.dto.MemberView;
 import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.member.service.MemberService;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.notification.domain.NotificationInfo;
 import com.patientpal.backend.patient.repository.PatientRepository;
 import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +70,12 @@ public class PatientMatchServiceTest {
     @Mock
     private PatientRepository patientRepository;
 
+    @Mock
+    private ProfileSnapshotService profileSnapshotService;
+
+    @Mock
+    private MemberService memberService;
+
     @InjectMocks
     private MatchServiceImpl matchService;
 
@@ -67,48 +89,133 @@ public class PatientMatchServiceTest {
         @Test
         void 성공한다() {
             // when
-            when(memberRepository.findByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
+            when(memberRepository.findResolvedByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
             when(memberRepository.findById(responseMember.getId())).thenReturn(Optional.of(responseMember));
-            when(matchRepository.save(any(Match.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            givenInsertSucceeds();
+            when(profileSnapshotService.snapshotOf(any(Patient.class))).thenReturn(ProfileSnapshot.of(1, "{\"version\":1}"));
             when(patientRepository.findById(requestMember.getId())).thenReturn(Optional.of(PatientFixture.defaultPatient()));
             requestMember.setIsProfilePublic(true);
             responseMember.setIsProfilePublic(true);
-            MatchResponse response = matchService.createMatch(requestMember.getUsername(), responseMember.getId());
+            MatchResponse response = matchService.createMatch(requestMember.getUsername(), responseMember.getId(), null);
 
             // then
             assertThat(response.getFirstRequest()).isEqualTo(FirstRequest.PATIENT_FIRST);
             assertThat(response.getMatchStatus()).isEqualTo(MatchStatus.PENDING);
             assertThat(response.getPatientProfileSnapshot()).isNotNull();
             assertNotNull(response);
-            verify(matchRepository).save(any(Match.class));
+            verify(matchRepository).insertIgnoringConflicts(any(Match.class));
         }
 
         @Test
         void 실패한다_상대_간병인_매칭_검색_리스트에_미등록() {
             // when
-            when(memberRepository.findByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
+            when(memberRepository.findResolvedByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
             when(memberRepository.findById(responseMember.getId())).thenReturn(Optional.of(responseMember));
             requestMember.setIsProfilePublic(true);
             responseMember.setIsProfilePublic(false);
 
             // then
-            assertThatThrownBy(() -> matchService.createMatch(requestMember.getUsername(), responseMember.getId()))
+            assertThatThrownBy(() -> matchService.createMatch(requestMember.getUsername(), responseMember.getId(), null))
                     .isInstanceOf(CanNotRequestException.class);
         }
 
         @Test
         void 실패한다_이미_진행중인_매칭_존재() {
             // when
-            when(memberRepository.findByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
+            when(memberRepository.findResolvedByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
             when(memberRepository.findById(responseMember.getId())).thenReturn(Optional.of(responseMember));
             requestMember.setIsProfilePublic(true);
             responseMember.setIsProfilePublic(true);
-            when(matchRepository.existsPendingMatch(requestMember.getId(), responseMember.getId())).thenReturn(true);
+            when(patientRepository.findById(requestMember.getId())).thenReturn(Optional.of(PatientFixture.defaultPatient()));
+            when(matchRepository.insertIgnoringConflicts(any(Match.class))).thenReturn(0);
+
+            // then
+            assertThatThrownBy(() -> matchService.createMatch(requestMember.getUsername(), responseMember.getId(), null))
+                    .isInstanceOf(DuplicateRequestException.class);
+        }
+    }
+
+    @Nested
+    class 멱등_키로_매칭_생성_시 {
+
+        @Test
+        void 같은_키로_생성된_매칭이_있으면_새로_생성하지_않고_반환한다() {
+            // given
+            when(requestMember.getId()).thenReturn(1L);
+            when(memberRepository.findResolvedByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
+            when(matchRepository.findByRequestMemberIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.of(match));
+
+            // when
+            MatchResponse response = matchService.createMatch(requestMember.getUsername(), responseMember.getId(), "key-1");
+
+            // then
+            assertThat(response).isNotInstanceOf(NotificationInfo.class);
+            assertThat(response.getMatchStatus()).isEqualTo(MatchStatus.PENDING);
+            verify(matchRepository, never()).insertIgnoringConflicts(any(Match.class));
+        }
+
+        @Test
+        void 같은_키로_다른_상대에게_요청하면_거절한다() {
+            // given
+            when(requestMember.getId()).thenReturn(1L);
+            when(responseMember.getId()).thenReturn(2L);
+            when(memberRepository.findResolvedByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
+            when(matchRepository.findByRequestMemberIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.of(match));
+
+            // when & then
+            assertThatThrownBy(() -> matchService.createMatch(requestMember.getUsername(), 3L, "key-1"))
+                    .isInstanceOf(InvalidValueException.class);
+            verify(matchRepository, never()).insertIgnoringConflicts(any(Match.class));
+        }
+
+        @Test
+        void 같은_키의_동시_요청이_먼저_저장되면_그_매칭을_반환한다() {
+            // given
+            when(requestMember.getId()).thenReturn(1L);
+            when(responseMember.getId()).thenReturn(2L);
+            givenCreatableMatch();
+            when(matchRepository.insertIgnoringConflicts(any(Match.class))).thenReturn(0);
+            when(matchRepository.findCommittedByRequestMemberIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.of(match));
+
+            // when
+            MatchResponse response = matchService.createMatch(requestMember.getUsername(), 2L, "key-1");
 
             // then
-            assertThatThrownBy(() -> matchService.createMatch(requestMember.getUsername(), responseMember.getId()))
+            assertThat(response).isNotInstanceOf(NotificationInfo.class);
+            assertThat(response.getMatchStatus()).isEqualTo(MatchStatus.PENDING);
+        }
+
+        @Test
+        void 같은_키로_저장된_매칭이_없는_제약_위반은_진행_중인_매칭으로_본다() {
+            // given
+            when(requestMember.getId()).thenReturn(1L);
+            when(responseMember.getId()).thenReturn(2L);
+            givenCreatableMatch();
+            when(matchRepository.insertIgnoringConflicts(any(Match.class))).thenReturn(0);
+            when(matchRepository.findCommittedByRequestMemberIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> matchService.createMatch(requestMember.getUsername(), 2L, "key-1"))
                     .isInstanceOf(DuplicateRequestException.class);
         }
+
+        private void givenCreatableMatch() {
+            when(memberRepository.findResolvedByUsername(requestMember.getUsername())).thenReturn(Optional.of(requestMember));
+            when(matchRepository.findByRequestMemberIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+            when(memberRepository.findById(2L)).thenReturn(Optional.of(responseMember));
+            when(patientRepository.findById(1L)).thenReturn(Optional.of(PatientFixture.defaultPatient()));
+            when(profileSnapshotService.snapshotOf(any(Patient.class))).thenReturn(ProfileSnapshot.of(1, "{\"version\":1}"));
+            requestMember.setIsProfilePublic(true);
+            responseMember.setIsProfilePublic(true);
+        }
+
+        @Test
+        void 실패한다_키_길이_초과() {
+            // then
+            assertThatThrownBy(() -> matchService.createMatch(requestMember.getUsername(), responseMember.getId(),
+                    "k".repeat(65)))
+                    .isInstanceOf(InvalidValueException.class);
+        }
     }
 
     @Nested
@@ -117,7 +224,8 @@ public class PatientMatchServiceTest {
         @Test
         void 성공한다() {
             // given
-            when(memberRepository.findByUsername(any(String.class))).thenReturn(Optional.of(match.getRequestMember()));
+            MemberView currentMember = viewOf(match.getRequestMember());
+            when(memberService.getMemberView(any(String.class))).thenReturn(currentMember);
             when(matchRepository.findById(any())).thenReturn(Optional.of(match));
 
             // when
@@ -150,7 +258,8 @@ public class PatientMatchServiceTest {
                     .build();
 
             // when
-            when(memberRepository.findByUsername(any(String.class))).thenReturn(Optional.of(requestMember));
+            MemberView currentMember = viewOf(requestMember);
+            when(memberService.getMemberView(any(String.class))).thenReturn(currentMember);
             when(matchRepository.findById(any())).thenReturn(Optional.of(unrelatedMatch));
 
             // then
@@ -161,7 +270,8 @@ public class PatientMatchServiceTest {
         @Test
         void 실패한다_이미_취소된_매칭() {
             // when
-            when(memberRepository.findByUsername(any(String.class))).thenReturn(Optional.of(requestMember));
+            MemberView currentMember = viewOf(requestMember);
+            when(memberService.getMemberView(any(String.class))).thenReturn(currentMember);
             when(matchRepository.findById(any())).thenReturn(Optional.of(match));
             match.setMatchStatus(MatchStatus.CANCELED);
 
@@ -178,9 +288,10 @@ public class PatientMatchServiceTest {
         void 성공한다() {
             when(requestMember.getId()).thenReturn(1L);
             when(memberRepository.findById(requestMember.getId())).thenReturn(Optional.of(requestMember));
-            when(matchRepository.findAllRequest(any(), any())).thenReturn(new PageImpl<>(List.of(match)));
+            when(matchRepository.findRequestResponses(any(), anyBoolean(), any()))
+                    .thenReturn(new PageImpl<>(List.of(MatchResponse.of(match))));
 
-            MatchListResponse response = matchService.getRequestMatches(requestMember.getUsername(), requestMember.getId(),
+            MatchListResponse response = matchService.getRequestMatches(requestMember.getUsername(), requestMember.getId(), false,
                     PageRequest.of(0, 10));
 
             assertNotNull(response);
@@ -191,7 +302,7 @@ public class PatientMatchServiceTest {
         void 실패한다_회원_정보_없음() {
             when(memberRepository.findById(requestMember.getId())).thenReturn(Optional.empty());
 
-            assertThatThrownBy(() -> matchService.getRequestMatches(requestMember.getUsername(), requestMember.getId(), PageRequest.of(0, 10)))
+            assertThatThrownBy(() -> matchService.getRequestMatches(requestMember.getUsername(), requestMember.getId(), false, PageRequest.of(0, 10)))
                     .isInstanceOf(EntityNotFoundException.class);
         }
     }
@@ -203,9 +314,10 @@ public class PatientMatchServiceTest {
         void 성공한다() {
             when(requestMember.getId()).thenReturn(1L);
             when(memberRepository.findById(requestMember.getId())).thenReturn(Optional.of(requestMember));
-            when(matchRepository.findAllReceived(any(), any())).thenReturn(new PageImpl<>(List.of(match)));
+            when(matchRepository.findReceivedResponses(any(), anyBoolean(), any()))
+                    .thenReturn(new PageImpl<>(List.of(MatchResponse.of(match))));
 
-            MatchListResponse response = matchService.getReceivedMatches(requestMember.getUsername(), requestMember.getId(),
+            MatchListResponse response = matchService.getReceivedMatches(requestMember.getUsername(), requestMember.getId(), false,
                     PageRequest.of(0, 10));
 
             assertNotNull(response);
@@ -219,24 +331,171 @@ public class PatientMatchServiceTest {
 
             // then
             assertThatThrownBy(
-                    () -> matchService.getReceivedMatches(requestMember.getUsername(), requestMember.getId(), PageRequest.of(0, 10)))
+                    () -> matchService.getReceivedMatches(requestMember.getUsername(), requestMember.getId(), false, PageRequest.of(0, 10)))
                     .isInstanceOf(EntityNotFoundException.class);
         }
     }
 
-    /**
-     * TODO
-     * 매칭 수락, 취소 리팩토링 진행 후 테스트 작성 예정
-     */
+    @Nested
+    class 환자_요청보낸_매칭_커서_조회_시 {
+
+        @Test
+        void 다음_페이지가_있으면_마지막_매칭의_커서를_반환한다() {
+            // given
+            LocalDateTime createdDate = LocalDateTime.of(2024, 6, 1, 12, 0);
+            MatchResponse first = MatchResponse.builder().id(6L).createdDate(createdDate).build();
+            MatchResponse last = MatchResponse.builder().id(5L).createdDate(createdDate).build();
+            MatchResponse overflow = MatchResponse.builder().id(4L).createdDate(createdDate).build();
+            when(requestMember.getId()).thenReturn(1L);
+            when(memberRepository.findById(1L)).thenReturn(Optional.of(requestMember));
+            when(matchRepository.findRequestSlice(eq(1L), eq(MatchStatus.PENDING), isNull(), eq(false), eq(3)))
+                    .thenReturn(List.of(first, last, overflow));
+
+            // when
+            MatchSliceResponse response = matchService.getRequestMatchSlice(requestMember.getUsername(), 1L,
+                    MatchStatus.PENDING, null, false, 2);
+
+            // then
+            assertThat(response.getMatchList()).containsExactly(first, last);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(MatchCursor.decode(response.getNextCursor())).isEqualTo(new MatchCursor(createdDate, 5L));
+        }
+
+        @Test
+        void 마지막_페이지면_커서를_반환하지_않는다() {
+            // given
+            MatchCursor cursor = new MatchCursor(LocalDateTime.of(2024, 6, 1, 12, 0), 5L);
+            when(requestMember.getId()).thenReturn(1L);
+            when(memberRepository.findById(1L)).thenReturn(Optional.of(requestMember));
+            when(matchRepository.findRequestSlice(1L, null, cursor, true, 11))
+                    .thenReturn(List.of(MatchResponse.builder().id(4L).build()));
+
+            // when
+            MatchSliceResponse response = matchService.getRequestMatchSlice(requestMember.getUsername(), 1L, null,
+                    cursor.encode(), true, 10);
+
+            // then
+            assertThat(response.getMatchList()).hasSize(1);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        void 실패한다_잘못된_커서() {
+            // given
+            when(requestMember.getId()).thenReturn(1L);
+            when(memberRepository.findById(1L)).thenReturn(Optional.of(requestMember));
+
+            // then
+            assertThatThrownBy(() -> matchService.getRequestMatchSlice(requestMember.getUsername(), 1L, null,
+                    "not-a-cursor", false, 10))
+                    .isInstanceOf(InvalidValueException.class);
+        }
+    }
+
     @Nested
     class 환자_매칭_수락_시 {
 
+        Match receivedMatch = createMatchForCaregiver(responseMember, requestMember);
+
+        @Test
+        void 조건부_update_한_번으로_수락한다() {
+            // given
+            ProfileSnapshot snapshot = ProfileSnapshot.of(1, "{}");
+            when(requestMember.getId()).thenReturn(1L);
+            MemberView currentMember = viewOf(requestMember);
+            when(memberService.getMemberView(requestMember.getUsername())).thenReturn(currentMember);
+            when(patientRepository.findById(1L)).thenReturn(Optional.of(PatientFixture.defaultPatient()));
+            when(profileSnapshotService.snapshotOf(any(Patient.class))).thenReturn(snapshot);
+            when(matchRepository.acceptByPatient(eq(10L), eq(1L), eq(snapshot), any(LocalDateTime.class))).thenReturn(1);
+
+            // when
+            matchService.acceptMatch(10L, requestMember.getUsername());
+
+            // then
+            verify(matchRepository, never()).findById(any());
+        }
+
+        @Test
+        void 실패한다_이미_수락된_매칭() {
+            // given
+            receivedMatch.setMatchStatus(MatchStatus.ACCEPTED);
+            when(requestMember.getId()).thenReturn(1L);
+            MemberView currentMember = viewOf(requestMember);
+            when(memberService.getMemberView(requestMember.getUsername())).thenReturn(currentMember);
+            when(patientRepository.findById(1L)).thenReturn(Optional.of(PatientFixture.defaultPatient()));
+            when(matchRepository.acceptByPatient(eq(10L), eq(1L), any(), any(LocalDateTime.class))).thenReturn(0);
+            when(matchRepository.findById(10L)).thenReturn(Optional.of(receivedMatch));
 
+            // then
+            assertThatThrownBy(() -> matchService.acceptMatch(10L, requestMember.getUsername()))
+                    .isInstanceOf(DuplicateRequestException.class);
+        }
+
+        @Test
+        void 실패한다_동시에_상태가_변경됨() {
+            // given
+            when(requestMember.getId()).thenReturn(1L);
+            MemberView currentMember = viewOf(requestMember);
+            when(memberService.getMemberView(requestMember.getUsername())).thenReturn(currentMember);
+            when(patientRepository.findById(1L)).thenReturn(Optional.of(PatientFixture.defaultPatient()));
+            when(matchRepository.acceptByPatient(eq(10L), eq(1L), any(), any(LocalDateTime.class))).thenReturn(0);
+            when(matchRepository.findById(10L)).thenReturn(Optional.of(receivedMatch));
+
+            // then
+            assertThatThrownBy(() -> matchService.acceptMatch(10L, requestMember.getUsername()))
+                    .isInstanceOf(MatchStateConflictException.class);
+        }
     }
 
     @Nested
     class 환자_매칭_취소_시 {
 
+        @Test
+        void 조건부_update_한_번으로_취소한다() {
+            // given
+            when(requestMember.getId()).thenReturn(1L);
+            MemberView currentMember = viewOf(requestMember);
+            when(memberService.getMemberView(requestMember.getUsername())).thenReturn(currentMember);
+            when(matchRepository.cancel(eq(10L), eq(1L), eq(FirstRequest.PATIENT_FIRST), any(LocalDateTime.class)))
+                    .thenReturn(1);
+
+            // when
+            matchService.cancelMatch(10L, requestMember.getUsername());
+
+            // then
+            verify(matchRepository, never()).findById(any());
+        }
+
+        @Test
+        void 실패한다_이미_수락된_매칭() {
+            // given
+            match.setMatchStatus(MatchStatus.ACCEPTED);
+            when(requestMember.getId()).thenReturn(1L);
+            MemberView currentMember = viewOf(requestMember);
+            when(memberService.getMemberView(requestMember.getUsername())).thenReturn(currentMember);
+            when(matchRepository.cancel(eq(10L), eq(1L), eq(FirstRequest.PATIENT_FIRST), any(LocalDateTime.class)))
+                    .thenReturn(0);
+            when(matchRepository.findById(10L)).thenReturn(Optional.of(match));
+
+            // then
+            assertThatThrownBy(() -> matchService.cancelMatch(10L, requestMember.getUsername()))
+                    .isInstanceOf(DuplicateRequestException.class);
+        }
+    }
+
+    // 조건부 insert 가 반영되면, pendingPairKey 로 다시 읽을 때 insert 한 매칭이 나오도록 한다
+    private void givenInsertSucceeds() {
+        AtomicReference<Match> inserted = new AtomicReference<>();
+        when(matchRepository.insertIgnoringConflicts(any(Match.class))).thenAnswer(invocation -> {
+            inserted.set(invocation.getArgument(0));
+            return 1;
+        });
+        when(matchRepository.findByPendingPairKey(any())).thenAnswer(invocation -> Optional.ofNullable(inserted.get()));
+    }
 
+    private static MemberView viewOf(Member member) {
+        return new MemberView(member.getId(), member.getUsername(), member.getName(), member.getRole(),
+                member.getIsProfilePublic(), member.getIsCompleteProfile());
     }
 }
@@ -0,0 +1,146 @@
+package com.patientpal.backend.matching.service;
+
+import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForCaregiver;
+import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForPatient;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.matching.domain.Match;
+import com.patientpal.backend.matching.domain.MatchRepository;
+import com.patientpal.backend.matching.domain.ProfileSnapshot;
+import com.patientpal.backend.matching.domain.ProfileSnapshotRepository;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 백필은 배치마다 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다. 스냅샷 저장(insert ignore)은 MariaDB 호환 모드가 필요하다
+@DataJpaTest
+@Import({JpaAuditingConfig.class, ProfileSnapshotService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:profile-snapshot-backfill;MODE=MariaDB;DB_CLOSE_DELAY=-1")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class ProfileSnapshotBackfillSchedulerTest {
+
+    private static final String PATIENT_TEXT = "Patient Snapshot - Name: 환자, Address: 서울";
+    private static final String CAREGIVER_TEXT = "Caregiver Snapshot - Name: 간병인, Experience: 3 years";
+
+    @Autowired
+    private ProfileSnapshotService profileSnapshotService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileSnapshotRepository profileSnapshotRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private ProfileSnapshotBackfillScheduler profileSnapshotBackfillScheduler;
+    private boolean legacyColumnsAdded;
+
+    // 한 바퀴를 마치면 다시 돌지 않으므로 테스트마다 새로 만든다
+    @BeforeEach
+    void setUp() {
+        profileSnapshotBackfillScheduler = new ProfileSnapshotBackfillScheduler(profileSnapshotService, jdbcTemplate, transactionManager, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (legacyColumnsAdded) {
+            execute("alter table matches drop column patientProfileSnapshot");
+            execute("alter table matches drop column caregiverProfileSnapshot");
+        }
+        matchRepository.deleteAllInBatch();
+        profileSnapshotRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 텍스트_스냅샷을_해시_스냅샷으로_옮기고_텍스트_컬럼을_비운다() {
+        // given
+        Member patient = memberRepository.save(new Member("patient", "password", null, Provider.LOCAL, Role.USER));
+        Member caregiver = memberRepository.save(new Member("caregiver", "password", null, Provider.LOCAL, Role.CAREGIVER));
+        Match accepted = matchRepository.save(createMatchForPatient(patient, caregiver));
+        Match pending = matchRepository.save(createMatchForCaregiver(caregiver, patient));
+        addLegacyColumns();
+        setLegacyTexts(accepted, PATIENT_TEXT, CAREGIVER_TEXT);
+        setLegacyTexts(pending, PATIENT_TEXT, null);
+
+        // when
+        profileSnapshotBackfillScheduler.backfill();
+
+        // then
+        Map<String, Object> acceptedRow = findRow(accepted);
+        Map<String, Object> pendingRow = findRow(pending);
+        assertThat(acceptedRow.get("patient_snapshot_hash")).isEqualTo(pendingRow.get("patient_snapshot_hash"));
+        assertThat(pendingRow.get("caregiver_snapshot_hash")).isNull();
+        assertThat(acceptedRow.get("patientProfileSnapshot")).isNull();
+        assertThat(acceptedRow.get("caregiverProfileSnapshot")).isNull();
+
+        ProfileSnapshot patientSnapshot = profileSnapshotRepository.findById((String) acceptedRow.get("patient_snapshot_hash")).orElseThrow();
+        assertThat(patientSnapshot.getVersion()).isEqualTo(ProfileSnapshot.LEGACY_TEXT_VERSION);
+        assertThat(patientSnapshot.getPayload()).isEqualTo("\"" + PATIENT_TEXT + "\"");
+        assertThat(profileSnapshotRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void 텍스트_컬럼이_없는_스키마에서는_아무것도_하지_않는다() {
+        // when, then
+        assertThatCode(() -> profileSnapshotBackfillScheduler.backfill()).doesNotThrowAnyException();
+        assertThat(profileSnapshotRepository.count()).isZero();
+    }
+
+    private void addLegacyColumns() {
+        execute("alter table matches add column patientProfileSnapshot clob");
+        execute("alter table matches add column caregiverProfileSnapshot clob");
+        legacyColumnsAdded = true;
+    }
+
+    private void setLegacyTexts(Match match, String patientText, String caregiverText) {
+        jdbcTemplate.update("update matches set patientProfileSnapshot = :patientText, caregiverProfileSnapshot = :caregiverText "
+                        + "where match_id = :matchId",
+                new MapSqlParameterSource()
+                        .addValue("matchId", match.getId())
+                        .addValue("patientText", patientText)
+                        .addValue("caregiverText", caregiverText));
+    }
+
+    private Map<String, Object> findRow(Match match) {
+        return jdbcTemplate.queryForMap("select patient_snapshot_hash, caregiver_snapshot_hash, patientProfileSnapshot, "
+                + "caregiverProfileSnapshot from matches where match_id = :matchId", Map.of("matchId", match.getId()));
+    }
+
+    private void execute(String sql) {
+        jdbcTemplate.getJdbcTemplate().execute(sql);
+    }
+}
@@ -0,0 +1,117 @@
+package com.patientpal.backend.matching.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patientpal.backend.fixtures.patient.PatientFixture;
+import com.patientpal.backend.matching.domain.ProfileSnapshot;
+import com.patientpal.backend.matching.domain.ProfileSnapshotRepository;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+public class ProfileSnapshotServiceTest {
+
+    @Mock
+    private ProfileSnapshotRepository profileSnapshotRepository;
+
+    private ProfileSnapshotService profileSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        profileSnapshotService = new ProfileSnapshotService(profileSnapshotRepository, new ObjectMapper());
+    }
+
+    @Nested
+    class 환자_스냅샷_생성_시 {
+
+        @Test
+        void 구조화된_JSON_으로_저장한다() {
+            // given
+            givenNoStoredSnapshot();
+
+            // when
+            ProfileSnapshot snapshot = profileSnapshotService.snapshotOf(PatientFixture.defaultPatient());
+
+            // then
+            assertThat(snapshot.getVersion()).isEqualTo(1);
+            assertThat(snapshot.getHash()).hasSize(64);
+            assertThat(snapshot.getPayload())
+                    .startsWith("{\"version\":1")
+                    .contains("\"patientSignificant\":\"" + PatientFixture.PATIENT_SIGNIFICANT + "\"")
+                    .doesNotContain("careRequirements");
+        }
+
+        @Test
+        void 같은_내용의_스냅샷이_있으면_새로_저장하지_않는다() {
+            // given
+            ProfileSnapshot stored = ProfileSnapshot.of(1, "{}");
+            when(profileSnapshotRepository.findById(anyString())).thenReturn(Optional.of(stored));
+
+            // when
+            ProfileSnapshot snapshot = profileSnapshotService.snapshotOf(PatientFixture.defaultPatient());
+
+            // then
+            assertThat(snapshot).isSameAs(stored);
+            verify(profileSnapshotRepository, never()).insertIfAbsent(anyString(), anyInt(), anyString(), any(LocalDateTime.class));
+        }
+
+        @Test
+        void 동시에_먼저_저장된_스냅샷이_있으면_그_스냅샷을_참조한다() {
+            // given
+            ProfileSnapshot stored = ProfileSnapshot.of(1, "{}");
+            when(profileSnapshotRepository.findById(anyString())).thenReturn(Optional.empty());
+            when(profileSnapshotRepository.insertIfAbsent(anyString(), anyInt(), anyString(), any(LocalDateTime.class))).thenReturn(0);
+            when(profileSnapshotRepository.findCommittedByHash(anyString())).thenReturn(Optional.of(stored));
+
+            // when
+            ProfileSnapshot snapshot = profileSnapshotService.snapshotOf(PatientFixture.defaultPatient());
+
+            // then
+            assertThat(snapshot).isSameAs(stored);
+        }
+
+        @Test
+        void 내용이_같으면_같은_해시를_가진다() {
+            // given
+            givenNoStoredSnapshot();
+
+            // when
+            ProfileSnapshot first = profileSnapshotService.snapshotOf(PatientFixture.defaultPatient());
+            ProfileSnapshot second = profileSnapshotService.snapshotOf(PatientFixture.defaultPatient());
+
+            // then
+            assertThat(first.getHash()).isEqualTo(second.getHash());
+        }
+    }
+
+    // insert 한 스냅샷을 다시 읽으면 그 내용이 나오도록 한다
+    private void givenNoStoredSnapshot() {
+        List<ProfileSnapshot> inserted = new ArrayList<>();
+        when(profileSnapshotRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(profileSnapshotRepository.insertIfAbsent(anyString(), anyInt(), anyString(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            inserted.add(ProfileSnapshot.of(invocation.getArgument(1), invocation.getArgument(2)));
+            return 1;
+        });
+        when(profileSnapshotRepository.findCommittedByHash(anyString())).thenAnswer(invocation -> inserted.stream()
+                .filter(snapshot -> snapshot.getHash().equals(invocation.getArgument(0)))
+                .findFirst());
+    }
+}
@@ -0,0 +1,41 @@
+package com.patientpal.backend.member.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import org.junit.jupiter.api.Test;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class AddressTest {
+
+    @Test
+    void 우편번호로_좌표와_격자_칸을_채운다() {
+        // when
+        Address address = new Address("06236", "서울특별시 강남구 테헤란로 123", "4층").located();
+
+        // then
+        assertThat(address.isLocated()).isTrue();
+        assertThat(address.getLatitude()).isBetween(37.4, 37.6);
+        assertThat(address.getLongitude()).isBetween(126.9, 127.1);
+        assertThat(address.getGeoCell()).isEqualTo(GeoGrid.cellOf(new GeoPoint(address.getLatitude(), address.getLongitude())));
+        assertThat(address.getAddrDetail()).isEqualTo("4층");
+    }
+
+    @Test
+    void 우편번호를_모르면_좌표를_비워_둔다() {
+        // expect
+        assertThat(new Address("Seoul Street", "ho", "hi").located().isLocated()).isFalse();
+        assertThat(new Address("99999", "ho", "hi").located().isLocated()).isFalse();
+    }
+
+    @Test
+    void 같은_행의_이웃_칸은_번호가_이어진다() {
+        // given
+        GeoPoint point = new GeoPoint(37.52, 127.02);
+        GeoPoint east = new GeoPoint(37.52, 127.02 + GeoGrid.CELL_DEGREES);
+
+        // expect
+        assertThat(GeoGrid.cellOf(east) - GeoGrid.cellOf(point)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,71 @@
+package com.patientpal.backend.member.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import org.junit.jupiter.api.Test;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class RegionTest {
+
+    @Test
+    void 광역시_도로명_주소는_시도와_구를_읽는다() {
+        // when
+        Region region = Region.from(new Address("06236", "서울특별시 강남구 테헤란로 123", "4층"));
+
+        // then
+        assertThat(region.getRegionProvince()).isEqualTo(Province.SEOUL);
+        assertThat(region.getRegionCity()).isEqualTo("강남구");
+        assertThat(region.getRegionDistrict()).isNull();
+    }
+
+    @Test
+    void 일반구가_있는_시는_구까지_읽는다() {
+        // when
+        Region region = Region.from(new Address("13529", "경기 성남시 분당구 판교역로 235", null));
+
+        // then
+        assertThat(region.getRegionProvince()).isEqualTo(Province.GYEONGGI);
+        assertThat(region.getRegionCity()).isEqualTo("성남시");
+        assertThat(region.getRegionDistrict()).isEqualTo("분당구");
+    }
+
+    @Test
+    void 지번_주소는_동까지_읽는다() {
+        // when
+        Region region = Region.from(new Address(null, "부산광역시 해운대구 우동 1411", null));
+
+        // then
+        assertThat(region.getRegionProvince()).isEqualTo(Province.BUSAN);
+        assertThat(region.getRegionCity()).isEqualTo("해운대구");
+        assertThat(region.getRegionDistrict()).isEqualTo("우동");
+    }
+
+    @Test
+    void 우편번호가_있으면_시도는_우편번호를_따른다() {
+        // when
+        Region region = Region.from(new Address("63309", "제주시 첨단로 242", null));
+
+        // then
+        assertThat(region.getRegionProvince()).isEqualTo(Province.JEJU);
+        assertThat(region.getRegionCity()).isEqualTo("제주시");
+    }
+
+    @Test
+    void 시군구가_없는_세종시는_시도만_읽는다() {
+        // when
+        Region region = Region.from(new Address("30151", "세종특별자치시 한누리대로 2130", null));
+
+        // then
+        assertThat(region.getRegionProvince()).isEqualTo(Province.SEJONG);
+        assertThat(region.getRegionCity()).isNull();
+    }
+
+    @Test
+    void 해석할_수_없는_주소는_비워_둔다() {
+        // expect
+        assertThat(Region.from(new Address("Seoul Street", "ho", "hi"))).isNull();
+        assertThat(Region.from(null)).isNull();
+    }
+}
@@ -0,0 +1,121 @@
+package com.patientpal.backend.member.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.member.dto.MemberCredentials;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 회원 조회가 JOINED 상속의 하위 테이블 중 필요한 것만 읽는지 실행한 SQL 로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.patientpal.backend.member.repository.MemberLookupQueryTest$SqlRecorder")
+@Import(JpaAuditingConfig.class)
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class MemberLookupQueryTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        em.persist(Caregiver.builder().username("caregiver").password("password").provider(Provider.LOCAL).role(Role.CAREGIVER).build());
+        em.persist(Patient.builder().username("patient").password("password").provider(Provider.LOCAL).role(Role.USER).build());
+        em.flush();
+        em.clear();
+        SqlRecorder.clear();
+    }
+
+    @Test
+    void Member_로_조회하면_모든_하위_테이블을_조인한다() {
+        // when
+        memberRepository.findByUsername("caregiver");
+
+        // then
+        assertThat(SqlRecorder.statements()).singleElement()
+                .satisfies(sql -> assertThat(sql).contains("caregivers", "patients"));
+    }
+
+    @Test
+    void 로그인_정보는_members_만_읽는다() {
+        // when
+        MemberCredentials credentials = memberRepository.findCredentialsByUsername("patient").orElseThrow();
+
+        // then
+        assertThat(credentials.username()).isEqualTo("patient");
+        assertThat(credentials.password()).isEqualTo("password");
+        assertThat(SqlRecorder.statements()).singleElement()
+                .satisfies(sql -> assertThat(sql).contains("members").doesNotContain("caregivers", "patients"));
+    }
+
+    @Nested
+    class 하위_타입까지_조회하면 {
+
+        @Test
+        void 간병인을_한_번의_조회로_읽는다() {
+            // when
+            Member member = memberRepository.findResolvedByUsername("caregiver").orElseThrow();
+
+            // then
+            assertThat(member).isInstanceOf(Caregiver.class);
+            assertThat(SqlRecorder.statements()).hasSize(1);
+        }
+
+        @Test
+        void 환자를_한_번의_조회로_읽는다() {
+            // when
+            Member member = memberRepository.findResolvedByUsername("patient").orElseThrow();
+
+            // then
+            assertThat(member).isInstanceOf(Patient.class);
+            assertThat(SqlRecorder.statements()).hasSize(1);
+        }
+
+        @Test
+        void 없는_회원도_한_번만_조회한다() {
+            // when & then
+            assertThat(memberRepository.findResolvedByUsername("unknown")).isEmpty();
+            assertThat(SqlRecorder.statements()).hasSize(1);
+        }
+    }
+
+    // Hibernate 가 설정값의 클래스 이름으로 직접 생성하므로 public 이어야 한다
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase());
+            return sql;
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+    }
+}
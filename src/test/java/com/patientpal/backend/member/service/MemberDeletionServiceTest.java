@@ -0,0 +1,255 @@
+package com.patientpal.backend.member.service;
+
+import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForCaregiver;
+import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForPatient;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.patientpal.backend.auth.domain.RefreshToken;
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.common.exception.EntityNotFoundException;
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.matching.domain.Match;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.MemberDeletionJob;
+import com.patientpal.backend.member.domain.MemberDeletionStage;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.member.repository.MemberDeletionJobRepository;
+import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.notification.domain.Notification;
+import com.patientpal.backend.notification.domain.NotificationType;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.post.domain.Post;
+import com.patientpal.backend.post.domain.PostType;
+import com.patientpal.backend.review.domain.Review;
+import com.patientpal.backend.search.domain.PublicProfile;
+import com.patientpal.backend.search.service.ProfileSearchService;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "patientpal.member.deletion.batch-size=2")
+@Import({JpaAuditingConfig.class, MemberDeletionService.class, MemberDeletionScheduler.class})
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class MemberDeletionServiceTest {
+
+    @Autowired
+    private MemberDeletionService memberDeletionService;
+
+    @Autowired
+    private MemberDeletionScheduler memberDeletionScheduler;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberDeletionJobRepository memberDeletionJobRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @MockBean
+    private ProfileSearchService profileSearchService;
+
+    private Caregiver leaving;
+    private Patient other;
+
+    @BeforeEach
+    void setUp() {
+        leaving = Caregiver.builder().username("leaving").password("password").contact("010-1234-5678")
+                .provider(Provider.LOCAL).role(Role.CAREGIVER).isProfilePublic(true).build();
+        other = Patient.builder().username("other").password("password").provider(Provider.LOCAL).role(Role.USER).build();
+        Patient third = Patient.builder().username("third").password("password").provider(Provider.LOCAL).role(Role.USER).build();
+        Caregiver staying = Caregiver.builder().username("staying").password("password").provider(Provider.LOCAL).role(Role.CAREGIVER).build();
+        em.persist(leaving);
+        em.persist(other);
+        em.persist(third);
+        em.persist(staying);
+        em.persist(PublicProfile.of(leaving));
+
+        Match byOther = createMatchForPatient(other, leaving);
+        Match byThird = createMatchForPatient(third, leaving);
+        Match toOther = createMatchForCaregiver(leaving, other);
+        Match otherToStaying = createMatchForPatient(other, staying);
+        Stream.of(byOther, byThird, toOther, otherToStaying).forEach(em::persist);
+        em.persist(review(byOther, other, leaving));
+        em.persist(review(byThird, third, leaving));
+        em.persist(review(toOther, other, leaving));
+        em.persist(review(otherToStaying, other, staying));
+        for (int i = 0; i < 3; i++) {
+            em.persist(notification(leaving));
+            em.persist(post(leaving));
+        }
+        em.persist(notification(other));
+        em.persist(post(other));
+        em.persist(RefreshToken.builder().member(leaving).token("token").familyId("family").expiryDate(Instant.now().plusSeconds(60)).build());
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    class 탈퇴를_요청하면 {
+
+        @Test
+        void 바로_로그인할_수_없고_공개_프로필과_리프레시_토큰이_지워진다() {
+            // when
+            Long jobId = memberDeletionService.requestDeletion("leaving");
+            em.clear();
+
+            // then
+            Member tombstone = em.find(Member.class, leaving.getId());
+            assertThat(tombstone.getUsername()).startsWith("deleted:");
+            assertThat(tombstone.getPassword()).isNull();
+            assertThat(tombstone.getContact()).isNull();
+            assertThat(tombstone.getIsProfilePublic()).isFalse();
+            assertThat(memberRepository.findCredentialsByUsername("leaving")).isEmpty();
+            assertThat(em.find(PublicProfile.class, leaving.getId())).isNull();
+            assertThat(count("select count(r) from RefreshToken r")).isZero();
+            assertThat(memberDeletionJobRepository.findById(jobId)).get()
+                    .extracting(MemberDeletionJob::getStage)
+                    .isEqualTo(MemberDeletionStage.WRITTEN_REVIEWS);
+        }
+
+        @Test
+        void 없는_회원이면_예외가_발생한다() {
+            // when & then
+            assertThatThrownBy(() -> memberDeletionService.requestDeletion("unknown"))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+    }
+
+    @Nested
+    class 탈퇴_작업을_진행하면 {
+
+        @Test
+        void 탈퇴_회원의_데이터만_batch_단위로_모두_지운다() {
+            // given
+            Long jobId = memberDeletionService.requestDeletion("leaving");
+
+            // when
+            memberDeletionScheduler.purge();
+            em.clear();
+
+            // then
+            assertThat(em.find(Member.class, leaving.getId())).isNull();
+            assertThat(count("select count(m) from Match m")).isEqualTo(1);
+            assertThat(count("select count(n) from Notification n")).isEqualTo(1);
+            assertThat(count("select count(p) from Post p")).isEqualTo(1);
+            assertThat(count("select count(r) from Review r")).isEqualTo(1);
+            assertThat(em.find(Member.class, other.getId())).isNotNull();
+
+            MemberDeletionJob job = memberDeletionJobRepository.findById(jobId).orElseThrow();
+            assertThat(job.isCompleted()).isTrue();
+            assertThat(job.getCompletedDate()).isNotNull();
+            assertThat(job.getPurgedReviews()).isEqualTo(3);
+            assertThat(job.getPurgedMatches()).isEqualTo(3);
+            assertThat(job.getPurgedNotifications()).isEqualTo(3);
+            assertThat(job.getPurgedPosts()).isEqualTo(3);
+        }
+
+        @Test
+        void 한_번에_batch_크기만큼만_지우고_진행_상황을_남긴다() {
+            // given
+            Long jobId = memberDeletionService.requestDeletion("leaving");
+
+            // when
+            memberDeletionService.purgeNextBatch(jobId);
+            boolean completed = memberDeletionService.purgeNextBatch(jobId);
+            em.clear();
+
+            // then
+            assertThat(completed).isFalse();
+            assertThat(count("select count(r) from Review r")).isEqualTo(2);
+            MemberDeletionJob job = memberDeletionJobRepository.findById(jobId).orElseThrow();
+            assertThat(job.getStage()).isEqualTo(MemberDeletionStage.RECEIVED_REVIEWS);
+            assertThat(job.getPurgedReviews()).isEqualTo(2);
+        }
+
+        @Test
+        void 작성한_후기는_남기고_작성자_연결만_끊는다() {
+            // given
+            Long jobId = memberDeletionService.requestDeletion("other");
+
+            // when
+            memberDeletionScheduler.purge();
+            em.clear();
+
+            // then
+            assertThat(em.find(Member.class, other.getId())).isNull();
+            assertThat(count("select count(r) from Review r")).isEqualTo(4);
+            assertThat(count("select count(r) from Review r where r.reviewer is null and r.match is null")).isEqualTo(3);
+            assertThat(memberDeletionJobRepository.findById(jobId).orElseThrow().getPurgedReviews()).isEqualTo(3);
+        }
+
+        @Test
+        void 후기_단계가_끝난_뒤_저장된_후기도_정리하고_회원을_지운다() {
+            // given
+            Long jobId = memberDeletionService.requestDeletion("leaving");
+            while (memberDeletionJobRepository.findById(jobId).orElseThrow().getStage() != MemberDeletionStage.MEMBER) {
+                memberDeletionService.purgeNextBatch(jobId);
+            }
+            Member writer = em.find(Member.class, other.getId());
+            Member caregiver = em.find(Member.class, leaving.getId());
+            Match late = createMatchForPatient(writer, caregiver);
+            em.persist(late);
+            em.persist(review(late, writer, caregiver));
+            em.flush();
+            em.clear();
+
+            // when
+            boolean completed = memberDeletionService.purgeNextBatch(jobId);
+            em.clear();
+
+            // then
+            assertThat(completed).isTrue();
+            assertThat(em.find(Member.class, leaving.getId())).isNull();
+            assertThat(count("select count(r) from Review r")).isEqualTo(1);
+            assertThat(memberDeletionJobRepository.findById(jobId).orElseThrow().getPurgedReviews()).isEqualTo(4);
+        }
+
+        @Test
+        void 다른_노드가_먼저_진행한_작업이면_진행_상황을_덮어쓰지_않는다() {
+            // given
+            Long jobId = memberDeletionService.requestDeletion("leaving");
+            em.flush();
+            em.clear();
+            memberDeletionJobRepository.findById(jobId).orElseThrow();
+            em.createNativeQuery("update member_deletion_jobs set version = version + 1 where deletion_job_id = :id")
+                    .setParameter("id", jobId)
+                    .executeUpdate();
+
+            // when
+            memberDeletionService.purgeNextBatch(jobId);
+
+            // then
+            assertThatThrownBy(() -> em.flush()).isInstanceOf(OptimisticLockException.class);
+        }
+    }
+
+    private long count(String jpql) {
+        return em.createQuery(jpql, Long.class).getSingleResult();
+    }
+
+    private static Notification notification(Member receiver) {
+        return Notification.builder().receiver(receiver).notificationType(NotificationType.MATCH).content("매칭 요청").isRead(false).build();
+    }
+
+    private static Review review(Match match, Member reviewer, Member caregiver) {
+        return Review.builder().match(match).reviewer(reviewer).caregiver(caregiver).score(4).content("친절했어요").build();
+    }
+
+    private static Post post(Member member) {
+        return Post.builder().member(member).title("제목").content("내용").postType(PostType.FREE).build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.patientpal.backend.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.patientpal.backend.common.exception.EntityNotFoundException;
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.member.dto.MemberView;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaAuditingConfig.class, MemberService.class})
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+public class MemberViewCacheTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private EntityManager em;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member("caregiver", "password", null, Provider.LOCAL, Role.CAREGIVER);
+        em.persist(member);
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    class 요청_안에서_회원_조회_시 {
+
+        @Test
+        void 같은_요청에서는_한_번만_조회한다() {
+            // given
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+            // when
+            MemberView first = memberService.getMemberView("caregiver");
+            memberService.getMemberView("caregiver");
+            MemberView third = memberService.getMemberView("caregiver");
+
+            // then
+            assertThat(first.id()).isEqualTo(member.getId());
+            assertThat(first.role()).isEqualTo(Role.CAREGIVER);
+            assertThat(third).isSameAs(first);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        void 요청이_다르면_다시_조회한다() {
+            // when
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            memberService.getMemberView("caregiver");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            memberService.getMemberView("caregiver");
+
+            // then
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+
+        @Test
+        void 요청_컨텍스트가_없으면_매번_조회한다() {
+            // when
+            memberService.getMemberView("caregiver");
+            memberService.getMemberView("caregiver");
+            memberService.getMemberView("caregiver");
+
+            // then
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        }
+
+        @Test
+        void 존재하지_않는_회원이면_예외가_발생한다() {
+            // when & then
+            assertThatThrownBy(() -> memberService.getMemberView("unknown"))
+                    .isInstanceOf(EntityNotFoundException.class);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.patientpal.backend.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Province;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, RegionBackfillScheduler.class})
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class RegionBackfillSchedulerTest {
+
+    @Autowired
+    private RegionBackfillScheduler regionBackfillScheduler;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void 지역_코드가_없는_기존_주소를_채운다() {
+        // given
+        Member legacy = saveMember("legacy", new Address("04524", "서울특별시 중구 세종대로 110", null));
+        Member unknown = saveMember("unknown", new Address("Seoul Street", "ho", "hi"));
+        em.createNativeQuery("update members set regionProvince = null, regionCity = null, regionDistrict = null")
+                .executeUpdate();
+        em.clear();
+
+        // when
+        regionBackfillScheduler.backfill();
+        em.clear();
+
+        // then
+        Member filled = em.find(Member.class, legacy.getId());
+        assertThat(filled.getRegion().getRegionProvince()).isEqualTo(Province.SEOUL);
+        assertThat(filled.getRegion().getRegionCity()).isEqualTo("중구");
+        assertThat(em.find(Member.class, unknown.getId()).getRegion()).isNull();
+    }
+
+    private Member saveMember(String username, Address address) {
+        Member member = new Member(username, "password", null, Provider.LOCAL, Role.USER);
+        member.updateAddress(address);
+        em.persist(member);
+        em.flush();
+        return member;
+    }
+}
@@ -0,0 +1,32 @@
+package com.patientpal.backend.notification.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.notification.dto.NotificationDto;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class InMemoryNotificationBroadcasterTest {
+
+    @Test
+    void 발행한_알림을_모든_구독자에게_전달한다() {
+        // given
+        InMemoryNotificationBroadcaster broadcaster = new InMemoryNotificationBroadcaster();
+        List<NotificationBroadcast> first = new ArrayList<>();
+        List<NotificationBroadcast> second = new ArrayList<>();
+        broadcaster.subscribe(first::add);
+        broadcaster.subscribe(second::add);
+        NotificationBroadcast broadcast = new NotificationBroadcast("patient", 1L, NotificationDto.Response.builder().build());
+
+        // when
+        broadcaster.publish(broadcast);
+
+        // then
+        assertThat(first).containsExactly(broadcast);
+        assertThat(second).containsExactly(broadcast);
+    }
+}
@@ -0,0 +1,77 @@
+package com.patientpal.backend.notification.broadcast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.patientpal.backend.notification.dto.NotificationDto;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+@AutoKoreanDisplayName
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+class RedisNotificationBroadcasterTest {
+    private static final String CHANNEL = "patientpal:notification";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RedisNotificationBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new RedisNotificationBroadcaster(redisTemplate, listenerContainer, new ObjectMapper(), CHANNEL);
+    }
+
+    @Test
+    void 발행한_알림이_채널을_거쳐_구독자에게_그대로_전달된다() {
+        // given
+        List<NotificationBroadcast> received = new ArrayList<>();
+        broadcaster.subscribe(received::add);
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+
+        NotificationDto.Response response = NotificationDto.Response.builder()
+                .id("1")
+                .name("patient")
+                .content("새로운 매칭 요청이 있습니다.")
+                .type("MATCH")
+                .createdDate("2024-06-01T00:00")
+                .build();
+
+        // when
+        broadcaster.publish(new NotificationBroadcast("patient", 10L, response));
+
+        // then
+        ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), payloadCaptor.capture());
+        listenerCaptor.getValue().onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payloadCaptor.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(received).hasSize(1);
+        NotificationBroadcast broadcast = received.get(0);
+        assertThat(broadcast.receiver()).isEqualTo("patient");
+        assertThat(broadcast.eventId()).isEqualTo(10L);
+        assertThat(broadcast.response().getContent()).isEqualTo(response.getContent());
+        assertThat(broadcast.response().getId()).isEqualTo(response.getId());
+    }
+}
@@ -0,0 +1,61 @@
+package com.patientpal.backend.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class EmitterRepositoryImplTest {
+    private EmitterRepositoryImpl emitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepositoryImpl();
+    }
+
+    @Test
+    void 회원의_emitter_만_조회한다() {
+        // given
+        emitterRepository.save("kim", "kim_1", new SseEmitter());
+        emitterRepository.save("kim", "kim_2", new SseEmitter());
+        emitterRepository.save("kimberly", "kimberly_1", new SseEmitter());
+
+        // when
+        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterByUsername("kim");
+
+        // then
+        assertThat(emitters).containsOnlyKeys("kim_1", "kim_2");
+    }
+
+    @Test
+    void 마지막_emitter_가_삭제되면_조회되지_않는다() {
+        // given
+        emitterRepository.save("kim", "kim_1", new SseEmitter());
+
+        // when
+        emitterRepository.deleteById("kim", "kim_1");
+
+        // then
+        assertThat(emitterRepository.findAllEmitterByUsername("kim")).isEmpty();
+    }
+
+    @Test
+    void 회원의_emitter_를_모두_삭제한다() {
+        // given
+        emitterRepository.save("kim", "kim_1", new SseEmitter());
+        emitterRepository.save("kim", "kim_2", new SseEmitter());
+        emitterRepository.save("lee", "lee_1", new SseEmitter());
+
+        // when
+        emitterRepository.deleteAllEmitterByUsername("kim");
+
+        // then
+        assertThat(emitterRepository.findAllEmitterByUsername("kim")).isEmpty();
+        assertThat(emitterRepository.findAllEmitterByUsername("lee")).containsOnlyKeys("lee_1");
+    }
+}
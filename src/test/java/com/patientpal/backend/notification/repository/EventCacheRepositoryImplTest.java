@@ -0,0 +1,183 @@
+package com.patientpal.backend.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class EventCacheRepositoryImplTest {
+    private static final int CAPACITY_PER_MEMBER = 3;
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final int MAX_TOTAL_EVENTS = 5;
+
+    private MutableClock clock;
+    private EventCacheRepositoryImpl eventCacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-06-01T00:00:00Z"));
+        eventCacheRepository = new EventCacheRepositoryImpl(CAPACITY_PER_MEMBER, TTL, MAX_TOTAL_EVENTS, 0, clock);
+    }
+
+    @Test
+    void 이벤트_id_는_단조_증가한다() {
+        // when
+        CachedEvent first = eventCacheRepository.save("kim", "first");
+        CachedEvent second = eventCacheRepository.save("lee", "second");
+
+        // then
+        assertThat(second.id()).isGreaterThan(first.id());
+    }
+
+    @Test
+    void 서버_번호가_다르면_같은_시각에도_이벤트_id_가_겹치지_않는다() {
+        // given
+        EventCacheRepositoryImpl node1 = new EventCacheRepositoryImpl(CAPACITY_PER_MEMBER, TTL, MAX_TOTAL_EVENTS, 1, clock);
+        EventCacheRepositoryImpl node2 = new EventCacheRepositoryImpl(CAPACITY_PER_MEMBER, TTL, MAX_TOTAL_EVENTS, 2, clock);
+
+        // when
+        long first = node1.nextEventId();
+        long second = node2.nextEventId();
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first % 1000).isEqualTo(1);
+        assertThat(second % 1000).isEqualTo(2);
+        assertThat(first / 1000).isEqualTo(clock.millis());
+    }
+
+    @Nested
+    class 마지막_이벤트_이후_조회 {
+
+        @Test
+        void 이후에_저장된_이벤트만_순서대로_반환한다() {
+            // given
+            CachedEvent first = eventCacheRepository.save("kim", "first");
+            CachedEvent second = eventCacheRepository.save("kim", "second");
+            CachedEvent third = eventCacheRepository.save("kim", "third");
+
+            // when
+            List<CachedEvent> events = eventCacheRepository.findAllAfter("kim", first.id());
+
+            // then
+            assertThat(events).containsExactly(second, third);
+        }
+
+        @Test
+        void 다른_회원의_이벤트는_반환하지_않는다() {
+            // given
+            eventCacheRepository.save("kimberly", "other");
+
+            // when
+            List<CachedEvent> events = eventCacheRepository.findAllAfter("kim", 0L);
+
+            // then
+            assertThat(events).isEmpty();
+        }
+    }
+
+    @Nested
+    class 용량_제한 {
+
+        @Test
+        void 회원별_용량을_넘으면_가장_오래된_이벤트를_버린다() {
+            // given
+            CachedEvent first = eventCacheRepository.save("kim", "first");
+            eventCacheRepository.save("kim", "second");
+            eventCacheRepository.save("kim", "third");
+
+            // when
+            eventCacheRepository.save("kim", "fourth");
+
+            // then
+            assertThat(eventCacheRepository.findAllAfter("kim", 0L))
+                    .hasSize(CAPACITY_PER_MEMBER)
+                    .doesNotContain(first);
+        }
+
+        @Test
+        void 전체_상한을_넘으면_전체에서_가장_오래된_이벤트를_버린다() {
+            // given
+            CachedEvent oldest = eventCacheRepository.save("kim", "kim-1");
+            eventCacheRepository.save("kim", "kim-2");
+            eventCacheRepository.save("lee", "lee-1");
+            eventCacheRepository.save("lee", "lee-2");
+            eventCacheRepository.save("park", "park-1");
+
+            // when
+            eventCacheRepository.save("park", "park-2");
+
+            // then
+            assertThat(eventCacheRepository.size()).isEqualTo(MAX_TOTAL_EVENTS);
+            assertThat(eventCacheRepository.findAllAfter("kim", 0L)).doesNotContain(oldest);
+        }
+    }
+
+    @Nested
+    class 만료 {
+
+        @Test
+        void TTL_이_지난_이벤트는_조회되지_않는다() {
+            // given
+            eventCacheRepository.save("kim", "first");
+
+            // when
+            clock.advance(TTL.plusSeconds(1));
+
+            // then
+            assertThat(eventCacheRepository.findAllAfter("kim", 0L)).isEmpty();
+        }
+
+        @Test
+        void 만료_정리시_TTL_이_지난_이벤트만_제거한다() {
+            // given
+            eventCacheRepository.save("kim", "expired");
+            clock.advance(TTL.plusSeconds(1));
+            CachedEvent alive = eventCacheRepository.save("kim", "alive");
+
+            // when
+            eventCacheRepository.evictExpired();
+
+            // then
+            assertThat(eventCacheRepository.size()).isEqualTo(1);
+            assertThat(eventCacheRepository.findAllAfter("kim", 0L)).containsExactly(alive);
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.patientpal.backend.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.patientpal.backend.notification.domain.NotificationEvent;
+import com.patientpal.backend.notification.domain.NotificationType;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@AutoKoreanDisplayName
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 적재된_이벤트를_워커가_저장하고_전송한다() throws InterruptedException {
+        // given
+        NotificationDispatcher dispatcher = createDispatcher(10);
+        dispatcher.start();
+
+        // when
+        dispatcher.dispatch(createEvent());
+
+        // then
+        verify(notificationService, timeout(1000)).sendAll(anyList());
+        dispatcher.stop();
+    }
+
+    @Test
+    void 큐가_가득_차면_이벤트를_버리고_지표를_올린다() {
+        // given
+        NotificationDispatcher dispatcher = createDispatcher(1);
+        dispatcher.dispatch(createEvent());
+
+        // when
+        dispatcher.dispatch(createEvent());
+
+        // then
+        assertThat(meterRegistry.counter("notification.dispatch.dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("notification.dispatch.queue.depth").gauge().value()).isEqualTo(1.0);
+    }
+
+    private NotificationDispatcher createDispatcher(int queueCapacity) {
+        return new NotificationDispatcher(notificationService, meterRegistry, queueCapacity, 1, 10, Duration.ZERO);
+    }
+
+    private NotificationEvent createEvent() {
+        return new NotificationEvent(1L, "patient", NotificationType.MATCH, "새로운 매칭 요청이 있습니다.", "/api/v1/match/1");
+    }
+}
@@ -0,0 +1,85 @@
+package com.patientpal.backend.notification.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.patientpal.backend.notification.domain.NotificationEvent;
+import com.patientpal.backend.notification.domain.NotificationOutbox;
+import com.patientpal.backend.notification.domain.NotificationType;
+import com.patientpal.backend.notification.repository.NotificationOutboxRepository;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@AutoKoreanDisplayName
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+class NotificationOutboxServiceTest {
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @InjectMocks
+    private NotificationOutboxService notificationOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 커밋된_뒤에만_디스패처에_전달한다() {
+        // given
+        NotificationOutbox outbox = createOutbox();
+        when(notificationOutboxRepository.save(outbox)).thenReturn(outbox);
+
+        // when
+        notificationOutboxService.append(outbox);
+
+        // then
+        verify(notificationDispatcher, never()).dispatch(any(NotificationEvent.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(notificationDispatcher).dispatch(any(NotificationEvent.class));
+    }
+
+    @Test
+    void 롤백되면_디스패처에_전달하지_않는다() {
+        // given
+        NotificationOutbox outbox = createOutbox();
+        when(notificationOutboxRepository.save(outbox)).thenReturn(outbox);
+
+        // when
+        notificationOutboxService.append(outbox);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(notificationDispatcher, never()).dispatch(any(NotificationEvent.class));
+    }
+
+    private NotificationOutbox createOutbox() {
+        return NotificationOutbox.builder()
+                .receiver("patient")
+                .notificationType(NotificationType.MATCH)
+                .content("새로운 매칭 요청이 있습니다.")
+                .url("/api/v1/match/1")
+                .build();
+    }
+}
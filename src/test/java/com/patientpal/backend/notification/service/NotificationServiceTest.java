@@ -0,0 +1,110 @@
+package com.patientpal.backend.notification.service;
+
+import static com.patientpal.backend.fixtures.notification.NotificationFixture.createUnreadNotification;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.patientpal.backend.fixtures.member.MemberFixture;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.repository.MemberRepository;
+import com.patientpal.backend.notification.dto.NotificationDto;
+import com.patientpal.backend.notification.repository.NotificationBatchRepository;
+import com.patientpal.backend.notification.repository.NotificationRepository;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@AutoKoreanDisplayName
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("NonAsciiCharacters")
+class NotificationServiceTest {
+    private static final Long MEMBER_ID = 1L;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationBatchRepository notificationBatchRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    private final Member receiver = MemberFixture.defaultRolePatient();
+
+    @Nested
+    class 읽지_않은_알림_조회 {
+
+        @Test
+        void 다음_페이지가_있으면_마지막_알림_id_를_커서로_반환한다() {
+            // given
+            when(memberRepository.findIdByUsernameOrThrow(receiver.getUsername())).thenReturn(MEMBER_ID);
+            when(notificationRepository.findUnreadBefore(eq(MEMBER_ID), eq(Long.MAX_VALUE), any(Pageable.class)))
+                    .thenReturn(List.of(
+                            createUnreadNotification(receiver, 30L),
+                            createUnreadNotification(receiver, 20L),
+                            createUnreadNotification(receiver, 10L)));
+
+            // when
+            NotificationDto.ListResponse response = notificationService.getUnreadNotifications(receiver.getUsername(), null, 2);
+
+            // then
+            assertThat(response.getNotifications()).extracting(NotificationDto.Response::getId).containsExactly("30", "20");
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(response.getNextCursor()).isEqualTo(20L);
+        }
+
+        @Test
+        void 마지막_페이지면_커서가_없다() {
+            // given
+            when(memberRepository.findIdByUsernameOrThrow(receiver.getUsername())).thenReturn(MEMBER_ID);
+            when(notificationRepository.findUnreadBefore(eq(MEMBER_ID), eq(20L), any(Pageable.class)))
+                    .thenReturn(List.of(createUnreadNotification(receiver, 10L)));
+
+            // when
+            NotificationDto.ListResponse response = notificationService.getUnreadNotifications(receiver.getUsername(), 20L, 2);
+
+            // then
+            assertThat(response.getNotifications()).hasSize(1);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+    }
+
+    @Test
+    void 모두_읽음_처리하면_처리한_건수만큼_카운터를_차감한다() {
+        // given
+        when(memberRepository.findIdByUsernameOrThrow(receiver.getUsername())).thenReturn(MEMBER_ID);
+        when(notificationRepository.markAllAsRead(MEMBER_ID)).thenReturn(3);
+
+        // when
+        notificationService.setReadAll(receiver.getUsername());
+
+        // then
+        verify(notificationBatchRepository).decreaseUnreadCount(MEMBER_ID, 3);
+    }
+
+    @Test
+    void 읽지_않은_알림_수를_조회한다() {
+        // given
+        when(memberRepository.findUnreadNotificationCountByUsername(receiver.getUsername())).thenReturn(Optional.of(5L));
+
+        // when
+        long count = notificationService.getUnreadCount(receiver.getUsername());
+
+        // then
+        assertThat(count).isEqualTo(5L);
+    }
+}
@@ -0,0 +1,88 @@
+package com.patientpal.backend.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.patientpal.backend.notification.repository.EmitterRepositoryImpl;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class SseHeartbeatSchedulerTest {
+    private EmitterRepositoryImpl emitterRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private SseHeartbeatScheduler heartbeatScheduler;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepositoryImpl();
+        meterRegistry = new SimpleMeterRegistry();
+        heartbeatScheduler = new SseHeartbeatScheduler(emitterRepository, meterRegistry, 1, 2, Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        heartbeatScheduler.shutdown();
+    }
+
+    @Test
+    void 끊어진_연결만_정리한다() throws IOException {
+        // given
+        SseEmitter alive = mock(SseEmitter.class);
+        SseEmitter broken = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(broken).send(any(SseEmitter.SseEventBuilder.class));
+        emitterRepository.save("kim", "kim_1", alive);
+        emitterRepository.save("kim", "kim_2", broken);
+
+        // when
+        heartbeatScheduler.heartbeat();
+
+        // then
+        verify(alive).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(emitterRepository.findAllEmitterByUsername("kim")).containsOnlyKeys("kim_1");
+        assertThat(meterRegistry.counter("notification.sse.reaped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("notification.sse.connections").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 제한_시간_안에_전송이_끝나지_않는_연결은_정리한다() throws IOException {
+        // given
+        SseEmitter alive = mock(SseEmitter.class);
+        SseEmitter stuck = mock(SseEmitter.class);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(stuck).send(any(SseEmitter.SseEventBuilder.class));
+        emitterRepository.save("kim", "kim_1", alive);
+        emitterRepository.save("kim", "kim_2", stuck);
+
+        // when
+        heartbeatScheduler.heartbeat();
+
+        // then
+        verify(alive).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(emitterRepository.findAllEmitterByUsername("kim")).containsOnlyKeys("kim_1");
+        assertThat(meterRegistry.counter("notification.sse.reaped").count()).isEqualTo(1.0);
+        verify(stuck, never()).complete();
+
+        // 막혀 있던 전송이 끝나면 그때 연결을 닫는다
+        release.countDown();
+        verify(stuck, timeout(1000)).complete();
+        assertThat(meterRegistry.counter("notification.sse.reaped").count()).isEqualTo(1.0);
+    }
+}
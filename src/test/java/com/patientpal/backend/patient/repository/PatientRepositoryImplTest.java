@@ -0,0 +1,191 @@
+package com.patientpal.backend.patient.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.caregiver.dto.response.CaregiverProfileResponse;
+import com.patientpal.backend.caregiver.repository.CaregiverRepository;
+import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.search.domain.PublicProfile;
+import com.patientpal.backend.search.repository.PublicProfileRepository;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class PatientRepositoryImplTest {
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private CaregiverRepository caregiverRepository;
+
+    @Autowired
+    private PublicProfileRepository publicProfileRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        saveCaregiver("jeju", new Address("63309", "제주특별자치도 제주시 첨단로 242", null));
+        saveCaregiver("busan", new Address("48058", "부산광역시 해운대구 센텀서로 30", null));
+        saveCaregiver("unknown", new Address(null, "주소 미상", null));
+        saveCaregiver("gangnam", new Address("06236", "서울특별시 강남구 테헤란로 123", null));
+        saveCaregiver("bundang", new Address("13529", "경기도 성남시 분당구 판교역로 235", null));
+        saveCaregiver("hidden", new Address("06236", "서울특별시 강남구 테헤란로 123", null), false);
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    class 거리순_정렬_시 {
+
+        @Test
+        void 가까운_격자에서_한_페이지가_채워지면_그대로_돌려준다() {
+            // when
+            List<String> names = search(PageRequest.of(0, 2, Sort.by(ProfileSearchCondition.DISTANCE_SORT)));
+
+            // then
+            assertThat(names).containsExactly("gangnam", "bundang");
+        }
+
+        @Test
+        void 주변에_충분히_없으면_전체를_거리순으로_보고_좌표가_없는_프로필은_맨_뒤에_둔다() {
+            // when
+            List<String> names = search(PageRequest.of(0, 5, Sort.by(ProfileSearchCondition.DISTANCE_SORT)));
+
+            // then
+            assertThat(names).containsExactly("gangnam", "bundang", "busan", "jeju", "unknown");
+        }
+
+        @Test
+        void 다음_페이지도_거리순을_이어간다() {
+            // when
+            List<String> names = search(PageRequest.of(1, 2, Sort.by(ProfileSearchCondition.DISTANCE_SORT)));
+
+            // then
+            assertThat(names).containsExactly("busan", "jeju");
+        }
+    }
+
+    @Nested
+    class 조건_검색_시 {
+
+        @Test
+        void 다음_페이지가_있는지_한_건_더_읽어_알려준다() {
+            // when
+            Slice<CaregiverProfileResponse> first = patientRepository.searchCaregiverProfilesOrderBy(new ProfileSearchCondition(), PageRequest.of(0, 3));
+            Slice<CaregiverProfileResponse> last = patientRepository.searchCaregiverProfilesOrderBy(new ProfileSearchCondition(), PageRequest.of(1, 3));
+
+            // then
+            assertThat(first.getContent()).hasSize(3);
+            assertThat(first.hasNext()).isTrue();
+            assertThat(last.getContent()).hasSize(2);
+            assertThat(last.hasNext()).isFalse();
+        }
+
+        @Test
+        void 개수도_검색과_같은_조건으로_센다() {
+            // given
+            ProfileSearchCondition condition = new ProfileSearchCondition();
+            condition.setFirstAddress("서울");
+
+            // when
+            long count = patientRepository.countCaregiverProfiles(condition);
+
+            // then
+            assertThat(count).isEqualTo(1);
+        }
+
+        @Test
+        void 비공개_프로필은_세지_않는다() {
+            // when
+            long count = patientRepository.countCaregiverProfiles(new ProfileSearchCondition());
+
+            // then
+            assertThat(count).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    class 평점순_정렬_시 {
+
+        @Test
+        void 평점이_같으면_최근_가입한_회원부터_보여준다() {
+            // given
+            saveCaregiver("rated", new Address("06236", "서울특별시 강남구 테헤란로 123", null), 4.5f);
+            saveCaregiver("ratedLater", new Address("06236", "서울특별시 강남구 테헤란로 123", null), 4.5f);
+            em.flush();
+            em.clear();
+
+            // when
+            List<String> names = patientRepository.searchCaregiverProfilesOrderBy(new ProfileSearchCondition(),
+                            PageRequest.of(0, 3, Sort.by("rating"))).getContent().stream()
+                    .map(CaregiverProfileResponse::getName)
+                    .toList();
+
+            // then
+            assertThat(names).containsExactly("ratedLater", "rated", "bundang");
+        }
+    }
+
+    private List<String> search(PageRequest pageable) {
+        ProfileSearchCondition condition = new ProfileSearchCondition();
+        condition.setLatitude(37.50);
+        condition.setLongitude(127.03);
+        return patientRepository.searchCaregiverProfilesOrderBy(condition, pageable).getContent().stream()
+                .map(CaregiverProfileResponse::getName)
+                .toList();
+    }
+
+    private void saveCaregiver(String name, Address address) {
+        saveCaregiver(name, address, true);
+    }
+
+    private void saveCaregiver(String name, Address address, float rating) {
+        saveCaregiver(name, address, true, rating);
+    }
+
+    private void saveCaregiver(String name, Address address, boolean isProfilePublic) {
+        saveCaregiver(name, address, isProfilePublic, 0f);
+    }
+
+    private void saveCaregiver(String name, Address address, boolean isProfilePublic, float rating) {
+        Caregiver caregiver = Caregiver.builder()
+                .username(name)
+                .name(name)
+                .provider(Provider.LOCAL)
+                .role(Role.USER)
+                .build();
+        caregiver.updateAddress(address);
+        caregiver.setIsProfilePublic(isProfilePublic);
+        em.persist(caregiver);
+        if (isProfilePublic) {
+            em.persist(PublicProfile.of(caregiver));
+        }
+        // 평점은 후기로만 바뀌므로 후기 하나를 받은 것처럼 집계를 맞춘다
+        if (rating > 0) {
+            em.flush();
+            caregiverRepository.addReview(caregiver.getId(), rating, 1, rating);
+            publicProfileRepository.updateReviewAggregate(caregiver.getId(), rating, rating, 1);
+        }
+    }
+}
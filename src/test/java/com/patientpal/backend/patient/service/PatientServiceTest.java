@@ -11,12 +11,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.patientpal.backend.caregiver.dto.response.CaregiverProfileListResponse;
+import com.patientpal.backend.caregiver.dto.response.CaregiverProfileResponse;
 import com.patientpal.backend.common.exception.BusinessException;
 import com.patientpal.backend.common.exception.EntityNotFoundException;
 import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
 import com.patientpal.backend.matching.domain.MatchRepository;
+import com.patientpal.backend.member.domain.GeoPoint;
 import com.patientpal.backend.member.domain.Member;
 import com.patientpal.backend.member.repository.MemberRepository;
 import com.patientpal.backend.patient.domain.Patient;
@@ -24,7 +32,13 @@ import com.patientpal.backend.patient.dto.request.PatientProfileCreateRequest;
 import com.patientpal.backend.patient.dto.request.PatientProfileUpdateRequest;
 import com.patientpal.backend.patient.dto.response.PatientProfileDetailResponse;
 import com.patientpal.backend.patient.repository.PatientRepository;
+import com.patientpal.backend.search.domain.ProfileSearchHits;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.patientpal.backend.search.service.ProfileCountCache;
+import com.patientpal.backend.search.service.ProfileSearchService;
+import com.patientpal.backend.search.service.PublicProfileDirectory;
 import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +48,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
 @SuppressWarnings("NonAsciiCharacters")
@@ -49,6 +68,15 @@ class PatientServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ProfileSearchService profileSearchService;
+
+    @Mock
+    private ProfileCountCache profileCountCache;
+
+    @Mock
+    private PublicProfileDirectory publicProfileDirectory;
+
     @InjectMocks
     private PatientService patientService;
 
@@ -61,8 +89,7 @@ class PatientServiceTest {
         void 성공적으로_생성한다() {
             // given
             Member member = defaultRolePatient();
-            when(memberRepository.findByUsername(member.getUsername())).thenReturn(Optional.of(member));
-            when(patientRepository.findById(member.getId())).thenReturn(Optional.of(patient));
+            when(memberRepository.findPatientByUsername(member.getUsername())).thenReturn(Optional.of(patient));
             PatientProfileCreateRequest request = createPatientProfileRequest();
 
             // when
@@ -79,7 +106,7 @@ class PatientServiceTest {
             // given
             PatientProfileCreateRequest request = createPatientProfileRequest();
             Member member = defaultRoleCaregiver();
-            when(memberRepository.findByUsername(member.getUsername())).thenReturn(Optional.of(member));
+            when(memberRepository.findPatientByUsername(member.getUsername())).thenReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> patientService.savePatientProfile(member.getUsername(), request, any(String.class)))
@@ -173,6 +200,8 @@ class PatientServiceTest {
 
             // then
             assertThat(patient.getIsProfilePublic()).isFalse();
+            verify(publicProfileDirectory).sync(patient);
+            verify(profileCountCache).invalidateAfterCommit(ProfileType.PATIENT);
         }
 
         @Test
@@ -186,4 +215,84 @@ class PatientServiceTest {
                     .hasMessageContaining(ErrorCode.AUTHORIZATION_FAILED.getMessage());
         }
     }
+
+    @Nested
+    class 간병인_검색_시에 {
+
+        @Test
+        void 검색어가_있으면_색인_순위대로_프로필을_조회한다() {
+            // given
+            ProfileSearchCondition condition = new ProfileSearchCondition();
+            condition.setKeyword("김 치매");
+            PageRequest pageable = PageRequest.of(0, 5);
+            CaregiverProfileResponse first = mock(CaregiverProfileResponse.class);
+            CaregiverProfileResponse second = mock(CaregiverProfileResponse.class);
+            when(profileSearchService.search(ProfileType.CAREGIVER, condition, pageable))
+                    .thenReturn(new ProfileSearchHits(List.of(7L, 3L), 2));
+            when(patientRepository.findCaregiverProfilesByIds(List.of(7L, 3L))).thenReturn(List.of(first, second));
+
+            // when
+            CaregiverProfileListResponse response = patientService.searchPageOrderBy(patient.getUsername(), condition, pageable);
+
+            // then
+            assertThat(response.getCaregiverProfileList()).containsExactly(first, second);
+            assertThat(response.getTotalItems()).isEqualTo(2);
+            verify(patientRepository, never()).searchCaregiverProfilesOrderBy(any(), any());
+        }
+
+        @Test
+        void 검색어가_없으면_조건_검색을_사용한다() {
+            // given
+            ProfileSearchCondition condition = new ProfileSearchCondition();
+            PageRequest pageable = PageRequest.of(0, 5);
+            Slice<CaregiverProfileResponse> slice = new SliceImpl<>(List.of(), pageable, false);
+            when(patientRepository.searchCaregiverProfilesOrderBy(condition, pageable)).thenReturn(slice);
+            when(profileCountCache.toPage(eq(ProfileType.CAREGIVER), eq(condition), eq(slice), any())).thenReturn(Page.empty(pageable));
+
+            // when
+            patientService.searchPageOrderBy(patient.getUsername(), condition, pageable);
+
+            // then
+            verify(profileSearchService, never()).search(any(), any(), any());
+        }
+
+        @Test
+        void 개수를_세지_않으면_다음_페이지_여부만_돌려준다() {
+            // given
+            ProfileSearchCondition condition = new ProfileSearchCondition();
+            condition.setSkipCount(true);
+            PageRequest pageable = PageRequest.of(0, 5);
+            CaregiverProfileResponse profile = mock(CaregiverProfileResponse.class);
+            when(patientRepository.searchCaregiverProfilesOrderBy(condition, pageable))
+                    .thenReturn(new SliceImpl<>(List.of(profile), pageable, true));
+
+            // when
+            CaregiverProfileListResponse response = patientService.searchPageOrderBy(patient.getUsername(), condition, pageable);
+
+            // then
+            assertThat(response.getCaregiverProfileList()).containsExactly(profile);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(response.getTotalItems()).isNull();
+            verify(patientRepository, never()).countCaregiverProfiles(any());
+            verify(profileCountCache, never()).toPage(any(), any(), any(), any());
+        }
+
+        @Test
+        void 거리순인데_기준_위치가_없으면_내_주소_좌표를_쓴다() {
+            // given
+            ProfileSearchCondition condition = new ProfileSearchCondition();
+            PageRequest pageable = PageRequest.of(0, 5, Sort.by(ProfileSearchCondition.DISTANCE_SORT));
+            when(memberRepository.findLocationByUsernameOrThrow(patient.getUsername()))
+                    .thenReturn(new GeoPoint(37.5, 127.0));
+            when(patientRepository.searchCaregiverProfilesOrderBy(condition, pageable)).thenReturn(Page.empty(pageable));
+            when(profileCountCache.toPage(any(), any(), any(), any())).thenReturn(Page.empty(pageable));
+
+            // when
+            patientService.searchPageOrderBy(patient.getUsername(), condition, pageable);
+
+            // then
+            assertThat(condition.getLatitude()).isEqualTo(37.5);
+            assertThat(condition.getLongitude()).isEqualTo(127.0);
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package com.patientpal.backend.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.member.dto.MemberView;
+import com.patientpal.backend.member.service.MemberService;
+import com.patientpal.backend.post.domain.Post;
+import com.patientpal.backend.post.domain.PostType;
+import com.patientpal.backend.post.dto.PostCreateRequest;
+import com.patientpal.backend.post.dto.PostCreateResponse;
+import com.patientpal.backend.post.dto.PostListResponse;
+import com.patientpal.backend.post.dto.PostResponse;
+import com.patientpal.backend.post.dto.PostUpdateRequest;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 게시판 API 가 응답을 만들 때까지 실행하는 SQL 문 수를 센다. 컨트롤러가 하는 일(요청 회원 조회, 서비스 호출, 응답 변환)을 그대로 따라 한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaAuditingConfig.class, MemberService.class, PostService.class})
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+public class PostQueryCountTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private EntityManager em;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    private Statistics statistics;
+    private Member author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = new Member("author", "password", null, Provider.LOCAL, Role.USER);
+        author.updateName("작성자");
+        em.persist(author);
+        post = Post.builder().member(author).title("제목").content("내용").postType(PostType.FREE).build();
+        em.persist(post);
+        em.persist(Post.builder().member(author).title("제목2").content("내용2").postType(PostType.FREE).build());
+        em.flush();
+        em.clear();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    class 글을_읽을_때 {
+
+        @Test
+        void 단건_조회는_작성자_이름까지_한_번에_읽는다() {
+            // when
+            PostResponse response = postService.getPost(post.getId());
+
+            // then
+            assertThat(response.getName()).isEqualTo("작성자");
+            assertThat(response.getMemberId()).isEqualTo(author.getId());
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        void 목록_조회는_글_수와_관계없이_한_번에_읽는다() {
+            // when
+            List<PostListResponse> responses = postService.getFreePosts();
+
+            // then
+            assertThat(responses).hasSize(2)
+                    .extracting(PostListResponse::getName)
+                    .containsOnly("작성자");
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+    }
+
+    @Nested
+    class 글을_쓸_때 {
+
+        @Test
+        void 작성자는_요청_회원_조회_외에_다시_읽지_않는다() {
+            // when
+            MemberView currentMember = memberService.getMemberView("author");
+            Post created = postService.createFreePost(currentMember, new PostCreateRequest("새 글", "내용"));
+            PostCreateResponse response = new PostCreateResponse(created, currentMember.name());
+
+            // then
+            assertThat(response.getName()).isEqualTo("작성자");
+            assertThat(response.getMemberId()).isEqualTo(author.getId());
+            // 회원 뷰 조회 1, insert 1
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+        }
+
+        @Test
+        void 수정은_글만_읽고_작성자는_읽지_않는다() {
+            // when
+            MemberView currentMember = memberService.getMemberView("author");
+            Post updated = postService.updatePost(currentMember, post.getId(), new PostUpdateRequest("고친 제목", "고친 내용"));
+            PostResponse response = new PostResponse(updated, currentMember.name());
+            em.flush();
+
+            // then
+            assertThat(response.getName()).isEqualTo("작성자");
+            assertThat(response.getTitle()).isEqualTo("고친 제목");
+            // 회원 뷰 조회 1, 글 조회 1, update 1
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+        }
+    }
+}
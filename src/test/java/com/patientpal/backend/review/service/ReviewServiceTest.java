@@ -0,0 +1,199 @@
+package com.patientpal.backend.review.service;
+
+import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForCaregiver;
+import static com.patientpal.backend.fixtures.match.MatchFixture.createMatchForPatient;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.common.exception.AuthorizationException;
+import com.patientpal.backend.common.exception.BusinessException;
+import com.patientpal.backend.common.exception.EntityNotFoundException;
+import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.matching.domain.Match;
+import com.patientpal.backend.matching.domain.MatchStatus;
+import com.patientpal.backend.member.domain.MemberDeletionJob;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.notification.domain.NotificationType;
+import com.patientpal.backend.notification.service.NotificationOutboxService;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.review.dto.ReviewCreateRequest;
+import com.patientpal.backend.review.dto.ReviewListResponse;
+import com.patientpal.backend.search.domain.PublicProfile;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, ReviewService.class})
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class ReviewServiceTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private EntityManager em;
+
+    @MockBean
+    private NotificationOutboxService notificationOutboxService;
+
+    private Caregiver caregiver;
+    private Patient kim;
+    private Patient lee;
+
+    @BeforeEach
+    void setUp() {
+        caregiver = Caregiver.builder().username("caregiver").password("password").provider(Provider.LOCAL)
+                .role(Role.CAREGIVER).isProfilePublic(true).build();
+        kim = Patient.builder().username("kim").password("password").provider(Provider.LOCAL).role(Role.USER).build();
+        lee = Patient.builder().username("lee").password("password").provider(Provider.LOCAL).role(Role.USER).build();
+        em.persist(caregiver);
+        em.persist(kim);
+        em.persist(lee);
+        em.persist(PublicProfile.of(caregiver));
+        em.flush();
+    }
+
+    @Nested
+    class 후기를_작성하면 {
+
+        @Test
+        void 간병인과_공개_프로필의_후기_집계가_함께_갱신된다() {
+            // given
+            Match byKim = accepted(createMatchForPatient(kim, caregiver));
+            Match byCaregiver = accepted(createMatchForCaregiver(caregiver, lee));
+
+            // when
+            reviewService.createReview("kim", byKim.getId(), new ReviewCreateRequest(5, "친절했어요"));
+            reviewService.createReview("lee", byCaregiver.getId(), new ReviewCreateRequest(2, null));
+            em.clear();
+
+            // then
+            Caregiver saved = em.find(Caregiver.class, caregiver.getId());
+            assertThat(saved.getReviewCount()).isEqualTo(2);
+            assertThat(saved.getRating()).isEqualTo(3.5f);
+            assertThat(saved.getRecentRating()).isCloseTo(3.5f, within(0.01f));
+
+            PublicProfile profile = em.find(PublicProfile.class, caregiver.getId());
+            assertThat(profile.getReviewCount()).isEqualTo(2);
+            assertThat(profile.getRating()).isEqualTo(3.5f);
+            assertThat(profile.getRecentRating()).isEqualTo(saved.getRecentRating());
+        }
+
+        @Test
+        void 간병인에게_알림을_남긴다() {
+            // given
+            Match match = accepted(createMatchForPatient(kim, caregiver));
+
+            // when
+            reviewService.createReview("kim", match.getId(), new ReviewCreateRequest(4, "좋았어요"));
+
+            // then
+            verify(notificationOutboxService).append(argThat(outbox ->
+                    outbox.getReceiver().equals("caregiver") && outbox.getNotificationType() == NotificationType.REVIEW));
+        }
+
+        @Test
+        void 같은_매칭에_다시_작성하면_예외가_발생한다() {
+            // given
+            Match match = accepted(createMatchForPatient(kim, caregiver));
+            reviewService.createReview("kim", match.getId(), new ReviewCreateRequest(4, null));
+
+            // when & then
+            assertThatThrownBy(() -> reviewService.createReview("kim", match.getId(), new ReviewCreateRequest(1, null)))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.REVIEW_ALREADY_EXIST);
+        }
+
+        @Test
+        void 수락되지_않은_매칭이면_예외가_발생한다() {
+            // given
+            Match match = createMatchForPatient(kim, caregiver);
+            em.persist(match);
+
+            // when & then
+            assertThatThrownBy(() -> reviewService.createReview("kim", match.getId(), new ReviewCreateRequest(4, null)))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.REVIEW_NOT_ALLOWED);
+        }
+
+        @Test
+        void 매칭의_환자가_아니면_예외가_발생한다() {
+            // given
+            Match match = accepted(createMatchForPatient(kim, caregiver));
+
+            // when & then
+            assertThatThrownBy(() -> reviewService.createReview("lee", match.getId(), new ReviewCreateRequest(4, null)))
+                    .isInstanceOf(AuthorizationException.class);
+        }
+
+        @Test
+        void 탈퇴_중인_간병인이면_예외가_발생한다() {
+            // given
+            Match match = accepted(createMatchForPatient(kim, caregiver));
+            em.persist(new MemberDeletionJob(caregiver.getId()));
+
+            // when & then
+            assertThatThrownBy(() -> reviewService.createReview("kim", match.getId(), new ReviewCreateRequest(4, null)))
+                    .isInstanceOf(EntityNotFoundException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.CAREGIVER_NOT_EXIST);
+        }
+    }
+
+    @Test
+    void 후기_목록을_최신순으로_cursor_단위로_조회한다() {
+        // given
+        Long first = reviewService.createReview("kim", accepted(createMatchForPatient(kim, caregiver)).getId(),
+                new ReviewCreateRequest(5, null)).getId();
+        Long second = reviewService.createReview("lee", accepted(createMatchForPatient(lee, caregiver)).getId(),
+                new ReviewCreateRequest(3, null)).getId();
+
+        // when
+        ReviewListResponse firstPage = reviewService.getReviews(caregiver.getId(), null, 1);
+        ReviewListResponse lastPage = reviewService.getReviews(caregiver.getId(), firstPage.getNextCursor(), 1);
+
+        // then
+        assertThat(firstPage.getReviews()).singleElement().extracting("id").isEqualTo(second);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(lastPage.getReviews()).singleElement().extracting("id").isEqualTo(first);
+        assertThat(lastPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    void 최근_후기일수록_가중치가_크고_반감기마다_두_배가_된다() {
+        // given
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        // when
+        double current = reviewService.recencyWeight(now);
+        double halfLifeLater = reviewService.recencyWeight(now.plus(Duration.ofDays(90)));
+
+        // then
+        assertThat(halfLifeLater / current).isCloseTo(2.0, within(1e-9));
+    }
+
+    private Match accepted(Match match) {
+        match.setMatchStatus(MatchStatus.ACCEPTED);
+        em.persist(match);
+        em.flush();
+        return match;
+    }
+}
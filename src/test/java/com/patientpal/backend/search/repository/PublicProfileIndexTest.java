@@ -0,0 +1,120 @@
+package com.patientpal.backend.search.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.search.domain.PublicProfile;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 지역/거리 필터가 공개 프로필 목록의 인덱스를 타는지 MariaDB 호환 모드의 실행 계획으로 확인한다.
+ * 쿼리는 CaregiverRepositoryImpl/PatientRepositoryImpl 이 public_profile_directory 에 만드는 조건과 같은 모양이다.
+ */
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:directory-index;MODE=MariaDB;DB_CLOSE_DELAY=-1")
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class PublicProfileIndexTest {
+
+    private static final String[] ZIP_CODES = {"06234", "04001", "48094", "13529", "42250"};
+    private static final String[] ADDRESSES = {"서울특별시 강남구 테헤란로", "서울특별시 마포구 양화로",
+            "부산광역시 해운대구 해운대로", "경기도 성남시 분당구 판교역로", "대구광역시 수성구 달구벌대로"};
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 200; i++) {
+            Caregiver caregiver = Caregiver.builder()
+                    .username("caregiver" + i)
+                    .provider(Provider.LOCAL)
+                    .role(Role.CAREGIVER)
+                    .build();
+            caregiver.updateAddress(address(i));
+            em.persist(caregiver);
+            em.persist(PublicProfile.of(caregiver));
+        }
+        for (int i = 0; i < 50; i++) {
+            Patient patient = Patient.builder()
+                    .username("patient" + i)
+                    .provider(Provider.LOCAL)
+                    .role(Role.USER)
+                    .build();
+            patient.updateAddress(address(i));
+            em.persist(patient);
+            em.persist(PublicProfile.of(patient));
+        }
+        em.flush();
+        em.createNativeQuery("ANALYZE").executeUpdate();
+    }
+
+    @Test
+    void 시도와_시군구_조건은_지역_인덱스를_사용한다() {
+        // when
+        String plan = explain("select p.member_id from public_profile_directory p "
+                + "where p.profileType = 'CAREGIVER' and p.regionProvince = 'SEOUL' and p.regionCity like '강남%'");
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_directory_region:");
+        assertThat(plan).doesNotContainIgnoringCase("public_profile_directory.tableScan");
+    }
+
+    @Test
+    void 시도_없이_시군구만_주어져도_인덱스를_사용한다() {
+        // when
+        String plan = explain("select p.member_id from public_profile_directory p "
+                + "where p.profileType = 'CAREGIVER' and p.regionCity like '분당%'");
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_directory_region_city");
+    }
+
+    @Test
+    void 거리_조건의_격자_범위는_격자_인덱스를_사용한다() {
+        // given
+        long cell = ((Number) em.createNativeQuery("select min(geoCell) from public_profile_directory").getSingleResult()).longValue();
+
+        // when
+        String plan = explain("select p.member_id from public_profile_directory p "
+                + "where p.profileType = 'CAREGIVER' and p.geoCell between " + (cell - 2) + " and " + (cell + 2));
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_directory_geo_cell");
+    }
+
+    @Test
+    void 검색이_쓰지_않는_회원_테이블의_지역_인덱스는_두지_않는다() {
+        // when
+        Number count = (Number) em.createNativeQuery("select count(*) from information_schema.indexes "
+                + "where lower(table_name) = 'members' and lower(index_name) like 'idx_members_%' "
+                + "and lower(index_name) <> 'idx_members_last_modified'").getSingleResult();
+
+        // then
+        assertThat(count.longValue()).isZero();
+    }
+
+    private static Address address(int i) {
+        return new Address(ZIP_CODES[i % ZIP_CODES.length], ADDRESSES[i % ADDRESSES.length] + " " + i, null);
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(em.createNativeQuery("explain " + sql).getSingleResult());
+    }
+}
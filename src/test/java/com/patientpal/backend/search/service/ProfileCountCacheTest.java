@@ -0,0 +1,113 @@
+package com.patientpal.backend.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class ProfileCountCacheTest {
+
+    private final ProfileCountCache countCache = new ProfileCountCache(Duration.ofMinutes(1), 100);
+
+    private final AtomicInteger countCalls = new AtomicInteger();
+
+    @Nested
+    class 페이지로_바꿀_때 {
+
+        @Test
+        void 마지막_페이지면_개수를_세지_않고_계산한다() {
+            // given
+            PageRequest pageable = PageRequest.of(2, 5);
+
+            // when
+            Page<String> page = countCache.toPage(ProfileType.CAREGIVER, new ProfileSearchCondition(),
+                    new SliceImpl<>(List.of("a", "b"), pageable, false), this::count);
+
+            // then
+            assertThat(page.getTotalElements()).isEqualTo(12);
+            assertThat(countCalls).hasValue(0);
+        }
+
+        @Test
+        void 표기만_다른_같은_조건은_한_번만_센다() {
+            // given
+            ProfileSearchCondition first = condition("서울", "강남구");
+            ProfileSearchCondition second = condition("서울특별시", " 강남구 ");
+
+            // when
+            Page<String> page = toPage(ProfileType.CAREGIVER, first);
+            toPage(ProfileType.CAREGIVER, second);
+
+            // then
+            assertThat(page.getTotalElements()).isEqualTo(42);
+            assertThat(countCalls).hasValue(1);
+        }
+
+        @Test
+        void 조건이_다르면_따로_센다() {
+            // when
+            toPage(ProfileType.CAREGIVER, condition("서울", "강남구"));
+            toPage(ProfileType.CAREGIVER, condition("서울", "서초구"));
+
+            // then
+            assertThat(countCalls).hasValue(2);
+        }
+
+        @Test
+        void 환자_검색은_경력_조건을_무시한다() {
+            // given
+            ProfileSearchCondition experienced = condition("서울", null);
+            experienced.setExperienceYearsGoe(3);
+
+            // when
+            toPage(ProfileType.PATIENT, condition("서울", null));
+            toPage(ProfileType.PATIENT, experienced);
+
+            // then
+            assertThat(countCalls).hasValue(1);
+        }
+    }
+
+    @Test
+    void 공개_여부가_바뀐_종류의_개수만_다시_센다() {
+        // given
+        toPage(ProfileType.CAREGIVER, condition("서울", null));
+        toPage(ProfileType.PATIENT, condition("서울", null));
+
+        // when
+        countCache.invalidate(ProfileType.CAREGIVER);
+        toPage(ProfileType.CAREGIVER, condition("서울", null));
+        toPage(ProfileType.PATIENT, condition("서울", null));
+
+        // then
+        assertThat(countCalls).hasValue(3);
+    }
+
+    private Page<String> toPage(ProfileType type, ProfileSearchCondition condition) {
+        PageRequest pageable = PageRequest.of(0, 5);
+        return countCache.toPage(type, condition, new SliceImpl<>(List.of("a", "b", "c", "d", "e"), pageable, true), this::count);
+    }
+
+    private long count() {
+        countCalls.incrementAndGet();
+        return 42;
+    }
+
+    private ProfileSearchCondition condition(String firstAddress, String secondAddress) {
+        ProfileSearchCondition condition = new ProfileSearchCondition();
+        condition.setFirstAddress(firstAddress);
+        condition.setSecondAddress(secondAddress);
+        return condition;
+    }
+}
@@ -0,0 +1,203 @@
+package com.patientpal.backend.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.common.querydsl.ProfileSearchCondition;
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.member.domain.Gender;
+import com.patientpal.backend.member.domain.GeoPoint;
+import com.patientpal.backend.member.domain.Region;
+import com.patientpal.backend.search.domain.IndexWatermark;
+import com.patientpal.backend.search.domain.ProfileDocument;
+import com.patientpal.backend.search.domain.ProfileSearchHits;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@SuppressWarnings("NonAsciiCharacters")
+@AutoKoreanDisplayName
+class ProfileSearchIndexTest {
+
+    private static final Map<String, GeoPoint> LOCATIONS = Map.of(
+            "서울특별시", new GeoPoint(37.5, 127.0),
+            "부산광역시", new GeoPoint(35.1, 129.0),
+            "대구광역시", new GeoPoint(35.9, 128.6));
+
+    private ProfileSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new ProfileSearchIndex("");
+        List<ProfileDocument> documents = List.of(
+                caregiver(1L, "김철수", "서울특별시 강남구 역삼동", "치매 환자 간병", Gender.MALE, 3),
+                caregiver(2L, "김영희", "서울특별시 마포구 합정동", "재활 치료 보조", Gender.FEMALE, 10),
+                caregiver(3L, "박민수", "부산광역시 해운대구", "치매 전문 간병", Gender.MALE, 7),
+                new ProfileDocument(4L, ProfileType.PATIENT, "김환자", "서울특별시 강남구", region("서울특별시 강남구"),
+                        null, null, null, "치매 초기", Gender.MALE, null, true),
+                new ProfileDocument(5L, ProfileType.CAREGIVER, "김비공개", "서울특별시 강남구", region("서울특별시 강남구"),
+                        null, null, "치매", null, Gender.MALE, 5, false),
+                caregiver(6L, "강민호", "대구광역시 수성구", "재활 운동", Gender.MALE, 1));
+        searchIndex.apply(documents.stream().map(ProfileDocument::memberId).toList(), documents);
+        searchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Nested
+    class 검색어로_검색할_때 {
+
+        @Test
+        void 이름_앞부분으로_찾는다() {
+            // when
+            ProfileSearchHits hits = search(keyword("김"));
+
+            // then
+            assertThat(hits.memberIds()).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(hits.totalHits()).isEqualTo(2);
+        }
+
+        @Test
+        void 주소_토큰과_전문_분야를_함께_만족해야_한다() {
+            // when
+            ProfileSearchHits hits = search(keyword("강남구 치매"));
+
+            // then
+            assertThat(hits.memberIds()).containsExactly(1L);
+        }
+
+        @Test
+        void 이름_앞부분_일치를_주소_일치보다_앞에_둔다() {
+            // when
+            ProfileSearchHits hits = search(keyword("강"));
+
+            // then
+            assertThat(hits.memberIds()).containsExactly(6L, 1L);
+        }
+
+        @Test
+        void 조건_필터를_함께_적용한다() {
+            // given
+            ProfileSearchCondition condition = keyword("치매");
+            condition.setFirstAddress("부산광역시");
+            condition.setExperienceYearsGoe(5);
+
+            // when
+            ProfileSearchHits hits = search(condition);
+
+            // then
+            assertThat(hits.memberIds()).containsExactly(3L);
+        }
+
+        @Test
+        void 시도와_시군구_앞부분으로_거른다() {
+            // given
+            ProfileSearchCondition condition = keyword("김");
+            condition.setFirstAddress("서울");
+            condition.setSecondAddress("마포");
+
+            // when
+            ProfileSearchHits hits = search(condition);
+
+            // then
+            assertThat(hits.memberIds()).containsExactly(2L);
+        }
+
+        @Test
+        void 거리순이면_기준점에서_가까운_프로필부터_보여준다() {
+            // given
+            ProfileSearchCondition condition = keyword("간병");
+            condition.setLatitude(35.2);
+            condition.setLongitude(129.1);
+
+            // when
+            ProfileSearchHits hits = searchIndex.search(ProfileType.CAREGIVER, condition,
+                    PageRequest.of(0, 10, Sort.by(ProfileSearchCondition.DISTANCE_SORT)));
+
+            // then
+            assertThat(hits.memberIds()).containsExactly(3L, 1L);
+        }
+
+        @Test
+        void 비공개_프로필과_다른_유형은_제외한다() {
+            // when
+            ProfileSearchHits hits = searchIndex.search(ProfileType.PATIENT, keyword("김"), PageRequest.of(0, 10));
+
+            // then
+            assertThat(hits.memberIds()).containsExactly(4L);
+        }
+
+        @Test
+        void 경력_순으로_정렬하고_페이지를_나눈다() {
+            // when
+            ProfileSearchHits hits = searchIndex.search(ProfileType.CAREGIVER, keyword("서울특별시"),
+                    PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "experienceYears")));
+
+            // then
+            assertThat(hits.memberIds()).containsExactly(1L);
+            assertThat(hits.totalHits()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class 색인을_갱신할_때 {
+
+        @Test
+        void 비공개로_바뀌거나_삭제된_회원을_제외한다() {
+            // given
+            ProfileDocument hidden = new ProfileDocument(1L, ProfileType.CAREGIVER, "김철수", "서울특별시 강남구 역삼동",
+                    region("서울특별시 강남구 역삼동"), null, null, "치매 환자 간병", null, Gender.MALE, 3, false);
+
+            // when
+            searchIndex.apply(List.of(1L, 2L), List.of(hidden));
+            searchIndex.refresh();
+
+            // then
+            assertThat(search(keyword("김")).memberIds()).isEmpty();
+        }
+
+        @Test
+        void 커밋한_워터마크를_다시_읽는다() {
+            // given
+            IndexWatermark watermark = new IndexWatermark(LocalDateTime.of(2024, 6, 1, 12, 30), 42L);
+
+            // when
+            searchIndex.commit(watermark);
+
+            // then
+            assertThat(searchIndex.lastCommittedWatermark()).contains(watermark);
+        }
+    }
+
+    private ProfileSearchHits search(ProfileSearchCondition condition) {
+        return searchIndex.search(ProfileType.CAREGIVER, condition, PageRequest.of(0, 10));
+    }
+
+    private static ProfileSearchCondition keyword(String keyword) {
+        ProfileSearchCondition condition = new ProfileSearchCondition();
+        condition.setKeyword(keyword);
+        return condition;
+    }
+
+    private static ProfileDocument caregiver(Long id, String name, String addr, String specialization, Gender gender,
+                                             int experienceYears) {
+        GeoPoint location = LOCATIONS.get(addr.split(" ")[0]);
+        return new ProfileDocument(id, ProfileType.CAREGIVER, name, addr, region(addr), location.latitude(),
+                location.longitude(), specialization, null, gender, experienceYears, true);
+    }
+
+    private static Region region(String addr) {
+        return Region.from(new Address(null, addr, null));
+    }
+}
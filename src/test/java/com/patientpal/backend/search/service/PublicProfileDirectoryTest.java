@@ -0,0 +1,169 @@
+package com.patientpal.backend.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.caregiver.domain.Caregiver;
+import com.patientpal.backend.config.JpaAuditingConfig;
+import com.patientpal.backend.member.domain.Address;
+import com.patientpal.backend.member.domain.Gender;
+import com.patientpal.backend.member.domain.Member;
+import com.patientpal.backend.member.domain.Provider;
+import com.patientpal.backend.member.domain.Region;
+import com.patientpal.backend.member.domain.Role;
+import com.patientpal.backend.patient.domain.Patient;
+import com.patientpal.backend.search.domain.ProfileType;
+import com.patientpal.backend.search.domain.PublicProfile;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 공개 프로필 목록이 members/caregivers/patients 의 공개 프로필과 같은 내용인지 확인한다.
+ */
+@DataJpaTest
+@Import({JpaAuditingConfig.class, PublicProfileDirectory.class, PublicProfileBackfillScheduler.class})
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class PublicProfileDirectoryTest {
+
+    @Autowired
+    private PublicProfileDirectory publicProfileDirectory;
+
+    @Autowired
+    private PublicProfileBackfillScheduler publicProfileBackfillScheduler;
+
+    @Autowired
+    private EntityManager em;
+
+    @Nested
+    class 프로필을_바꾸면 {
+
+        @Test
+        void 공개한_프로필만_원본과_같은_내용으로_남는다() {
+            // given
+            Caregiver kim = saveCaregiver("kim", new Address("06236", "서울특별시 강남구 테헤란로 123", null));
+            Caregiver lee = saveCaregiver("lee", new Address("48058", "부산광역시 해운대구 센텀서로 30", null));
+            Caregiver park = saveCaregiver("park", new Address("13529", "경기도 성남시 분당구 판교역로 235", null));
+            Patient choi = savePatient("choi", new Address("63309", "제주특별자치도 제주시 첨단로 242", null));
+            Patient jung = savePatient("jung", new Address("04524", "서울특별시 중구 세종대로 110", null));
+
+            // when
+            Stream.of(kim, lee, park).forEach(caregiver -> {
+                caregiver.setIsProfilePublic(true);
+                publicProfileDirectory.sync(caregiver);
+            });
+            choi.setIsProfilePublic(true);
+            publicProfileDirectory.sync(choi);
+            publicProfileDirectory.sync(jung);
+
+            kim.updateDetailProfile(new Address("34126", "대전광역시 유성구 대학로 99", null), 7, "재활", null);
+            publicProfileDirectory.sync(kim);
+            lee.setIsProfilePublic(false);
+            publicProfileDirectory.sync(lee);
+            choi.deleteProfileImage();
+            publicProfileDirectory.sync(choi);
+            em.flush();
+            em.clear();
+
+            // then
+            assertThat(directoryRows()).containsExactlyInAnyOrderElementsOf(publicMemberRows());
+            assertThat(directoryRows()).hasSize(3);
+        }
+    }
+
+    @Test
+    void 목록이_생기기_전에_공개한_프로필을_옮겨_담는다() {
+        // given
+        Caregiver kim = saveCaregiver("kim", new Address("06236", "서울특별시 강남구 테헤란로 123", null));
+        Patient choi = savePatient("choi", new Address("63309", "제주특별자치도 제주시 첨단로 242", null));
+        savePatient("jung", new Address("04524", "서울특별시 중구 세종대로 110", null));
+        kim.setIsProfilePublic(true);
+        choi.setIsProfilePublic(true);
+        em.flush();
+        em.clear();
+
+        // when
+        publicProfileBackfillScheduler.backfill();
+        em.clear();
+
+        // then
+        assertThat(directoryRows()).containsExactlyInAnyOrderElementsOf(publicMemberRows());
+        assertThat(directoryRows()).hasSize(2);
+    }
+
+    private List<String> directoryRows() {
+        return em.createQuery("select p from PublicProfile p", PublicProfile.class).getResultList().stream()
+                .map(profile -> row(profile.getMemberId(), profile.getProfileType(), profile.getName(), profile.getAge(),
+                        profile.getGender(), profile.getAddress(), profile.getRegion(), profile.getRating(),
+                        profile.getExperienceYears(), profile.getSpecialization(), profile.getProfileImageUrl()))
+                .toList();
+    }
+
+    private List<String> publicMemberRows() {
+        List<String> rows = new ArrayList<>();
+        em.createQuery("select c from caregivers c where c.isProfilePublic = true", Caregiver.class).getResultList()
+                .forEach(caregiver -> rows.add(row(caregiver, ProfileType.CAREGIVER, caregiver.getRating(),
+                        caregiver.getExperienceYears(), caregiver.getSpecialization())));
+        em.createQuery("select p from patients p where p.isProfilePublic = true", Patient.class).getResultList()
+                .forEach(patient -> rows.add(row(patient, ProfileType.PATIENT, 0f, 0, null)));
+        return rows;
+    }
+
+    private String row(Member member, ProfileType type, float rating, int experienceYears, String specialization) {
+        return row(member.getId(), type, member.getName(), member.getAge(), member.getGender(), member.getAddress(),
+                member.getRegion(), rating, experienceYears, specialization, member.getProfileImageUrl());
+    }
+
+    private String row(Long memberId, ProfileType type, String name, int age, Gender gender, Address address,
+                       Region region, float rating, int experienceYears,
+                       String specialization, String profileImageUrl) {
+        return String.join("|", Stream.of(memberId, type, name, age, gender,
+                        address.getZipCode(), address.getAddr(), address.getLatitude(), address.getLongitude(), address.getGeoCell(),
+                        region.getRegionProvince(), region.getRegionCity(), region.getRegionDistrict(),
+                        rating, experienceYears, specialization, profileImageUrl)
+                .map(Objects::toString)
+                .toList());
+    }
+
+    private Caregiver saveCaregiver(String name, Address address) {
+        Caregiver caregiver = Caregiver.builder()
+                .username(name)
+                .name(name)
+                .age(40)
+                .gender(Gender.FEMALE)
+                .provider(Provider.LOCAL)
+                .role(Role.CAREGIVER)
+                .experienceYears(3)
+                .specialization("치매")
+                .profileImageUrl("https://cdn.example.com/" + name)
+                .isProfilePublic(false)
+                .build();
+        caregiver.updateAddress(address);
+        em.persist(caregiver);
+        return caregiver;
+    }
+
+    private Patient savePatient(String name, Address address) {
+        Patient patient = Patient.builder()
+                .username(name)
+                .name(name)
+                .age(70)
+                .gender(Gender.MALE)
+                .provider(Provider.LOCAL)
+                .role(Role.USER)
+                .profileImageUrl("https://cdn.example.com/" + name)
+                .isProfilePublic(false)
+                .build();
+        patient.updateAddress(address);
+        em.persist(patient);
+        return patient;
+    }
+}
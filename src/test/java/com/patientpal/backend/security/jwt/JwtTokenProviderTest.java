@@ -0,0 +1,116 @@
+package com.patientpal.backend.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class JwtTokenProviderTest {
+
+    private static final long ONE_HOUR = 3_600_000L;
+
+    private JwtTokenProvider tokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = createProvider(randomSecret(), ONE_HOUR);
+        meterRegistry = new SimpleMeterRegistry();
+        tokenProvider.bindTo(meterRegistry);
+    }
+
+    @Test
+    void 유효한_토큰이면_권한을_포함한_인증_정보를_반환한다() {
+        // given
+        String token = tokenProvider.createAccessToken(authentication("patient", "ROLE_USER", "ROLE_ADMIN"));
+
+        // when
+        Optional<Authentication> authentication = tokenProvider.authenticate(token);
+
+        // then
+        assertThat(authentication).hasValueSatisfying(auth -> {
+            assertThat(auth.getName()).isEqualTo("patient");
+            assertThat(auth.getCredentials()).isEqualTo(token);
+            assertThat(auth.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                    .containsExactly("ROLE_USER", "ROLE_ADMIN");
+        });
+    }
+
+    @Test
+    void 같은_토큰은_검증_캐시에서_꺼낸다() {
+        // given
+        String token = tokenProvider.createAccessToken(authentication("patient", "ROLE_USER"));
+
+        // when
+        Authentication first = tokenProvider.authenticate(token).orElseThrow();
+        Authentication second = tokenProvider.authenticate(token).orElseThrow();
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPrincipal()).isEqualTo(first.getPrincipal());
+        assertThat(cacheGets("hit")).isEqualTo(1);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void 다른_키로_서명된_토큰은_거부한다() {
+        // given
+        JwtTokenProvider otherProvider = createProvider(randomSecret(), ONE_HOUR);
+        String forgedToken = otherProvider.createAccessToken(authentication("patient", "ROLE_USER"));
+
+        // when & then
+        assertThat(tokenProvider.authenticate(forgedToken)).isEmpty();
+        assertThat(tokenProvider.authenticate(forgedToken)).isEmpty();
+        assertThat(cacheGets("hit")).isZero();
+    }
+
+    @Test
+    void 만료된_토큰은_거부한다() {
+        // given
+        String secret = randomSecret();
+        String expiredToken = createProvider(secret, -1_000L).createAccessToken(authentication("patient", "ROLE_USER"));
+
+        // when & then
+        assertThat(createProvider(secret, ONE_HOUR).authenticate(expiredToken)).isEmpty();
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_거부한다() {
+        // when & then
+        assertThat(tokenProvider.authenticate("not-a-jwt")).isEmpty();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("result", result).functionCounter().count();
+    }
+
+    private static JwtTokenProvider createProvider(String secret, long expirationTime) {
+        JwtTokenProvider provider = new JwtTokenProvider(secret, expirationTime, expirationTime, 100);
+        provider.init();
+        return provider;
+    }
+
+    private static Authentication authentication(String username, String... roles) {
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(roles).map(SimpleGrantedAuthority::new).toList();
+        return new UsernamePasswordAuthenticationToken(username, "", authorities);
+    }
+
+    private static String randomSecret() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+}
@@ -0,0 +1,119 @@
+package com.patientpal.backend.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.patientpal.backend.common.exception.ErrorCode;
+import com.patientpal.backend.common.exception.ServiceUnavailableException;
+import com.patientpal.backend.test.annotation.AutoKoreanDisplayName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@AutoKoreanDisplayName
+@SuppressWarnings("NonAsciiCharacters")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        passwordEncoder.close();
+    }
+
+    @Test
+    void 해싱_풀에서_인코딩하고_비교한다() {
+        // given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // when
+        String encoded = passwordEncoder.encode("password123");
+
+        // then
+        assertThat(passwordEncoder.matches("password123", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    void 설정보다_낮은_cost_의_해시는_업그레이드_대상이다() {
+        // given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(6), 1, 1, Duration.ofSeconds(5), meterRegistry);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password123");
+
+        // when & then
+        assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("password123"))).isFalse();
+    }
+
+    @Test
+    void 대기열이_가득_차면_바로_거절한다() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(started, release), 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.execute(() -> passwordEncoder.encode("running"));
+        started.await(5, TimeUnit.SECONDS);
+        callers.execute(() -> passwordEncoder.encode("queued"));
+        waitUntilQueued();
+
+        // when & then
+        assertThatThrownBy(() -> passwordEncoder.encode("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+        assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+        callers.shutdown();
+        callers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void 제한_시간을_넘기면_거절한다() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder(new CountDownLatch(1), release), 1, 1,
+                Duration.ofMillis(50), meterRegistry);
+
+        // when & then
+        assertThatThrownBy(() -> passwordEncoder.encode("slow"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        release.countDown();
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch started, CountDownLatch release) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+}